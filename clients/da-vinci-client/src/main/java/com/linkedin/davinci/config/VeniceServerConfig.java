@@ -51,6 +51,7 @@ import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DEL
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_BINARY_MERGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_LEADER_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
@@ -97,6 +98,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INCREMENTAL_PUSH_STATUS_WRIT
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_HEARTBEAT_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_EARLY_READ_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REPORT_DOMAIN_SOCKET_PATH;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_TASK_MAX_IDLE_COUNT;
@@ -122,7 +126,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_NO_READ_THRESHOLD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_ADAPTIVE_CHUNKING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_BACKOFF_MS;
@@ -130,12 +136,16 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_T
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_CAPACITY_MULTIPLE;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_INTERVAL_IN_MILLIS;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_PRIORITY_SCHEDULING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_TRIGGERED_BY_VERSION_INGESTION_CONTEXT_CHANGE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_RMD_TTL_SWEEPER_MAX_RECORDS_SCANNED_PER_SECOND;
+import static com.linkedin.venice.ConfigKeys.SERVER_RMD_TTL_SWEEPER_SCHEDULE_INTERVAL_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_RMD_TTL_SWEEPER_STORE_TO_TTL_SECONDS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT;
@@ -153,9 +163,13 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERV
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_READ_CONCURRENCY;
+import static com.linkedin.venice.ConfigKeys.SERVER_VIRTUAL_THREAD_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_CURRENT_VERSION_RESERVED_RATIO;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_FAIR_ADMISSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
@@ -288,6 +302,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * Whether the memory of each writer buffer is shared fairly between the stores assigned to this writer, and
+   * the ratio of it which can only be used by current versions.
+   */
+  private final boolean storeWriterBufferFairAdmissionEnabled;
+  private final double storeWriterBufferCurrentVersionReservedRatio;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -407,6 +428,11 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean enableParallelBatchGet;
 
   private final int parallelBatchGetChunkSize;
+  private final boolean parallelBatchGetAdaptiveChunkingEnabled;
+  private final long parallelBatchGetTargetChunkLatencyUs;
+  private final boolean readPrioritySchedulingEnabled;
+  private final boolean virtualThreadReadEnabled;
+  private final int virtualThreadReadConcurrency;
 
   private final boolean keyValueProfilingEnabled;
 
@@ -431,6 +457,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final IngestionMode ingestionMode;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
+  private final boolean ingestionIsolationDomainSocketEnabled;
+  private final String ingestionIsolationReportDomainSocketPath;
+  private final boolean ingestionIsolationEarlyReadEnabled;
   private final boolean databaseChecksumVerificationEnabled;
   private final boolean rocksDbStorageEngineConfigCheckEnabled;
 
@@ -483,6 +512,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean optimizeDatabaseForBackupVersionEnabled;
   private final long optimizeDatabaseForBackupVersionNoReadThresholdMS;
   private final long optimizeDatabaseServiceScheduleIntervalSeconds;
+  private final Map<String, Long> storeToRmdTTLSecondsMap;
+  private final long rmdTTLSweeperScheduleIntervalSeconds;
+  private final long rmdTTLSweeperMaxRecordsScannedPerSecond;
   private final boolean unregisterMetricForDeletedStoreEnabled;
   private final boolean readOnlyForBatchOnlyStoreEnabled; // TODO: remove this config as its never used in prod
   private final int fastAvroFieldLimitPerMethod;
@@ -552,6 +584,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int channelOptionWriteBufferHighBytes;
   private final boolean aaWCWorkloadParallelProcessingEnabled;
   private final int aaWCWorkloadParallelProcessingThreadPoolSize;
+  private final boolean aaBinaryMergeEnabled;
   private final boolean isGlobalRtDivEnabled;
   private final boolean nearlineWorkloadProducerThroughputOptimizationEnabled;
 
@@ -605,6 +638,15 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterBufferFairAdmissionEnabled =
+        serverProperties.getBoolean(STORE_WRITER_BUFFER_FAIR_ADMISSION_ENABLED, false);
+    storeWriterBufferCurrentVersionReservedRatio =
+        serverProperties.getDouble(STORE_WRITER_BUFFER_CURRENT_VERSION_RESERVED_RATIO, 0.2);
+    if (storeWriterBufferCurrentVersionReservedRatio < 0 || storeWriterBufferCurrentVersionReservedRatio >= 1) {
+      throw new VeniceException(
+          STORE_WRITER_BUFFER_CURRENT_VERSION_RESERVED_RATIO + " should be in [0, 1), but got: "
+              + storeWriterBufferCurrentVersionReservedRatio);
+    }
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -672,6 +714,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    parallelBatchGetAdaptiveChunkingEnabled =
+        serverProperties.getBoolean(SERVER_PARALLEL_BATCH_GET_ADAPTIVE_CHUNKING_ENABLED, false);
+    parallelBatchGetTargetChunkLatencyUs =
+        serverProperties.getLong(SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US, 1000);
+    readPrioritySchedulingEnabled = serverProperties.getBoolean(SERVER_READ_PRIORITY_SCHEDULING_ENABLED, false);
+    virtualThreadReadEnabled = serverProperties.getBoolean(SERVER_VIRTUAL_THREAD_READ_ENABLED, false);
+    virtualThreadReadConcurrency = serverProperties.getInt(SERVER_VIRTUAL_THREAD_READ_CONCURRENCY, 256);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -737,6 +786,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
+    ingestionIsolationDomainSocketEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED, false);
+    ingestionIsolationReportDomainSocketPath = serverProperties.getString(
+        SERVER_INGESTION_ISOLATION_REPORT_DOMAIN_SOCKET_PATH,
+        () -> Paths.get(dataBasePath, "ingestion_isolation_report.sock").toString());
+    ingestionIsolationEarlyReadEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_EARLY_READ_ENABLED, false);
     databaseChecksumVerificationEnabled =
         serverProperties.getBoolean(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false);
 
@@ -814,6 +870,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         .getLong(SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_NO_READ_THRESHOLD_SECONDS, TimeUnit.MINUTES.toMillis(3));
     optimizeDatabaseServiceScheduleIntervalSeconds = serverProperties
         .getLong(SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS, TimeUnit.MINUTES.toSeconds(1));
+    storeToRmdTTLSecondsMap = new HashMap<>();
+    serverProperties.getMap(SERVER_RMD_TTL_SWEEPER_STORE_TO_TTL_SECONDS_MAP, Collections.emptyMap())
+        .forEach((storeName, ttlStr) -> storeToRmdTTLSecondsMap.put(storeName, Long.parseLong(ttlStr.trim())));
+    rmdTTLSweeperScheduleIntervalSeconds =
+        serverProperties.getLong(SERVER_RMD_TTL_SWEEPER_SCHEDULE_INTERVAL_SECONDS, TimeUnit.HOURS.toSeconds(1));
+    rmdTTLSweeperMaxRecordsScannedPerSecond =
+        serverProperties.getLong(SERVER_RMD_TTL_SWEEPER_MAX_RECORDS_SCANNED_PER_SECOND, 10000);
     unregisterMetricForDeletedStoreEnabled =
         serverProperties.getBoolean(UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED, false);
     fastAvroFieldLimitPerMethod = serverProperties.getInt(FAST_AVRO_FIELD_LIMIT_PER_METHOD, 100);
@@ -926,6 +989,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED, false);
     aaWCWorkloadParallelProcessingThreadPoolSize =
         serverProperties.getInt(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE, 8);
+    aaBinaryMergeEnabled = serverProperties.getBoolean(SERVER_AA_BINARY_MERGE_ENABLED, false);
     nearlineWorkloadProducerThroughputOptimizationEnabled =
         serverProperties.getBoolean(SERVER_NEARLINE_WORKLOAD_PRODUCER_THROUGHPUT_OPTIMIZATION_ENABLED, true);
   }
@@ -1094,6 +1158,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public boolean isStoreWriterBufferFairAdmissionEnabled() {
+    return this.storeWriterBufferFairAdmissionEnabled;
+  }
+
+  public double getStoreWriterBufferCurrentVersionReservedRatio() {
+    return this.storeWriterBufferCurrentVersionReservedRatio;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -1226,6 +1298,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isParallelBatchGetAdaptiveChunkingEnabled() {
+    return parallelBatchGetAdaptiveChunkingEnabled;
+  }
+
+  public long getParallelBatchGetTargetChunkLatencyUs() {
+    return parallelBatchGetTargetChunkLatencyUs;
+  }
+
+  public boolean isReadPrioritySchedulingEnabled() {
+    return readPrioritySchedulingEnabled;
+  }
+
+  public boolean isVirtualThreadReadEnabled() {
+    return virtualThreadReadEnabled;
+  }
+
+  public int getVirtualThreadReadConcurrency() {
+    return virtualThreadReadConcurrency;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1298,6 +1390,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionApplicationPort;
   }
 
+  public boolean isIngestionIsolationDomainSocketEnabled() {
+    return ingestionIsolationDomainSocketEnabled;
+  }
+
+  public String getIngestionIsolationReportDomainSocketPath() {
+    return ingestionIsolationReportDomainSocketPath;
+  }
+
+  public boolean isIngestionIsolationEarlyReadEnabled() {
+    return ingestionIsolationEarlyReadEnabled;
+  }
+
   public boolean isDatabaseChecksumVerificationEnabled() {
     return databaseChecksumVerificationEnabled;
   }
@@ -1434,6 +1538,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return optimizeDatabaseServiceScheduleIntervalSeconds;
   }
 
+  public Map<String, Long> getStoreToRmdTTLSecondsMap() {
+    return storeToRmdTTLSecondsMap;
+  }
+
+  public long getRmdTTLSweeperScheduleIntervalSeconds() {
+    return rmdTTLSweeperScheduleIntervalSeconds;
+  }
+
+  public long getRmdTTLSweeperMaxRecordsScannedPerSecond() {
+    return rmdTTLSweeperMaxRecordsScannedPerSecond;
+  }
+
   public boolean isUnregisterMetricForDeletedStoreEnabled() {
     return unregisterMetricForDeletedStoreEnabled;
   }
@@ -1678,6 +1794,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return aaWCWorkloadParallelProcessingEnabled;
   }
 
+  public boolean isAABinaryMergeEnabled() {
+    return aaBinaryMergeEnabled;
+  }
+
   public int getAAWCWorkloadParallelProcessingThreadPoolSize() {
     return aaWCWorkloadParallelProcessingThreadPoolSize;
   }
@@ -0,0 +1,275 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.serialization.StoreDeserializerCache;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * A batch of change events returned by {@link RawBatchVeniceChangelogConsumer#pollRawBatch(long)}.
+ *
+ * Events are laid out column by column: the i-th event of the batch is made of the i-th entry of every column. Values
+ * are already decompressed and re-assembled from their chunks, but neither keys nor values are deserialized, so that
+ * callers which only forward bytes don't pay for the deserialization. Callers which need the deserialized key or
+ * values can get them per event through {@link #getKey(int)}, {@link #getCurrentValue(int)} and
+ * {@link #getPreviousValue(int)}.
+ *
+ * Events of the same partition are in the order they were consumed.
+ */
+public class ChangeEventRawBatch<K, V> {
+  /**
+   * Schema id of an absent value, e.g. the current value of a delete.
+   */
+  public static final int NO_VALUE_SCHEMA_ID = -1;
+
+  private final int size;
+  private final PubSubTopicPartition[] topicPartitions;
+  private final long[] offsets;
+  private final long[] pubSubMessageTimes;
+  private final int[] payloadSizes;
+  private final byte[][] keys;
+  private final ByteBuffer[] currentValues;
+  private final int[] currentValueSchemaIds;
+  private final ByteBuffer[] previousValues;
+  private final int[] previousValueSchemaIds;
+
+  private final RecordDeserializer<K> keyDeserializer;
+  private final StoreDeserializerCache<V> valueDeserializerCache;
+
+  private ChangeEventRawBatch(
+      Builder builder,
+      RecordDeserializer<K> keyDeserializer,
+      StoreDeserializerCache<V> valueDeserializerCache) {
+    this.size = builder.size;
+    this.topicPartitions = builder.topicPartitions;
+    this.offsets = builder.offsets;
+    this.pubSubMessageTimes = builder.pubSubMessageTimes;
+    this.payloadSizes = builder.payloadSizes;
+    this.keys = builder.keys;
+    this.currentValues = builder.currentValues;
+    this.currentValueSchemaIds = builder.currentValueSchemaIds;
+    this.previousValues = builder.previousValues;
+    this.previousValueSchemaIds = builder.previousValueSchemaIds;
+    this.keyDeserializer = keyDeserializer;
+    this.valueDeserializerCache = valueDeserializerCache;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public PubSubTopicPartition getTopicPartition(int index) {
+    return topicPartitions[checkIndex(index)];
+  }
+
+  public int getPartition(int index) {
+    return getTopicPartition(index).getPartitionNumber();
+  }
+
+  public long getOffset(int index) {
+    return offsets[checkIndex(index)];
+  }
+
+  public long getPubSubMessageTime(int index) {
+    return pubSubMessageTimes[checkIndex(index)];
+  }
+
+  public int getPayloadSize(int index) {
+    return payloadSizes[checkIndex(index)];
+  }
+
+  public VeniceChangeCoordinate getChangeCoordinate(int index) {
+    PubSubTopicPartition topicPartition = getTopicPartition(index);
+    return new VeniceChangeCoordinate(
+        topicPartition.getPubSubTopic().getName(),
+        new ApacheKafkaOffsetPosition(offsets[index]),
+        topicPartition.getPartitionNumber());
+  }
+
+  /**
+   * @return the serialized key of the event.
+   */
+  public byte[] getKeyBytes(int index) {
+    return keys[checkIndex(index)];
+  }
+
+  /**
+   * @return the serialized and decompressed current value of the event, or null if the event is a delete.
+   */
+  public ByteBuffer getCurrentValueBytes(int index) {
+    return currentValues[checkIndex(index)];
+  }
+
+  public int getCurrentValueSchemaId(int index) {
+    return currentValueSchemaIds[checkIndex(index)];
+  }
+
+  /**
+   * @return the serialized previous value of the event, or null if it's unknown. Only events consumed from the change
+   *         capture topic carry a previous value.
+   */
+  public ByteBuffer getPreviousValueBytes(int index) {
+    return previousValues[checkIndex(index)];
+  }
+
+  public int getPreviousValueSchemaId(int index) {
+    return previousValueSchemaIds[checkIndex(index)];
+  }
+
+  public boolean isDelete(int index) {
+    return getCurrentValueBytes(index) == null;
+  }
+
+  public K getKey(int index) {
+    return keyDeserializer.deserialize(getKeyBytes(index));
+  }
+
+  public V getCurrentValue(int index) {
+    return deserializeValue(getCurrentValueBytes(index), currentValueSchemaIds[index]);
+  }
+
+  public V getPreviousValue(int index) {
+    return deserializeValue(getPreviousValueBytes(index), previousValueSchemaIds[index]);
+  }
+
+  /**
+   * Deserialize the given event into the same message {@link VeniceChangelogConsumer#poll(long)} would have returned.
+   */
+  public PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> getPubSubMessage(int index) {
+    return new ImmutableChangeCapturePubSubMessage<>(
+        getKey(index),
+        new ChangeEvent<>(getPreviousValue(index), getCurrentValue(index)),
+        topicPartitions[index],
+        offsets[index],
+        pubSubMessageTimes[index],
+        payloadSizes[index],
+        false);
+  }
+
+  private V deserializeValue(ByteBuffer value, int schemaId) {
+    if (value == null) {
+      return null;
+    }
+    // Deserializers consume the buffer, so hand them a duplicate to keep this batch readable more than once.
+    return valueDeserializerCache.getDeserializer(schemaId, schemaId).deserialize(value.duplicate());
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", batch size: " + size);
+    }
+    return index;
+  }
+
+  /**
+   * Accumulates the columns of a batch. Not thread-safe, each decoding thread fills its own builder and the builders
+   * are appended to each other afterward.
+   */
+  static class Builder {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private int size = 0;
+    private PubSubTopicPartition[] topicPartitions;
+    private long[] offsets;
+    private long[] pubSubMessageTimes;
+    private int[] payloadSizes;
+    private byte[][] keys;
+    private ByteBuffer[] currentValues;
+    private int[] currentValueSchemaIds;
+    private ByteBuffer[] previousValues;
+    private int[] previousValueSchemaIds;
+
+    Builder() {
+      this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    Builder(int initialCapacity) {
+      allocate(Math.max(initialCapacity, 1));
+    }
+
+    int size() {
+      return size;
+    }
+
+    Builder add(
+        PubSubTopicPartition topicPartition,
+        long offset,
+        long pubSubMessageTime,
+        int payloadSize,
+        byte[] key,
+        ByteBuffer currentValue,
+        int currentValueSchemaId,
+        ByteBuffer previousValue,
+        int previousValueSchemaId) {
+      ensureCapacity(size + 1);
+      topicPartitions[size] = topicPartition;
+      offsets[size] = offset;
+      pubSubMessageTimes[size] = pubSubMessageTime;
+      payloadSizes[size] = payloadSize;
+      keys[size] = key;
+      currentValues[size] = currentValue;
+      currentValueSchemaIds[size] = currentValueSchemaId;
+      previousValues[size] = previousValue;
+      previousValueSchemaIds[size] = previousValueSchemaId;
+      size++;
+      return this;
+    }
+
+    Builder addAll(Builder other) {
+      ensureCapacity(size + other.size);
+      System.arraycopy(other.topicPartitions, 0, topicPartitions, size, other.size);
+      System.arraycopy(other.offsets, 0, offsets, size, other.size);
+      System.arraycopy(other.pubSubMessageTimes, 0, pubSubMessageTimes, size, other.size);
+      System.arraycopy(other.payloadSizes, 0, payloadSizes, size, other.size);
+      System.arraycopy(other.keys, 0, keys, size, other.size);
+      System.arraycopy(other.currentValues, 0, currentValues, size, other.size);
+      System.arraycopy(other.currentValueSchemaIds, 0, currentValueSchemaIds, size, other.size);
+      System.arraycopy(other.previousValues, 0, previousValues, size, other.size);
+      System.arraycopy(other.previousValueSchemaIds, 0, previousValueSchemaIds, size, other.size);
+      size += other.size;
+      return this;
+    }
+
+    <K, V> ChangeEventRawBatch<K, V> build(
+        RecordDeserializer<K> keyDeserializer,
+        StoreDeserializerCache<V> valueDeserializerCache) {
+      return new ChangeEventRawBatch<>(this, keyDeserializer, valueDeserializerCache);
+    }
+
+    private void allocate(int capacity) {
+      topicPartitions = new PubSubTopicPartition[capacity];
+      offsets = new long[capacity];
+      pubSubMessageTimes = new long[capacity];
+      payloadSizes = new int[capacity];
+      keys = new byte[capacity][];
+      currentValues = new ByteBuffer[capacity];
+      currentValueSchemaIds = new int[capacity];
+      previousValues = new ByteBuffer[capacity];
+      previousValueSchemaIds = new int[capacity];
+    }
+
+    private void ensureCapacity(int capacity) {
+      if (capacity <= offsets.length) {
+        return;
+      }
+      int newCapacity = Math.max(capacity, offsets.length * 2);
+      topicPartitions = Arrays.copyOf(topicPartitions, newCapacity);
+      offsets = Arrays.copyOf(offsets, newCapacity);
+      pubSubMessageTimes = Arrays.copyOf(pubSubMessageTimes, newCapacity);
+      payloadSizes = Arrays.copyOf(payloadSizes, newCapacity);
+      keys = Arrays.copyOf(keys, newCapacity);
+      currentValues = Arrays.copyOf(currentValues, newCapacity);
+      currentValueSchemaIds = Arrays.copyOf(currentValueSchemaIds, newCapacity);
+      previousValues = Arrays.copyOf(previousValues, newCapacity);
+      previousValueSchemaIds = Arrays.copyOf(previousValueSchemaIds, newCapacity);
+    }
+  }
+}
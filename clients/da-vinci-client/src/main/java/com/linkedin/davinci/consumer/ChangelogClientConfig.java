@@ -1,6 +1,7 @@
 package com.linkedin.davinci.consumer;
 
 import com.linkedin.d2.balancer.D2Client;
+import com.linkedin.venice.blobtransfer.BlobFinder;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.controllerapi.D2ControllerClient;
 import com.linkedin.venice.schema.SchemaReader;
@@ -34,6 +35,29 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
    */
   private long rocksDBBlockCacheSizeInBytes = 1024 * 1024L;
 
+  /**
+   * Number of threads used to decode the records polled from different partitions in parallel. Records of the same
+   * partition are always decoded in order by a single thread. Default is 0, which means records are decoded on the
+   * thread calling poll.
+   */
+  private int decodingThreadPoolSize = 0;
+
+  /**
+   * Whether BootstrappingVeniceChangelogConsumer should seed the local state of a partition from a snapshot of a peer
+   * consumer before replaying the tail of the version topic, and serve snapshots of its own local state to peers.
+   */
+  private boolean blobTransferEnabled = false;
+  /**
+   * The ports used to serve snapshots to peers and to fetch snapshots from them. Both are required, and must be
+   * positive, when blob transfer is enabled.
+   */
+  private int blobTransferServerPort;
+  private int blobTransferClientPort;
+  /**
+   * Finds the peer consumers holding the local state of a partition, required when blob transfer is enabled.
+   */
+  private BlobFinder blobTransferPeerFinder;
+
   public ChangelogClientConfig(String storeName) {
     this.innerClientConfig = new ClientConfig<>(storeName);
   }
@@ -187,6 +211,51 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public int getDecodingThreadPoolSize() {
+    return decodingThreadPoolSize;
+  }
+
+  public ChangelogClientConfig setDecodingThreadPoolSize(int decodingThreadPoolSize) {
+    this.decodingThreadPoolSize = decodingThreadPoolSize;
+    return this;
+  }
+
+  public boolean isBlobTransferEnabled() {
+    return blobTransferEnabled;
+  }
+
+  public ChangelogClientConfig setBlobTransferEnabled(boolean blobTransferEnabled) {
+    this.blobTransferEnabled = blobTransferEnabled;
+    return this;
+  }
+
+  public int getBlobTransferServerPort() {
+    return blobTransferServerPort;
+  }
+
+  public ChangelogClientConfig setBlobTransferServerPort(int blobTransferServerPort) {
+    this.blobTransferServerPort = blobTransferServerPort;
+    return this;
+  }
+
+  public int getBlobTransferClientPort() {
+    return blobTransferClientPort;
+  }
+
+  public ChangelogClientConfig setBlobTransferClientPort(int blobTransferClientPort) {
+    this.blobTransferClientPort = blobTransferClientPort;
+    return this;
+  }
+
+  public BlobFinder getBlobTransferPeerFinder() {
+    return blobTransferPeerFinder;
+  }
+
+  public ChangelogClientConfig setBlobTransferPeerFinder(BlobFinder blobTransferPeerFinder) {
+    this.blobTransferPeerFinder = blobTransferPeerFinder;
+    return this;
+  }
+
   public ChangelogClientConfig setSpecificValue(Class<T> specificValue) {
     this.innerClientConfig.setSpecificValueClass(specificValue);
     return this;
@@ -207,7 +276,12 @@ public class ChangelogClientConfig<T extends SpecificRecord> {
         .setVersionSwapDetectionIntervalTimeInMs(config.getVersionSwapDetectionIntervalTimeInMs())
         .setRocksDBBlockCacheSizeInBytes(config.getRocksDBBlockCacheSizeInBytes())
         .setConsumerName(config.consumerName)
-        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval());
+        .setDatabaseSyncBytesInterval(config.getDatabaseSyncBytesInterval())
+        .setDecodingThreadPoolSize(config.getDecodingThreadPoolSize())
+        .setBlobTransferEnabled(config.isBlobTransferEnabled())
+        .setBlobTransferServerPort(config.getBlobTransferServerPort())
+        .setBlobTransferClientPort(config.getBlobTransferClientPort())
+        .setBlobTransferPeerFinder(config.getBlobTransferPeerFinder());
     return newConfig;
   }
 }
@@ -9,18 +9,27 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.ENABLE_BLOB_TRANSFER;
 import static com.linkedin.venice.pubsub.PubSubConstants.getPubsubOffsetApiTimeoutDurationDefaultValue;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferManager;
+import com.linkedin.davinci.blobtransfer.NettyP2PBlobTransferManager;
+import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
+import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.blobtransfer.BlobFinder;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
@@ -31,6 +40,7 @@ import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.adapter.kafka.ApacheKafkaOffsetPosition;
 import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
@@ -79,6 +89,11 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final VeniceConfigLoader configLoader;
   private final long syncBytesInterval;
+  /**
+   * Fetches the local state of a partition from peer consumers and serves our own local state to them. Null if blob
+   * transfer is disabled.
+   */
+  private BlobTransferManager<Void> blobTransferManager;
 
   private StorageService storageService;
   private StorageMetadataService storageMetadataService;
@@ -101,7 +116,29 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     }
 
     localStateTopicName = localStateTopicNameTemp;
-    configLoader = buildVeniceConfig(bootstrapFileSystemPath);
+    // Blob transfer addresses the local state as a store version, so the local state topic has to be shaped like one.
+    boolean blobTransferEnabled = changelogClientConfig.isBlobTransferEnabled();
+    if (blobTransferEnabled && !Version.isVersionTopic(localStateTopicName)) {
+      LOGGER.warn(
+          "Blob transfer is not supported for local state topic: {} with consumer id: {}, will bootstrap from the"
+              + " version topic instead.",
+          localStateTopicName,
+          consumerId);
+      blobTransferEnabled = false;
+    }
+    if (blobTransferEnabled) {
+      if (changelogClientConfig.getBlobTransferServerPort() <= 0
+          || changelogClientConfig.getBlobTransferClientPort() <= 0) {
+        throw new VeniceException(
+            "Blob transfer is enabled, but the server port: " + changelogClientConfig.getBlobTransferServerPort()
+                + " and the client port: " + changelogClientConfig.getBlobTransferClientPort()
+                + " are not both positive for store: " + storeName);
+      }
+      if (changelogClientConfig.getBlobTransferPeerFinder() == null) {
+        throw new VeniceException("Blob transfer is enabled, but no peer finder is configured for store: " + storeName);
+      }
+    }
+    configLoader = buildVeniceConfig(bootstrapFileSystemPath, blobTransferEnabled);
     AggVersionedStorageEngineStats storageEngineStats =
         new AggVersionedStorageEngineStats(metricsRepository, storeRepository, true);
     SchemaReader partitionStateSchemaReader = ClientFactory.getSchemaReader(
@@ -133,6 +170,24 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
         functionToCheckWhetherStorageEngineShouldBeKeptOrNot());
     storageMetadataService =
         new StorageEngineMetadataService(storageService.getStorageEngineRepository(), partitionStateSerializer);
+
+    if (blobTransferEnabled) {
+      BlobFinder peerFinder = changelogClientConfig.getBlobTransferPeerFinder();
+      String rocksDBPath = configLoader.getVeniceServerConfig().getRocksDBPath();
+      BlobSnapshotManager blobSnapshotManager =
+          new LocalStateBlobSnapshotManager(storageService.getStorageEngineRepository(), storageMetadataService);
+      blobTransferManager = new NettyP2PBlobTransferManager(
+          new P2PBlobTransferService(
+              changelogClientConfig.getBlobTransferServerPort(),
+              rocksDBPath,
+              blobSnapshotManager),
+          new NettyFileTransferClient(
+              changelogClientConfig.getBlobTransferClientPort(),
+              rocksDBPath,
+              storageMetadataService),
+          peerFinder,
+          rocksDBPath);
+    }
   }
 
   private Function<String, Boolean> functionToCheckWhetherStorageEngineShouldBeKeptOrNot() {
@@ -200,7 +255,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return false;
   }
 
-  private VeniceConfigLoader buildVeniceConfig(String bootstrapFileSystemPath) {
+  private VeniceConfigLoader buildVeniceConfig(String bootstrapFileSystemPath, boolean blobTransferEnabled) {
     VeniceProperties config = new PropertyBuilder().put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 4) // RocksDB
         // default config
         .put(ROCKSDB_LEVEL0_SLOWDOWN_WRITES_TRIGGER, 20) // RocksDB default config
@@ -212,6 +267,7 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
         .put(changelogClientConfig.getConsumerProperties())
         .put(DATA_BASE_PATH, bootstrapFileSystemPath)
         .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, false)
+        .put(ENABLE_BLOB_TRANSFER, blobTransferEnabled)
         .build();
     return new VeniceConfigLoader(config, config);
   }
@@ -422,12 +478,12 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
         throw new VeniceException("Failed to bootstrap change log consumer with exception: ", e);
       }
       for (Integer partition: partitions) {
+        VeniceStoreVersionConfig storeConfig =
+            configLoader.getStoreConfig(localStateTopicName, PersistenceType.ROCKS_DB);
+        maybeBootstrapPartitionFromBlobs(storeConfig, partition);
         // We'll always try to open for new partition during bootstrap. If a partition has been restored previously,
         // it will be skipped in openStoreForNewPartition.
-        storageService.openStoreForNewPartition(
-            configLoader.getStoreConfig(localStateTopicName, PersistenceType.ROCKS_DB),
-            partition,
-            () -> null);
+        storageService.openStoreForNewPartition(storeConfig, partition, () -> null);
         // Get the last persisted Offset record from metadata service
         OffsetRecord offsetRecord = storageMetadataService.getLastOffset(localStateTopicName, partition);
         // Where we're at now
@@ -499,12 +555,56 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     });
   }
 
+  /**
+   * Seed the local state of a partition with a snapshot of a peer consumer, along with the checkpoint it was taken at,
+   * so that only the tail of the version topic has to be replayed afterward. This is skipped if the partition was
+   * restored from local disk, and any failure falls back to replaying the version topic from the local checkpoint.
+   */
+  private void maybeBootstrapPartitionFromBlobs(VeniceStoreVersionConfig storeConfig, int partition) {
+    if (blobTransferManager == null) {
+      return;
+    }
+    AbstractStorageEngine storageEngine = storageService.getStorageEngine(localStateTopicName);
+    if (storageEngine != null && storageEngine.containsPartition(partition)) {
+      return;
+    }
+    // The transferred checkpoint is persisted in the metadata partition of the storage engine, so it must exist first.
+    storageService.openStore(storeConfig, () -> null);
+    String blobStoreName = Version.parseStoreFromKafkaTopicName(localStateTopicName);
+    int blobVersion = Version.parseVersionFromKafkaTopicName(localStateTopicName);
+    long startTime = System.currentTimeMillis();
+    try {
+      blobTransferManager.get(blobStoreName, blobVersion, partition).toCompletableFuture().get();
+      LOGGER.info(
+          "Bootstrapped partition: {} of {} from a peer snapshot in {} ms",
+          partition,
+          localStateTopicName,
+          System.currentTimeMillis() - startTime);
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      LOGGER.warn(
+          "Failed to bootstrap partition: {} of {} from peer snapshots, will replay the version topic instead.",
+          partition,
+          localStateTopicName,
+          e);
+    }
+  }
+
   public CompletableFuture<Void> start(Set<Integer> partitions) {
     if (isStarted) {
       throw new VeniceException("Bootstrapping Changelog client is already started!");
     }
 
     storageService.start();
+    if (blobTransferManager != null) {
+      try {
+        blobTransferManager.start();
+      } catch (Exception e) {
+        throw new VeniceException("Failed to start the blob transfer manager for store: " + storeName, e);
+      }
+    }
     try {
       storeRepository.start();
       storeRepository.subscribe(storeName);
@@ -526,6 +626,9 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
 
   @Override
   public void stop() throws Exception {
+    if (blobTransferManager != null) {
+      blobTransferManager.close();
+    }
     storageService.stop();
     ((AbstractVeniceService) storageMetadataService).stop();
     storeRepository.clear();
@@ -538,6 +641,11 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     this.storageMetadataService = storageMetadataService;
   }
 
+  @VisibleForTesting
+  void setBlobTransferManager(BlobTransferManager<Void> blobTransferManager) {
+    this.blobTransferManager = blobTransferManager;
+  }
+
   /**
    * Helper method to get offset in long value from VeniceChangeCoordinate.
    */
@@ -545,6 +653,32 @@ class InternalLocalBootstrappingVeniceChangelogConsumer<K, V> extends VeniceAfte
     return ((ApacheKafkaOffsetPosition) (veniceChangeCoordinate.getPosition())).getOffset();
   }
 
+  /**
+   * The local state keeps changing while the consumer is running, so snapshots are always managed the way they are for
+   * hybrid stores: recreated once stale, with the checkpoint captured right before the snapshot. Replaying the version
+   * topic from an older checkpoint is safe since local state only keeps the latest value of each key.
+   */
+  private static class LocalStateBlobSnapshotManager extends BlobSnapshotManager {
+    private static final int SNAPSHOT_RETENTION_TIME_IN_MIN = 30;
+
+    LocalStateBlobSnapshotManager(
+        StorageEngineRepository storageEngineRepository,
+        StorageMetadataService storageMetadataService) {
+      // Hybrid-ness is overridden below, so there's no need for a store repository.
+      super(
+          null,
+          storageEngineRepository,
+          storageMetadataService,
+          DEFAULT_MAX_CONCURRENT_USERS,
+          SNAPSHOT_RETENTION_TIME_IN_MIN);
+    }
+
+    @Override
+    public boolean isStoreHybrid(String storeName) {
+      return true;
+    }
+  }
+
   enum PollState {
     CATCHING_UP, BOOTSTRAPPING, CONSUMING
   }
@@ -0,0 +1,26 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.annotation.Experimental;
+
+
+/**
+ * A {@link VeniceChangelogConsumer} which can also return the polled change events as a {@link ChangeEventRawBatch},
+ * for callers which mostly forward the serialized keys and values. The bootstrapping consumers don't support it, since
+ * they build their local state from the deserialized change events.
+ *
+ * @param <K> The Type for key
+ * @param <V> The Type for value
+ */
+@Experimental
+public interface RawBatchVeniceChangelogConsumer<K, V> extends VeniceChangelogConsumer<K, V> {
+  /**
+   * Polling function similar to {@link #poll(long)}, which returns the messages as a columnar batch of serialized keys
+   * and values instead. Values are decompressed and re-assembled, but keys and values are only deserialized on demand.
+   *
+   * @param timeoutInMs The maximum time to block/wait in between two polling requests (must not be greater than
+   *        {@link Long#MAX_VALUE} milliseconds)
+   * @return a batch of messages since the last fetch for the subscribed list of topic partitions
+   * @throws a VeniceException if polling operation fails
+   */
+  ChangeEventRawBatch<K, V> pollRawBatch(long timeoutInMs);
+}
@@ -0,0 +1,134 @@
+package com.linkedin.davinci.consumer;
+
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * This is a wrapper class on top of a {@link VeniceChangelogConsumerImpl}, which adds {@link #pollRawBatch(long)} to
+ * the methods of the {@link VeniceChangelogConsumer} interface, and delegates all of them to the wrapped consumer.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class RawBatchVeniceChangelogConsumerImpl<K, V> implements RawBatchVeniceChangelogConsumer<K, V> {
+  private final VeniceChangelogConsumerImpl<K, V> consumer;
+
+  RawBatchVeniceChangelogConsumerImpl(VeniceChangelogConsumerImpl<K, V> consumer) {
+    this.consumer = consumer;
+  }
+
+  @Override
+  public ChangeEventRawBatch<K, V> pollRawBatch(long timeoutInMs) {
+    return consumer.pollRawBatch(timeoutInMs);
+  }
+
+  @Override
+  public int getPartitionCount() {
+    return consumer.getPartitionCount();
+  }
+
+  @Override
+  public CompletableFuture<Void> subscribe(Set<Integer> partitions) {
+    return consumer.subscribe(partitions);
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToBeginningOfPush(Set<Integer> partitions) {
+    return consumer.seekToBeginningOfPush(partitions);
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToBeginningOfPush() {
+    return consumer.seekToBeginningOfPush();
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToEndOfPush(Set<Integer> partitions) {
+    return consumer.seekToEndOfPush(partitions);
+  }
+
+  @Override
+  public void pause() {
+    consumer.pause();
+  }
+
+  @Override
+  public void resume(Set<Integer> partitions) {
+    consumer.resume(partitions);
+  }
+
+  @Override
+  public void resume() {
+    consumer.resume();
+  }
+
+  @Override
+  public void pause(Set<Integer> partitions) {
+    consumer.pause(partitions);
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToEndOfPush() {
+    return consumer.seekToEndOfPush();
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToTail(Set<Integer> partitions) {
+    return consumer.seekToTail(partitions);
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToTail() {
+    return consumer.seekToTail();
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToCheckpoint(Set<VeniceChangeCoordinate> checkpoints)
+      throws VeniceCoordinateOutOfRangeException {
+    return consumer.seekToCheckpoint(checkpoints);
+  }
+
+  @Override
+  public CompletableFuture<Void> subscribeAll() {
+    return consumer.subscribeAll();
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToTimestamps(Map<Integer, Long> timestamps) {
+    return consumer.seekToTimestamps(timestamps);
+  }
+
+  @Override
+  public CompletableFuture<Void> seekToTimestamp(Long timestamp) {
+    return consumer.seekToTimestamp(timestamp);
+  }
+
+  @Override
+  public void unsubscribe(Set<Integer> partitions) {
+    consumer.unsubscribe(partitions);
+  }
+
+  @Override
+  public void unsubscribeAll() {
+    consumer.unsubscribeAll();
+  }
+
+  @Override
+  public Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> poll(long timeoutInMs) {
+    return consumer.poll(timeoutInMs);
+  }
+
+  @Override
+  public boolean isCaughtUp() {
+    return consumer.isCaughtUp();
+  }
+
+  @Override
+  public void close() {
+    consumer.close();
+  }
+}
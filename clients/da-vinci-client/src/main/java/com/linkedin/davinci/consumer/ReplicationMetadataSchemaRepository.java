@@ -13,7 +13,7 @@ import java.util.stream.Collectors;
 public class ReplicationMetadataSchemaRepository {
   private final ControllerClient controllerClient;
 
-  private List<RmdSchemaEntry> cachedReplicationMetadataSchemas = new ArrayList<>();
+  private volatile List<RmdSchemaEntry> cachedReplicationMetadataSchemas = new ArrayList<>();
 
   public ReplicationMetadataSchemaRepository(ControllerClient controllerClient) {
     this.controllerClient = controllerClient;
@@ -21,19 +21,49 @@ public class ReplicationMetadataSchemaRepository {
 
   public RmdSchemaEntry getReplicationMetadataSchemaById(String storeName, int replicationMetadataSchemaId) {
     if (cachedReplicationMetadataSchemas.size() < replicationMetadataSchemaId) {
-      MultiSchemaResponse multiReplicationSchemaResponse = controllerClient.getAllReplicationMetadataSchemas(storeName);
-      if (multiReplicationSchemaResponse.isError()) {
-        throw new VeniceException(
-            "Failed to get store replication info for store: " + storeName + " with error: "
-                + multiReplicationSchemaResponse.getError());
-      }
-      cachedReplicationMetadataSchemas = Arrays.stream(multiReplicationSchemaResponse.getSchemas())
-          .map(schema -> new RmdSchemaEntry(schema.getRmdValueSchemaId(), schema.getId(), schema.getSchemaStr()))
-          .collect(Collectors.toList());
+      refreshReplicationMetadataSchemas(storeName);
       if (cachedReplicationMetadataSchemas.size() < replicationMetadataSchemaId) {
         throw new VeniceException("No available store replication metadata schema for store: " + storeName);
       }
     }
     return cachedReplicationMetadataSchemas.get(replicationMetadataSchemaId - 1);
   }
+
+  /**
+   * @return the RMD schema of the given value schema ID and RMD protocol version.
+   */
+  public RmdSchemaEntry getReplicationMetadataSchema(String storeName, int valueSchemaId, int rmdProtocolId) {
+    RmdSchemaEntry rmdSchemaEntry = findReplicationMetadataSchema(valueSchemaId, rmdProtocolId);
+    if (rmdSchemaEntry == null) {
+      refreshReplicationMetadataSchemas(storeName);
+      rmdSchemaEntry = findReplicationMetadataSchema(valueSchemaId, rmdProtocolId);
+      if (rmdSchemaEntry == null) {
+        throw new VeniceException(
+            "No replication metadata schema for store: " + storeName + ", value schema id: " + valueSchemaId
+                + ", protocol id: " + rmdProtocolId);
+      }
+    }
+    return rmdSchemaEntry;
+  }
+
+  private RmdSchemaEntry findReplicationMetadataSchema(int valueSchemaId, int rmdProtocolId) {
+    for (RmdSchemaEntry rmdSchemaEntry: cachedReplicationMetadataSchemas) {
+      if (rmdSchemaEntry.getValueSchemaID() == valueSchemaId && rmdSchemaEntry.getId() == rmdProtocolId) {
+        return rmdSchemaEntry;
+      }
+    }
+    return null;
+  }
+
+  private void refreshReplicationMetadataSchemas(String storeName) {
+    MultiSchemaResponse multiReplicationSchemaResponse = controllerClient.getAllReplicationMetadataSchemas(storeName);
+    if (multiReplicationSchemaResponse.isError()) {
+      throw new VeniceException(
+          "Failed to get store replication info for store: " + storeName + " with error: "
+              + multiReplicationSchemaResponse.getError());
+    }
+    cachedReplicationMetadataSchemas = Arrays.stream(multiReplicationSchemaResponse.getSchemas())
+        .map(schema -> new RmdSchemaEntry(schema.getRmdValueSchemaId(), schema.getId(), schema.getSchemaStr()))
+        .collect(Collectors.toList());
+  }
 }
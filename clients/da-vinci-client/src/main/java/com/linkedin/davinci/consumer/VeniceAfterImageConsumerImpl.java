@@ -66,6 +66,11 @@ public class VeniceAfterImageConsumerImpl<K, V> extends VeniceChangelogConsumerI
     return internalPoll(timeoutInMs, "");
   }
 
+  @Override
+  ChangeEventRawBatch<K, V> pollRawBatch(long timeoutInMs) {
+    return internalPollRawBatch(timeoutInMs, "");
+  }
+
   @Override
   public CompletableFuture<Void> seekToTimestamps(Map<Integer, Long> timestamps) {
     return internalSeekToTimestamps(timestamps, "");
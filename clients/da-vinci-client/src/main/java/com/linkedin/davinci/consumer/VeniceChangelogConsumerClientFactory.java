@@ -92,6 +92,22 @@ public class VeniceChangelogConsumerClientFactory {
     });
   }
 
+  /**
+   * Creates a {@link RawBatchVeniceChangelogConsumer} with consumer id, on top of the consumer returned by
+   * {@link #getChangelogConsumer(String, String)} for the same store and consumer id.
+   */
+  public <K, V> RawBatchVeniceChangelogConsumer<K, V> getRawBatchChangelogConsumer(
+      String storeName,
+      String consumerId) {
+    VeniceChangelogConsumer<K, V> consumer = getChangelogConsumer(storeName, consumerId);
+    if (consumer instanceof InternalLocalBootstrappingVeniceChangelogConsumer) {
+      throw new VeniceException(
+          "Consumer: " + suffixConsumerIdToStore(storeName, consumerId)
+              + " is a bootstrapping changelog consumer, which doesn't support raw batches");
+    }
+    return new RawBatchVeniceChangelogConsumerImpl<>((VeniceChangelogConsumerImpl<K, V>) consumer);
+  }
+
   private String suffixConsumerIdToStore(String storeName, String consumerId) {
     return StringUtils.isEmpty(consumerId) ? storeName : storeName + "-" + consumerId;
   }
@@ -7,6 +7,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.davinci.consumer.stats.BasicConsumerStats;
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SpecificRecordChunkingAdapter;
 import com.linkedin.davinci.utils.ChunkAssembler;
@@ -42,12 +43,14 @@ import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistExceptio
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdUtils;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.AvroSpecificStoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -66,8 +69,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.avro.Schema;
@@ -87,9 +94,10 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
 
   protected final CompressorFactory compressorFactory = new CompressorFactory();
 
-  protected final HashMap<Integer, VeniceCompressor> compressorMap = new HashMap<>();
+  protected final Map<Integer, VeniceCompressor> compressorMap = new VeniceConcurrentHashMap<>();
   protected StoreDeserializerCache<V> storeDeserializerCache;
   protected StoreDeserializerCache<GenericRecord> rmdDeserializerCache;
+  protected final Map<Integer, ColumnarRmdCodec> columnarRmdCodecMap = new VeniceConcurrentHashMap<>();
   protected Class specificValueClass;
 
   protected ThinClientMetaStoreBasedRepository storeRepository;
@@ -116,7 +124,7 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected final String storeName;
 
   protected final PubSubConsumerAdapter pubSubConsumer;
-  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new HashMap<>();
+  protected final Map<Integer, List<Long>> currentVersionHighWatermarks = new VeniceConcurrentHashMap<>();
   protected final Map<Integer, Long> currentVersionLastHeartbeat = new VeniceConcurrentHashMap<>();
   protected final int[] currentValuePayloadSize;
 
@@ -127,6 +135,12 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
   protected final BasicConsumerStats changeCaptureStats;
   protected final HeartbeatReporterThread heartbeatReporterThread;
 
+  /**
+   * Decodes the records polled from different partitions in parallel. Null if records are decoded on the polling
+   * thread.
+   */
+  private final ExecutorService decodingExecutor;
+
   public VeniceChangelogConsumerImpl(
       ChangelogClientConfig changelogClientConfig,
       PubSubConsumerAdapter pubSubConsumer) {
@@ -141,6 +155,14 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       changeCaptureStats = null;
     }
     heartbeatReporterThread = new HeartbeatReporterThread();
+    int decodingThreadPoolSize = changelogClientConfig.getDecodingThreadPoolSize();
+    if (decodingThreadPoolSize > 0) {
+      this.decodingExecutor = Executors.newFixedThreadPool(
+          decodingThreadPoolSize,
+          new DaemonThreadFactory("vcc-decoder-" + changelogClientConfig.getConsumerName()));
+    } else {
+      this.decodingExecutor = null;
+    }
     StoreResponse storeResponse = changelogClientConfig.getD2ControllerClient().getStore(storeName);
     if (storeResponse.isError()) {
       throw new VeniceException(
@@ -573,54 +595,302 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return internalPoll(timeoutInMs, ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
   }
 
+  /**
+   * Exposed through {@link RawBatchVeniceChangelogConsumer#pollRawBatch(long)}, which wraps the consumers that are not
+   * bootstrapping, since raw batches skip {@link #processRecordBytes}.
+   */
+  ChangeEventRawBatch<K, V> pollRawBatch(long timeoutInMs) {
+    return internalPollRawBatch(timeoutInMs, ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+  }
+
   protected Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> internalPoll(
       long timeoutInMs,
       String topicSuffix,
       boolean includeControlMessage) {
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
+    synchronized (pubSubConsumer) {
+      messagesMap = pubSubConsumer.poll(timeoutInMs);
+    }
+    List<List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> decodedPartitions = decodePartitions(
+        messagesMap,
+        ArrayList::new,
+        (pubSubTopicPartition, messageList, result) -> decodePartitionMessages(
+            pubSubTopicPartition,
+            messageList,
+            topicSuffix,
+            includeControlMessage,
+            result));
     List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages = new ArrayList<>();
+    for (List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> partitionMessages: decodedPartitions) {
+      pubSubMessages.addAll(partitionMessages);
+    }
+    if (changeCaptureStats != null) {
+      changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
+    }
+    return pubSubMessages;
+  }
+
+  protected ChangeEventRawBatch<K, V> internalPollRawBatch(long timeoutInMs, String topicSuffix) {
     Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap;
     synchronized (pubSubConsumer) {
       messagesMap = pubSubConsumer.poll(timeoutInMs);
     }
+    List<ChangeEventRawBatch.Builder> decodedPartitions = decodePartitions(
+        messagesMap,
+        ChangeEventRawBatch.Builder::new,
+        (pubSubTopicPartition, messageList, result) -> decodePartitionRawMessages(
+            pubSubTopicPartition,
+            messageList,
+            topicSuffix,
+            result));
+    ChangeEventRawBatch.Builder batchBuilder = new ChangeEventRawBatch.Builder();
+    for (ChangeEventRawBatch.Builder partitionBatch: decodedPartitions) {
+      batchBuilder.addAll(partitionBatch);
+    }
+    if (changeCaptureStats != null) {
+      changeCaptureStats.recordRecordsConsumed(batchBuilder.size());
+    }
+    return batchBuilder.build(keyDeserializer, storeDeserializerCache);
+  }
+
+  /**
+   * Decode the polled records partition by partition, and return the decoded results in the order of the polled
+   * partitions. If a decoding thread pool is configured, partitions are decoded in parallel, but the records of one
+   * partition are always decoded in order. Control messages which may switch topics (end of push and version swap)
+   * touch state shared by all partitions, like the subscriptions and the chunk assembler, so the pool only decodes the
+   * records ahead of them, and the rest of each partition is decoded by the polling thread once the pool is done.
+   *
+   * The records of each partition are therefore still decoded in order with the control messages of that partition,
+   * which is the only order a poll guarantees. The order across partitions is weaker than with sequential decoding:
+   * the records polled from every partition ahead of its first topic switch are decoded before any partition switches
+   * topics, while sequential decoding handles the topic switch of a partition before it decodes the next partitions.
+   * E.g. a version swap clears the chunks buffered by the chunk assembler for all partitions, so a chunked value of
+   * another partition, which sequential decoding would have dropped along with its buffered chunks, may be returned.
+   */
+  private <R> List<R> decodePartitions(
+      Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> messagesMap,
+      Supplier<R> resultSupplier,
+      PartitionDecoder<R> partitionDecoder) {
+    List<R> results = new ArrayList<>(messagesMap.size());
+    if (decodingExecutor == null || messagesMap.size() <= 1) {
+      for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+          .entrySet()) {
+        R result = resultSupplier.get();
+        partitionDecoder.decode(entry.getKey(), entry.getValue(), result);
+        results.add(result);
+      }
+      return results;
+    }
+
+    List<CompletableFuture<R>> futures = new ArrayList<>(messagesMap.size());
+    List<Integer> topicSwitchIndexes = new ArrayList<>(messagesMap.size());
     for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
         .entrySet()) {
-      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
       List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList = entry.getValue();
-      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
-        maybeUpdatePartitionToBootstrapMap(message, pubSubTopicPartition);
-        if (message.getKey().isControlMessage()) {
-          ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
-          if (handleControlMessage(
-              controlMessage,
-              pubSubTopicPartition,
-              topicSuffix,
-              message.getKey().getKey(),
-              message.getValue().getProducerMetadata().getMessageTimestamp())) {
-            break;
-          }
-          if (includeControlMessage) {
-            pubSubMessages.add(
-                new ImmutableChangeCapturePubSubMessage<>(
-                    null,
-                    null,
-                    message.getTopicPartition(),
-                    message.getOffset(),
-                    0,
-                    0,
-                    false));
-          }
+      int topicSwitchIndex = indexOfTopicSwitchControlMessage(messageList);
+      topicSwitchIndexes.add(topicSwitchIndex);
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        R result = resultSupplier.get();
+        partitionDecoder.decode(entry.getKey(), messageList.subList(0, topicSwitchIndex), result);
+        return result;
+      }, decodingExecutor));
+    }
+    for (CompletableFuture<R> future: futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof VeniceException) {
+          throw (VeniceException) e.getCause();
+        }
+        throw new VeniceException("Failed to decode polled records for store: " + storeName, e.getCause());
+      }
+    }
+    int i = 0;
+    for (Map.Entry<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> entry: messagesMap
+        .entrySet()) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList = entry.getValue();
+      int topicSwitchIndex = topicSwitchIndexes.get(i);
+      if (topicSwitchIndex < messageList.size()) {
+        partitionDecoder
+            .decode(entry.getKey(), messageList.subList(topicSwitchIndex, messageList.size()), results.get(i));
+      }
+      i++;
+    }
+    return results;
+  }
 
-        } else {
-          Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
-              convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
-          pubSubMessage.ifPresent(pubSubMessages::add);
+  /**
+   * @return the index of the first end of push or version swap control message in the given records, or the number
+   *         of records if there is none
+   */
+  private static int indexOfTopicSwitchControlMessage(
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList) {
+    for (int i = 0; i < messageList.size(); i++) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message = messageList.get(i);
+      if (message.getKey().isControlMessage()) {
+        ControlMessageType controlMessageType =
+            ControlMessageType.valueOf((ControlMessage) message.getValue().getPayloadUnion());
+        if (controlMessageType == ControlMessageType.END_OF_PUSH
+            || controlMessageType == ControlMessageType.VERSION_SWAP) {
+          return i;
         }
       }
     }
-    if (changeCaptureStats != null) {
-      changeCaptureStats.recordRecordsConsumed(pubSubMessages.size());
+    return messageList.size();
+  }
+
+  private void decodePartitionMessages(
+      PubSubTopicPartition pubSubTopicPartition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList,
+      String topicSuffix,
+      boolean includeControlMessage,
+      List<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessages) {
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
+      maybeUpdatePartitionToBootstrapMap(message, pubSubTopicPartition);
+      if (message.getKey().isControlMessage()) {
+        ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+        if (handleControlMessage(
+            controlMessage,
+            pubSubTopicPartition,
+            topicSuffix,
+            message.getKey().getKey(),
+            message.getValue().getProducerMetadata().getMessageTimestamp())) {
+          return;
+        }
+        if (includeControlMessage) {
+          pubSubMessages.add(
+              new ImmutableChangeCapturePubSubMessage<>(
+                  null,
+                  null,
+                  message.getTopicPartition(),
+                  message.getOffset(),
+                  0,
+                  0,
+                  false));
+        }
+
+      } else {
+        Optional<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> pubSubMessage =
+            convertPubSubMessageToPubSubChangeEventMessage(message, pubSubTopicPartition);
+        pubSubMessage.ifPresent(pubSubMessages::add);
+      }
+    }
+  }
+
+  private void decodePartitionRawMessages(
+      PubSubTopicPartition pubSubTopicPartition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList,
+      String topicSuffix,
+      ChangeEventRawBatch.Builder batchBuilder) {
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message: messageList) {
+      maybeUpdatePartitionToBootstrapMap(message, pubSubTopicPartition);
+      if (message.getKey().isControlMessage()) {
+        ControlMessage controlMessage = (ControlMessage) message.getValue().getPayloadUnion();
+        if (handleControlMessage(
+            controlMessage,
+            pubSubTopicPartition,
+            topicSuffix,
+            message.getKey().getKey(),
+            message.getValue().getProducerMetadata().getMessageTimestamp())) {
+          return;
+        }
+      } else {
+        addRawChangeEvent(message, pubSubTopicPartition, batchBuilder);
+      }
     }
-    return pubSubMessages;
+  }
+
+  /**
+   * Same as {@link #convertPubSubMessageToPubSubChangeEventMessage}, but only decompresses and re-assembles the value
+   * instead of deserializing the key and the value. The record change event envelope of change capture topics still
+   * has to be deserialized to get to the values and the replication checkpoint.
+   */
+  private void addRawChangeEvent(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message,
+      PubSubTopicPartition pubSubTopicPartition,
+      ChangeEventRawBatch.Builder batchBuilder) {
+    byte[] keyBytes = message.getKey().getKey();
+    MessageType messageType = MessageType.valueOf(message.getValue());
+    ByteBuffer currentValue = null;
+    int currentValueSchemaId = ChangeEventRawBatch.NO_VALUE_SCHEMA_ID;
+    ByteBuffer previousValue = null;
+    int previousValueSchemaId = ChangeEventRawBatch.NO_VALUE_SCHEMA_ID;
+    List<Long> replicationCheckpoint;
+    if (messageType.equals(MessageType.DELETE)) {
+      Delete delete = (Delete) message.getValue().payloadUnion;
+      replicationCheckpoint = extractOffsetVectorFromMessage(
+          delete.getSchemaId(),
+          delete.getReplicationMetadataVersionId(),
+          delete.getReplicationMetadataPayload());
+      partitionToDeleteMessageCount.computeIfAbsent(message.getPartition(), x -> new AtomicLong(0)).incrementAndGet();
+    } else if (messageType.equals(MessageType.PUT)) {
+      Put put = (Put) message.getValue().payloadUnion;
+      boolean isVersionTopic = pubSubTopicPartition.getPubSubTopic().isVersionTopic();
+      VeniceCompressor compressor =
+          isVersionTopic ? compressorMap.get(pubSubTopicPartition.getPartitionNumber()) : NO_OP_COMPRESSOR;
+      int readerSchemaId = isVersionTopic ? put.schemaId : this.schemaReader.getLatestValueSchemaId();
+      // The manifest of a chunked value carries the schema id of the re-assembled value, the chunk assembler hands it
+      // out once it is done with it.
+      ChunkedValueManifestContainer manifestContainer = new ChunkedValueManifestContainer();
+      ByteBuffer assembledValue = chunkAssembler.bufferAndAssembleRecord(
+          pubSubTopicPartition,
+          put.getSchemaId(),
+          keyBytes,
+          put.getPutValue(),
+          message.getOffset(),
+          readerSchemaId,
+          compressor,
+          manifestContainer);
+      if (assembledValue == null) {
+        // Only a chunk was buffered, wait for the rest of the record.
+        return;
+      }
+      int valueSchemaId =
+          manifestContainer.getManifest() == null ? put.schemaId : manifestContainer.getManifest().getSchemaId();
+      ByteBuffer decompressedValue;
+      try {
+        decompressedValue = compressor.decompress(assembledValue);
+      } catch (IOException e) {
+        throw new VeniceException(e);
+      }
+      if (isVersionTopic) {
+        currentValue = decompressedValue;
+        currentValueSchemaId = valueSchemaId;
+        replicationCheckpoint = extractOffsetVectorFromMessage(
+            put.getSchemaId(),
+            put.getReplicationMetadataVersionId(),
+            put.getReplicationMetadataPayload());
+      } else {
+        RecordChangeEvent recordChangeEvent = recordChangeDeserializer.deserialize(decompressedValue);
+        if (recordChangeEvent.currentValue != null && recordChangeEvent.currentValue.getSchemaId() > 0) {
+          currentValue = recordChangeEvent.currentValue.getValue();
+          currentValueSchemaId = recordChangeEvent.currentValue.getSchemaId();
+          currentValuePayloadSize[pubSubTopicPartition.getPartitionNumber()] = currentValue.remaining();
+        }
+        if (recordChangeEvent.previousValue != null && recordChangeEvent.previousValue.getSchemaId() > 0) {
+          previousValue = recordChangeEvent.previousValue.getValue();
+          previousValueSchemaId = recordChangeEvent.previousValue.getSchemaId();
+        }
+        replicationCheckpoint = recordChangeEvent.replicationCheckpointVector;
+      }
+      partitionToPutMessageCount.computeIfAbsent(message.getPartition(), x -> new AtomicLong(0)).incrementAndGet();
+    } else {
+      return;
+    }
+
+    if (filterRecordByVersionSwapHighWatermarks(replicationCheckpoint, pubSubTopicPartition)) {
+      return;
+    }
+    batchBuilder.add(
+        pubSubTopicPartition,
+        message.getOffset(),
+        message.getPubSubMessageTime(),
+        message.getPayloadSize(),
+        keyBytes,
+        currentValue,
+        currentValueSchemaId,
+        previousValue,
+        previousValueSchemaId);
   }
 
   void maybeUpdatePartitionToBootstrapMap(
@@ -851,9 +1121,15 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       int rmdProtocolId,
       ByteBuffer replicationMetadataPayload) {
     if (rmdProtocolId > 0 && replicationMetadataPayload.remaining() > 0) {
-      RecordDeserializer<GenericRecord> deserializer =
-          rmdDeserializerCache.getDeserializer(valueSchemaId, valueSchemaId);
-      GenericRecord replicationMetadataRecord = deserializer.deserialize(replicationMetadataPayload);
+      GenericRecord replicationMetadataRecord;
+      if (rmdProtocolId == ColumnarRmdCodec.RMD_PROTOCOL_VERSION) {
+        replicationMetadataRecord = columnarRmdCodecMap.computeIfAbsent(valueSchemaId, this::createColumnarRmdCodec)
+            .decode(replicationMetadataPayload);
+      } else {
+        RecordDeserializer<GenericRecord> deserializer =
+            rmdDeserializerCache.getDeserializer(valueSchemaId, valueSchemaId);
+        replicationMetadataRecord = deserializer.deserialize(replicationMetadataPayload);
+      }
       GenericData.Array replicationCheckpointVector =
           (GenericData.Array) replicationMetadataRecord.get(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS);
       List<Long> offsetVector = new ArrayList<>();
@@ -865,6 +1141,13 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
     return new ArrayList<>();
   }
 
+  private ColumnarRmdCodec createColumnarRmdCodec(int valueSchemaId) {
+    return new ColumnarRmdCodec(
+        replicationMetadataSchemaRepository
+            .getReplicationMetadataSchema(storeName, valueSchemaId, ColumnarRmdCodec.RMD_PROTOCOL_VERSION)
+            .getSchema());
+  }
+
   protected boolean handleVersionSwapControlMessage(
       ControlMessage controlMessage,
       PubSubTopicPartition pubSubTopicPartition,
@@ -985,6 +1268,17 @@ public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsume
       LOGGER.info("Closing Changelog Consumer with name: " + changelogClientConfig.getConsumerName());
       pubSubConsumer.close();
     }
+    if (decodingExecutor != null) {
+      decodingExecutor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface PartitionDecoder<R> {
+    void decode(
+        PubSubTopicPartition pubSubTopicPartition,
+        List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> messageList,
+        R result);
   }
 
   @VisibleForTesting
@@ -60,12 +60,7 @@ public class DefaultIngestionBackend implements IngestionBackend {
       syncStoreVersionConfig(storeAndVersion.getFirst(), storeConfig);
       AbstractStorageEngine storageEngine =
           storageService.openStoreForNewPartition(storeConfig, partition, svsSupplier);
-      topicStorageEngineReferenceMap.compute(storeVersion, (key, storageEngineAtomicReference) -> {
-        if (storageEngineAtomicReference != null) {
-          storageEngineAtomicReference.set(storageEngine);
-        }
-        return storageEngineAtomicReference;
-      });
+      updateStorageEngineReference(storeVersion, storageEngine);
       LOGGER.info(
           "Retrieved storage engine for store {} partition {}. Starting consumption in ingestion service",
           storeVersion,
@@ -88,6 +83,27 @@ public class DefaultIngestionBackend implements IngestionBackend {
     }
   }
 
+  /**
+   * Open the storage engine of the store version without adding any partition, and make it visible to the readers which
+   * have set up a storage engine reference for the store version.
+   */
+  AbstractStorageEngine openStorageEngine(VeniceStoreVersionConfig storeConfig) {
+    String storeVersion = storeConfig.getStoreVersionName();
+    AbstractStorageEngine storageEngine =
+        storageService.openStore(storeConfig, () -> storageMetadataService.getStoreVersionState(storeVersion));
+    updateStorageEngineReference(storeVersion, storageEngine);
+    return storageEngine;
+  }
+
+  private void updateStorageEngineReference(String storeVersion, AbstractStorageEngine storageEngine) {
+    topicStorageEngineReferenceMap.compute(storeVersion, (key, storageEngineAtomicReference) -> {
+      if (storageEngineAtomicReference != null) {
+        storageEngineAtomicReference.set(storageEngine);
+      }
+      return storageEngineAtomicReference;
+    });
+  }
+
   /**
    * Bootstrap from the blobs from another source (like another peer). If it fails (due to the 30-minute timeout or
    * any exceptions), it deletes the partially downloaded blobs, and eventually falls back to bootstrapping from Kafka.
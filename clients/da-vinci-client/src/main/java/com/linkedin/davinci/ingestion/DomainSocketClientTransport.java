@@ -0,0 +1,234 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionRequest;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceTimeoutException;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.Time;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class sends requests over a Unix domain socket, as a lighter alternative to {@link HttpClientTransport} for the
+ * reports sent from the forked ingestion process to the main process on the same host.
+ *
+ * Every request is a frame with a 4-byte length prefix, which holds the ordinal of the {@link IngestionAction} in one
+ * byte followed by the same Avro payload as the body of the HTTP request. The main process answers every request with a
+ * frame holding a single status byte, in the order of the requests, so the responses are matched with the pending
+ * requests in FIFO order. Requests don't wait for the response of the previous request, and the flushes are
+ * consolidated, so a burst of reports is written to the socket in a few batches instead of one request at a time.
+ */
+public class DomainSocketClientTransport implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(DomainSocketClientTransport.class);
+  private static final int DEFAULT_CONNECTION_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
+  private static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
+  /**
+   * Number of flushes, after which the pending writes are flushed even if the event loop is still busy.
+   */
+  private static final int EXPLICIT_FLUSH_AFTER_FLUSHES = 256;
+
+  public static final int MAX_FRAME_LENGTH = 100 * 1024 * 1024;
+  public static final int FRAME_LENGTH_FIELD_LENGTH = Integer.BYTES;
+  public static final byte RESPONSE_STATUS_OK = 0;
+  public static final byte RESPONSE_STATUS_ERROR = 1;
+
+  private final EventLoopGroup eventLoopGroup;
+  private final Bootstrap bootstrap;
+  private final DomainSocketAddress socketAddress;
+  private final int requestTimeoutInSeconds;
+
+  private Channel channel;
+  private ResponseHandler responseHandler;
+
+  public DomainSocketClientTransport(String socketPath, int requestTimeoutInSeconds) {
+    this.socketAddress = new DomainSocketAddress(socketPath);
+    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+    this.eventLoopGroup = new EpollEventLoopGroup(1);
+    this.bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(EpollDomainSocketChannel.class)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, DEFAULT_CONNECTION_TIMEOUT_MS)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline()
+                .addLast(
+                    new LengthFieldBasedFrameDecoder(
+                        MAX_FRAME_LENGTH,
+                        0,
+                        FRAME_LENGTH_FIELD_LENGTH,
+                        0,
+                        FRAME_LENGTH_FIELD_LENGTH))
+                .addLast(new LengthFieldPrepender(FRAME_LENGTH_FIELD_LENGTH))
+                .addLast(new FlushConsolidationHandler(EXPLICIT_FLUSH_AFTER_FLUSHES, true))
+                .addLast(new ResponseHandler());
+          }
+        });
+  }
+
+  @Override
+  public synchronized void close() {
+    if (channel != null) {
+      channel.close().syncUninterruptibly();
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  /**
+   * Sends the request without waiting for the response of this or any previous request.
+   * @return a future, which completes once the main process has handled the request.
+   */
+  public synchronized <S extends SpecificRecordBase> CompletableFuture<Void> sendRequestAsync(
+      IngestionAction action,
+      S param) {
+    byte[] requestPayload;
+    try {
+      requestPayload = serializeIngestionActionRequest(action, param);
+    } catch (Exception e) {
+      throw new VeniceException("Unable to encode the provided request", e);
+    }
+    Channel currentChannel = getOrConnectChannel();
+    CompletableFuture<Void> responseFuture = new CompletableFuture<>();
+    // Registered before the write, so that the order of the pending responses matches the order of the requests.
+    responseHandler.pendingResponses.add(responseFuture);
+    ByteBuf request = currentChannel.alloc().buffer(1 + requestPayload.length);
+    request.writeByte(action.ordinal()).writeBytes(requestPayload);
+    currentChannel.writeAndFlush(request).addListener((ChannelFutureListener) writeFuture -> {
+      if (!writeFuture.isSuccess()) {
+        responseFuture.completeExceptionally(writeFuture.cause());
+        // Closing the channel fails the other pending responses of this channel too.
+        writeFuture.channel().close();
+      }
+    });
+    return responseFuture;
+  }
+
+  public <S extends SpecificRecordBase> void sendRequest(IngestionAction action, S param) {
+    sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
+  }
+
+  public <S extends SpecificRecordBase> void sendRequestWithRetry(IngestionAction action, S param, int maxAttempt) {
+    // Sanity check for maxAttempt argument.
+    if (maxAttempt <= 0) {
+      throw new IllegalArgumentException("maxAttempt must be a positive integer");
+    }
+    int retryCount = 0;
+    final long startTimeIsMs = System.currentTimeMillis();
+    while (true) {
+      try {
+        waitForResponse(sendRequestAsync(action, param));
+        return;
+      } catch (VeniceException e) {
+        retryCount++;
+        if (retryCount != maxAttempt) {
+          LOGGER.warn(
+              "Encounter exception when sending request, will retry for {} / {} time.",
+              retryCount,
+              maxAttempt,
+              e);
+        } else {
+          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
+          throw new VeniceException(
+              "Failed to send request to main process after " + maxAttempt + " attempts, total time spent in millis: "
+                  + totalTimeInMs,
+              e);
+        }
+      }
+      try {
+        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+  }
+
+  private void waitForResponse(CompletableFuture<Void> responseFuture) {
+    try {
+      responseFuture.get(requestTimeoutInSeconds, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      throw new VeniceTimeoutException(
+          "Unable to finish isolated ingestion request in given " + requestTimeoutInSeconds + " s.",
+          e);
+    } catch (InterruptedException e) {
+      // Keep the interruption flag.
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new VeniceException("Encounter exception when submitting isolated ingestion request", e.getCause());
+    }
+  }
+
+  private Channel getOrConnectChannel() {
+    if (channel != null && channel.isActive()) {
+      return channel;
+    }
+    Channel newChannel;
+    try {
+      newChannel = bootstrap.connect(socketAddress).sync().channel();
+    } catch (Exception e) {
+      throw new VeniceException("Unable to connect to domain socket: " + socketAddress.path(), e);
+    }
+    channel = newChannel;
+    responseHandler = newChannel.pipeline().get(ResponseHandler.class);
+    LOGGER.info("Connected to domain socket: {}", socketAddress.path());
+    return newChannel;
+  }
+
+  private static class ResponseHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private final Queue<CompletableFuture<Void>> pendingResponses = new ConcurrentLinkedQueue<>();
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+      CompletableFuture<Void> responseFuture = pendingResponses.poll();
+      if (responseFuture == null) {
+        throw new VeniceException("Received a response without any pending request");
+      }
+      byte status = msg.readByte();
+      if (status == RESPONSE_STATUS_OK) {
+        responseFuture.complete(null);
+      } else {
+        responseFuture.completeExceptionally(new VeniceException("Main process failed to handle the request"));
+      }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+      VeniceException exception = new VeniceException("Domain socket connection to main process is closed");
+      CompletableFuture<Void> responseFuture;
+      while ((responseFuture = pendingResponses.poll()) != null) {
+        responseFuture.completeExceptionally(exception);
+      }
+      ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.error("Encounter exception on domain socket connection to main process", cause);
+      ctx.close();
+    }
+  }
+}
@@ -15,16 +15,22 @@ import com.linkedin.davinci.ingestion.main.MainTopicIngestionStatus;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.RelayNotifier;
 import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.davinci.stats.IsolatedIngestionHandoverStats;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionComponentType;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,6 +50,8 @@ import org.apache.logging.log4j.Logger;
  * metadata cache and persist the metadata updates from main process to metadata partition in child process.
  * Topic partition ingestion requests will first be sent to child process and after COMPLETED is reported, they will be
  * re-subscribed in main process to serve read traffics for user application and receive future updates.
+ * If early reads are enabled, the main process opens the completed partitions right away, so that they serve reads
+ * while the ingestion resumed in main process catches up, instead of after it reports completion again.
  * The implementation of APIs in this class should consider the states in both main process and child process, as we need
  * to make sure we send the command to the correct process which holds the target storage engine.
  */
@@ -55,6 +63,8 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
   private final VeniceConfigLoader configLoader;
   private final ExecutorService completionReportHandlingExecutor = Executors.newFixedThreadPool(10);
   private final Function<String, Integer> currentVersionSupplier;
+  private final boolean earlyReadEnabled;
+  private final IsolatedIngestionHandoverStats handoverStats;
   private Process isolatedIngestionServiceProcess;
 
   public IsolatedIngestionBackend(
@@ -75,6 +85,8 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
     int listenerPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     this.configLoader = configLoader;
     this.currentVersionSupplier = currentVersionSupplier;
+    this.earlyReadEnabled = configLoader.getVeniceServerConfig().isIngestionIsolationEarlyReadEnabled();
+    this.handoverStats = new IsolatedIngestionHandoverStats(metricsRepository);
     // Create the ingestion request client.
     mainIngestionRequestClient = new MainIngestionRequestClient(configLoader);
     // Create the forked isolated ingestion process.
@@ -182,8 +194,9 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
   @Override
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
     if (ingestionListener != null) {
-      super.addIngestionNotifier(ingestionListener);
-      mainIngestionMonitorService.addIngestionNotifier(getIsolatedIngestionNotifier(ingestionListener));
+      IsolatedIngestionNotifier isolatedIngestionNotifier = getIsolatedIngestionNotifier(ingestionListener);
+      super.addIngestionNotifier(isolatedIngestionNotifier.getMainProcessIngestionNotifier());
+      mainIngestionMonitorService.addIngestionNotifier(isolatedIngestionNotifier);
     }
   }
 
@@ -272,44 +285,133 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend implements
     return configLoader;
   }
 
+  boolean isEarlyReadEnabled() {
+    return earlyReadEnabled;
+  }
+
+  IsolatedIngestionHandoverStats getHandoverStats() {
+    return handoverStats;
+  }
+
   void startConsumptionLocally(VeniceStoreVersionConfig storeVersionConfig, int partition) {
     super.startConsumption(storeVersionConfig, partition);
   }
 
-  VeniceNotifier getIsolatedIngestionNotifier(VeniceNotifier notifier) {
-    return new RelayNotifier(notifier) {
-      @Override
-      public void completed(String kafkaTopic, int partition, long offset, String message) {
-        // Use thread pool to handle the completion reporting to make sure it is not blocking the report.
-        if (isTopicPartitionHosted(kafkaTopic, partition)) {
-          getCompletionHandlingExecutor().submit(() -> {
-            /**
-             * Start partition consumption locally.
-             * If any error happens when starting the consumption, error will be reported.
-             */
-            try {
-              VeniceStoreVersionConfig config = getConfigLoader().getStoreConfig(kafkaTopic);
-              config.setRestoreDataPartitions(false);
-              config.setRestoreMetadataPartition(false);
-              startConsumptionLocally(config, partition);
-            } catch (Exception e) {
-              notifier.error(
-                  kafkaTopic,
-                  partition,
-                  "Failed to resume the ingestion in main process for topic: " + kafkaTopic,
-                  e);
-            } finally {
-              getMainIngestionMonitorService().setVersionPartitionToLocalIngestion(kafkaTopic, partition);
-            }
-          });
-        } else {
-          LOGGER.error(
-              "Partition: {} of topic: {} is not assigned to this host, will not resume the ingestion on main process.",
-              partition,
-              kafkaTopic);
+  IsolatedIngestionNotifier getIsolatedIngestionNotifier(VeniceNotifier notifier) {
+    return new IsolatedIngestionNotifier(notifier);
+  }
+
+  /**
+   * Open the partition completed by the forked process in the main process, which is the only owner of the database
+   * since the forked process closes it before reporting COMPLETED. The partition is opened for reads and writes as a
+   * completed partition, so the ingestion resumed in main process keeps using it without reopening it.
+   * @return whether the partition serves reads from the main process.
+   */
+  boolean openCompletedPartition(VeniceStoreVersionConfig storeConfig, int partition) {
+    String topicName = storeConfig.getStoreVersionName();
+    try {
+      AbstractStorageEngine storageEngine = openStorageEngine(storeConfig);
+      synchronized (storageEngine) {
+        if (!storageEngine.containsPartition(partition)) {
+          StoragePartitionConfig partitionConfig = new StoragePartitionConfig(topicName, partition);
+          // Completion has been reported by the forked process.
+          partitionConfig.setWriteOnlyConfig(false);
+          storageEngine.addStoragePartition(partitionConfig);
         }
       }
-    };
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Unable to open topic: {}, partition: {}, will serve reads after resuming ingestion.",
+          topicName,
+          partition,
+          e);
+      getHandoverStats().recordEarlyOpenFailure();
+      return false;
+    }
+  }
+
+  /**
+   * This notifier relays the reports of the forked process to the wrapped notifier, except for COMPLETED, which hands
+   * over the partition to the main process. If early reads are enabled, COMPLETED is relayed as soon as the main
+   * process has opened the partition, before the ingestion is resumed in main process, and the COMPLETED reported again
+   * by the resumed ingestion is suppressed by {@link #getMainProcessIngestionNotifier()}.
+   */
+  class IsolatedIngestionNotifier extends RelayNotifier {
+    private final VeniceNotifier notifier;
+    // Replica ID -> time in nanos when the forked process reported COMPLETED, for the replicas not serving reads yet.
+    private final Map<String, Long> handoverStartTimeMap = new VeniceConcurrentHashMap<>();
+    private final Set<String> replicasCompletedBeforeHandover = VeniceConcurrentHashMap.newKeySet();
+
+    IsolatedIngestionNotifier(VeniceNotifier notifier) {
+      super(notifier);
+      this.notifier = notifier;
+    }
+
+    @Override
+    public void completed(String kafkaTopic, int partition, long offset, String message) {
+      // Use thread pool to handle the completion reporting to make sure it is not blocking the report.
+      if (isTopicPartitionHosted(kafkaTopic, partition)) {
+        String replicaId = Utils.getReplicaId(kafkaTopic, partition);
+        long handoverStartTimeInNs = System.nanoTime();
+        handoverStartTimeMap.put(replicaId, handoverStartTimeInNs);
+        getCompletionHandlingExecutor().submit(() -> {
+          /**
+           * Start partition consumption locally.
+           * If any error happens when starting the consumption, error will be reported.
+           */
+          try {
+            VeniceStoreVersionConfig config = getConfigLoader().getStoreConfig(kafkaTopic);
+            config.setRestoreDataPartitions(false);
+            config.setRestoreMetadataPartition(false);
+            if (isEarlyReadEnabled() && openCompletedPartition(config, partition)) {
+              handoverStartTimeMap.remove(replicaId);
+              replicasCompletedBeforeHandover.add(replicaId);
+              getHandoverStats().recordReadReadyLatency(LatencyUtils.getElapsedTimeFromNSToMS(handoverStartTimeInNs));
+              notifier.completed(kafkaTopic, partition, offset, message);
+            }
+            startConsumptionLocally(config, partition);
+            getHandoverStats().recordHandoverLatency(LatencyUtils.getElapsedTimeFromNSToMS(handoverStartTimeInNs));
+          } catch (Exception e) {
+            handoverStartTimeMap.remove(replicaId);
+            replicasCompletedBeforeHandover.remove(replicaId);
+            notifier.error(
+                kafkaTopic,
+                partition,
+                "Failed to resume the ingestion in main process for topic: " + kafkaTopic,
+                e);
+          } finally {
+            getMainIngestionMonitorService().setVersionPartitionToLocalIngestion(kafkaTopic, partition);
+          }
+        });
+      } else {
+        LOGGER.error(
+            "Partition: {} of topic: {} is not assigned to this host, will not resume the ingestion on main process.",
+            partition,
+            kafkaTopic);
+      }
+    }
+
+    /**
+     * @return the notifier for the ingestion in main process, which relays all the reports to the wrapped notifier,
+     *         except for the COMPLETED reports, which have been relayed before the handover already.
+     */
+    VeniceNotifier getMainProcessIngestionNotifier() {
+      return new RelayNotifier(notifier) {
+        @Override
+        public void completed(String kafkaTopic, int partition, long offset, String message) {
+          String replicaId = Utils.getReplicaId(kafkaTopic, partition);
+          if (replicasCompletedBeforeHandover.remove(replicaId)) {
+            return;
+          }
+          Long handoverStartTimeInNs = handoverStartTimeMap.remove(replicaId);
+          if (handoverStartTimeInNs != null) {
+            getHandoverStats().recordReadReadyLatency(LatencyUtils.getElapsedTimeFromNSToMS(handoverStartTimeInNs));
+          }
+          super.completed(kafkaTopic, partition, offset, message);
+        }
+      };
+    }
   }
 
   void executeCommandWithRetry(
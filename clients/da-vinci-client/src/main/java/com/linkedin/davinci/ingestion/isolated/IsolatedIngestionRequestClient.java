@@ -3,6 +3,7 @@ package com.linkedin.davinci.ingestion.isolated;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
@@ -10,52 +11,145 @@ import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.Closeable;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 /**
- * This class sends requests to monitor service in main process and retrieves responses.
+ * This class sends requests to monitor service in main process and retrieves responses. The requests go over HTTP, or
+ * over a Unix domain socket if {@link IsolatedIngestionUtils#isolatedIngestionDomainSocketEnabled} is true.
  */
 public class IsolatedIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionRequestClient.class);
 
   private HttpClientTransport httpClientTransport;
+  private DomainSocketClientTransport domainSocketClientTransport;
+  /**
+   * The async reports which failed to be sent, and the reports sent after them while they are being resent, in order.
+   */
+  private final Queue<IngestionTaskReport> reportsToResend = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean resendingReports = new AtomicBoolean(false);
+  private final ExecutorService reportResendExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("isolated-ingestion-report-resend"));
 
   public IsolatedIngestionRequestClient(VeniceConfigLoader configLoader) {
-    Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
-    int port = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    if (IsolatedIngestionUtils.isolatedIngestionDomainSocketEnabled(configLoader)) {
+      String socketPath = configLoader.getVeniceServerConfig().getIngestionIsolationReportDomainSocketPath();
+      domainSocketClientTransport = new DomainSocketClientTransport(socketPath, requestTimeoutInSeconds);
+    } else {
+      Optional<SSLFactory> sslFactory = IsolatedIngestionUtils.getSSLFactory(configLoader);
+      int port = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
+      httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    }
   }
 
   public boolean reportIngestionStatus(IngestionTaskReport report) {
     String topicName = report.topicName.toString();
     int partitionId = report.partitionId;
+    logIngestionReport(report);
+    try {
+      if (domainSocketClientTransport != null) {
+        domainSocketClientTransport.sendRequest(IngestionAction.REPORT, report);
+      } else {
+        httpClientTransport.sendRequest(IngestionAction.REPORT, report);
+      }
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to send report with exception for topic: {}, partition: {}", topicName, partitionId, e);
+      return false;
+    }
+  }
+
+  /**
+   * Same as {@link #reportIngestionStatus}, except that over the domain socket, the report is only written to the
+   * socket without waiting for the main process to handle it, so that a burst of reports is sent in batches. The
+   * reports still reach the main process in the order they are sent, as they share one connection.
+   *
+   * The reports which fail to be sent, e.g. since the connection is closed, are resent with retries in the order they
+   * were sent, over a new connection if needed. The reports sent while others are being resent are queued behind them,
+   * so that they don't overtake them. This method is expected to be called from a single thread.
+   */
+  public void reportIngestionStatusAsync(IngestionTaskReport report) {
+    if (domainSocketClientTransport == null) {
+      reportIngestionStatus(report);
+      return;
+    }
+    if (resendingReports.get()) {
+      reportsToResend.add(report);
+      return;
+    }
+    logIngestionReport(report);
+    try {
+      domainSocketClientTransport.sendRequestAsync(IngestionAction.REPORT, report).whenComplete((ignored, e) -> {
+        if (e != null) {
+          resendReport(report, e);
+        }
+      });
+    } catch (Exception e) {
+      resendReport(report, e);
+    }
+  }
+
+  /**
+   * This does not block, as it could be called from the event loop of the domain socket connection.
+   */
+  private void resendReport(IngestionTaskReport report, Throwable e) {
+    LOGGER.warn(
+        "Failed to send report with exception for topic: {}, partition: {}, will resend it",
+        report.topicName,
+        report.partitionId,
+        e);
+    reportsToResend.add(report);
+    if (resendingReports.compareAndSet(false, true)) {
+      reportResendExecutor.execute(this::resendReports);
+    }
+  }
+
+  private void resendReports() {
+    while (true) {
+      IngestionTaskReport report = reportsToResend.poll();
+      if (report == null) {
+        resendingReports.set(false);
+        // A report could have been queued right before the flag was cleared.
+        if (reportsToResend.isEmpty() || !resendingReports.compareAndSet(false, true)) {
+          return;
+        }
+        continue;
+      }
+      // Retried over a new connection if needed, the report is dropped if all the attempts fail.
+      reportIngestionStatus(report);
+    }
+  }
+
+  private static void logIngestionReport(IngestionTaskReport report) {
     // Avoid sending binary data in OffsetRecord and pollute logs.
     LOGGER.info(
         "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
         IngestionReportType.valueOf(report.reportType),
         report.isPositive,
         report.message,
-        partitionId,
-        topicName,
+        report.partitionId,
+        report.topicName,
         report.offset);
-    try {
-      httpClientTransport.sendRequest(IngestionAction.REPORT, report);
-      return true;
-    } catch (Exception e) {
-      LOGGER.warn("Failed to send report with exception for topic: {}, partition: {}", topicName, partitionId, e);
-      return false;
-    }
   }
 
   public void reportMetricUpdate(IngestionMetricsReport report) {
     try {
-      httpClientTransport.sendRequest(IngestionAction.METRIC, report);
+      if (domainSocketClientTransport != null) {
+        domainSocketClientTransport.sendRequest(IngestionAction.METRIC, report);
+      } else {
+        httpClientTransport.sendRequest(IngestionAction.METRIC, report);
+      }
     } catch (Exception e) {
       LOGGER.warn("Failed to send metrics update with exception", e);
     }
@@ -66,8 +160,19 @@ public class IsolatedIngestionRequestClient implements Closeable {
     this.httpClientTransport = clientTransport;
   }
 
+  // Visible for testing
+  protected void setDomainSocketClientTransport(DomainSocketClientTransport clientTransport) {
+    this.domainSocketClientTransport = clientTransport;
+  }
+
   @Override
   public void close() {
-    httpClientTransport.close();
+    reportResendExecutor.shutdownNow();
+    if (domainSocketClientTransport != null) {
+      domainSocketClientTransport.close();
+    }
+    if (httpClientTransport != null) {
+      httpClientTransport.close();
+    }
   }
 }
@@ -377,7 +377,7 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
 
       stopConsumptionAndReport(report);
     } else {
-      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
+      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatusAsync(report));
     }
   }
 
@@ -18,9 +18,16 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tehuti.metrics.MetricsRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -41,12 +48,16 @@ import org.apache.logging.log4j.Logger;
  * child process. Also, it maintains status for all the ongoing/completed topic partition ingestion tasks, which helps
  * {@link IsolatedIngestionBackend} to check which process a topic partition storage is located, as well as status recovery
  * when child process crashed and restarted.
+ * When the domain socket transport is enabled, it also listens for reports on a Unix domain socket, which is handled by
+ * {@link MainIngestionReportDomainSocketHandler}.
  */
 public class MainIngestionMonitorService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionMonitorService.class);
   private final ServerBootstrap bootstrap;
   private final EventLoopGroup bossGroup;
   private final EventLoopGroup workerGroup;
+  private final ServerBootstrap domainSocketBootstrap;
+  private final EventLoopGroup domainSocketEventLoopGroup;
   private final IsolatedIngestionBackend ingestionBackend;
   private final ScheduledExecutorService heartbeatCheckScheduler = Executors.newScheduledThreadPool(1);
   private final ExecutorService longRunningTaskExecutor = Executors.newSingleThreadExecutor();
@@ -57,6 +68,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
 
   private IsolatedIngestionProcessHeartbeatStats heartbeatStats;
   private ChannelFuture serverFuture;
+  private ChannelFuture domainSocketServerFuture;
   private MetricsRepository metricsRepository;
   private IsolatedIngestionProcessStats isolatedIngestionProcessStats;
   private MainIngestionStorageMetadataService storageMetadataService;
@@ -88,6 +100,17 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.TCP_NODELAY, true);
 
+    if (IsolatedIngestionUtils.isolatedIngestionDomainSocketEnabled(configLoader)) {
+      domainSocketEventLoopGroup = new EpollEventLoopGroup(1);
+      domainSocketBootstrap = new ServerBootstrap();
+      domainSocketBootstrap.group(domainSocketEventLoopGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new MainIngestionReportDomainSocketChannelInitializer(this));
+    } else {
+      domainSocketEventLoopGroup = null;
+      domainSocketBootstrap = null;
+    }
+
     heartbeatClient = new MainIngestionRequestClient(configLoader);
   }
 
@@ -96,6 +119,11 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     int applicationPort = configLoader.getVeniceServerConfig().getIngestionApplicationPort();
     serverFuture = bootstrap.bind(applicationPort).sync();
     LOGGER.info("Report listener service started on port: {}", applicationPort);
+    if (domainSocketBootstrap != null) {
+      String socketPath = configLoader.getVeniceServerConfig().getIngestionIsolationReportDomainSocketPath();
+      domainSocketServerFuture = bindReportDomainSocket(domainSocketBootstrap, socketPath);
+      LOGGER.info("Report listener service started on domain socket: {}", socketPath);
+    }
     connectionTimeoutMs =
         configLoader.getCombinedProperties().getLong(SERVER_INGESTION_ISOLATION_CONNECTION_TIMEOUT_SECONDS, 180)
             * Time.MS_PER_SECOND;
@@ -105,6 +133,25 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     return true;
   }
 
+  /**
+   * Binds the domain socket report listener, and restricts the socket file to its owner, the user running both the
+   * main and the forked process, since reports over the domain socket go through neither SSL nor ACL checks.
+   */
+  static ChannelFuture bindReportDomainSocket(ServerBootstrap domainSocketBootstrap, String socketPath)
+      throws Exception {
+    Path path = Paths.get(socketPath);
+    // The socket file left behind by a previous main process would fail the binding.
+    Files.deleteIfExists(path);
+    ChannelFuture bindFuture = domainSocketBootstrap.bind(new DomainSocketAddress(socketPath)).sync();
+    try {
+      Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+    } catch (Exception e) {
+      bindFuture.channel().close().sync();
+      throw e;
+    }
+    return bindFuture;
+  }
+
   @Override
   public void stopInner() throws Exception {
     shutdownScheduler(heartbeatCheckScheduler, "Heartbeat check");
@@ -115,6 +162,14 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+
+    if (domainSocketServerFuture != null) {
+      ChannelFuture domainSocketShutdown = domainSocketServerFuture.channel().closeFuture();
+      domainSocketEventLoopGroup.shutdownGracefully();
+      domainSocketShutdown.sync();
+      String socketPath = configLoader.getVeniceServerConfig().getIngestionIsolationReportDomainSocketPath();
+      Files.deleteIfExists(Paths.get(socketPath));
+    }
   }
 
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
@@ -0,0 +1,32 @@
+package com.linkedin.davinci.ingestion.main;
+
+import static com.linkedin.davinci.ingestion.DomainSocketClientTransport.FRAME_LENGTH_FIELD_LENGTH;
+import static com.linkedin.davinci.ingestion.DomainSocketClientTransport.MAX_FRAME_LENGTH;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+
+
+public class MainIngestionReportDomainSocketChannelInitializer extends ChannelInitializer<Channel> {
+  private final MainIngestionMonitorService mainIngestionMonitorService;
+
+  public MainIngestionReportDomainSocketChannelInitializer(MainIngestionMonitorService mainIngestionMonitorService) {
+    this.mainIngestionMonitorService = mainIngestionMonitorService;
+  }
+
+  @Override
+  protected void initChannel(Channel ch) {
+    ch.pipeline()
+        .addLast(
+            new LengthFieldBasedFrameDecoder(
+                MAX_FRAME_LENGTH,
+                0,
+                FRAME_LENGTH_FIELD_LENGTH,
+                0,
+                FRAME_LENGTH_FIELD_LENGTH));
+    ch.pipeline().addLast(new LengthFieldPrepender(FRAME_LENGTH_FIELD_LENGTH));
+    ch.pipeline().addLast(new MainIngestionReportDomainSocketHandler(mainIngestionMonitorService));
+  }
+}
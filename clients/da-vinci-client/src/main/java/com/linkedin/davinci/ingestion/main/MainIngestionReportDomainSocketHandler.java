@@ -0,0 +1,73 @@
+package com.linkedin.davinci.ingestion.main;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionRequest;
+
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
+import com.linkedin.venice.ingestion.protocol.IngestionMetricsReport;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class handles the reports sent from child process over the Unix domain socket of
+ * {@link MainIngestionMonitorService}, in the framing of {@link DomainSocketClientTransport}, and delegates them to
+ * {@link MainIngestionReportHandler}. Every request is answered with a status byte, and a request which fails is
+ * answered with an error status instead of closing the connection, so that the responses to the requests pipelined
+ * behind it still match.
+ */
+public class MainIngestionReportDomainSocketHandler extends SimpleChannelInboundHandler<ByteBuf> {
+  private static final Logger LOGGER = LogManager.getLogger(MainIngestionReportDomainSocketHandler.class);
+  private static final IngestionAction[] INGESTION_ACTIONS = IngestionAction.values();
+
+  private final MainIngestionReportHandler reportHandler;
+
+  public MainIngestionReportDomainSocketHandler(MainIngestionMonitorService mainIngestionMonitorService) {
+    this.reportHandler = new MainIngestionReportHandler(mainIngestionMonitorService);
+  }
+
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) {
+    ctx.flush();
+  }
+
+  @Override
+  public void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+    byte status = DomainSocketClientTransport.RESPONSE_STATUS_OK;
+    try {
+      int actionOrdinal = msg.readByte();
+      if (actionOrdinal < 0 || actionOrdinal >= INGESTION_ACTIONS.length) {
+        throw new UnsupportedOperationException("Unrecognized ingestion action ordinal: " + actionOrdinal);
+      }
+      IngestionAction action = INGESTION_ACTIONS[actionOrdinal];
+      byte[] content = new byte[msg.readableBytes()];
+      msg.readBytes(content);
+      switch (action) {
+        case METRIC:
+          IngestionMetricsReport metricsReport = deserializeIngestionActionRequest(IngestionAction.METRIC, content);
+          reportHandler.handleMetricsReport(metricsReport);
+          break;
+        case REPORT:
+          IngestionTaskReport ingestionReport = deserializeIngestionActionRequest(IngestionAction.REPORT, content);
+          reportHandler.handleIngestionReport(ingestionReport);
+          break;
+        default:
+          throw new UnsupportedOperationException("Unrecognized ingestion action: " + action);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Encounter exception during ingestion task report handling.", e);
+      status = DomainSocketClientTransport.RESPONSE_STATUS_ERROR;
+    }
+    ctx.write(ctx.alloc().buffer(1).writeByte(status));
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Encounter exception on domain socket connection from child process.", cause);
+    ctx.close();
+  }
+}
@@ -51,6 +51,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -581,6 +582,15 @@ public class IsolatedIngestionUtils {
     return configLoader.getCombinedProperties().getBoolean(SSL_ENABLED, false);
   }
 
+  /**
+   * Whether the forked process reports to the main process through a Unix domain socket instead of HTTP. Both processes
+   * check it against the same configs on the same host, so they agree on the transport. SSL and ACL don't apply to the
+   * domain socket, instead the main process restricts the socket file to its owner once it is bound.
+   */
+  public static boolean isolatedIngestionDomainSocketEnabled(VeniceConfigLoader configLoader) {
+    return configLoader.getVeniceServerConfig().isIngestionIsolationDomainSocketEnabled() && Epoll.isAvailable();
+  }
+
   private static void maybePopulateServerIngestionPrincipal(
       PropertyBuilder propertyBuilder,
       VeniceConfigLoader configLoader,
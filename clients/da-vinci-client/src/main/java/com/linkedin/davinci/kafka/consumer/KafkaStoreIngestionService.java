@@ -327,7 +327,9 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterBufferNotifyDelta(),
           serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
           metricsRepository,
-          true);
+          true,
+          serverConfig.isStoreWriterBufferFairAdmissionEnabled(),
+          serverConfig.getStoreWriterBufferCurrentVersionReservedRatio());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
 
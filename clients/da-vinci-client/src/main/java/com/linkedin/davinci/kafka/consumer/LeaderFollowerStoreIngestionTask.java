@@ -37,8 +37,6 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.exceptions.VeniceTimeoutException;
-import com.linkedin.venice.exceptions.validation.DuplicateDataException;
-import com.linkedin.venice.exceptions.validation.FatalDataValidationException;
 import com.linkedin.venice.guid.GuidUtils;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
 import com.linkedin.venice.kafka.protocol.Delete;
@@ -86,10 +84,12 @@ import com.linkedin.venice.writer.VeniceWriterOptions;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -2279,52 +2279,48 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
     /**
      * Just to note this code is getting executed in Leader only. Leader DIV check progress is always ahead of the
      * actual data persisted on disk. Leader DIV check results will not be persisted on disk.
+     *
+     * The polled messages all come from the same topic partition, so they are validated as a batch.
+     * TODO: An improvement can be made to fail all future versions for fatal DIV exceptions after EOP.
      */
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordList = new ArrayList<>();
+    records.forEach(recordList::add);
+    PartitionTracker.TopicType type = isGlobalRtDivEnabled
+        ? PartitionTracker.TopicType.of(
+            topicPartition.getPubSubTopic().isRealTime()
+                ? PartitionTracker.TopicType.REALTIME_TOPIC_TYPE
+                : PartitionTracker.TopicType.VERSION_TOPIC_TYPE,
+            kafkaUrl)
+        : PartitionTracker.VERSION_TOPIC;
+    Set<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> duplicateRecords =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    validateMessages(
+        type,
+        this.kafkaDataIntegrityValidatorForLeaders,
+        topicPartition.getPartitionNumber(),
+        recordList,
+        isEndOfPushReceived,
+        partitionConsumptionState,
+        (record, e) -> {
+          /**
+           * Skip duplicated messages; leader must not produce duplicated messages from RT to VT, because leader will
+           * override the DIV info for messages from RT; as a result, both leaders and followers will persisted
+           * duplicated messages to disk, and potentially rewind a k/v pair to an old value.
+           */
+          divErrorMetricCallback.accept(e);
+          LOGGER.info(
+              "Skipping a duplicate record from: {} offset: {} for replica: {}",
+              record.getTopicPartition(),
+              record.getOffset(),
+              partitionConsumptionState.getReplicaId());
+          duplicateRecords.add(record);
+        });
     Iterator<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> iter = records.iterator();
     while (iter.hasNext()) {
-      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record = iter.next();
-      boolean isRealTimeMsg = record.getTopicPartition().getPubSubTopic().isRealTime();
-      try {
-        /**
-         * TODO: An improvement can be made to fail all future versions for fatal DIV exceptions after EOP.
-         */
-        if (!isGlobalRtDivEnabled) {
-          validateMessage(
-              PartitionTracker.VERSION_TOPIC,
-              this.kafkaDataIntegrityValidatorForLeaders,
-              record,
-              isEndOfPushReceived,
-              partitionConsumptionState);
-        } else {
-          validateMessage(
-              PartitionTracker.TopicType.of(
-                  isRealTimeMsg
-                      ? PartitionTracker.TopicType.REALTIME_TOPIC_TYPE
-                      : PartitionTracker.TopicType.VERSION_TOPIC_TYPE,
-                  kafkaUrl),
-              this.kafkaDataIntegrityValidatorForLeaders,
-              record,
-              isEndOfPushReceived,
-              partitionConsumptionState);
-        }
-        versionedDIVStats.recordSuccessMsg(storeName, versionNumber);
-      } catch (FatalDataValidationException e) {
-        if (!isEndOfPushReceived) {
-          throw e;
-        }
-      } catch (DuplicateDataException e) {
-        /**
-         * Skip duplicated messages; leader must not produce duplicated messages from RT to VT, because leader will
-         * override the DIV info for messages from RT; as a result, both leaders and followers will persisted duplicated
-         * messages to disk, and potentially rewind a k/v pair to an old value.
-         */
-        divErrorMetricCallback.accept(e);
-        LOGGER.info(
-            "Skipping a duplicate record from: {} offset: {} for replica: {}",
-            record.getTopicPartition(),
-            record.getOffset(),
-            partitionConsumptionState.getReplicaId());
+      if (duplicateRecords.contains(iter.next())) {
         iter.remove();
+      } else {
+        versionedDIVStats.recordSuccessMsg(storeName, versionNumber);
       }
     }
     return records;
@@ -3,8 +3,10 @@ package com.linkedin.davinci.kafka.consumer;
 import com.linkedin.venice.common.Measurable;
 import com.linkedin.venice.exceptions.VeniceException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -12,6 +14,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -41,6 +45,13 @@ import org.apache.logging.log4j.Logger;
  * are some memory available (less than the delta);
  * 3. If the delta is too small, the big message may not be able to get chance to be buffered when the queue is full;
  *
+ * Optionally, the queue can also enforce fair admission between groups of records (e.g. the stores sharing a drainer):
+ * 1. Each group with buffered records is entitled to an equal share of {@link #memoryCapacityInByte}, and a group
+ * which is above its share can only borrow the memory which isn't needed by the other groups to reach their own share,
+ * so a single greedy group can't starve the others. A group alone in the queue can use the whole capacity;
+ * 2. Records which aren't prioritized (e.g. the ones of a future version being pushed) can't use the last
+ * {@link #priorityReservedCapacityInByte} of the capacity, which is kept for the prioritized ones.
+ *
  * @param <T>
  */
 public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQueue<T> {
@@ -61,12 +72,40 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
   // Accumulated free memory since last notification
   private long currentFreedMemoryInBytes = 0;
 
+  /**
+   * Fair admission related fields, {@link #admissionGroupFunction} is null when fair admission is disabled.
+   */
+  private final Function<T, String> admissionGroupFunction;
+  private final Predicate<T> priorityPredicate;
+  private final long priorityReservedCapacityInByte;
+  // Memory usage of each group with buffered records, guarded by {@link #memoryLock}
+  private final Map<String, Long> groupMemoryUsageInByte = new HashMap<>();
+
   public MemoryBoundBlockingQueue(long memoryCapacityInByte, long notifyDeltaInByte) {
+    this(memoryCapacityInByte, notifyDeltaInByte, null, null, 0);
+  }
+
+  /**
+   * @param admissionGroupFunction returns the group of a record, records of the same group share the same quota.
+   * @param priorityPredicate returns whether a record can use the capacity reserved for prioritized records.
+   * @param priorityReservedCapacityInByte capacity which can only be used by prioritized records.
+   */
+  public MemoryBoundBlockingQueue(
+      long memoryCapacityInByte,
+      long notifyDeltaInByte,
+      Function<T, String> admissionGroupFunction,
+      Predicate<T> priorityPredicate,
+      long priorityReservedCapacityInByte) {
     if (notifyDeltaInByte > memoryCapacityInByte) {
       throw new IllegalArgumentException(
           "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
               + memoryCapacityInByte);
     }
+    if (priorityReservedCapacityInByte < 0 || priorityReservedCapacityInByte >= memoryCapacityInByte) {
+      throw new IllegalArgumentException(
+          "Param priorityReservedCapacityInByte: " + priorityReservedCapacityInByte
+              + " should be non-negative and smaller than param memoryCapacityInByte: " + memoryCapacityInByte);
+    }
     /**
      * There is no need to use any blocking queue here since it is using a lock for both
      * access control and memory throttling.
@@ -75,6 +114,9 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     this.memoryCapacityInByte = memoryCapacityInByte;
     this.notifyDeltaInByte = notifyDeltaInByte;
     this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
+    this.admissionGroupFunction = admissionGroupFunction;
+    this.priorityPredicate = priorityPredicate;
+    this.priorityReservedCapacityInByte = priorityReservedCapacityInByte;
   }
 
   public long getMemoryUsage() {
@@ -99,17 +141,66 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     }
     memoryLock.lock();
     try {
-      while (remainingMemoryCapacityInByte() < recordSize) {
+      while (!canAdmit(record, recordSize)) {
         hasEnoughMemory.await();
       }
       queue.add(record);
       remainingMemoryCapacityInByte.getAndAdd(-recordSize);
+      if (admissionGroupFunction != null) {
+        groupMemoryUsageInByte.merge(admissionGroupFunction.apply(record), (long) recordSize, Long::sum);
+      }
       notEmpty.signal();
     } finally {
       memoryLock.unlock();
     }
   }
 
+  /**
+   * Must be called with {@link #memoryLock} held.
+   */
+  private boolean canAdmit(T record, int recordSize) {
+    long remainingAfterAdmission = remainingMemoryCapacityInByte() - recordSize;
+    if (remainingAfterAdmission < 0) {
+      return false;
+    }
+    if (admissionGroupFunction == null) {
+      return true;
+    }
+    if (remainingAfterAdmission < priorityReservedCapacityInByte && !priorityPredicate.test(record)) {
+      return false;
+    }
+    String group = admissionGroupFunction.apply(record);
+    long groupUsage = groupMemoryUsageInByte.getOrDefault(group, 0L);
+    if (groupUsage == 0) {
+      // Always let a group without any buffered record in, otherwise records bigger than the share would be stuck.
+      return true;
+    }
+    long fairShare = memoryCapacityInByte / groupMemoryUsageInByte.size();
+    if (groupUsage + recordSize <= fairShare) {
+      return true;
+    }
+    // Borrow the memory which isn't needed by the other groups to reach their share.
+    long memoryNeededByOtherGroups = 0;
+    for (Map.Entry<String, Long> entry: groupMemoryUsageInByte.entrySet()) {
+      if (!entry.getKey().equals(group)) {
+        memoryNeededByOtherGroups += Math.max(0, fairShare - entry.getValue());
+      }
+    }
+    return remainingAfterAdmission >= memoryNeededByOtherGroups;
+  }
+
+  /**
+   * @return the memory usage of the given admission group, or 0 if fair admission is disabled.
+   */
+  public long getGroupMemoryUsage(String group) {
+    memoryLock.lock();
+    try {
+      return groupMemoryUsageInByte.getOrDefault(group, 0L);
+    } finally {
+      memoryLock.unlock();
+    }
+  }
+
   @Override
   public T take() throws InterruptedException {
     T record = null;
@@ -121,6 +212,10 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
       }
       int recordSize = getRecordSize(record);
       currentFreedMemoryInBytes += recordSize;
+      if (admissionGroupFunction != null) {
+        String group = admissionGroupFunction.apply(record);
+        groupMemoryUsageInByte.computeIfPresent(group, (k, usage) -> usage > recordSize ? usage - recordSize : null);
+      }
       /**
        * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
        * pre-defined {@link #notifyDeltaInByte}.
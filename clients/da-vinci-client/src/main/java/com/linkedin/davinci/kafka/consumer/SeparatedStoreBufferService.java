@@ -34,14 +34,18 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             metricsRepository,
-            true),
+            true,
+            serverConfig.isStoreWriterBufferFairAdmissionEnabled(),
+            serverConfig.getStoreWriterBufferCurrentVersionReservedRatio()),
         new StoreBufferService(
             serverConfig.getDrainerPoolSizeUnsortedInput(),
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
             metricsRepository,
-            false));
+            false,
+            serverConfig.isStoreWriterBufferFairAdmissionEnabled(),
+            serverConfig.getStoreWriterBufferCurrentVersionReservedRatio()));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
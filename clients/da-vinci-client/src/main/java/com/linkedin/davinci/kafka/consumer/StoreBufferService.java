@@ -72,11 +72,42 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       MetricsRepository metricsRepository,
       boolean sorted) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        metricsRepository,
+        sorted,
+        false,
+        0);
+  }
+
+  /**
+   * @param fairAdmissionEnabled whether the buffer of each drainer is shared fairly between the stores assigned to it,
+   *                             see {@link MemoryBoundBlockingQueue} for more details.
+   * @param currentVersionReservedRatio ratio of the buffer of each drainer which can only be used by current versions
+   *                                    when fair admission is enabled.
+   */
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      MetricsRepository metricsRepository,
+      boolean sorted,
+      boolean fairAdmissionEnabled,
+      double currentVersionReservedRatio) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
     for (int cur = 0; cur < drainerNum; ++cur) {
-      this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      this.blockingQueueArr.add(
+          createDrainerQueue(
+              bufferCapacityPerDrainer,
+              bufferNotifyDelta,
+              fairAdmissionEnabled,
+              currentVersionReservedRatio));
     }
     this.isSorted = sorted;
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
@@ -110,6 +141,22 @@ public class StoreBufferService extends AbstractStoreBufferService {
     this.isSorted = true;
   }
 
+  private static MemoryBoundBlockingQueue<QueueNode> createDrainerQueue(
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean fairAdmissionEnabled,
+      double currentVersionReservedRatio) {
+    if (!fairAdmissionEnabled) {
+      return new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta);
+    }
+    return new MemoryBoundBlockingQueue<>(
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        node -> node.getIngestionTask().getStoreName(),
+        node -> node.getIngestionTask().isCurrentVersion(),
+        (long) (bufferCapacityPerDrainer * currentVersionReservedRatio));
+  }
+
   protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       int partition) {
@@ -144,6 +144,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -3235,12 +3236,80 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       boolean endOfPushReceived,
       PartitionConsumptionState partitionConsumptionState) {
-    KafkaKey key = consumerRecord.getKey();
-    if (key.isControlMessage() && Arrays.equals(KafkaKey.HEART_BEAT.getKey(), key.getKey())) {
+    if (isIngestionHeartbeat(consumerRecord)) {
       // Skip DIV for ingestion heartbeat records.
       return;
     }
-    Lazy<Boolean> tolerateMissingMsgs = Lazy.of(() -> {
+    try {
+      validator.validateMessage(
+          type,
+          consumerRecord,
+          endOfPushReceived,
+          getTolerateMissingMsgs(consumerRecord, partitionConsumptionState));
+    } catch (FatalDataValidationException fatalException) {
+      handleFatalDataValidationException(
+          type,
+          validator,
+          consumerRecord,
+          fatalException,
+          endOfPushReceived,
+          partitionConsumptionState);
+    }
+  }
+
+  /**
+   * Runs the same DIV check as {@link #validateMessage} on a batch of messages polled from a partition, with a single
+   * pass over the steady state messages of each producer. The ingestion heartbeat records are skipped.
+   *
+   * @param duplicateHandler called with each duplicate message, in order.
+   */
+  protected void validateMessages(
+      PartitionTracker.TopicType type,
+      KafkaDataIntegrityValidator validator,
+      int partition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords,
+      boolean endOfPushReceived,
+      PartitionConsumptionState partitionConsumptionState,
+      BiConsumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, DuplicateDataException> duplicateHandler) {
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> recordsToValidate =
+        new ArrayList<>(consumerRecords.size());
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord: consumerRecords) {
+      if (!isIngestionHeartbeat(consumerRecord)) {
+        recordsToValidate.add(consumerRecord);
+      }
+    }
+    validator.validateMessages(
+        type,
+        partition,
+        recordsToValidate,
+        endOfPushReceived,
+        consumerRecord -> getTolerateMissingMsgs(consumerRecord, partitionConsumptionState),
+        (consumerRecord, e) -> {
+          if (e instanceof FatalDataValidationException) {
+            handleFatalDataValidationException(
+                type,
+                validator,
+                consumerRecord,
+                (FatalDataValidationException) e,
+                endOfPushReceived,
+                partitionConsumptionState);
+          } else if (e instanceof DuplicateDataException) {
+            duplicateHandler.accept(consumerRecord, (DuplicateDataException) e);
+          } else {
+            throw e;
+          }
+        });
+  }
+
+  private static boolean isIngestionHeartbeat(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord) {
+    KafkaKey key = consumerRecord.getKey();
+    return key.isControlMessage() && Arrays.equals(KafkaKey.HEART_BEAT.getKey(), key.getKey());
+  }
+
+  private Lazy<Boolean> getTolerateMissingMsgs(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      PartitionConsumptionState partitionConsumptionState) {
+    return Lazy.of(() -> {
       TopicManager topicManager = topicManagerRepository.getLocalTopicManager();
       // Tolerate missing message if store version is data recovery + hybrid and TS not received yet (due to source
       // topic
@@ -3252,39 +3321,43 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
               && LatencyUtils.getElapsedTimeFromMsToMs(consumerRecord.getPubSubMessageTime()) >= topicManager
                   .getTopicMinLogCompactionLagMs(pubSubTopic));
     });
+  }
 
-    try {
-      validator.validateMessage(type, consumerRecord, endOfPushReceived, tolerateMissingMsgs);
-    } catch (FatalDataValidationException fatalException) {
-      divErrorMetricCallback.accept(fatalException);
-      /**
-       * If DIV errors happens after EOP is received, we will not error out the replica.
-       */
-      if (!endOfPushReceived) {
-        throw fatalException;
-      }
+  private void handleFatalDataValidationException(
+      PartitionTracker.TopicType type,
+      KafkaDataIntegrityValidator validator,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      FatalDataValidationException fatalException,
+      boolean endOfPushReceived,
+      PartitionConsumptionState partitionConsumptionState) {
+    divErrorMetricCallback.accept(fatalException);
+    /**
+     * If DIV errors happens after EOP is received, we will not error out the replica.
+     */
+    if (!endOfPushReceived) {
+      throw fatalException;
+    }
 
-      FatalDataValidationException warningException = fatalException;
+    FatalDataValidationException warningException = fatalException;
 
-      // TODO: remove this condition check after fixing the bug that drainer in leaders is validating RT DIV info
-      if (consumerRecord.getValue().producerMetadata.messageSequenceNumber != 1) {
-        String regionName = RegionNameUtil.getRegionName(consumerRecord, serverConfig.getKafkaClusterIdToAliasMap());
-        LOGGER.warn(
-            "Data integrity validation problem with incoming record from topic-partition: {}{} and offset: {}, "
-                + "but consumption will continue since EOP is already received for replica: {}. Msg: {}",
-            consumerRecord.getTopicPartition(),
-            regionName == null || regionName.isEmpty() ? "" : "/" + regionName,
-            consumerRecord.getOffset(),
-            partitionConsumptionState.getReplicaId(),
-            warningException.getMessage());
-      }
+    // TODO: remove this condition check after fixing the bug that drainer in leaders is validating RT DIV info
+    if (consumerRecord.getValue().producerMetadata.messageSequenceNumber != 1) {
+      String regionName = RegionNameUtil.getRegionName(consumerRecord, serverConfig.getKafkaClusterIdToAliasMap());
+      LOGGER.warn(
+          "Data integrity validation problem with incoming record from topic-partition: {}{} and offset: {}, "
+              + "but consumption will continue since EOP is already received for replica: {}. Msg: {}",
+          consumerRecord.getTopicPartition(),
+          regionName == null || regionName.isEmpty() ? "" : "/" + regionName,
+          consumerRecord.getOffset(),
+          partitionConsumptionState.getReplicaId(),
+          warningException.getMessage());
+    }
 
-      if (!(warningException instanceof ImproperlyStartedSegmentException)) {
-        /**
-         * Run a dummy validation to update DIV metadata.
-         */
-        validator.validateMessage(type, consumerRecord, true, Lazy.TRUE);
-      }
+    if (!(warningException instanceof ImproperlyStartedSegmentException)) {
+      /**
+       * Run a dummy validation to update DIV metadata.
+       */
+      validator.validateMessage(type, consumerRecord, true, Lazy.TRUE);
     }
   }
 
@@ -0,0 +1,349 @@
+package com.linkedin.davinci.replication.merge;
+
+import com.linkedin.davinci.schema.SchemaUtils;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Merges a PUT into the old value of a store with field level timestamps directly on the Avro binary encoding of the
+ * old and the new value, instead of deserializing both of them into {@link GenericRecord}s, merging them field by field
+ * in {@link MergeGenericRecord} and serializing the result again.
+ *
+ * The top-level field boundaries of both values are located by skipping over the encoded fields, following a plan
+ * derived once from the value schema, and the byte range of every field is taken from whichever value wins the field
+ * according to the per-field timestamps of the old value. A top-level collection field is taken as a whole as well,
+ * either from the old value if the PUT is ignored for it, or from the new value if it is in the put-only state, in
+ * which case its collection timestamp is updated the same way as by the record based merge. This only covers what can
+ * be decided from the timestamps alone, so {@link #put} gives up, and the caller falls back to the record based merge,
+ * when:
+ *   1. The PUT applies to a collection field in the collection-merge state, which is merged element by element.
+ *   2. A field timestamp of the old value is equal to the timestamp of the PUT, which is resolved by comparing the
+ *      field values.
+ *
+ * This class is thread-safe.
+ */
+class BinaryRecordMerger {
+  /**
+   * Size of the encoding of a field, which doesn't depend on the encoded value, or -1 if it does.
+   */
+  private static final int VARIABLE_SIZE = -1;
+
+  private final List<Schema.Field> fields;
+  private final int[] fixedFieldSizes;
+  private final boolean[] collectionFields;
+  private final boolean hasCollectionField;
+
+  BinaryRecordMerger(Schema valueSchema) {
+    if (valueSchema.getType() != Schema.Type.RECORD) {
+      throw new VeniceException("Expect the value schema to be a record, but got: " + valueSchema);
+    }
+    this.fields = valueSchema.getFields();
+    this.fixedFieldSizes = new int[fields.size()];
+    this.collectionFields = new boolean[fields.size()];
+    boolean hasCollectionField = false;
+    for (Schema.Field field: fields) {
+      fixedFieldSizes[field.pos()] = getFixedSize(field.schema());
+      Schema.Type fieldType = SchemaUtils.unwrapOptionalUnion(field.schema());
+      collectionFields[field.pos()] = (fieldType == Schema.Type.ARRAY || fieldType == Schema.Type.MAP);
+      hasCollectionField |= collectionFields[field.pos()];
+    }
+    this.hasCollectionField = hasCollectionField;
+  }
+
+  /**
+   * @param oldValueBytes the old value, encoded with the value schema of this merger.
+   * @param newValueBytes the new value, encoded with the value schema of this merger.
+   * @param oldTimestampRecord the per-field timestamp record of the old value, which is updated with the timestamp of
+   *                           the PUT for every field won by the new value, but only if the merge succeeds.
+   * @param putColoID the colo ID of the PUT, which breaks the ties with the top-level timestamps of collection fields.
+   * @return the merged value, or null if the merge can't be done on the binary encoding, or if the new value doesn't
+   *         win any field, in which case the caller should fall back to the record based merge.
+   */
+  ByteBuffer put(
+      ByteBuffer oldValueBytes,
+      ByteBuffer newValueBytes,
+      GenericRecord oldTimestampRecord,
+      long putTimestamp,
+      int putColoID) {
+    int fieldCount = fields.size();
+    boolean[] newValueWins = new boolean[fieldCount];
+    CollectionRmdTimestamp<?>[] collectionTimestamps =
+        hasCollectionField ? new CollectionRmdTimestamp[fieldCount] : null;
+    int lastNewValueWinIndex = -1;
+    for (int i = 0; i < fieldCount; i++) {
+      Object timestampObject = oldTimestampRecord.get(fields.get(i).name());
+      if (collectionFields[i]) {
+        if (!(timestampObject instanceof GenericRecord)) {
+          return null;
+        }
+        CollectionRmdTimestamp<?> collectionTimestamp = new CollectionRmdTimestamp<>((GenericRecord) timestampObject);
+        if (isPutIgnored(collectionTimestamp, putTimestamp, putColoID)) {
+          continue;
+        }
+        if (!collectionTimestamp.isInPutOnlyState()) {
+          return null;
+        }
+        collectionTimestamps[i] = collectionTimestamp;
+      } else {
+        if (!(timestampObject instanceof Long)) {
+          return null;
+        }
+        long oldTimestamp = (Long) timestampObject;
+        if (oldTimestamp == putTimestamp) {
+          return null;
+        }
+        if (oldTimestamp > putTimestamp) {
+          continue;
+        }
+      }
+      newValueWins[i] = true;
+      lastNewValueWinIndex = i;
+    }
+    if (lastNewValueWinIndex < 0) {
+      return null;
+    }
+
+    /**
+     * Locate the boundaries of the fields in both values. The new value only needs to be scanned up to the last field
+     * it wins, and everything after that is taken from the old value as is.
+     */
+    Cursor oldCursor = new Cursor(oldValueBytes);
+    Cursor newCursor = new Cursor(newValueBytes);
+    int[] oldFieldStarts = new int[lastNewValueWinIndex + 2];
+    int[] newFieldStarts = new int[lastNewValueWinIndex + 2];
+    // The item count of every collection field won by the new value, which is the length of its put-only part.
+    long[] newItemCounts = hasCollectionField ? new long[lastNewValueWinIndex + 1] : null;
+    for (int i = 0; i <= lastNewValueWinIndex; i++) {
+      oldFieldStarts[i] = oldCursor.position;
+      newFieldStarts[i] = newCursor.position;
+      skipField(oldCursor, i);
+      if (collectionFields[i] && newValueWins[i]) {
+        newItemCounts[i] = skipCollection(newCursor, fields.get(i).schema());
+      } else {
+        skipField(newCursor, i);
+      }
+    }
+    oldFieldStarts[lastNewValueWinIndex + 1] = oldCursor.position;
+    newFieldStarts[lastNewValueWinIndex + 1] = newCursor.position;
+
+    int mergedSize = oldCursor.limit - oldCursor.position;
+    for (int i = 0; i <= lastNewValueWinIndex; i++) {
+      mergedSize += newValueWins[i]
+          ? newFieldStarts[i + 1] - newFieldStarts[i]
+          : oldFieldStarts[i + 1] - oldFieldStarts[i];
+    }
+    byte[] merged = new byte[mergedSize];
+    int mergedPosition = 0;
+    for (int i = 0; i <= lastNewValueWinIndex; i++) {
+      Cursor source = newValueWins[i] ? newCursor : oldCursor;
+      int[] sourceFieldStarts = newValueWins[i] ? newFieldStarts : oldFieldStarts;
+      int length = sourceFieldStarts[i + 1] - sourceFieldStarts[i];
+      System.arraycopy(source.bytes, sourceFieldStarts[i], merged, mergedPosition, length);
+      mergedPosition += length;
+    }
+    System.arraycopy(oldCursor.bytes, oldCursor.position, merged, mergedPosition, oldCursor.limit - oldCursor.position);
+
+    for (int i = 0; i <= lastNewValueWinIndex; i++) {
+      if (!newValueWins[i]) {
+        continue;
+      }
+      if (collectionFields[i]) {
+        CollectionRmdTimestamp<?> collectionTimestamp = collectionTimestamps[i];
+        collectionTimestamp.setTopLevelFieldTimestamp(putTimestamp);
+        collectionTimestamp.setTopLevelColoID(putColoID);
+        collectionTimestamp.setPutOnlyPartLength((int) newItemCounts[i]);
+      } else {
+        oldTimestampRecord.put(fields.get(i).name(), putTimestamp);
+      }
+    }
+    return ByteBuffer.wrap(merged);
+  }
+
+  /**
+   * Same as the check of {@link com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler} for a PUT on a
+   * collection field, which wins a tie of the top-level timestamps unless the top-level colo ID is higher.
+   */
+  private static boolean isPutIgnored(CollectionRmdTimestamp<?> collectionTimestamp, long putTimestamp, int putColoID) {
+    long topLevelTimestamp = collectionTimestamp.getTopLevelFieldTimestamp();
+    if (topLevelTimestamp == putTimestamp) {
+      return collectionTimestamp.getTopLevelColoID() > putColoID;
+    }
+    return topLevelTimestamp > putTimestamp;
+  }
+
+  private void skipField(Cursor cursor, int fieldIndex) {
+    int fixedSize = fixedFieldSizes[fieldIndex];
+    if (fixedSize == VARIABLE_SIZE) {
+      skip(cursor, fields.get(fieldIndex).schema());
+    } else {
+      cursor.skipBytes(fixedSize);
+    }
+  }
+
+  private static int getFixedSize(Schema schema) {
+    switch (schema.getType()) {
+      case NULL:
+        return 0;
+      case BOOLEAN:
+        return 1;
+      case FLOAT:
+        return Float.BYTES;
+      case DOUBLE:
+        return Double.BYTES;
+      case FIXED:
+        return schema.getFixedSize();
+      default:
+        return VARIABLE_SIZE;
+    }
+  }
+
+  private static void skip(Cursor cursor, Schema schema) {
+    switch (schema.getType()) {
+      case NULL:
+        return;
+      case BOOLEAN:
+        cursor.skipBytes(1);
+        return;
+      case INT:
+      case LONG:
+      case ENUM:
+        cursor.readLong();
+        return;
+      case FLOAT:
+        cursor.skipBytes(Float.BYTES);
+        return;
+      case DOUBLE:
+        cursor.skipBytes(Double.BYTES);
+        return;
+      case STRING:
+      case BYTES:
+        cursor.skipBytes(cursor.readLength());
+        return;
+      case FIXED:
+        cursor.skipBytes(schema.getFixedSize());
+        return;
+      case RECORD:
+        for (Schema.Field field: schema.getFields()) {
+          skip(cursor, field.schema());
+        }
+        return;
+      case ARRAY:
+        skipBlocks(cursor, schema.getElementType(), false);
+        return;
+      case MAP:
+        skipBlocks(cursor, schema.getValueType(), true);
+        return;
+      case UNION:
+        skip(cursor, readUnionBranch(cursor, schema));
+        return;
+      default:
+        throw new VeniceException("Unsupported schema type: " + schema.getType());
+    }
+  }
+
+  /**
+   * Same as {@link #skip}, for an array, a map or an optional union of either of them.
+   *
+   * @return the number of items of the collection, which is 0 if it is null.
+   */
+  private static long skipCollection(Cursor cursor, Schema schema) {
+    switch (schema.getType()) {
+      case ARRAY:
+        return skipBlocks(cursor, schema.getElementType(), false);
+      case MAP:
+        return skipBlocks(cursor, schema.getValueType(), true);
+      case UNION:
+        return skipCollection(cursor, readUnionBranch(cursor, schema));
+      default:
+        skip(cursor, schema);
+        return 0;
+    }
+  }
+
+  private static Schema readUnionBranch(Cursor cursor, Schema unionSchema) {
+    int branchIndex = (int) cursor.readLong();
+    List<Schema> branches = unionSchema.getTypes();
+    if (branchIndex < 0 || branchIndex >= branches.size()) {
+      throw new VeniceException("Invalid union branch index: " + branchIndex + " for schema: " + unionSchema);
+    }
+    return branches.get(branchIndex);
+  }
+
+  /**
+   * Arrays and maps are encoded as a series of blocks, each of them starting with its item count. A negative count is
+   * followed by the size of the block in bytes, which allows skipping it at once.
+   *
+   * @return the number of items in all the blocks.
+   */
+  private static long skipBlocks(Cursor cursor, Schema itemSchema, boolean isMap) {
+    long totalItemCount = 0;
+    long itemCount = cursor.readLong();
+    while (itemCount != 0) {
+      if (itemCount < 0) {
+        itemCount = -itemCount;
+        cursor.skipBytes(cursor.readLength());
+      } else {
+        for (long i = 0; i < itemCount; i++) {
+          if (isMap) {
+            cursor.skipBytes(cursor.readLength());
+          }
+          skip(cursor, itemSchema);
+        }
+      }
+      totalItemCount += itemCount;
+      itemCount = cursor.readLong();
+    }
+    return totalItemCount;
+  }
+
+  private static final class Cursor {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    private Cursor(ByteBuffer byteBuffer) {
+      // Same as the value deserializers, which decode the backing array from the position of the buffer.
+      this.bytes = byteBuffer.array();
+      this.position = byteBuffer.position();
+      this.limit = byteBuffer.limit();
+    }
+
+    private void skipBytes(long length) {
+      if (length < 0 || length > limit - position) {
+        throw new VeniceException("Invalid length: " + length + " at position: " + position + ", limit: " + limit);
+      }
+      position += (int) length;
+    }
+
+    private long readLength() {
+      long length = readLong();
+      if (length < 0) {
+        throw new VeniceException("Invalid negative length: " + length + " at position: " + position);
+      }
+      return length;
+    }
+
+    /**
+     * Reads a zig-zag encoded variable length long.
+     */
+    private long readLong() {
+      long value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (position >= limit || shift > 63) {
+          throw new VeniceException("Malformed variable length long at position: " + position + ", limit: " + limit);
+        }
+        b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return (value >>> 1) ^ -(value & 1);
+    }
+  }
+}
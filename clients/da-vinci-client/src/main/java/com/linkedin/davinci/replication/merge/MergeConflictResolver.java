@@ -59,8 +59,10 @@ public class MergeConflictResolver {
   private final RmdSerDe rmdSerde;
   private final boolean useFieldLevelTimestamp;
   private final boolean fastAvroEnabled;
+  private final boolean binaryMergeEnabled;
 
   private final SparseConcurrentList<RecordSerializer<GenericRecord>> serializerIndexedByValueSchemaId;
+  private final SparseConcurrentList<BinaryRecordMerger> binaryMergerIndexedByValueSchemaId;
   private final BiIntKeyCache<RecordDeserializer<GenericRecord>> deserializerCacheForFullValue;
   private final BiIntKeyCache<SparseConcurrentList<RecordDeserializer<GenericRecord>>> deserializerCacheForUpdateValue;
 
@@ -74,6 +76,30 @@ public class MergeConflictResolver {
       RmdSerDe rmdSerde,
       boolean useFieldLevelTimestamp,
       boolean fastAvroEnabled) {
+    this(
+        storeSchemaCache,
+        storeName,
+        newRmdCreator,
+        mergeGenericRecord,
+        mergeByteBuffer,
+        mergeResultValueSchemaResolver,
+        rmdSerde,
+        useFieldLevelTimestamp,
+        fastAvroEnabled,
+        false);
+  }
+
+  MergeConflictResolver(
+      StringAnnotatedStoreSchemaCache storeSchemaCache,
+      String storeName,
+      Function<Integer, GenericRecord> newRmdCreator,
+      MergeGenericRecord mergeGenericRecord,
+      MergeByteBuffer mergeByteBuffer,
+      MergeResultValueSchemaResolver mergeResultValueSchemaResolver,
+      RmdSerDe rmdSerde,
+      boolean useFieldLevelTimestamp,
+      boolean fastAvroEnabled,
+      boolean binaryMergeEnabled) {
     this.storeSchemaCache = Validate.notNull(storeSchemaCache);
     this.storeName = Validate.notNull(storeName);
     this.newRmdCreator = Validate.notNull(newRmdCreator);
@@ -83,8 +109,10 @@ public class MergeConflictResolver {
     this.rmdSerde = Validate.notNull(rmdSerde);
     this.useFieldLevelTimestamp = useFieldLevelTimestamp;
     this.fastAvroEnabled = fastAvroEnabled;
+    this.binaryMergeEnabled = binaryMergeEnabled;
 
     this.serializerIndexedByValueSchemaId = new SparseConcurrentList<>();
+    this.binaryMergerIndexedByValueSchemaId = new SparseConcurrentList<>();
     this.deserializerCacheForFullValue = new BiIntKeyCache<>((writerSchemaId, readerSchemaId) -> {
       Schema writerSchema = getValueSchema(writerSchemaId);
       Schema readerSchema = getValueSchema(readerSchemaId);
@@ -325,6 +353,22 @@ public class MergeConflictResolver {
       }
     }
 
+    if (binaryMergeEnabled && oldValueSchemaID == newValueSchemaID && oldTimestampObject instanceof GenericRecord) {
+      MergeConflictResult binaryMergeResult = mergePutOnBinaryValues(
+          newValueSchemaID,
+          (GenericRecord) oldTimestampObject,
+          oldValueBytesProvider,
+          oldRmdRecord,
+          putOperationTimestamp,
+          newValueBytes,
+          newValueColoID,
+          newValueSourceOffset,
+          newValueSourceBrokerID);
+      if (binaryMergeResult != null) {
+        return binaryMergeResult;
+      }
+    }
+
     final SchemaEntry mergeResultValueSchemaEntry =
         mergeResultValueSchemaResolver.getMergeResultValueSchema(oldValueSchemaID, newValueSchemaID);
     /**
@@ -356,6 +400,42 @@ public class MergeConflictResolver {
     return new MergeConflictResult(mergedValueBytes, newValueSchemaID, false, mergedValueAndRmd.getRmd());
   }
 
+  /**
+   * Merges a PUT into an old value with the same value schema directly on the binary encoding of both values, see
+   * {@link BinaryRecordMerger}.
+   *
+   * @return the merge result, or null if the merge should fall back to {@link MergeGenericRecord}.
+   */
+  private MergeConflictResult mergePutOnBinaryValues(
+      int valueSchemaID,
+      GenericRecord oldValueFieldTimestampsRecord,
+      Lazy<ByteBuffer> oldValueBytesProvider,
+      GenericRecord oldRmdRecord,
+      long putOperationTimestamp,
+      ByteBuffer newValueBytes,
+      int newValueColoID,
+      long newValueSourceOffset,
+      int newValueSourceBrokerID) {
+    ByteBuffer oldValueBytes = oldValueBytesProvider.get();
+    if (oldValueBytes == null || newValueBytes == null) {
+      return null;
+    }
+    BinaryRecordMerger binaryMerger = binaryMergerIndexedByValueSchemaId
+        .computeIfAbsent(valueSchemaID, ignored -> new BinaryRecordMerger(getValueSchema(valueSchemaID)));
+    ByteBuffer mergedValueBytes = binaryMerger
+        .put(oldValueBytes, newValueBytes, oldValueFieldTimestampsRecord, putOperationTimestamp, newValueColoID);
+    if (mergedValueBytes == null) {
+      return null;
+    }
+    oldRmdRecord.put(
+        REPLICATION_CHECKPOINT_VECTOR_FIELD_POS,
+        MergeUtils.mergeOffsetVectors(
+            (List<Long>) oldRmdRecord.get(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS),
+            newValueSourceOffset,
+            newValueSourceBrokerID));
+    return new MergeConflictResult(mergedValueBytes, valueSchemaID, false, oldRmdRecord);
+  }
+
   private MergeConflictResult mergeDeleteWithValueLevelTimestamp(
       int valueSchemaID,
       GenericRecord oldRmdRecord,
@@ -23,6 +23,22 @@ public class MergeConflictResolverFactory {
       String storeName,
       boolean rmdUseFieldLevelTs,
       boolean fastAvroEnabled) {
+    return createMergeConflictResolver(
+        annotatedReadOnlySchemaRepository,
+        rmdSerDe,
+        storeName,
+        rmdUseFieldLevelTs,
+        fastAvroEnabled,
+        false);
+  }
+
+  public MergeConflictResolver createMergeConflictResolver(
+      StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository,
+      RmdSerDe rmdSerDe,
+      String storeName,
+      boolean rmdUseFieldLevelTs,
+      boolean fastAvroEnabled,
+      boolean binaryMergeEnabled) {
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
     return new MergeConflictResolver(
         annotatedReadOnlySchemaRepository,
@@ -33,7 +49,8 @@ public class MergeConflictResolverFactory {
         new MergeResultValueSchemaResolverImpl(annotatedReadOnlySchemaRepository, storeName),
         rmdSerDe,
         rmdUseFieldLevelTs,
-        fastAvroEnabled);
+        fastAvroEnabled,
+        binaryMergeEnabled);
   }
 
   public MergeConflictResolver createMergeConflictResolver(
@@ -6,6 +6,7 @@ import com.linkedin.davinci.serializer.avro.fast.MapOrderPreservingFastSerDeFact
 import com.linkedin.venice.annotation.Threadsafe;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.SparseConcurrentList;
@@ -23,6 +24,9 @@ import org.apache.commons.lang3.Validate;
  *  1. Deserialize RMD from bytes.
  *  2. Serialize RMD record to bytes.
  *  3. Get RMD schema given its value schema ID.
+ *
+ * The RMD of protocol version {@link ColumnarRmdCodec#RMD_PROTOCOL_VERSION} is encoded by {@link ColumnarRmdCodec}, and
+ * the RMD of the other protocol versions is encoded by Avro.
  */
 @Threadsafe
 public class RmdSerDe {
@@ -31,6 +35,8 @@ public class RmdSerDe {
   private final SparseConcurrentList<Schema> rmdSchemaIndexedByValueSchemaId;
   private final SparseConcurrentList<RecordSerializer<GenericRecord>> rmdSerializerIndexedByValueSchemaId;
   private final BiIntKeyCache<RecordDeserializer<GenericRecord>> deserializerCache;
+  private final SparseConcurrentList<ColumnarRmdCodec> columnarRmdCodecIndexedByValueSchemaId;
+  private final boolean columnarRmdEnabled;
   private final boolean fastAvroEnabled;
 
   public RmdSerDe(StringAnnotatedStoreSchemaCache annotatedStoreSchemaCache, int rmdVersionId) {
@@ -45,6 +51,8 @@ public class RmdSerDe {
     this.rmdVersionId = rmdVersionId;
     this.rmdSchemaIndexedByValueSchemaId = new SparseConcurrentList<>();
     this.rmdSerializerIndexedByValueSchemaId = new SparseConcurrentList<>();
+    this.columnarRmdCodecIndexedByValueSchemaId = new SparseConcurrentList<>();
+    this.columnarRmdEnabled = rmdVersionId == ColumnarRmdCodec.RMD_PROTOCOL_VERSION;
     this.fastAvroEnabled = fastAvroEnabled;
     this.deserializerCache = new BiIntKeyCache<>((writerSchemaId, readerSchemaId) -> {
       Schema rmdWriterSchema = getRmdSchema(writerSchemaId);
@@ -65,6 +73,12 @@ public class RmdSerDe {
     Validate.notNull(valueSchemaIdPrependedBytes);
     ByteBuffer rmdWithValueSchemaID = ByteBuffer.wrap(valueSchemaIdPrependedBytes);
     final int valueSchemaId = rmdWithValueSchemaID.getInt();
+    if (columnarRmdEnabled) {
+      rmdWithValueSchemaId.setValueSchemaId(valueSchemaId);
+      rmdWithValueSchemaId.setRmdProtocolVersionId(rmdVersionId);
+      rmdWithValueSchemaId.setRmdRecord(getColumnarRmdCodec(valueSchemaId).decode(rmdWithValueSchemaID));
+      return;
+    }
     OptimizedBinaryDecoder binaryDecoder = OptimizedBinaryDecoderFactory.defaultFactory()
         .createOptimizedBinaryDecoder(
             rmdWithValueSchemaID.array(), // bytes of replication metadata with NO value schema ID.
@@ -82,13 +96,26 @@ public class RmdSerDe {
    *
    */
   public GenericRecord deserializeRmdBytes(final int writerSchemaID, final int readerSchemaID, ByteBuffer rmdBytes) {
+    if (columnarRmdEnabled) {
+      GenericRecord rmdRecord = getColumnarRmdCodec(writerSchemaID).decode(rmdBytes);
+      if (writerSchemaID == readerSchemaID) {
+        return rmdRecord;
+      }
+      /**
+       * Let Avro resolve the RMD record of the writer schema to the reader schema. This only happens when the value
+       * schema of a record evolves, so going through the Avro encoding is fine here.
+       */
+      byte[] avroRmdBytes = getRmdSerializer(writerSchemaID).serialize(rmdRecord);
+      return getRmdDeserializer(writerSchemaID, readerSchemaID).deserialize(avroRmdBytes);
+    }
     return getRmdDeserializer(writerSchemaID, readerSchemaID).deserialize(rmdBytes);
   }
 
   public ByteBuffer serializeRmdRecord(final int valueSchemaId, GenericRecord rmdRecord) {
-    RecordSerializer<GenericRecord> rmdSerializer =
-        this.rmdSerializerIndexedByValueSchemaId.computeIfAbsent(valueSchemaId, this::generateRmdSerializer);
-    byte[] rmdBytes = rmdSerializer.serialize(rmdRecord);
+    if (columnarRmdEnabled) {
+      return ByteBuffer.wrap(getColumnarRmdCodec(valueSchemaId).encode(rmdRecord));
+    }
+    byte[] rmdBytes = getRmdSerializer(valueSchemaId).serialize(rmdRecord);
     return ByteBuffer.wrap(rmdBytes);
   }
 
@@ -108,6 +135,15 @@ public class RmdSerDe {
     return this.deserializerCache.get(writerSchemaID, readerSchemaID);
   }
 
+  private RecordSerializer<GenericRecord> getRmdSerializer(final int valueSchemaId) {
+    return this.rmdSerializerIndexedByValueSchemaId.computeIfAbsent(valueSchemaId, this::generateRmdSerializer);
+  }
+
+  private ColumnarRmdCodec getColumnarRmdCodec(final int valueSchemaId) {
+    return this.columnarRmdCodecIndexedByValueSchemaId
+        .computeIfAbsent(valueSchemaId, id -> new ColumnarRmdCodec(getRmdSchema(id)));
+  }
+
   private RecordSerializer<GenericRecord> generateRmdSerializer(int valueSchemaId) {
     Schema replicationMetadataSchema = getRmdSchema(valueSchemaId);
     return fastAvroEnabled
@@ -6,7 +6,9 @@ import com.linkedin.davinci.schema.SchemaUtils;
 import com.linkedin.davinci.utils.IndexedHashMap;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.schema.rmd.v1.ElementTimestampAndIdx;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -16,6 +18,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.ThreadSafe;
@@ -25,8 +29,32 @@ import org.apache.avro.generic.GenericRecord;
 
 @ThreadSafe
 public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationHandler {
+  /**
+   * A modify on a map in the collection-merge state is applied in place, see
+   * {@link #handleModifyCollectionMergeMapIncrementally}, when the map has at least this many entries per updated key.
+   *
+   * The in place merge is not sub-linear: for a map of n entries and k updated keys, every entry removed or inserted
+   * by index shifts the entries behind it and fixes their indexes in {@link IndexedHashMap}, which is O(n) per entry in
+   * the worst case, so O(k * n) overall. The sort order is verified in O(n) the first time a record read from storage
+   * is modified, see {@link OrderedActiveTimestamps}. When the modify timestamp is later than all the remaining
+   * entries, which is the common case, the updated entries and their timestamps are appended in place, and otherwise
+   * the active timestamps are copied once into a new list. The deleted keys are copied into new lists whenever they
+   * change. What it saves over the sort based merge, which is O(n log n), is copying the whole map into new maps and
+   * sorting it. Rebuilding and sorting the whole map once is cheaper when many keys are updated at once.
+   */
+  static final int DEFAULT_INCREMENTAL_MERGE_MIN_ENTRIES_PER_UPDATE = 64;
+
+  private final int incrementalMergeMinEntriesPerUpdate;
+
   public SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator elementComparator) {
+    this(elementComparator, DEFAULT_INCREMENTAL_MERGE_MIN_ENTRIES_PER_UPDATE);
+  }
+
+  SortBasedCollectionFieldOpHandler(
+      AvroCollectionElementComparator elementComparator,
+      int incrementalMergeMinEntriesPerUpdate) {
     super(elementComparator);
+    this.incrementalMergeMinEntriesPerUpdate = incrementalMergeMinEntriesPerUpdate;
   }
 
   @Override
@@ -839,6 +867,16 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     }
     IndexedHashMap<String, Object> currMap =
         (IndexedHashMap<String, Object>) currValueRecord.get(currValueRecordField.pos());
+    final int updatedKeyCount = newEntries.size() + toRemoveKeys.size();
+    if (canModifyCollectionMergeMapIncrementally(modifyTimestamp, collectionFieldRmd, currMap, updatedKeyCount)) {
+      return handleModifyCollectionMergeMapIncrementally(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currMap,
+          currValueRecordField,
+          newEntries,
+          toRemoveKeys);
+    }
     List<KeyValPair> currKeyValPairs = new ArrayList<>(currMap.size());
     currMap.forEach((key, value) -> currKeyValPairs.add(new KeyValPair(key, value)));
 
@@ -967,6 +1005,374 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
 
+  /**
+   * The active timestamps of a map modified by {@link #handleModifyCollectionMergeMapIncrementally}, which are known to
+   * be in timestamp and key order with the entries of the collection-merge part, as are the deleted keys in the lists
+   * they were merged with. The next modify on the same record in memory, e.g. while it is held by the transient record
+   * cache of the ingestion task, doesn't verify the order again. This doesn't survive serialization, so the order of a
+   * record read from storage is verified once.
+   *
+   * The other operations on a map either replace its active timestamps, or only remove a prefix of the entries, which
+   * keeps them in order, and removing a prefix of the deleted keys keeps them in order as well.
+   */
+  private static final class OrderedActiveTimestamps extends PrimitiveLongArrayList {
+    private List<?> orderedDeletedKeys;
+    private List<Long> orderedDeletedTimestamps;
+
+    OrderedActiveTimestamps(int capacity) {
+      super(capacity);
+    }
+
+    boolean isOrderedWith(List<?> deletedKeys, List<Long> deletedTimestamps) {
+      return deletedKeys == orderedDeletedKeys && deletedTimestamps == orderedDeletedTimestamps;
+    }
+
+    void setOrderedWith(List<?> deletedKeys, List<Long> deletedTimestamps) {
+      this.orderedDeletedKeys = deletedKeys;
+      this.orderedDeletedTimestamps = deletedTimestamps;
+    }
+  }
+
+  /**
+   * The collection-merge part of a map is kept sorted by timestamp and then by key, and so are the deleted keys, so a
+   * modify can be merged into them without sorting them again. This only holds if every entry of the collection-merge
+   * part is newer than the put-only part, and it's checked in a single pass instead of being trusted, unless it is
+   * known from {@link OrderedActiveTimestamps}, so that a map written out of order still goes through the sort based
+   * merge.
+   */
+  private boolean canModifyCollectionMergeMapIncrementally(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      IndexedHashMap<String, Object> currMap,
+      final int updatedKeyCount) {
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    if (modifyTimestamp <= topLevelTimestamp
+        || (long) updatedKeyCount * incrementalMergeMinEntriesPerUpdate > currMap.size()) {
+      return false;
+    }
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    if (activeTimestamps instanceof LinkedList || activeTimestamps.size() != currMap.size() - putOnlyPartLength) {
+      return false;
+    }
+    if (!activeTimestamps.isEmpty() && activeTimestamps.get(0) <= topLevelTimestamp) {
+      return false;
+    }
+    final boolean isActiveOrderKnown = activeTimestamps instanceof OrderedActiveTimestamps;
+    long prevTimestamp = topLevelTimestamp;
+    Object prevKey = null;
+    for (int i = 0; !isActiveOrderKnown && i < activeTimestamps.size(); i++) {
+      final long timestamp = activeTimestamps.get(i);
+      final Object key = currMap.getByIndex(putOnlyPartLength + i).getKey();
+      if (!isInTimestampAndKeyOrder(prevTimestamp, prevKey, timestamp, key)) {
+        return false;
+      }
+      prevTimestamp = timestamp;
+      prevKey = key;
+    }
+    final List<String> deletedKeys = collectionFieldRmd.getDeletedElements();
+    final List<Long> deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+    if (isActiveOrderKnown
+        && ((OrderedActiveTimestamps) activeTimestamps).isOrderedWith(deletedKeys, deletedTimestamps)) {
+      return true;
+    }
+    prevTimestamp = Long.MIN_VALUE;
+    prevKey = null;
+    Iterator<Long> deletedTimestampIterator = deletedTimestamps.iterator();
+    for (Object deletedKey: deletedKeys) {
+      final long timestamp = deletedTimestampIterator.next();
+      if (!isInTimestampAndKeyOrder(prevTimestamp, prevKey, timestamp, deletedKey)) {
+        return false;
+      }
+      prevTimestamp = timestamp;
+      prevKey = deletedKey;
+    }
+    return true;
+  }
+
+  private static boolean isInTimestampAndKeyOrder(long prevTimestamp, Object prevKey, long timestamp, Object key) {
+    if (!(key instanceof String)) {
+      return false;
+    }
+    if (timestamp != prevTimestamp) {
+      return timestamp > prevTimestamp;
+    }
+    return prevKey == null || ((String) prevKey).compareTo((String) key) < 0;
+  }
+
+  /**
+   * Applies a modify on a map in the collection-merge state in place, with the same result as the sort based merge in
+   * {@link #handleModifyCollectionMergeMap}. The entries and deleted keys are looked up by key instead of being loaded
+   * into new maps, and since every updated entry and deleted key gets the modify timestamp, they are merged into the
+   * sorted collection-merge part and deleted keys at the position of the modify timestamp, which is usually the end.
+   * See {@link #DEFAULT_INCREMENTAL_MERGE_MIN_ENTRIES_PER_UPDATE} for its cost, and {@link OrderedActiveTimestamps} for
+   * the active timestamps it leaves.
+   */
+  private UpdateResultStatus handleModifyCollectionMergeMapIncrementally(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      IndexedHashMap<String, Object> currMap,
+      Schema.Field currValueRecordField,
+      Map<String, Object> newEntries,
+      List<String> toRemoveKeys) {
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+
+    // Entries to remove from their current position, and entries to insert with the modify timestamp.
+    final Set<String> removedActiveKeys = new HashSet<>();
+    final TreeMap<String, Object> addedActiveEntries = new TreeMap<>();
+    // Deleted keys to remove from their current position, and deleted keys to insert with the modify timestamp.
+    final Set<String> removedDeletedKeys = new HashSet<>();
+    final TreeSet<String> addedDeletedKeys = new TreeSet<>();
+    boolean updated = false;
+
+    // Step 1: Add elements (MAP_UNION).
+    for (Map.Entry<String, Object> newEntry: newEntries.entrySet()) {
+      final String newKey = newEntry.getKey();
+      final ElementTimestampAndIdx deletedInfo = collectionFieldRmd.getDeletedElementTimestampAndIdx(newKey);
+      if (deletedInfo != null) {
+        if (deletedInfo.getTimestamp() < modifyTimestamp) {
+          // k-v entry will be added back.
+          removedDeletedKeys.add(newKey);
+          addedActiveEntries.put(newKey, newEntry.getValue());
+          updated = true;
+        } // Else: Key remains "deleted".
+        continue;
+      }
+      final int index = currMap.indexOf(newKey);
+      if (index < 0) {
+        // The key does not exist before.
+        addedActiveEntries.put(newKey, newEntry.getValue());
+        updated = true;
+        continue;
+      }
+      final long activeTimestamp =
+          index < putOnlyPartLength ? topLevelTimestamp : activeTimestamps.get(index - putOnlyPartLength);
+      if (activeTimestamp < modifyTimestamp) {
+        removedActiveKeys.add(newKey);
+        addedActiveEntries.put(newKey, newEntry.getValue());
+        updated = true;
+      } else if (activeTimestamp == modifyTimestamp
+          && shouldUpdateMapFieldItemValueWithSameTs(
+              currMap.get(newKey),
+              newEntry.getValue(),
+              currValueRecordField.schema())) {
+        // The entry keeps both its timestamp and its key, and so its position.
+        currMap.put(newKey, newEntry.getValue());
+        updated = true;
+      }
+    }
+
+    // Step 2: Remove elements (MAP_DIFF).
+    for (String toRemoveKey: toRemoveKeys) {
+      if (addedDeletedKeys.contains(toRemoveKey)) {
+        continue; // Duplicate key, which is already deleted with the modify timestamp.
+      }
+      final ElementTimestampAndIdx deletedInfo = collectionFieldRmd.getDeletedElementTimestampAndIdx(toRemoveKey);
+      if (deletedInfo != null) {
+        if (deletedInfo.getTimestamp() < modifyTimestamp) {
+          // Update the deleted timestamp of this key.
+          removedDeletedKeys.add(toRemoveKey);
+          addedDeletedKeys.add(toRemoveKey);
+          updated = true;
+        }
+        continue;
+      }
+      final int index = currMap.indexOf(toRemoveKey);
+      if (index >= 0) {
+        final long activeTimestamp =
+            index < putOnlyPartLength ? topLevelTimestamp : activeTimestamps.get(index - putOnlyPartLength);
+        if (activeTimestamp <= modifyTimestamp) {
+          // Delete an existing k-v entry.
+          removedActiveKeys.add(toRemoveKey);
+          addedDeletedKeys.add(toRemoveKey);
+          updated = true;
+        } // Else: existing k-v entry does not get deleted.
+        continue;
+      }
+      // Key never existed and it should be marked as deleted now.
+      addedDeletedKeys.add(toRemoveKey);
+      updated = true;
+    }
+
+    if (!updated) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 3: Remove the updated and deleted entries, and merge the updated entries back with the modify timestamp.
+    int newPutOnlyPartLength = putOnlyPartLength;
+    final int[] removedIndexes = new int[removedActiveKeys.size()];
+    int removedIndexCount = 0;
+    for (String removedKey: removedActiveKeys) {
+      removedIndexes[removedIndexCount++] = currMap.indexOf(removedKey);
+    }
+    Arrays.sort(removedIndexes);
+    // Remove from the back, so that the indexes of the entries to remove don't shift.
+    for (int i = removedIndexes.length - 1; i >= 0; i--) {
+      currMap.removeByIndex(removedIndexes[i]);
+      if (removedIndexes[i] < putOnlyPartLength) {
+        newPutOnlyPartLength--;
+      }
+    }
+    // The removed entries of the collection-merge part are at removedIndexes[firstRemovedActiveIndex...].
+    final int firstRemovedActiveIndex = putOnlyPartLength - newPutOnlyPartLength;
+    final long lastRemainingActiveTimestamp = getLastRemainingActiveTimestamp(
+        activeTimestamps,
+        removedIndexes,
+        firstRemovedActiveIndex,
+        putOnlyPartLength,
+        topLevelTimestamp);
+    final OrderedActiveTimestamps newActiveTimestamps;
+    if (activeTimestamps instanceof OrderedActiveTimestamps && lastRemainingActiveTimestamp < modifyTimestamp) {
+      // The updated entries go after all the remaining ones, so both are updated in place without copying the rest.
+      newActiveTimestamps = (OrderedActiveTimestamps) activeTimestamps;
+      for (int i = removedIndexes.length - 1; i >= firstRemovedActiveIndex; i--) {
+        newActiveTimestamps.remove(removedIndexes[i] - putOnlyPartLength);
+      }
+      for (Map.Entry<String, Object> addedEntry: addedActiveEntries.entrySet()) {
+        currMap.put(addedEntry.getKey(), addedEntry.getValue());
+        newActiveTimestamps.addPrimitive(modifyTimestamp);
+      }
+    } else {
+      newActiveTimestamps = mergeActiveEntries(
+          modifyTimestamp,
+          currMap,
+          activeTimestamps,
+          removedIndexes,
+          firstRemovedActiveIndex,
+          putOnlyPartLength,
+          newPutOnlyPartLength,
+          addedActiveEntries);
+    }
+    collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+
+    // Step 4: Merge the deleted keys with the modify timestamp into the remaining deleted keys.
+    if (!removedDeletedKeys.isEmpty() || !addedDeletedKeys.isEmpty()) {
+      final List<String> deletedKeys = collectionFieldRmd.getDeletedElements();
+      final List<String> newDeletedKeys = new ArrayList<>(deletedKeys.size() + addedDeletedKeys.size());
+      final PrimitiveLongList newDeletedTimestamps =
+          new PrimitiveLongArrayList(deletedKeys.size() + addedDeletedKeys.size());
+      final Iterator<String> addedDeletedKeyIterator = addedDeletedKeys.iterator();
+      String nextAddedDeletedKey = addedDeletedKeyIterator.hasNext() ? addedDeletedKeyIterator.next() : null;
+      final Iterator<Long> deletedTimestampIterator = collectionFieldRmd.getDeletedElementTimestamps().iterator();
+      for (String deletedKey: deletedKeys) {
+        final long deletedTimestamp = deletedTimestampIterator.next();
+        if (removedDeletedKeys.contains(deletedKey)) {
+          continue;
+        }
+        while (nextAddedDeletedKey != null && (deletedTimestamp > modifyTimestamp
+            || (deletedTimestamp == modifyTimestamp && deletedKey.compareTo(nextAddedDeletedKey) > 0))) {
+          newDeletedKeys.add(nextAddedDeletedKey);
+          newDeletedTimestamps.addPrimitive(modifyTimestamp);
+          nextAddedDeletedKey = addedDeletedKeyIterator.hasNext() ? addedDeletedKeyIterator.next() : null;
+        }
+        newDeletedKeys.add(deletedKey);
+        newDeletedTimestamps.addPrimitive(deletedTimestamp);
+      }
+      while (nextAddedDeletedKey != null) {
+        newDeletedKeys.add(nextAddedDeletedKey);
+        newDeletedTimestamps.addPrimitive(modifyTimestamp);
+        nextAddedDeletedKey = addedDeletedKeyIterator.hasNext() ? addedDeletedKeyIterator.next() : null;
+      }
+      collectionFieldRmd.setDeletedElementsAndTimestamps(newDeletedKeys, newDeletedTimestamps);
+    }
+    newActiveTimestamps
+        .setOrderedWith(collectionFieldRmd.getDeletedElements(), collectionFieldRmd.getDeletedElementTimestamps());
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  /**
+   * @return the last active timestamp which isn't removed, or the top-level timestamp if all of them are removed.
+   */
+  private static long getLastRemainingActiveTimestamp(
+      List<Long> activeTimestamps,
+      int[] removedIndexes,
+      int firstRemovedActiveIndex,
+      int putOnlyPartLength,
+      long topLevelTimestamp) {
+    int removedIndex = removedIndexes.length - 1;
+    for (int i = activeTimestamps.size() - 1; i >= 0; i--) {
+      if (removedIndex >= firstRemovedActiveIndex && removedIndexes[removedIndex] - putOnlyPartLength == i) {
+        removedIndex--;
+      } else {
+        return activeTimestamps.get(i);
+      }
+    }
+    return topLevelTimestamp;
+  }
+
+  /**
+   * Merges the added entries, in key order, into the entries with the modify timestamp in the collection-merge part of
+   * the map, from which the removed entries are already gone, and copies the remaining active timestamps into a new
+   * list along with the modify timestamp of the added entries.
+   */
+  private static OrderedActiveTimestamps mergeActiveEntries(
+      final long modifyTimestamp,
+      IndexedHashMap<String, Object> currMap,
+      List<Long> activeTimestamps,
+      int[] removedIndexes,
+      int firstRemovedActiveIndex,
+      int putOnlyPartLength,
+      int newPutOnlyPartLength,
+      TreeMap<String, Object> addedActiveEntries) {
+    // The remaining entries with the modify timestamp are in [sameTimestampStart, sameTimestampEnd) of the
+    // collection-merge part.
+    int sameTimestampStart = 0;
+    int sameTimestampEnd = 0;
+    int removedIndex = firstRemovedActiveIndex;
+    for (int i = 0; i < activeTimestamps.size(); i++) {
+      if (removedIndex < removedIndexes.length && removedIndexes[removedIndex] - putOnlyPartLength == i) {
+        removedIndex++;
+        continue;
+      }
+      final long timestamp = activeTimestamps.get(i);
+      if (timestamp > modifyTimestamp) {
+        break;
+      }
+      if (timestamp < modifyTimestamp) {
+        sameTimestampStart++;
+      }
+      sameTimestampEnd++;
+    }
+    int insertIndex = sameTimestampStart;
+    int mergedSameTimestampEnd = sameTimestampEnd;
+    for (Map.Entry<String, Object> addedEntry: addedActiveEntries.entrySet()) {
+      while (insertIndex < mergedSameTimestampEnd
+          && currMap.getByIndex(newPutOnlyPartLength + insertIndex).getKey().compareTo(addedEntry.getKey()) < 0) {
+        insertIndex++;
+      }
+      currMap.putByIndex(addedEntry.getKey(), addedEntry.getValue(), newPutOnlyPartLength + insertIndex);
+      insertIndex++;
+      mergedSameTimestampEnd++;
+    }
+    final int removedActiveCount = removedIndexes.length - firstRemovedActiveIndex;
+    final OrderedActiveTimestamps newActiveTimestamps =
+        new OrderedActiveTimestamps(activeTimestamps.size() - removedActiveCount + addedActiveEntries.size());
+    removedIndex = firstRemovedActiveIndex;
+    for (int i = 0; i < activeTimestamps.size(); i++) {
+      if (removedIndex < removedIndexes.length && removedIndexes[removedIndex] - putOnlyPartLength == i) {
+        removedIndex++;
+        continue;
+      }
+      if (newActiveTimestamps.size() == sameTimestampStart) {
+        // The entries with the modify timestamp, including the added ones.
+        for (int j = sameTimestampStart; j < mergedSameTimestampEnd; j++) {
+          newActiveTimestamps.addPrimitive(modifyTimestamp);
+        }
+      }
+      final long timestamp = activeTimestamps.get(i);
+      if (timestamp != modifyTimestamp) {
+        newActiveTimestamps.addPrimitive(timestamp);
+      }
+    }
+    for (int j = newActiveTimestamps.size(); j < mergedSameTimestampEnd; j++) {
+      newActiveTimestamps.addPrimitive(modifyTimestamp);
+    }
+    return newActiveTimestamps;
+  }
+
   private Schema getArraySchema(Schema arrayFieldSchema) {
     switch (arrayFieldSchema.getType()) {
       case ARRAY:
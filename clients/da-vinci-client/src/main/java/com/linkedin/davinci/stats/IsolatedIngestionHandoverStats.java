@@ -0,0 +1,40 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+
+
+/**
+ * Tracks the cost of handing over the partitions completed by the isolated ingestion process to the main process.
+ */
+public class IsolatedIngestionHandoverStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "ingestion_isolation_handover";
+  // Delay in millis from the completion report of the forked process until the partition serves reads in main process.
+  private final Sensor readReadyLatencySensor;
+  // Delay in millis from the completion report of the forked process until the ingestion is resumed in main process.
+  private final Sensor handoverLatencySensor;
+  private final Sensor earlyOpenFailureSensor;
+
+  public IsolatedIngestionHandoverStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, METRICS_PREFIX);
+    readReadyLatencySensor = registerSensor("read_ready_latency", new Avg(), new Max());
+    handoverLatencySensor = registerSensor("handover_latency", new Avg(), new Max());
+    earlyOpenFailureSensor = registerSensor("early_open_failure", new OccurrenceRate());
+  }
+
+  public void recordReadReadyLatency(double latencyInMs) {
+    readReadyLatencySensor.record(latencyInMs);
+  }
+
+  public void recordHandoverLatency(double latencyInMs) {
+    handoverLatencySensor.record(latencyInMs);
+  }
+
+  public void recordEarlyOpenFailure() {
+    earlyOpenFailureSensor.record();
+  }
+}
@@ -6,10 +6,12 @@ import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricConfig;
 import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,18 +35,27 @@ import org.apache.logging.log4j.Logger;
  * Lag will stop being reported for partitions which have the monitor removed.
  *
  * Each region gets a different lag monitor
+ *
+ * Heartbeats of a store version are kept in a flat {@link HeartbeatTable}, indexed by partition and region, so that
+ * recording a heartbeat on the ingestion path is a couple of map lookups followed by a single atomic write.
  */
 public class HeartbeatMonitoringService extends AbstractVeniceService {
   private final Thread reportingThread;
   private static final Logger LOGGER = LogManager.getLogger(HeartbeatMonitoringService.class);
   public static final int DEFAULT_REPORTER_THREAD_SLEEP_INTERVAL_SECONDS = 60;
+  /**
+   * Returned by the max lag APIs when no partition of the store is monitored.
+   */
+  public static final long NO_HEARTBEAT_LAG = -1;
 
-  private final Set<String> regionNames;
-  private final String localRegionName;
+  private final String[] regionNamesByIndex;
+  private final Map<String, Integer> regionIndexes;
+  private final int localRegionIndex;
+  private final int[] allRegionIndexes;
 
-  // store -> version -> partition -> region -> timestamp
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> followerHeartbeatTimeStamps;
-  private final Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> leaderHeartbeatTimeStamps;
+  // store -> version -> heartbeat table
+  private final Map<String, Map<Integer, HeartbeatTable>> followerHeartbeatTables;
+  private final Map<String, Map<Integer, HeartbeatTable>> leaderHeartbeatTables;
   HeartbeatVersionedStats versionStatsReporter;
 
   public HeartbeatMonitoringService(
@@ -52,22 +63,35 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
       ReadOnlyStoreRepository metadataRepository,
       Set<String> regionNames,
       String localRegionName) {
-    this.regionNames = regionNames;
-    this.localRegionName = localRegionName;
+    List<String> indexedRegions = new ArrayList<>(regionNames);
+    if (!indexedRegions.contains(localRegionName)) {
+      indexedRegions.add(localRegionName);
+    }
+    this.regionNamesByIndex = indexedRegions.toArray(new String[0]);
+    this.regionIndexes = new HashMap<>(regionNamesByIndex.length);
+    for (int i = 0; i < regionNamesByIndex.length; i++) {
+      regionIndexes.put(regionNamesByIndex[i], i);
+    }
+    this.localRegionIndex = regionIndexes.get(localRegionName);
+    this.allRegionIndexes = new int[regionNames.size()];
+    int i = 0;
+    for (String region: regionNames) {
+      allRegionIndexes[i++] = regionIndexes.get(region);
+    }
     this.reportingThread = new HeartbeatReporterThread();
-    followerHeartbeatTimeStamps = new VeniceConcurrentHashMap<>();
-    leaderHeartbeatTimeStamps = new VeniceConcurrentHashMap<>();
+    followerHeartbeatTables = new VeniceConcurrentHashMap<>();
+    leaderHeartbeatTables = new VeniceConcurrentHashMap<>();
     versionStatsReporter = new HeartbeatVersionedStats(
         metricsRepository,
         metadataRepository,
         () -> new HeartbeatStat(new MetricConfig(), regionNames),
         (aMetricsRepository, storeName) -> new HeartbeatStatReporter(aMetricsRepository, storeName, regionNames),
-        leaderHeartbeatTimeStamps,
-        followerHeartbeatTimeStamps);
+        leaderHeartbeatTables,
+        followerHeartbeatTables);
   }
 
   private synchronized void initializeEntry(
-      Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> heartbeatTimestamps,
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables,
       Version version,
       int partition,
       boolean isFollower) {
@@ -75,32 +99,33 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
     if (version.getHybridStoreConfig() == null) {
       return;
     }
-    heartbeatTimestamps.computeIfAbsent(version.getStoreName(), storeKey -> new VeniceConcurrentHashMap<>())
-        .computeIfAbsent(version.getNumber(), versionKey -> new VeniceConcurrentHashMap<>())
-        .computeIfAbsent(partition, partitionKey -> {
-          Map<String, Pair<Long, Boolean>> regionTimestamps = new VeniceConcurrentHashMap<>();
-          if (version.isActiveActiveReplicationEnabled() && !isFollower) {
-            for (String region: regionNames) {
-              regionTimestamps.put(region, new MutablePair<>(System.currentTimeMillis(), false));
-            }
-          } else {
-            regionTimestamps.put(localRegionName, new MutablePair<>(System.currentTimeMillis(), false));
-          }
-          return regionTimestamps;
-        });
+    HeartbeatTable heartbeatTable =
+        heartbeatTables.computeIfAbsent(version.getStoreName(), storeKey -> new VeniceConcurrentHashMap<>())
+            .computeIfAbsent(
+                version.getNumber(),
+                versionKey -> new HeartbeatTable(regionNamesByIndex.length, version.getPartitionCount()));
+    int[] regionIndexesToInitialize = (version.isActiveActiveReplicationEnabled() && !isFollower)
+        ? allRegionIndexes
+        : new int[] { localRegionIndex };
+    heartbeatTable.addPartition(partition, regionIndexesToInitialize, System.currentTimeMillis());
   }
 
   private synchronized void removeEntry(
-      Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> heartbeatTimestamps,
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables,
       Version version,
       int partition) {
-    heartbeatTimestamps.computeIfPresent(version.getStoreName(), (storeKey, versionMap) -> {
-      versionMap.computeIfPresent(version.getNumber(), (versionKey, partitionMap) -> {
-        partitionMap.remove(partition);
-        return partitionMap;
-      });
-      return versionMap;
-    });
+    HeartbeatTable heartbeatTable = getHeartbeatTable(heartbeatTables, version.getStoreName(), version.getNumber());
+    if (heartbeatTable != null) {
+      heartbeatTable.removePartition(partition);
+    }
+  }
+
+  private static HeartbeatTable getHeartbeatTable(
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables,
+      String store,
+      int version) {
+    Map<Integer, HeartbeatTable> versionTables = heartbeatTables.get(store);
+    return versionTables == null ? null : versionTables.get(version);
   }
 
   /**
@@ -111,8 +136,8 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
    * @param partition the partition to monitor lag for
    */
   public void addFollowerLagMonitor(Version version, int partition) {
-    initializeEntry(followerHeartbeatTimeStamps, version, partition, true);
-    removeEntry(leaderHeartbeatTimeStamps, version, partition);
+    initializeEntry(followerHeartbeatTables, version, partition, true);
+    removeEntry(leaderHeartbeatTables, version, partition);
   }
 
   /**
@@ -123,8 +148,8 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
    * @param partition the partition to monitor lag for
    */
   public void addLeaderLagMonitor(Version version, int partition) {
-    initializeEntry(leaderHeartbeatTimeStamps, version, partition, false);
-    removeEntry(followerHeartbeatTimeStamps, version, partition);
+    initializeEntry(leaderHeartbeatTables, version, partition, false);
+    removeEntry(followerHeartbeatTables, version, partition);
   }
 
   /**
@@ -134,8 +159,8 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
    * @param partition the partition to remove monitoring for
    */
   public void removeLagMonitor(Version version, int partition) {
-    removeEntry(leaderHeartbeatTimeStamps, version, partition);
-    removeEntry(followerHeartbeatTimeStamps, version, partition);
+    removeEntry(leaderHeartbeatTables, version, partition);
+    removeEntry(followerHeartbeatTables, version, partition);
   }
 
   @Override
@@ -164,9 +189,9 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
       int version,
       int partition,
       String region,
-      Long timestamp,
+      long timestamp,
       boolean isReadyToServe) {
-    recordHeartbeat(store, version, partition, region, timestamp, leaderHeartbeatTimeStamps, isReadyToServe);
+    recordHeartbeat(store, version, partition, region, timestamp, leaderHeartbeatTables, isReadyToServe);
   }
 
   /**
@@ -184,9 +209,9 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
       int version,
       int partition,
       String region,
-      Long timestamp,
+      long timestamp,
       boolean isReadyToServe) {
-    recordHeartbeat(store, version, partition, region, timestamp, followerHeartbeatTimeStamps, isReadyToServe);
+    recordHeartbeat(store, version, partition, region, timestamp, followerHeartbeatTables, isReadyToServe);
   }
 
   private void recordHeartbeat(
@@ -194,59 +219,105 @@ public class HeartbeatMonitoringService extends AbstractVeniceService {
       int version,
       int partition,
       String region,
-      Long timestamp,
-      Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> heartbeatTimestamps,
+      long timestamp,
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables,
       boolean isReadyToServe) {
-    if (region != null) {
-      heartbeatTimestamps.computeIfPresent(store, (storeKey, perVersionMap) -> {
-        perVersionMap.computeIfPresent(version, (versionKey, perPartitionMap) -> {
-          perPartitionMap.computeIfPresent(partition, (partitionKey, perRegionMap) -> {
-            perRegionMap.put(region, new MutablePair<>(timestamp, isReadyToServe));
-            return perRegionMap;
-          });
-          return perPartitionMap;
-        });
-        return perVersionMap;
-      });
+    if (region == null) {
+      return;
+    }
+    Integer regionIndex = regionIndexes.get(region);
+    if (regionIndex == null) {
+      return;
+    }
+    HeartbeatTable heartbeatTable = getHeartbeatTable(heartbeatTables, store, version);
+    if (heartbeatTable != null) {
+      heartbeatTable.record(partition, regionIndex, timestamp, isReadyToServe);
+    }
+  }
+
+  /**
+   * @return the max leader heartbeat lag in milliseconds across all the monitored leader partitions, versions and
+   *         regions of the given store, or {@link #NO_HEARTBEAT_LAG} if none of them is monitored.
+   */
+  public long getMaxLeaderHeartbeatLag(String store) {
+    return getMaxHeartbeatLag(leaderHeartbeatTables, store);
+  }
+
+  /**
+   * @return the max follower heartbeat lag in milliseconds across all the monitored follower partitions, versions and
+   *         regions of the given store, or {@link #NO_HEARTBEAT_LAG} if none of them is monitored.
+   */
+  public long getMaxFollowerHeartbeatLag(String store) {
+    return getMaxHeartbeatLag(followerHeartbeatTables, store);
+  }
+
+  private long getMaxHeartbeatLag(Map<String, Map<Integer, HeartbeatTable>> heartbeatTables, String store) {
+    Map<Integer, HeartbeatTable> versionTables = heartbeatTables.get(store);
+    if (versionTables == null) {
+      return NO_HEARTBEAT_LAG;
+    }
+    long oldestTimestamp = Long.MAX_VALUE;
+    for (HeartbeatTable heartbeatTable: versionTables.values()) {
+      oldestTimestamp = Math.min(oldestTimestamp, heartbeatTable.getOldestHeartbeatTimestamp());
+    }
+    if (oldestTimestamp == Long.MAX_VALUE) {
+      return NO_HEARTBEAT_LAG;
     }
+    return Math.max(0, System.currentTimeMillis() - oldestTimestamp);
   }
 
+  /**
+   * Build a store -> version -> partition -> region -> (timestamp, isReadyToServe) snapshot of the leader heartbeats.
+   */
   protected Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> getLeaderHeartbeatTimeStamps() {
-    return leaderHeartbeatTimeStamps;
+    return snapshot(leaderHeartbeatTables);
   }
 
+  /**
+   * Build a store -> version -> partition -> region -> (timestamp, isReadyToServe) snapshot of the follower
+   * heartbeats.
+   */
   protected Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> getFollowerHeartbeatTimeStamps() {
-    return followerHeartbeatTimeStamps;
+    return snapshot(followerHeartbeatTables);
+  }
+
+  private Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> snapshot(
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables) {
+    Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> result = new HashMap<>();
+    for (Map.Entry<String, Map<Integer, HeartbeatTable>> storeEntry: heartbeatTables.entrySet()) {
+      Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>> versionMap = new HashMap<>();
+      for (Map.Entry<Integer, HeartbeatTable> versionEntry: storeEntry.getValue().entrySet()) {
+        Map<Integer, Map<String, Pair<Long, Boolean>>> partitionMap = new HashMap<>();
+        versionEntry.getValue().snapshot(regionNamesByIndex, partitionMap);
+        versionMap.put(versionEntry.getKey(), partitionMap);
+      }
+      result.put(storeEntry.getKey(), versionMap);
+    }
+    return result;
   }
 
   protected void recordLags(
-      Map<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> heartbeatTimestamps,
+      Map<String, Map<Integer, HeartbeatTable>> heartbeatTables,
       ReportLagFunction lagFunction) {
-    for (Map.Entry<String, Map<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>>> storeName: heartbeatTimestamps
-        .entrySet()) {
-      for (Map.Entry<Integer, Map<Integer, Map<String, Pair<Long, Boolean>>>> version: storeName.getValue()
-          .entrySet()) {
-        for (Map.Entry<Integer, Map<String, Pair<Long, Boolean>>> partition: version.getValue().entrySet()) {
-          for (Map.Entry<String, Pair<Long, Boolean>> region: partition.getValue().entrySet()) {
-            lagFunction.apply(
-                storeName.getKey(),
-                version.getKey(),
-                region.getKey(),
-                region.getValue().getLeft(),
-                region.getValue().getRight());
-          }
-        }
+    for (Map.Entry<String, Map<Integer, HeartbeatTable>> storeEntry: heartbeatTables.entrySet()) {
+      String storeName = storeEntry.getKey();
+      for (Map.Entry<Integer, HeartbeatTable> versionEntry: storeEntry.getValue().entrySet()) {
+        int version = versionEntry.getKey();
+        versionEntry.getValue()
+            .forEachActiveSlot(
+                (partition, regionIndex, timestamp, isReadyToServe) -> lagFunction
+                    .apply(storeName, version, regionNamesByIndex[regionIndex], timestamp, isReadyToServe));
       }
     }
   }
 
   protected void record() {
     recordLags(
-        leaderHeartbeatTimeStamps,
+        leaderHeartbeatTables,
         ((storeName, version, region, heartbeatTs, isReadyToServe) -> versionStatsReporter
             .recordLeaderLag(storeName, version, region, heartbeatTs)));
     recordLags(
-        followerHeartbeatTimeStamps,
+        followerHeartbeatTables,
         ((storeName, version, region, heartbeatTs, isReadyToServe) -> versionStatsReporter
             .recordFollowerLag(storeName, version, region, heartbeatTs, isReadyToServe)));
   }
@@ -0,0 +1,241 @@
+package com.linkedin.davinci.stats.ingestion.heartbeat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+
+/**
+ * Flat heartbeat table of one store version for one replica role (leader or follower).
+ *
+ * Each (partition, region) pair maps to one slot of an {@link AtomicLongArray}, at index
+ * {@code partition * regionCount + regionIndex}. A slot packs the heartbeat timestamp, the ready-to-serve flag and the
+ * generation of the partition it was written for into a single long, so recording a heartbeat doesn't allocate.
+ * A slot holding {@link #INACTIVE_SLOT} means the region hasn't reported anything for a monitored partition yet, or
+ * that the partition isn't monitored at all. Timestamps are epoch milliseconds and must fit in
+ * {@link #TIMESTAMP_BITS} bits.
+ *
+ * Adding or removing partitions is expected to be rare (state transitions) and is synchronized; the arrays grow
+ * when a partition beyond the current capacity is added. A heartbeat recorded concurrently with a resize could be
+ * lost, which is fine since the next heartbeat will overwrite it anyway.
+ *
+ * Recording stays lock free: every partition has a generation, which is odd while the partition is monitored and is
+ * bumped when it's added or removed. A heartbeat only replaces a slot value it read while its generation was current,
+ * and slots written for another generation are ignored by the readers. A heartbeat whose partition changed generation
+ * while it was being written is reverted, and since the revert only matches the value stamped with the old generation,
+ * it can't clear the initial timestamp or a heartbeat written after the partition was added back.
+ */
+class HeartbeatTable {
+  static final long INACTIVE_SLOT = -1;
+
+  static final int GENERATION_BITS = 20;
+  static final int TIMESTAMP_BITS = Long.SIZE - GENERATION_BITS - 1;
+  private static final long GENERATION_MASK = (1L << GENERATION_BITS) - 1;
+
+  private final int regionCount;
+  private volatile Slots slots;
+
+  HeartbeatTable(int regionCount, int initialPartitionCount) {
+    this.regionCount = regionCount;
+    this.slots = new Slots(Math.max(initialPartitionCount, 1), regionCount);
+  }
+
+  /**
+   * Start monitoring the given partition. The given regions get initialized with {@param initialTimestamp}, the
+   * other ones stay inactive until they report a heartbeat. This is a no-op if the partition is already monitored.
+   */
+  synchronized void addPartition(int partition, int[] regionIndexesToInitialize, long initialTimestamp) {
+    ensureCapacity(partition + 1);
+    Slots currentSlots = slots;
+    int generation = currentSlots.partitionGenerations.get(partition);
+    if (isMonitored(generation)) {
+      return;
+    }
+    // Clear the leftovers of heartbeats, which were recorded while the partition wasn't monitored.
+    for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+      currentSlots.timestamps.set(slotIndex(partition, regionIndex), INACTIVE_SLOT);
+    }
+    for (int regionIndex: regionIndexesToInitialize) {
+      currentSlots.timestamps.set(slotIndex(partition, regionIndex), pack(initialTimestamp, false, generation + 1));
+    }
+    currentSlots.partitionGenerations.set(partition, generation + 1);
+  }
+
+  synchronized void removePartition(int partition) {
+    Slots currentSlots = slots;
+    if (partition >= currentSlots.partitionCapacity) {
+      return;
+    }
+    int generation = currentSlots.partitionGenerations.get(partition);
+    if (!isMonitored(generation)) {
+      return;
+    }
+    currentSlots.partitionGenerations.set(partition, generation + 1);
+    for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+      currentSlots.timestamps.set(slotIndex(partition, regionIndex), INACTIVE_SLOT);
+    }
+  }
+
+  /**
+   * Record a heartbeat for a partition. The heartbeat is ignored if the partition isn't monitored.
+   */
+  void record(int partition, int regionIndex, long timestamp, boolean isReadyToServe) {
+    Slots currentSlots = slots;
+    if (partition < 0 || partition >= currentSlots.partitionCapacity) {
+      return;
+    }
+    int generation = currentSlots.partitionGenerations.get(partition);
+    if (!isMonitored(generation)) {
+      return;
+    }
+    int index = slotIndex(partition, regionIndex);
+    long slot = pack(timestamp, isReadyToServe, generation);
+    long currentSlot;
+    do {
+      currentSlot = currentSlots.timestamps.get(index);
+      if (currentSlots.partitionGenerations.get(partition) != generation) {
+        // The current value might belong to the next time the partition is added, so it must be kept.
+        return;
+      }
+    } while (!currentSlots.timestamps.compareAndSet(index, currentSlot, slot));
+    if (currentSlots.partitionGenerations.get(partition) != generation) {
+      // The partition was removed, and maybe added back, between the last check and the write. Only this heartbeat
+      // carries its generation, so the revert can't clear a value written for the partition since then.
+      currentSlots.timestamps.compareAndSet(index, slot, INACTIVE_SLOT);
+    }
+  }
+
+  boolean isPartitionMonitored(int partition) {
+    Slots currentSlots = slots;
+    return partition >= 0 && partition < currentSlots.partitionCapacity
+        && isMonitored(currentSlots.partitionGenerations.get(partition));
+  }
+
+  private static boolean isMonitored(int generation) {
+    return (generation & 1) == 1;
+  }
+
+  private static boolean isActive(long slot, int generation) {
+    return slot != INACTIVE_SLOT && unpackGeneration(slot) == (generation & GENERATION_MASK);
+  }
+
+  /**
+   * Visit all the active slots of the monitored partitions.
+   */
+  void forEachActiveSlot(SlotVisitor visitor) {
+    Slots currentSlots = slots;
+    for (int partition = 0; partition < currentSlots.partitionCapacity; partition++) {
+      int generation = currentSlots.partitionGenerations.get(partition);
+      if (!isMonitored(generation)) {
+        continue;
+      }
+      for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+        long slot = currentSlots.timestamps.get(slotIndex(partition, regionIndex));
+        if (isActive(slot, generation)) {
+          visitor.visit(partition, regionIndex, unpackTimestamp(slot), unpackReadyToServe(slot));
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the oldest heartbeat timestamp across all the monitored partitions and regions, or {@link Long#MAX_VALUE}
+   *         if there is none.
+   */
+  long getOldestHeartbeatTimestamp() {
+    Slots currentSlots = slots;
+    long oldestTimestamp = Long.MAX_VALUE;
+    for (int partition = 0; partition < currentSlots.partitionCapacity; partition++) {
+      int generation = currentSlots.partitionGenerations.get(partition);
+      if (!isMonitored(generation)) {
+        continue;
+      }
+      for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+        long slot = currentSlots.timestamps.get(slotIndex(partition, regionIndex));
+        if (isActive(slot, generation)) {
+          oldestTimestamp = Math.min(oldestTimestamp, unpackTimestamp(slot));
+        }
+      }
+    }
+    return oldestTimestamp;
+  }
+
+  /**
+   * Build a partition -> region -> (timestamp, isReadyToServe) view of the table. The result is a copy, so it's only
+   * meant for tests and debugging purposes.
+   */
+  void snapshot(String[] regionNames, Map<Integer, Map<String, Pair<Long, Boolean>>> partitionMap) {
+    Slots currentSlots = slots;
+    for (int partition = 0; partition < currentSlots.partitionCapacity; partition++) {
+      if (isMonitored(currentSlots.partitionGenerations.get(partition))) {
+        partitionMap.computeIfAbsent(partition, p -> new HashMap<>());
+      }
+    }
+    forEachActiveSlot(
+        (partition, regionIndex, timestamp, isReadyToServe) -> partitionMap
+            .computeIfAbsent(partition, p -> new HashMap<>())
+            .put(regionNames[regionIndex], new ImmutablePair<>(timestamp, isReadyToServe)));
+  }
+
+  private void ensureCapacity(int partitionCount) {
+    Slots currentSlots = slots;
+    if (partitionCount <= currentSlots.partitionCapacity) {
+      return;
+    }
+    Slots newSlots = new Slots(Math.max(partitionCount, currentSlots.partitionCapacity * 2), regionCount);
+    for (int partition = 0; partition < currentSlots.partitionCapacity; partition++) {
+      newSlots.partitionGenerations.set(partition, currentSlots.partitionGenerations.get(partition));
+      for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+        int index = slotIndex(partition, regionIndex);
+        newSlots.timestamps.set(index, currentSlots.timestamps.get(index));
+      }
+    }
+    slots = newSlots;
+  }
+
+  private int slotIndex(int partition, int regionIndex) {
+    return partition * regionCount + regionIndex;
+  }
+
+  static long pack(long timestamp, boolean isReadyToServe, int generation) {
+    return (timestamp << (GENERATION_BITS + 1)) | ((generation & GENERATION_MASK) << 1) | (isReadyToServe ? 1 : 0);
+  }
+
+  static long unpackTimestamp(long slot) {
+    return slot >>> (GENERATION_BITS + 1);
+  }
+
+  static long unpackGeneration(long slot) {
+    return (slot >>> 1) & GENERATION_MASK;
+  }
+
+  static boolean unpackReadyToServe(long slot) {
+    return (slot & 1) == 1;
+  }
+
+  @FunctionalInterface
+  interface SlotVisitor {
+    void visit(int partition, int regionIndex, long timestamp, boolean isReadyToServe);
+  }
+
+  private static class Slots {
+    private final int partitionCapacity;
+    private final AtomicLongArray timestamps;
+    /**
+     * The generation of every partition, which is odd while the partition is monitored.
+     */
+    private final AtomicIntegerArray partitionGenerations;
+
+    private Slots(int partitionCapacity, int regionCount) {
+      this.partitionCapacity = partitionCapacity;
+      this.timestamps = new AtomicLongArray(partitionCapacity * regionCount);
+      for (int i = 0; i < timestamps.length(); i++) {
+        timestamps.set(i, INACTIVE_SLOT);
+      }
+      this.partitionGenerations = new AtomicIntegerArray(partitionCapacity);
+    }
+  }
+}
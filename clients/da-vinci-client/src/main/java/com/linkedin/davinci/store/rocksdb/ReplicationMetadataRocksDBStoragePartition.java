@@ -7,6 +7,7 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
@@ -18,6 +19,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.WriteBatch;
 
 
@@ -61,7 +63,9 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
           super.getOptions(),
           fullPathForTempSSTFileDir,
           true,
-          rocksDBServerConfig);
+          rocksDBServerConfig,
+          factory.getSstFileBuilderExecutor(),
+          factory.getSstFileBuilderPendingRunPermits());
     }
   }
 
@@ -177,6 +181,75 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * Scans at most {@code maxRecordsToScan} records of the RMD column family from {@code startKey}, and deletes the
+   * value and the RMD of every record, whose value level timestamp is older than {@code cutoffTimestamp}, in one write
+   * batch.
+   * The RMD timestamp is read from the header of the serialized RMD, without deserializing it.
+   *
+   * The records with per-field timestamps are kept, since some of their fields may still be live, and so are the
+   * chunked records, since dropping the top-level key alone would leave their chunks behind.
+   *
+   * This method is synchronized with the writes of the ingestion, so a record can't be updated between the check of
+   * its timestamp and its deletion.
+   *
+   * @param startKey the key to resume the scan from, or null to start from the first key.
+   */
+  public synchronized ExpiredRecordsSweepResult deleteExpiredRecords(
+      byte[] startKey,
+      long cutoffTimestamp,
+      int maxRecordsToScan) {
+    makeSureRocksDBIsStillOpen();
+    if (readOnly || deferredWrite) {
+      throw new VeniceException("Cannot delete expired records while database is in read-only mode or deferred-write "
+          + "mode for replica: " + replicaId);
+    }
+    int scannedRecordCount = 0;
+    int deletedRecordCount = 0;
+    byte[] nextKey = null;
+    try (RocksIterator iterator =
+        rocksDB.newIterator(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX));
+        WriteBatch writeBatch = new WriteBatch()) {
+      if (startKey == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(startKey);
+      }
+      for (; iterator.isValid(); iterator.next()) {
+        if (scannedRecordCount == maxRecordsToScan) {
+          nextKey = iterator.key();
+          break;
+        }
+        scannedRecordCount++;
+        byte[] rmdWithValueSchemaId = iterator.value();
+        if (rmdWithValueSchemaId.length <= ByteUtils.SIZE_OF_INT || ByteUtils.readInt(rmdWithValueSchemaId, 0) <= 0) {
+          // Chunked RMD, whose schema ID is negative.
+          continue;
+        }
+        long timestamp = RmdUtils.readValueLevelTimestamp(rmdWithValueSchemaId, ByteUtils.SIZE_OF_INT);
+        if (timestamp == RmdUtils.NO_VALUE_LEVEL_TIMESTAMP || timestamp >= cutoffTimestamp) {
+          continue;
+        }
+        byte[] key = iterator.key();
+        byte[] value = rocksDB.get(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        if (value != null && value.length >= ByteUtils.SIZE_OF_INT && ByteUtils.readInt(value, 0) < 0) {
+          // Chunked value, whose manifest schema ID is negative.
+          continue;
+        }
+        writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        writeBatch.delete(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key);
+        deletedRecordCount++;
+      }
+      iterator.status();
+      if (deletedRecordCount > 0) {
+        rocksDB.write(writeOptions, writeBatch);
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to delete expired records from RocksDB: " + replicaId, e);
+    }
+    return new ExpiredRecordsSweepResult(nextKey, scannedRecordCount, deletedRecordCount);
+  }
+
   @Override
   public boolean checkDatabaseIntegrity(Map<String, String> checkpointedInfo) {
     makeSureRocksDBIsStillOpen();
@@ -244,6 +317,36 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     super.drop();
   }
 
+  /**
+   * The outcome of a {@link #deleteExpiredRecords} call.
+   */
+  public static final class ExpiredRecordsSweepResult {
+    private final byte[] nextKey;
+    private final int scannedRecordCount;
+    private final int deletedRecordCount;
+
+    public ExpiredRecordsSweepResult(byte[] nextKey, int scannedRecordCount, int deletedRecordCount) {
+      this.nextKey = nextKey;
+      this.scannedRecordCount = scannedRecordCount;
+      this.deletedRecordCount = deletedRecordCount;
+    }
+
+    /**
+     * @return the key to resume the sweep from, or null if the end of the partition was reached.
+     */
+    public byte[] getNextKey() {
+      return nextKey;
+    }
+
+    public int getScannedRecordCount() {
+      return scannedRecordCount;
+    }
+
+    public int getDeletedRecordCount() {
+      return deletedRecordCount;
+    }
+  }
+
   // Visible for testing
   public String getFullPathForTempSSTFileDir() {
     return fullPathForTempSSTFileDir;
@@ -76,6 +76,24 @@ public class RocksDBServerConfig {
    */
   public static final String ROCKSDB_BLOCK_CACHE_STRICT_CAPACITY_LIMIT = "rocksdb.block.cache.strict.capacity.limit";
 
+  /**
+   * Directory of the persistent cache shared by all the RocksDB databases, which is a second tier of the block cache
+   * holding the compressed blocks evicted from the memory, usually on a local SSD when the databases sit on a slower
+   * network storage. The persistent cache is disabled if it's empty.
+   */
+  public static final String ROCKSDB_PERSISTENT_CACHE_PATH = "rocksdb.persistent.cache.path";
+
+  /**
+   * Size of the persistent cache on disk.
+   */
+  public static final String ROCKSDB_PERSISTENT_CACHE_SIZE_IN_BYTES = "rocksdb.persistent.cache.size.in.bytes";
+
+  /**
+   * If set to true, the persistent cache is tuned for NVM devices, by writing the blocks without buffering them in the
+   * memory first.
+   */
+  public static final String ROCKSDB_PERSISTENT_CACHE_OPTIMIZED_FOR_NVM = "rocksdb.persistent.cache.optimized.for.nvm";
+
   /**
    * If set to true, we will put index/filter blocks to the block cache. Otherwise, each "table reader" object will
    * pre-load index/filter block during table initialization.
@@ -213,6 +231,38 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_AUTO_TUNED_RATE_LIMITER_ENABLED = "rocksdb.auto.tuned.rate.limited.enabled";
   public static final String ROCKSDB_ATOMIC_FLUSH_ENABLED = "rocksdb.atomic.flush.enabled";
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
+
+  /**
+   * Number of threads, shared by all the partitions, which build the SST files of the batch ingestion in the
+   * background. If it's not positive, the SST files of a partition are built by the drainer thread writing to it.
+   */
+  public static final String ROCKSDB_SST_FILE_BUILDER_THREAD_POOL_SIZE = "rocksdb.sst.file.builder.thread.pool.size";
+  /**
+   * Size of the sorted runs of records, which are buffered on heap by the drainer thread and handed over to the SST
+   * file builders. Every run is written to its own SST file. Every partition ingesting batch data buffers one run being
+   * filled, on top of the pending runs bounded by {@link #ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_BYTES}.
+   */
+  public static final String ROCKSDB_SST_FILE_BUILDER_RUN_SIZE_IN_BYTES = "rocksdb.sst.file.builder.run.size.in.bytes";
+  /**
+   * Max number of runs of a partition, which are buffered or being written by the SST file builders. The drainer thread
+   * blocks on this limit, which bounds the memory buffered for every partition.
+   */
+  public static final String ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_RUNS_PER_PARTITION =
+      "rocksdb.sst.file.builder.max.pending.runs.per.partition";
+  /**
+   * Max heap, shared by all the partitions, used by the runs which are waiting for, or being written by, the SST file
+   * builders. It's accounted for in whole runs of {@link #ROCKSDB_SST_FILE_BUILDER_RUN_SIZE_IN_BYTES}, and at least one
+   * run is allowed. The drainer thread handing over a run blocks on this limit. In total, the SST file builders hold up
+   * to this budget plus one run per partition ingesting batch data on heap.
+   */
+  public static final String ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_BYTES =
+      "rocksdb.sst.file.builder.max.pending.bytes";
+  /**
+   * If set to true, the data partitions of a store version without replication metadata are stored as column families
+   * of a single database shared by the store version, instead of a database per partition. The partitions already
+   * stored in their own database keep using it.
+   */
+  public static final String ROCKSDB_PARTITION_CONSOLIDATION_ENABLED = "rocksdb.partition.consolidation.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
@@ -233,6 +283,9 @@ public class RocksDBServerConfig {
   private final boolean rocksDBSetCacheIndexAndFilterBlocks;
   private final int rocksDBBlockCacheShardBits;
   private final RocksDBBlockCacheImplementations rocksDBBlockCacheImplementation;
+  private final String rocksDBPersistentCachePath;
+  private final long rocksDBPersistentCacheSizeInBytes;
+  private final boolean rocksDBPersistentCacheOptimizedForNvm;
 
   private final long rocksDBSSTFileBlockSizeInBytes;
 
@@ -281,6 +334,11 @@ public class RocksDBServerConfig {
   private final boolean putReuseByteBufferEnabled;
   private final boolean atomicFlushEnabled;
   private final boolean separateRMDCacheEnabled;
+  private final int sstFileBuilderThreadPoolSize;
+  private final long sstFileBuilderRunSizeInBytes;
+  private final int sstFileBuilderMaxPendingRunsPerPartition;
+  private final long sstFileBuilderMaxPendingBytes;
+  private final boolean partitionConsolidationEnabled;
   private int blockBaseFormatVersion;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
@@ -322,6 +380,10 @@ public class RocksDBServerConfig {
     this.rocksDBBlockCacheStrictCapacityLimit = props.getBoolean(ROCKSDB_BLOCK_CACHE_STRICT_CAPACITY_LIMIT, false);
     this.rocksDBSetCacheIndexAndFilterBlocks = props.getBoolean(ROCKSDB_SET_CACHE_INDEX_AND_FILTER_BLOCKS, true);
     this.rocksDBBlockCacheShardBits = props.getInt(ROCKSDB_BLOCK_CACHE_SHARD_BITS, 4); // 16 shards
+    this.rocksDBPersistentCachePath = props.getString(ROCKSDB_PERSISTENT_CACHE_PATH, "");
+    this.rocksDBPersistentCacheSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_PERSISTENT_CACHE_SIZE_IN_BYTES, 64 * 1024 * 1024 * 1024L); // 64GB
+    this.rocksDBPersistentCacheOptimizedForNvm = props.getBoolean(ROCKSDB_PERSISTENT_CACHE_OPTIMIZED_FOR_NVM, false);
     // TODO : add and tune high_pri_pool_ratio to make sure most indexes stay in memory.
     // This only works properly if "cache_index_and_filter_blocks_with_high_priority" is implemented in table configs
 
@@ -398,6 +460,15 @@ public class RocksDBServerConfig {
     this.putReuseByteBufferEnabled = props.getBoolean(ROCKSDB_PUT_REUSE_BYTE_BUFFER, false);
     this.atomicFlushEnabled = props.getBoolean(ROCKSDB_ATOMIC_FLUSH_ENABLED, true);
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
+    this.sstFileBuilderThreadPoolSize = props.getInt(ROCKSDB_SST_FILE_BUILDER_THREAD_POOL_SIZE, 0);
+    this.sstFileBuilderRunSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_SST_FILE_BUILDER_RUN_SIZE_IN_BYTES, 32 * 1024 * 1024L); // 32MB
+    this.sstFileBuilderMaxPendingRunsPerPartition =
+        props.getInt(ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_RUNS_PER_PARTITION, 4);
+    this.sstFileBuilderMaxPendingBytes =
+        props.getSizeInBytes(ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_BYTES, 1024 * 1024 * 1024L); // 1GB
+
+    this.partitionConsolidationEnabled = props.getBoolean(ROCKSDB_PARTITION_CONSOLIDATION_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
 
@@ -493,6 +564,18 @@ public class RocksDBServerConfig {
     return rocksDBBlockCacheShardBits;
   }
 
+  public String getRocksDBPersistentCachePath() {
+    return rocksDBPersistentCachePath;
+  }
+
+  public long getRocksDBPersistentCacheSizeInBytes() {
+    return rocksDBPersistentCacheSizeInBytes;
+  }
+
+  public boolean isRocksDBPersistentCacheOptimizedForNvm() {
+    return rocksDBPersistentCacheOptimizedForNvm;
+  }
+
   public long getRocksDBSSTFileBlockSizeInBytes() {
     return rocksDBSSTFileBlockSizeInBytes;
   }
@@ -591,6 +674,26 @@ public class RocksDBServerConfig {
     return separateRMDCacheEnabled;
   }
 
+  public int getSstFileBuilderThreadPoolSize() {
+    return sstFileBuilderThreadPoolSize;
+  }
+
+  public long getSstFileBuilderRunSizeInBytes() {
+    return sstFileBuilderRunSizeInBytes;
+  }
+
+  public int getSstFileBuilderMaxPendingRunsPerPartition() {
+    return sstFileBuilderMaxPendingRunsPerPartition;
+  }
+
+  public long getSstFileBuilderMaxPendingBytes() {
+    return sstFileBuilderMaxPendingBytes;
+  }
+
+  public boolean isRocksDBPartitionConsolidationEnabled() {
+    return partitionConsolidationEnabled;
+  }
+
   public int getBlockBaseFormatVersion() {
     return blockBaseFormatVersion;
   }
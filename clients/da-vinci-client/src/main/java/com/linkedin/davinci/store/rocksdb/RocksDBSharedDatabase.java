@@ -0,0 +1,208 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.MutableColumnFamilyOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+
+/**
+ * A RocksDB database shared by the data partitions of a store version, in which every partition is stored in its own
+ * column family, named after the partition database name. Compared with a database per partition, the partitions share
+ * the WAL, the MANIFEST, the info log, the table cache and the background jobs of a single database, which cuts the
+ * memory and the file handles used by the hosts with many small partitions.
+ *
+ * The database is opened along with the first column family opened by a partition, with all the column families found
+ * on disk, and it's closed once the last opened column family is closed. Dropping a partition drops its column family.
+ */
+public class RocksDBSharedDatabase {
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBSharedDatabase.class);
+
+  private final String dbPath;
+  private final RocksDBThrottler rocksDBThrottler;
+
+  /**
+   * Handles of all the column families of the opened database, by column family name.
+   */
+  private final Map<String, ColumnFamilyHandle> columnFamilyHandles = new HashMap<>();
+  private final List<ColumnFamilyOptions> columnFamilyOptionsList = new ArrayList<>();
+  /**
+   * Column families, which are opened by a partition.
+   */
+  private final Set<String> openedColumnFamilies = new HashSet<>();
+  private RocksDB rocksDB;
+
+  public RocksDBSharedDatabase(String dbPath, RocksDBThrottler rocksDBThrottler) {
+    this.dbPath = dbPath;
+    this.rocksDBThrottler = rocksDBThrottler;
+  }
+
+  /**
+   * Opens the column family of a partition, which is created if it doesn't exist, along with the database if it's not
+   * opened yet. The database opens all its column families with the options of the first partition opening it, so the
+   * mutable options of the given partition, e.g. the level 0 triggers which differ between the write-only and the
+   * read-write partitions, are applied to a column family which already exists.
+   */
+  public synchronized ColumnFamilyHandle openColumnFamily(String columnFamilyName, Options options) {
+    try {
+      openDatabaseIfNeeded(options);
+      ColumnFamilyHandle columnFamilyHandle = columnFamilyHandles.get(columnFamilyName);
+      if (columnFamilyHandle == null) {
+        ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions(options);
+        columnFamilyOptionsList.add(columnFamilyOptions);
+        columnFamilyHandle =
+            rocksDB.createColumnFamily(new ColumnFamilyDescriptor(columnFamilyName.getBytes(), columnFamilyOptions));
+        columnFamilyHandles.put(columnFamilyName, columnFamilyHandle);
+        LOGGER.info("Created column family: {} in shared RocksDB: {}", columnFamilyName, dbPath);
+      } else {
+        rocksDB.setOptions(columnFamilyHandle, getMutableColumnFamilyOptions(options));
+      }
+      openedColumnFamilies.add(columnFamilyName);
+      return columnFamilyHandle;
+    } catch (RocksDBException | InterruptedException e) {
+      closeDatabaseIfUnused();
+      throw new VeniceException(
+          "Failed to open column family: " + columnFamilyName + " in shared RocksDB: " + dbPath,
+          e);
+    }
+  }
+
+  /**
+   * Closes the column family of a partition, and the database if no other column family is opened.
+   */
+  public synchronized void closeColumnFamily(String columnFamilyName) {
+    openedColumnFamilies.remove(columnFamilyName);
+    closeDatabaseIfUnused();
+  }
+
+  /**
+   * Drops the column family of a closed partition, by opening the database if needed.
+   */
+  public synchronized void dropColumnFamily(String columnFamilyName, Options options) {
+    if (!databaseExists()) {
+      return;
+    }
+    openedColumnFamilies.remove(columnFamilyName);
+    try {
+      openDatabaseIfNeeded(options);
+      ColumnFamilyHandle columnFamilyHandle = columnFamilyHandles.remove(columnFamilyName);
+      if (columnFamilyHandle != null) {
+        rocksDB.dropColumnFamily(columnFamilyHandle);
+        columnFamilyHandle.close();
+        LOGGER.info("Dropped column family: {} from shared RocksDB: {}", columnFamilyName, dbPath);
+      }
+    } catch (RocksDBException | InterruptedException e) {
+      throw new VeniceException(
+          "Failed to drop column family: " + columnFamilyName + " from shared RocksDB: " + dbPath,
+          e);
+    } finally {
+      closeDatabaseIfUnused();
+    }
+  }
+
+  public synchronized RocksDB getRocksDB() {
+    return rocksDB;
+  }
+
+  /**
+   * @return the names of the column families of the partitions, excluding the default column family.
+   */
+  public synchronized Set<String> getColumnFamilyNames() {
+    Set<String> columnFamilyNames = new HashSet<>();
+    if (rocksDB != null) {
+      columnFamilyNames.addAll(columnFamilyHandles.keySet());
+    } else if (databaseExists()) {
+      try (Options options = new Options()) {
+        for (byte[] columnFamilyName: RocksDB.listColumnFamilies(options, dbPath)) {
+          columnFamilyNames.add(new String(columnFamilyName));
+        }
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to list the column families of shared RocksDB: " + dbPath, e);
+      }
+    }
+    columnFamilyNames.remove(new String(RocksDB.DEFAULT_COLUMN_FAMILY));
+    return columnFamilyNames;
+  }
+
+  /**
+   * Removes the database from disk, which should only be called once all the partitions are dropped.
+   */
+  public synchronized void destroy() {
+    if (!openedColumnFamilies.isEmpty()) {
+      throw new VeniceException(
+          "Shared RocksDB: " + dbPath + " can't be destroyed with opened column families: " + openedColumnFamilies);
+    }
+    try (Options options = new Options()) {
+      RocksDB.destroyDB(dbPath, options);
+    } catch (RocksDBException e) {
+      LOGGER.error("Failed to destroy shared RocksDB: {}", dbPath, e);
+    }
+    FileUtils.deleteQuietly(new File(dbPath));
+    LOGGER.info("Shared RocksDB: {} was destroyed.", dbPath);
+  }
+
+  private static MutableColumnFamilyOptions getMutableColumnFamilyOptions(Options options) {
+    return MutableColumnFamilyOptions.builder()
+        .setWriteBufferSize(options.writeBufferSize())
+        .setMaxWriteBufferNumber(options.maxWriteBufferNumber())
+        .setTargetFileSizeBase(options.targetFileSizeBase())
+        .setMaxBytesForLevelBase(options.maxBytesForLevelBase())
+        .setLevel0FileNumCompactionTrigger(options.level0FileNumCompactionTrigger())
+        .setLevel0SlowdownWritesTrigger(options.level0SlowdownWritesTrigger())
+        .setLevel0StopWritesTrigger(options.level0StopWritesTrigger())
+        .build();
+  }
+
+  private boolean databaseExists() {
+    return new File(dbPath, "CURRENT").exists();
+  }
+
+  private void openDatabaseIfNeeded(Options options) throws RocksDBException, InterruptedException {
+    if (rocksDB != null) {
+      return;
+    }
+    List<byte[]> columnFamilyNames = databaseExists()
+        ? RocksDB.listColumnFamilies(options, dbPath)
+        : Collections.singletonList(RocksDB.DEFAULT_COLUMN_FAMILY);
+    List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>(columnFamilyNames.size());
+    for (byte[] columnFamilyName: columnFamilyNames) {
+      ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions(options);
+      columnFamilyOptionsList.add(columnFamilyOptions);
+      columnFamilyDescriptors.add(new ColumnFamilyDescriptor(columnFamilyName, columnFamilyOptions));
+    }
+    List<ColumnFamilyHandle> columnFamilyHandleList = new ArrayList<>(columnFamilyNames.size());
+    rocksDB = rocksDBThrottler.open(options, dbPath, columnFamilyDescriptors, columnFamilyHandleList);
+    for (int i = 0; i < columnFamilyNames.size(); i++) {
+      columnFamilyHandles.put(new String(columnFamilyNames.get(i)), columnFamilyHandleList.get(i));
+    }
+    LOGGER.info("Opened shared RocksDB: {} with {} column families", dbPath, columnFamilyNames.size());
+  }
+
+  private void closeDatabaseIfUnused() {
+    if (rocksDB == null || !openedColumnFamilies.isEmpty()) {
+      return;
+    }
+    columnFamilyHandles.values().forEach(ColumnFamilyHandle::close);
+    columnFamilyHandles.clear();
+    rocksDB.close();
+    rocksDB = null;
+    columnFamilyOptionsList.forEach(ColumnFamilyOptions::close);
+    columnFamilyOptionsList.clear();
+    LOGGER.info("Closed shared RocksDB: {}", dbPath);
+  }
+}
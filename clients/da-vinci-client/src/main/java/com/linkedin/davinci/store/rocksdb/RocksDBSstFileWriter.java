@@ -15,10 +15,16 @@ import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +42,22 @@ import org.rocksdb.SstFileReaderIterator;
 import org.rocksdb.SstFileWriter;
 
 
+/**
+ * This class builds the SST files of a partition during batch ingestion, which are ingested into the database by
+ * {@link #ingestSSTFiles} at the end of the batch ingestion.
+ *
+ * By default, the records are written to the current SST file by the thread calling {@link #put}, and the current SST
+ * file is rolled over at every {@link #sync()}. When a shared SST file builder executor is provided, the sorted input
+ * is instead split into runs of {@link RocksDBServerConfig#getSstFileBuilderRunSizeInBytes()}, each of which is
+ * written to its own SST file in the background, so that the encoding and the compression of the blocks of a partition
+ * are spread over multiple threads. Since the input is sorted, the key ranges of these SST files don't overlap, and
+ * {@link #sync()} waits for all of them to be written before checkpointing, so the SST files are numbered and
+ * checkpointed the same way in both modes.
+ *
+ * The runs are buffered on heap: every partition holds the run it is filling, plus the runs waiting for, or being
+ * written by, the SST file builders. The latter are bounded both per partition and across all the partitions, see
+ * {@link RocksDBServerConfig#ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_BYTES}.
+ */
 public class RocksDBSstFileWriter {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBSstFileWriter.class);
 
@@ -86,6 +108,36 @@ public class RocksDBSstFileWriter {
   private final Options options;
   private final boolean isRMD;
   private final RocksDBServerConfig rocksDBServerConfig;
+  /**
+   * Writes the runs to SST files in the background, or null if the records are written by the thread calling
+   * {@link #put}.
+   */
+  private final ExecutorService sstFileBuilderExecutor;
+  /**
+   * Limits the number of runs which are waiting for, or being written by, the SST file builders.
+   */
+  private final Semaphore pendingRunPermits;
+  /**
+   * Same as {@link #pendingRunPermits}, but shared by all the partitions, or null if there is no such limit.
+   */
+  private final Semaphore sharedPendingRunPermits;
+  private final List<Future<?>> pendingRuns = new ArrayList<>();
+  private SortedRun currentRun;
+  /**
+   * The last key put since {@link #open}, or null if there is none. The SST file builders only check the order of the
+   * keys within a run, so the keys put to a new run are checked against it.
+   */
+  private byte[] lastKey;
+  private long recordNumSinceLastSync = 0;
+
+  /**
+   * A contiguous range of the sorted input, which is written to its own SST file.
+   */
+  private static class SortedRun {
+    private final List<byte[]> keys = new ArrayList<>();
+    private final List<byte[]> values = new ArrayList<>();
+    private long sizeInBytes = 0;
+  }
 
   @VisibleForTesting
   protected Checkpoint createCheckpoint(RocksDB rocksDB) {
@@ -108,6 +160,52 @@ public class RocksDBSstFileWriter {
       String fullPathForTempSSTFileDir,
       boolean isRMD,
       RocksDBServerConfig rocksDBServerConfig) {
+    this(
+        storeName,
+        partitionId,
+        dbDir,
+        envOptions,
+        options,
+        fullPathForTempSSTFileDir,
+        isRMD,
+        rocksDBServerConfig,
+        null);
+  }
+
+  public RocksDBSstFileWriter(
+      String storeName,
+      int partitionId,
+      String dbDir,
+      EnvOptions envOptions,
+      Options options,
+      String fullPathForTempSSTFileDir,
+      boolean isRMD,
+      RocksDBServerConfig rocksDBServerConfig,
+      ExecutorService sstFileBuilderExecutor) {
+    this(
+        storeName,
+        partitionId,
+        dbDir,
+        envOptions,
+        options,
+        fullPathForTempSSTFileDir,
+        isRMD,
+        rocksDBServerConfig,
+        sstFileBuilderExecutor,
+        null);
+  }
+
+  public RocksDBSstFileWriter(
+      String storeName,
+      int partitionId,
+      String dbDir,
+      EnvOptions envOptions,
+      Options options,
+      String fullPathForTempSSTFileDir,
+      boolean isRMD,
+      RocksDBServerConfig rocksDBServerConfig,
+      ExecutorService sstFileBuilderExecutor,
+      Semaphore sharedPendingRunPermits) {
     this.storeName = storeName;
     this.partitionId = partitionId;
     this.envOptions = envOptions;
@@ -116,9 +214,18 @@ public class RocksDBSstFileWriter {
     this.isRMD = isRMD;
     this.lastCheckPointedSSTFileNum = isRMD ? ROCKSDB_LAST_FINISHED_RMD_SST_FILE_NO : ROCKSDB_LAST_FINISHED_SST_FILE_NO;
     this.rocksDBServerConfig = rocksDBServerConfig;
+    this.sstFileBuilderExecutor = sstFileBuilderExecutor;
+    this.pendingRunPermits = sstFileBuilderExecutor == null
+        ? null
+        : new Semaphore(Math.max(1, rocksDBServerConfig.getSstFileBuilderMaxPendingRunsPerPartition()));
+    this.sharedPendingRunPermits = sstFileBuilderExecutor == null ? null : sharedPendingRunPermits;
   }
 
   public void put(byte[] key, ByteBuffer valueBuffer) throws RocksDBException {
+    if (sstFileBuilderExecutor != null) {
+      putToCurrentRun(key, valueBuffer);
+      return;
+    }
     if (currentSSTFileWriter == null) {
       throw new VeniceException(
           "currentSSTFileWriter is null for store: " + storeName + ", partition id: " + partitionId
@@ -148,6 +255,162 @@ public class RocksDBSstFileWriter {
     ++recordNumInAllSSTFiles;
   }
 
+  private void putToCurrentRun(byte[] key, ByteBuffer valueBuffer) {
+    if (currentRun == null) {
+      throw new VeniceException(
+          "currentRun is null for store: " + storeName + ", partition id: " + partitionId
+              + ", 'beginBatchWrite' should be invoked before any write");
+    }
+    if (lastKey != null && ByteUtils.compare(key, lastKey) <= 0) {
+      throw new VeniceException(
+          "Keys must be put in strict ascending order for store: " + storeName + ", partition id: " + partitionId
+              + ", but got key: " + ByteUtils.toHexString(key) + " after key: " + ByteUtils.toHexString(lastKey));
+    }
+    // The records are buffered until they are written by the SST file builders, so they can't share any buffer with
+    // the caller.
+    byte[] value = new byte[valueBuffer.remaining()];
+    ByteUtils.extractByteArray(valueBuffer, value, 0, value.length);
+    lastKey = Arrays.copyOf(key, key.length);
+    currentRun.keys.add(lastKey);
+    currentRun.values.add(value);
+    currentRun.sizeInBytes += key.length + value.length;
+    ++recordNumSinceLastSync;
+    ++recordNumInAllSSTFiles;
+    if (currentRun.sizeInBytes >= rocksDBServerConfig.getSstFileBuilderRunSizeInBytes()) {
+      submitCurrentRun();
+    }
+  }
+
+  /**
+   * Hands the current run over to the SST file builders, after waiting for a permit if too many runs of this partition,
+   * or of all the partitions, are pending already. The permit of the partition is always acquired first.
+   */
+  private void submitCurrentRun() {
+    if (currentRun.keys.isEmpty()) {
+      return;
+    }
+    SortedRun run = currentRun;
+    currentRun = new SortedRun();
+    String fullPathForSSTFile = composeFullPathForSSTFile(currentSSTFileNo++);
+    try {
+      pendingRunPermits.acquire();
+      if (sharedPendingRunPermits != null) {
+        try {
+          sharedPendingRunPermits.acquire();
+        } catch (InterruptedException e) {
+          pendingRunPermits.release();
+          throw e;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException(
+          "Interrupted while waiting for the SST file builders for store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    }
+    try {
+      pendingRuns.add(sstFileBuilderExecutor.submit(() -> {
+        try {
+          writeSSTFile(fullPathForSSTFile, run);
+          return null;
+        } finally {
+          releasePendingRunPermits();
+        }
+      }));
+    } catch (RejectedExecutionException e) {
+      releasePendingRunPermits();
+      throw new VeniceException("Failed to submit SST file: " + fullPathForSSTFile + " to the SST file builders", e);
+    }
+  }
+
+  private void releasePendingRunPermits() {
+    if (sharedPendingRunPermits != null) {
+      sharedPendingRunPermits.release();
+    }
+    pendingRunPermits.release();
+  }
+
+  private void writeSSTFile(String fullPathForSSTFile, SortedRun run) throws RocksDBException {
+    try (SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+      sstFileWriter.open(fullPathForSSTFile);
+      for (int i = 0; i < run.keys.size(); i++) {
+        sstFileWriter.put(run.keys.get(i), run.values.get(i));
+      }
+      sstFileWriter.finish();
+    }
+  }
+
+  /**
+   * Waits for all the pending runs to be written.
+   *
+   * @throws VeniceException if any of them failed, after all of them are done.
+   */
+  private void waitForPendingRuns() {
+    VeniceException exception = null;
+    for (Future<?> pendingRun: pendingRuns) {
+      try {
+        pendingRun.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        exception = new VeniceException("Interrupted while waiting for the SST file builders", e);
+        break;
+      } catch (ExecutionException e) {
+        if (exception == null) {
+          exception = new VeniceException(
+              "Failed to build SST file for store: " + storeName + ", partition id: " + partitionId,
+              e.getCause());
+        }
+      }
+    }
+    pendingRuns.clear();
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Writes the current run, and waits for all the pending runs to be written, so that all the SST files up to the
+   * current file number are finished and can be checkpointed.
+   */
+  private void syncSortedRuns() {
+    submitCurrentRun();
+    waitForPendingRuns();
+    if (recordNumSinceLastSync == 0) {
+      if (!isRMD) {
+        LOGGER.warn(
+            "Sync gets invoked for store: {}, partition id: {}, but no record was written since the last sync",
+            storeName,
+            partitionId);
+      }
+      return;
+    }
+    int firstSSTFileNoSinceLastSync = lastFinishedSSTFileNo + 1;
+    lastFinishedSSTFileNo = currentSSTFileNo - 1;
+    List<String> fullPathsForSSTFilesSinceLastSync = new ArrayList<>();
+    for (int sstFileNo = firstSSTFileNoSinceLastSync; sstFileNo <= lastFinishedSSTFileNo; sstFileNo++) {
+      fullPathsForSSTFilesSinceLastSync.add(composeFullPathForSSTFile(sstFileNo));
+    }
+    LOGGER.info(
+        "Sync gets invoked for store: {}, partition id: {}, finished sst files: {}",
+        storeName,
+        partitionId,
+        fullPathsForSSTFilesSinceLastSync);
+    long recordNumInLastSSTFiles = recordNumSinceLastSync;
+    recordNumSinceLastSync = 0;
+
+    if (!isRMD && expectedChecksumSupplier.isPresent()) {
+      byte[] checksumToMatch = expectedChecksumSupplier.get().get();
+      long startMs = System.currentTimeMillis();
+      if (!verifyChecksum(fullPathsForSSTFilesSinceLastSync, recordNumInLastSSTFiles, checksumToMatch)) {
+        throw new VeniceChecksumException(
+            "verifyChecksum: failure. sstFiles checksum didn't match for store: " + storeName + ", partition: "
+                + partitionId + ", sstFiles: " + fullPathsForSSTFilesSinceLastSync + ", records: "
+                + recordNumInLastSSTFiles + ", latency(ms): " + LatencyUtils.getElapsedTimeFromMsToMs(startMs));
+      }
+    }
+  }
+
   /**
    * This functions checks whether there is any discrepancy between the checkpoint vs the current state.
    * If the number of SST files and the checkpoint do not match:
@@ -215,6 +478,14 @@ public class RocksDBSstFileWriter {
           "Checkpointed info and SST files in " + fullPathForTempSSTFileDir
               + " directory doesn't match for RocksDB store: " + storeName + " partition: " + partitionId);
     }
+    this.expectedChecksumSupplier = expectedChecksumSupplier;
+    if (sstFileBuilderExecutor != null) {
+      // The SST files are opened by the SST file builders.
+      currentRun = new SortedRun();
+      lastKey = null;
+      recordNumSinceLastSync = 0;
+      return;
+    }
     String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
     currentSSTFileWriter = new SstFileWriter(envOptions, options);
     try {
@@ -223,13 +494,22 @@ public class RocksDBSstFileWriter {
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to open file: " + fullPathForCurrentSSTFile + " with SstFileWriter");
     }
-    this.expectedChecksumSupplier = expectedChecksumSupplier;
   }
 
   public void close() {
     if (currentSSTFileWriter != null) {
       currentSSTFileWriter.close();
     }
+    if (sstFileBuilderExecutor != null) {
+      currentRun = null;
+      lastKey = null;
+      // Make sure that no SST file builder is still writing to the temp SST file dir of this partition.
+      try {
+        waitForPendingRuns();
+      } catch (VeniceException e) {
+        LOGGER.warn("Failed to build SST files for store: {}, partition id: {}", storeName, partitionId, e);
+      }
+    }
   }
 
   /**
@@ -241,7 +521,9 @@ public class RocksDBSstFileWriter {
       /**
        * {@link SstFileWriter#finish()} will throw exception if the current SST file is empty.
        */
-      if (recordNumInCurrentSSTFile > 0) {
+      if (sstFileBuilderExecutor != null) {
+        syncSortedRuns();
+      } else if (recordNumInCurrentSSTFile > 0) {
         currentSSTFileWriter.finish();
         lastFinishedSSTFileNo = currentSSTFileNo;
         ++currentSSTFileNo;
@@ -261,7 +543,10 @@ public class RocksDBSstFileWriter {
         if (!isRMD && expectedChecksumSupplier.isPresent()) {
           byte[] checksumToMatch = expectedChecksumSupplier.get().get();
           long startMs = System.currentTimeMillis();
-          if (!verifyChecksum(fullPathForLastFinishedSSTFile, recordNumInLastSSTFile, checksumToMatch)) {
+          if (!verifyChecksum(
+              Collections.singletonList(fullPathForLastFinishedSSTFile),
+              recordNumInLastSSTFile,
+              checksumToMatch)) {
             throw new VeniceChecksumException(
                 "verifyChecksum: failure. last sstFile checksum didn't match for store: " + storeName + ", partition: "
                     + partitionId + ", sstFile: " + fullPathForLastFinishedSSTFile + ", records: "
@@ -360,18 +645,48 @@ public class RocksDBSstFileWriter {
   }
 
   /**
-   * This function calculates checksum of all the key/value pair stored in the input sstFilePath. It then
-   * verifies if the checksum matches with the input checksumToMatch and return the result.
-   * A SstFileReader handle is used to perform bulk scan through the entire SST file. fillCache option is
+   * This function calculates checksum of all the key/value pair stored in the input sstFilePaths, in the given order.
+   * It then verifies if the checksum matches with the input checksumToMatch and return the result.
+   * A SstFileReader handle is used to perform bulk scan through every SST file. fillCache option is
    * explicitly disabled to not pollute the rocksdb internal block caches. And also implicit checksum verification
    * is disabled to reduce latency of the entire operation.
    *
-   * @param sstFilePath the full absolute path of the SST file
-   * @param expectedRecordNumInSSTFile expected number of key/value pairs in the SST File
+   * @param sstFilePaths the full absolute paths of the SST files, in the order of their key ranges
+   * @param expectedRecordNumInSSTFiles expected number of key/value pairs in all the SST Files
    * @param checksumToMatch pre-calculated checksum to match against.
-   * @return true if the sstFile checksum matches with the provided checksum.
+   * @return true if the checksum of the sstFiles matches with the provided checksum.
+   */
+  private boolean verifyChecksum(List<String> sstFilePaths, long expectedRecordNumInSSTFiles, byte[] checksumToMatch) {
+    CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+    long recordCount = 0;
+    for (String sstFilePath: sstFilePaths) {
+      recordCount += updateChecksum(sstFilePath, sstFileFinalCheckSum);
+    }
+    if (recordCount != expectedRecordNumInSSTFiles) {
+      LOGGER.error(
+          "verifyChecksum: failure. SSTFile record count does not match expected: {} actual: {}",
+          expectedRecordNumInSSTFiles,
+          recordCount);
+      return false;
+    }
+    final byte[] finalChecksum = sstFileFinalCheckSum.getCheckSum();
+    boolean result = Arrays.equals(finalChecksum, checksumToMatch);
+    if (!result) {
+      LOGGER.error(
+          "Checksum mismatch in SSTFile. recordCount: {} expectedChecksum: {}, actualChecksum: {}",
+          recordCount,
+          ByteUtils.toHexString(checksumToMatch),
+          ByteUtils.toHexString(finalChecksum));
+    }
+    return result;
+  }
+
+  /**
+   * Adds all the key/value pairs stored in the input sstFilePath to the checksum.
+   *
+   * @return the number of key/value pairs in the SST file, according to its table properties.
    */
-  private boolean verifyChecksum(String sstFilePath, long expectedRecordNumInSSTFile, byte[] checksumToMatch) {
+  private long updateChecksum(String sstFilePath, CheckSum checkSum) {
     SstFileReader sstFileReader = null;
     SstFileReaderIterator sstFileReaderIterator = null;
 
@@ -382,35 +697,14 @@ public class RocksDBSstFileWriter {
       readOptions.setVerifyChecksums(false);
       readOptions.setFillCache(false);
 
-      long actualRecordCounts = sstFileReader.getTableProperties().getNumEntries();
-      if (actualRecordCounts != expectedRecordNumInSSTFile) {
-        LOGGER.error(
-            "verifyChecksum: failure. SSTFile record count does not match expected: {} actual: {}",
-            expectedRecordNumInSSTFile,
-            actualRecordCounts);
-        return false;
-      }
-
-      long recordCount = 0;
-      CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
       sstFileReaderIterator = sstFileReader.newIterator(readOptions);
       sstFileReaderIterator.seekToFirst();
       while (sstFileReaderIterator.isValid()) {
-        sstFileFinalCheckSum.update(sstFileReaderIterator.key());
-        sstFileFinalCheckSum.update(sstFileReaderIterator.value());
+        checkSum.update(sstFileReaderIterator.key());
+        checkSum.update(sstFileReaderIterator.value());
         sstFileReaderIterator.next();
-        recordCount++;
-      }
-      final byte[] finalChecksum = sstFileFinalCheckSum.getCheckSum();
-      boolean result = Arrays.equals(finalChecksum, checksumToMatch);
-      if (!result) {
-        LOGGER.error(
-            "Checksum mismatch in SSTFile. recordCount: {} expectedChecksum: {}, actualChecksum: {}",
-            recordCount,
-            ByteUtils.toHexString(checksumToMatch),
-            ByteUtils.toHexString(finalChecksum));
       }
-      return result;
+      return sstFileReader.getTableProperties().getNumEntries();
     } catch (Exception e) {
       throw new VeniceChecksumException("Checksum mismatch in SST files.", e);
     } finally {
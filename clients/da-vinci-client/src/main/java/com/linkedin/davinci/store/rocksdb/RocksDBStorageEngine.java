@@ -42,6 +42,11 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
   private final RocksDBStorageEngineFactory factory;
   private final VeniceStoreVersionConfig storeConfig;
   private final boolean replicationMetadataEnabled;
+  /**
+   * The database shared by the data partitions, which are stored as its column families, or null if every partition
+   * has its own database.
+   */
+  private final RocksDBSharedDatabase sharedDatabase;
 
   /**
    * The cached value will be refreshed by {@link #getStoreSizeInBytes()}.
@@ -92,6 +97,19 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
       }
     }
 
+    /**
+     * The shared database is also opened when the consolidation is disabled but the shared database exists, so that the
+     * partitions stored in it are still readable.
+     */
+    String sharedDbPath = RocksDBUtils.composeSharedPartitionDbDir(this.rocksDbPath, getStoreVersionName());
+    boolean consolidationEnabled = factory.isPartitionConsolidationEnabled() && !replicationMetadataEnabled
+        && !storeConfig.isBlobTransferEnabled();
+    if (consolidationEnabled || new File(sharedDbPath).exists()) {
+      this.sharedDatabase = new RocksDBSharedDatabase(sharedDbPath, rocksDbThrottler);
+    } else {
+      this.sharedDatabase = null;
+    }
+
     // restoreStoragePartitions will create metadata partition if not exist.
     restoreStoragePartitions(storeConfig.isRestoreMetadataPartition(), storeConfig.isRestoreDataPartitions());
 
@@ -120,9 +138,17 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     HashSet<Integer> partitionIdSet = new HashSet<>();
     if (partitionDbNames != null) {
       for (String partitionDbName: partitionDbNames) {
+        if (RocksDBUtils.isSharedPartitionDbDir(partitionDbName)) {
+          continue;
+        }
         partitionIdSet.add(RocksDBUtils.parsePartitionIdFromPartitionDbName(partitionDbName));
       }
     }
+    if (sharedDatabase != null) {
+      for (String columnFamilyName: sharedDatabase.getColumnFamilyNames()) {
+        partitionIdSet.add(RocksDBUtils.parsePartitionIdFromPartitionDbName(columnFamilyName));
+      }
+    }
     return partitionIdSet;
   }
 
@@ -137,7 +163,8 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
           memoryStats,
           rocksDbThrottler,
           rocksDBServerConfig,
-          storeConfig);
+          storeConfig,
+          isStoredInSharedDatabase(storagePartitionConfig.getPartitionId()) ? sharedDatabase : null);
     } else {
       return new ReplicationMetadataRocksDBStoragePartition(
           storagePartitionConfig,
@@ -150,12 +177,28 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
     }
   }
 
+  private boolean isStoredInSharedDatabase(int partitionId) {
+    if (sharedDatabase == null || partitionId == METADATA_PARTITION_ID) {
+      return false;
+    }
+    // The partitions which already have their own database keep using it.
+    String partitionDbDir = RocksDBUtils.composePartitionDbDir(rocksDbPath, getStoreVersionName(), partitionId);
+    if (new File(partitionDbDir, "CURRENT").exists()) {
+      return false;
+    }
+    return factory.isPartitionConsolidationEnabled() || sharedDatabase.getColumnFamilyNames()
+        .contains(RocksDBUtils.getPartitionDbName(getStoreVersionName(), partitionId));
+  }
+
   @Override
   public void drop() {
     super.drop();
 
     // Whoever is in control of the metadata partition should be responsible of dropping the storage engine folder.
     if (storeConfig.isRestoreMetadataPartition()) {
+      if (sharedDatabase != null) {
+        sharedDatabase.destroy();
+      }
       // Remove store db dir
       File storeDbDir = new File(storeDbPath);
       if (storeDbDir.exists()) {
@@ -13,10 +13,12 @@ import com.linkedin.venice.exceptions.StorageInitializationException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.IngestionMode;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -26,6 +28,9 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,7 +38,10 @@ import org.rocksdb.Cache;
 import org.rocksdb.ClockCache;
 import org.rocksdb.Env;
 import org.rocksdb.HistogramType;
+import org.rocksdb.InfoLogLevel;
 import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.PersistentCache;
 import org.rocksdb.Priority;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
@@ -64,6 +72,14 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
+  /**
+   * Second tier of the block cache on disk, shared across all the RocksDB databases, or null if it's disabled.
+   */
+  private final PersistentCache persistentCache;
+  /**
+   * Native logger of {@link #persistentCache}, which has to be closed after it.
+   */
+  private final org.rocksdb.Logger persistentCacheLogger;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
   private final Optional<Statistics> aggStatistics;
 
@@ -99,6 +115,16 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
    */
   private final RateLimiter rateLimiter;
 
+  /**
+   * Builds the SST files of the batch ingestion of all the partitions in the background, or null if the SST files are
+   * built by the drainer threads.
+   */
+  private final ExecutorService sstFileBuilderExecutor;
+  /**
+   * Bounds the runs pending in {@link #sstFileBuilderExecutor} across all the partitions, one permit per run.
+   */
+  private final Semaphore sstFileBuilderPendingRunPermits;
+
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
 
@@ -166,6 +192,32 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       }
     }
 
+    String persistentCachePath = rocksDBServerConfig.getRocksDBPersistentCachePath();
+    if (persistentCachePath.isEmpty()) {
+      this.persistentCache = null;
+      this.persistentCacheLogger = null;
+    } else {
+      try (Options loggerOptions = new Options().setInfoLogLevel(InfoLogLevel.INFO_LEVEL)) {
+        this.persistentCacheLogger = new PersistentCacheLogger(loggerOptions);
+      }
+      try {
+        FileUtils.forceMkdir(new File(persistentCachePath));
+        this.persistentCache = new PersistentCache(
+            this.env,
+            persistentCachePath,
+            rocksDBServerConfig.getRocksDBPersistentCacheSizeInBytes(),
+            persistentCacheLogger,
+            rocksDBServerConfig.isRocksDBPersistentCacheOptimizedForNvm());
+      } catch (IOException | RocksDBException e) {
+        persistentCacheLogger.close();
+        throw new VeniceException("Failed to create the persistent cache in: " + persistentCachePath, e);
+      }
+      LOGGER.info(
+          "Created the persistent cache in: {} with size: {}",
+          persistentCachePath,
+          rocksDBServerConfig.getRocksDBPersistentCacheSizeInBytes());
+    }
+
     if (rocksDBServerConfig.isRocksDBStatisticsEnabled()) {
       // Ignore all the histogram types for performance concern.
       this.aggStatistics = Optional.of(new Statistics(EnumSet.allOf(HistogramType.class)));
@@ -200,6 +252,20 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
         DEFAULT_FAIRNESS,
         DEFAULT_MODE,
         rocksDBServerConfig.isAutoTunedRateLimiterEnabled());
+    int sstFileBuilderThreadPoolSize = rocksDBServerConfig.getSstFileBuilderThreadPoolSize();
+    this.sstFileBuilderExecutor = sstFileBuilderThreadPoolSize > 0
+        ? Executors
+            .newFixedThreadPool(sstFileBuilderThreadPoolSize, new DaemonThreadFactory("RocksDB-SST-file-builder"))
+        : null;
+    this.sstFileBuilderPendingRunPermits = sstFileBuilderThreadPoolSize > 0
+        ? new Semaphore(
+            (int) Math.min(
+                Integer.MAX_VALUE,
+                Math.max(
+                    1,
+                    rocksDBServerConfig.getSstFileBuilderMaxPendingBytes()
+                        / Math.max(1, rocksDBServerConfig.getSstFileBuilderRunSizeInBytes()))))
+        : null;
   }
 
   public long getMemoryLimit() {
@@ -222,6 +288,14 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return rateLimiter;
   }
 
+  public ExecutorService getSstFileBuilderExecutor() {
+    return sstFileBuilderExecutor;
+  }
+
+  public Semaphore getSstFileBuilderPendingRunPermits() {
+    return sstFileBuilderPendingRunPermits;
+  }
+
   public SstFileManager getSstFileManager() {
     return sstFileManager;
   }
@@ -237,6 +311,15 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return this.memoryLimit > 0 && serverConfig.enforceMemoryLimitInStore(storeNameWithoutVersionSuffix);
   }
 
+  /**
+   * The partitions aren't consolidated with the isolated ingestion, since the main process opens the partitions
+   * ingested by the forked process as secondary instances of their own databases.
+   */
+  public boolean isPartitionConsolidationEnabled() {
+    return rocksDBServerConfig.isRocksDBPartitionConsolidationEnabled()
+        && !IngestionMode.ISOLATED.equals(serverConfig.getIngestionMode());
+  }
+
   public Env getEnv() {
     return env;
   }
@@ -245,6 +328,10 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return rocksDBServerConfig.isUseSeparateRMDCacheEnabled() && isRMD ? sharedRMDCache : sharedCache;
   }
 
+  public PersistentCache getPersistentCache() {
+    return persistentCache;
+  }
+
   @Override
   public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
@@ -297,10 +384,17 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    if (sstFileBuilderExecutor != null) {
+      sstFileBuilderExecutor.shutdownNow();
+    }
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
     }
+    if (persistentCache != null) {
+      persistentCache.close();
+      persistentCacheLogger.close();
+    }
     writeBufferManager.close();
     rateLimiter.close();
     this.env.close();
@@ -385,4 +479,31 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   public PersistenceType getPersistenceType() {
     return PersistenceType.ROCKS_DB;
   }
+
+  /**
+   * Forwards the logs of the persistent cache, which doesn't belong to any database, to the logger of this class.
+   */
+  private static class PersistentCacheLogger extends org.rocksdb.Logger {
+    PersistentCacheLogger(Options options) {
+      super(options);
+    }
+
+    @Override
+    protected void log(InfoLogLevel infoLogLevel, String logMsg) {
+      switch (infoLogLevel) {
+        case DEBUG_LEVEL:
+          LOGGER.debug(logMsg);
+          break;
+        case INFO_LEVEL:
+        case HEADER_LEVEL:
+          LOGGER.info(logMsg);
+          break;
+        case WARN_LEVEL:
+          LOGGER.warn(logMsg);
+          break;
+        default:
+          LOGGER.error(logMsg);
+      }
+    }
+  }
 }
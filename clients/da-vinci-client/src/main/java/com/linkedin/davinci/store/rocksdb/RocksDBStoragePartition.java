@@ -1,6 +1,7 @@
 package com.linkedin.davinci.store.rocksdb;
 
 import static com.linkedin.davinci.store.AbstractStorageEngine.METADATA_PARTITION_ID;
+import static com.linkedin.davinci.store.rocksdb.RocksDBSstFileWriter.DEFAULT_COLUMN_FAMILY_INDEX;
 
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
@@ -153,6 +154,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
 
+  /**
+   * The database shared by the partitions of the store version, in which this partition is stored as a column family
+   * instead of a database of its own, or null if the partition has its own database.
+   */
+  private final RocksDBSharedDatabase sharedDatabase;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -162,6 +169,28 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       RocksDBServerConfig rocksDBServerConfig,
       List<byte[]> columnFamilyNameList,
       VeniceStoreVersionConfig storeConfig) {
+    this(
+        storagePartitionConfig,
+        factory,
+        dbDir,
+        rocksDBMemoryStats,
+        rocksDbThrottler,
+        rocksDBServerConfig,
+        columnFamilyNameList,
+        storeConfig,
+        null);
+  }
+
+  protected RocksDBStoragePartition(
+      StoragePartitionConfig storagePartitionConfig,
+      RocksDBStorageEngineFactory factory,
+      String dbDir,
+      RocksDBMemoryStats rocksDBMemoryStats,
+      RocksDBThrottler rocksDbThrottler,
+      RocksDBServerConfig rocksDBServerConfig,
+      List<byte[]> columnFamilyNameList,
+      VeniceStoreVersionConfig storeConfig,
+      RocksDBSharedDatabase sharedDatabase) {
     super(storagePartitionConfig.getPartitionId());
     this.factory = factory;
     this.rocksDBServerConfig = rocksDBServerConfig;
@@ -193,6 +222,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
     this.readOnly = storagePartitionConfig.isReadOnly();
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
+    this.sharedDatabase = sharedDatabase;
+    if (sharedDatabase != null && columnFamilyNameList.size() > 1) {
+      throw new VeniceException(
+          "Replica: " + replicaId + " in a shared database can't be opened with " + columnFamilyNameList.size()
+              + " column families");
+    }
     this.readWriteLeaderForDefaultCF = storagePartitionConfig.isReadWriteLeaderForDefaultCF();
     this.readWriteLeaderForRMDCF = storagePartitionConfig.isReadWriteLeaderForRMDCF();
     this.fullPathForPartitionDB = RocksDBUtils.composePartitionDbDir(dbDir, storeNameAndVersion, partitionId);
@@ -219,7 +254,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           options,
           fullPathForTempSSTFileDir,
           false,
-          rocksDBServerConfig);
+          rocksDBServerConfig,
+          factory.getSstFileBuilderExecutor(),
+          factory.getSstFileBuilderPendingRunPermits());
     }
 
     /**
@@ -241,13 +278,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
      */
     Runnable dbOpenRunnable = () -> {
       try {
-        if (this.readOnly) {
-          this.rocksDB = rocksDbThrottler
-              .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        } else {
-          this.rocksDB =
-              rocksDbThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-        }
+        this.rocksDB = openRocksDB();
       } catch (RocksDBException | InterruptedException e) {
         throw new VeniceException("Failed to open RocksDB for replica: " + replicaId, e);
       }
@@ -269,7 +300,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     registerDBStats();
     LOGGER.info(
         "Opened RocksDB: {} for replica: {} in {} and {} mode",
-        fullPathForPartitionDB,
+        sharedDatabase == null ? fullPathForPartitionDB : getColumnFamilyName(),
         replicaId,
         this.readOnly ? "read-only" : "read-write",
         this.deferredWrite ? "deferred write" : "non-deferred write");
@@ -283,6 +314,26 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       RocksDBThrottler rocksDbThrottler,
       RocksDBServerConfig rocksDBServerConfig,
       VeniceStoreVersionConfig storeConfig) {
+    this(
+        storagePartitionConfig,
+        factory,
+        dbDir,
+        rocksDBMemoryStats,
+        rocksDbThrottler,
+        rocksDBServerConfig,
+        storeConfig,
+        null);
+  }
+
+  public RocksDBStoragePartition(
+      StoragePartitionConfig storagePartitionConfig,
+      RocksDBStorageEngineFactory factory,
+      String dbDir,
+      RocksDBMemoryStats rocksDBMemoryStats,
+      RocksDBThrottler rocksDbThrottler,
+      RocksDBServerConfig rocksDBServerConfig,
+      VeniceStoreVersionConfig storeConfig,
+      RocksDBSharedDatabase sharedDatabase) {
     // If not specified, RocksDB inserts values into DEFAULT_COLUMN_FAMILY.
     this(
         storagePartitionConfig,
@@ -292,7 +343,22 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         rocksDbThrottler,
         rocksDBServerConfig,
         Collections.singletonList(RocksDB.DEFAULT_COLUMN_FAMILY),
-        storeConfig);
+        storeConfig,
+        sharedDatabase);
+  }
+
+  private RocksDB openRocksDB() throws RocksDBException, InterruptedException {
+    if (this.sharedDatabase != null) {
+      // The column family of the partition takes the place of the default column family.
+      columnFamilyHandleList.clear();
+      columnFamilyHandleList.add(sharedDatabase.openColumnFamily(getColumnFamilyName(), options));
+      return sharedDatabase.getRocksDB();
+    } else if (this.readOnly) {
+      return rocksDBThrottler
+          .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    } else {
+      return rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+    }
   }
 
   private void checkMemoryLimit(long memoryLimit, SstFileManager sstFileManager, String dbPath) {
@@ -398,6 +464,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
       tableConfig.setBlockSize(rocksDBServerConfig.getRocksDBSSTFileBlockSizeInBytes());
       tableConfig.setBlockCache(factory.getSharedCache(isRMD));
+      if (factory.getPersistentCache() != null) {
+        tableConfig.setPersistentCache(factory.getPersistentCache());
+      }
       tableConfig.setCacheIndexAndFilterBlocks(rocksDBServerConfig.isRocksDBSetCacheIndexAndFilterBlocks());
       tableConfig.setFormatVersion(rocksDBServerConfig.getBlockBaseFormatVersion());
       options.setTableFormatConfig(tableConfig);
@@ -441,6 +510,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return columnFamilyHandleList;
   }
 
+  private ColumnFamilyHandle getDefaultColumnFamilyHandle() {
+    return columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
+  }
+
+  private String getColumnFamilyName() {
+    return RocksDBUtils.getPartitionDbName(storeNameAndVersion, partitionId);
+  }
+
   public long getRmdByteUsage() {
     return 0;
   }
@@ -520,6 +597,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         rocksDBSstFileWriter.put(key, valueBuffer);
       } else {
         rocksDB.put(
+            getDefaultColumnFamilyHandle(),
             writeOptions,
             key,
             0,
@@ -544,7 +622,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(key);
+      return rocksDB.get(getDefaultColumnFamilyHandle(), key);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -557,7 +635,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      int size = rocksDB.get(key, valueToBePopulated.array());
+      int size = rocksDB.get(getDefaultColumnFamilyHandle(), key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
       } else if (size > valueToBePopulated.capacity()) {
@@ -566,7 +644,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
             size,
             valueToBePopulated.capacity());
         valueToBePopulated = ByteBuffer.allocate(size);
-        size = rocksDB.get(key, valueToBePopulated.array());
+        size = rocksDB.get(getDefaultColumnFamilyHandle(), key, valueToBePopulated.array());
       }
       valueToBePopulated.position(0);
       valueToBePopulated.limit(size);
@@ -588,7 +666,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
+      return rocksDB
+          .get(getDefaultColumnFamilyHandle(), keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -600,7 +679,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.multiGetAsList(keys);
+      return rocksDB.multiGetAsList(Collections.nCopies(keys.size(), getDefaultColumnFamilyHandle()), keys);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
     } finally {
@@ -613,7 +692,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
     try {
       makeSureRocksDBIsStillOpen();
-      List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(keys, values);
+      List<ByteBufferGetStatus> statusList =
+          rocksDB.multiGetByteBuffers(Collections.nCopies(keys.size(), getDefaultColumnFamilyHandle()), keys, values);
       int keyCnt = keys.size();
       int statusCnt = statusList.size();
       int valueCnt = values.size();
@@ -686,7 +766,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       makeSureRocksDBIsStillOpen();
 
       try (ReadOptions readOptions = getReadOptionsForIteration(keyPrefix);
-          RocksIterator iterator = rocksDB.newIterator(readOptions)) {
+          RocksIterator iterator = rocksDB.newIterator(getDefaultColumnFamilyHandle(), readOptions)) {
         if (keyPrefix == null) {
           iterator.seekToFirst();
         } else {
@@ -747,7 +827,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
       } else {
-        rocksDB.delete(key);
+        rocksDB.delete(getDefaultColumnFamilyHandle(), key);
       }
     } catch (RocksDBException e) {
       checkAndThrowMemoryLimitException(e);
@@ -819,9 +899,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     close();
     try {
       Options storeOptions = getStoreOptions(new StoragePartitionConfig(storeNameAndVersion, partitionId), false);
-      RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
+      if (sharedDatabase != null) {
+        sharedDatabase.dropColumnFamily(getColumnFamilyName(), storeOptions);
+      } else {
+        RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
+      }
       storeOptions.close();
-    } catch (RocksDBException e) {
+    } catch (RocksDBException | VeniceException e) {
       LOGGER.error("Failed to destroy DB for replica: {}", replicaId);
     }
     /**
@@ -848,7 +932,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     deRegisterDBStats();
     readCloseRWLock.writeLock().lock();
     try {
-      rocksDB.close();
+      if (sharedDatabase != null) {
+        sharedDatabase.closeColumnFamily(getColumnFamilyName());
+      } else {
+        rocksDB.close();
+      }
     } finally {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
@@ -871,24 +959,25 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   /**
    * Reopen the underlying RocksDB database, and this operation will unload the data cached in memory.
+   *
+   * For a partition stored in a shared database, the column family is closed and reopened, and the shared database is
+   * only reopened if no other partition has its column family opened.
    */
   @Override
   public synchronized void reopen() {
     readCloseRWLock.writeLock().lock();
     try {
       long startTimeInMs = System.currentTimeMillis();
-      rocksDB.close();
+      if (sharedDatabase != null) {
+        sharedDatabase.closeColumnFamily(getColumnFamilyName());
+      } else {
+        rocksDB.close();
+      }
       LOGGER.info(
           "RocksDB close for replica: {} took {} ms.",
           replicaId,
           LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
-      if (this.readOnly) {
-        this.rocksDB = rocksDBThrottler
-            .openReadOnly(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      } else {
-        this.rocksDB =
-            rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
-      }
+      this.rocksDB = openRocksDB();
       LOGGER.info("Reopened RocksDB for replica: {}", replicaId);
     } catch (Exception e) {
       throw new VeniceException("Failed to reopen RocksDB for replica: " + replicaId);
@@ -913,7 +1002,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
-      return rocksDB.getLongProperty(statName);
+      return rocksDB.getLongProperty(getDefaultColumnFamilyHandle(), statName);
     } catch (RocksDBException e) {
       throw new VeniceException(
           "Failed to get property value from RocksDB: " + replicaId + " for property: " + statName,
@@ -991,6 +1080,6 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   @Override
   public AbstractStorageIterator getIterator() {
-    return new RocksDBStorageIterator(rocksDB.newIterator());
+    return new RocksDBStorageIterator(rocksDB.newIterator(getDefaultColumnFamilyHandle()));
   }
 }
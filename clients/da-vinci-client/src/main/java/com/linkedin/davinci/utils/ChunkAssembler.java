@@ -1,6 +1,7 @@
 package com.linkedin.davinci.utils;
 
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -98,6 +99,30 @@ public class ChunkAssembler {
       long recordOffset,
       int readerSchemaId,
       VeniceCompressor compressor) {
+    return bufferAndAssembleRecord(
+        pubSubTopicPartition,
+        schemaId,
+        keyBytes,
+        valueBytes,
+        recordOffset,
+        readerSchemaId,
+        compressor,
+        null);
+  }
+
+  /**
+   * Same as the method above, but also hands out the chunked value manifest used to assemble the record through the
+   * given container, if any.
+   */
+  public ByteBuffer bufferAndAssembleRecord(
+      PubSubTopicPartition pubSubTopicPartition,
+      int schemaId,
+      byte[] keyBytes,
+      ByteBuffer valueBytes,
+      long recordOffset,
+      int readerSchemaId,
+      VeniceCompressor compressor,
+      ChunkedValueManifestContainer manifestContainer) {
     ByteBuffer assembledRecord = null;
 
     if (!inMemoryStorageEngine.containsPartition(pubSubTopicPartition.getPartitionNumber())) {
@@ -128,7 +153,7 @@ public class ChunkAssembler {
             readerSchemaId,
             RawBytesStoreDeserializerCache.getInstance(),
             compressor,
-            null);
+            manifestContainer);
       } catch (Exception ex) {
         // We might get an exception if we haven't persisted all the chunks for a given key. This
         // can actually happen if the client seeks to the middle of a chunked record either by
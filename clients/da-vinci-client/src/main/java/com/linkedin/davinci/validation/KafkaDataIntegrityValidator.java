@@ -9,8 +9,11 @@ import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.IntFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -90,6 +93,22 @@ public class KafkaDataIntegrityValidator {
     partitionTracker.validateMessage(type, consumerRecord, endOfPushReceived, tolerateMissingMsgs);
   }
 
+  /**
+   * Run the same DIV check as {@link #validateMessage} on a batch of messages polled from the same partition.
+   *
+   * @see PartitionTracker#validateMessages(PartitionTracker.TopicType, List, boolean, Function, BiConsumer)
+   */
+  public void validateMessages(
+      PartitionTracker.TopicType type,
+      int partition,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords,
+      boolean endOfPushReceived,
+      Function<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, Lazy<Boolean>> tolerateMissingMsgs,
+      BiConsumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, DataValidationException> exceptionHandler) {
+    PartitionTracker partitionTracker = registerPartition(partition);
+    partitionTracker.validateMessages(type, consumerRecords, endOfPushReceived, tolerateMissingMsgs, exceptionHandler);
+  }
+
   /**
    * For a given partition, find all the producers that has written to this partition and update the offsetRecord using
    * segment information. Prior to this, the state which is expired according to {@link #maxAgeInMs} will be cleared.
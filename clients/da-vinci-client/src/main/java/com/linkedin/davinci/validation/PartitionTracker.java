@@ -34,9 +34,11 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -256,6 +258,64 @@ public class PartitionTracker {
     segment.setNewSegment(false);
   }
 
+  /**
+   * Validates a batch of messages polled from this partition, with the same outcome as calling
+   * {@link #validateMessage(TopicType, PubSubMessage, boolean, Lazy)} for each of them in order. The exception of an
+   * invalid message is passed to the given handler before the next message is validated, so that the handler can
+   * update the state of the producer, e.g. by validating the message again while tolerating missing messages, or stop
+   * the validation of the rest of the batch by throwing.
+   * <p>
+   * The steady state, in which a data message continues the current segment of its producer with the next sequence
+   * number, is validated in a single pass, which looks up the segment of a producer GUID only once for a run of
+   * messages from the same producer, and skips the segment and sequence number checks which can't fail for such a
+   * message. Everything else, such as control messages, new segments, gaps and duplicates, goes through the per-message
+   * validation.
+   *
+   * @param consumerRecords the incoming Kafka messages, in the order of their offsets.
+   * @param tolerateMissingMsgs whether log compaction could potentially happen to each record.
+   * @param exceptionHandler called with each invalid message and its {@link DataValidationException}.
+   */
+  public void validateMessages(
+      TopicType type,
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords,
+      boolean endOfPushReceived,
+      Function<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, Lazy<Boolean>> tolerateMissingMsgs,
+      BiConsumer<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>, DataValidationException> exceptionHandler) {
+    VeniceConcurrentHashMap<GUID, Segment> segments = getSegments(type);
+    GUID lastProducerGUID = null;
+    Segment lastSegment = null;
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord: consumerRecords) {
+      ProducerMetadata producerMetadata = consumerRecord.getValue().getProducerMetadata();
+      GUID producerGUID = producerMetadata.getProducerGUID();
+      if (lastProducerGUID == null || !lastProducerGUID.equals(producerGUID)) {
+        lastProducerGUID = producerGUID;
+        lastSegment = segments.get(producerGUID);
+      }
+      Segment segment = lastSegment;
+      boolean steadyState = segment != null && !consumerRecord.getKey().isControlMessage()
+          && producerMetadata.getSegmentNumber() == segment.getSegmentNumber() && segment.isStarted()
+          && !segment.isNewSegment() && producerMetadata.getMessageSequenceNumber() == segment.getSequenceNumber() + 1;
+      try {
+        if (steadyState) {
+          segment.getAndIncrementSequenceNumber();
+          segment.setLastRecordProducerTimestamp(producerMetadata.getMessageTimestamp());
+          trackCheckSum(segment, consumerRecord, endOfPushReceived, tolerateMissingMsgs.apply(consumerRecord));
+          segment.setLastSuccessfulOffset(consumerRecord.getOffset());
+        } else {
+          validateMessage(type, consumerRecord, endOfPushReceived, tolerateMissingMsgs.apply(consumerRecord));
+        }
+      } catch (DataValidationException e) {
+        // The handler may replace the segment of the producer.
+        steadyState = false;
+        exceptionHandler.accept(consumerRecord, e);
+      }
+      if (!steadyState) {
+        // The per-message validation may have replaced the segment of the producer.
+        lastProducerGUID = null;
+      }
+    }
+  }
+
   /**
    * This function ensures that the segment number is either equal or greater than the previous segment
    * seen for this specific partition.
@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +19,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.blobtransfer.BlobTransferManager;
 import com.linkedin.davinci.repository.ThinClientMetaStoreBasedRepository;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -25,12 +27,14 @@ import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.blobtransfer.BlobFinder;
 import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
 import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.controllerapi.D2ControllerClient;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
 import com.linkedin.venice.kafka.protocol.Put;
@@ -73,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
@@ -304,6 +309,53 @@ public class InternalLocalBootstrappingVeniceChangelogConsumerTest {
         TEST_ROCKSDB_BLOCK_CACHE_SIZE_IN_BYTES);
   }
 
+  @Test
+  public void testStartWithBlobTransfer() throws ExecutionException, InterruptedException {
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopicPartition topicPartition_0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+    PubSubTopicPartition topicPartition_1 = new PubSubTopicPartitionImpl(versionTopic, 1);
+    doReturn(ImmutableSet.of(topicPartition_0, topicPartition_1)).when(pubSubConsumer).getAssignment();
+    doReturn(0L).when(pubSubConsumer).endOffset(topicPartition_0);
+    doReturn(0L).when(pubSubConsumer).endOffset(topicPartition_1);
+
+    StorageService mockStorageService = mock(StorageService.class);
+    AbstractStorageEngine mockStorageEngine = mock(AbstractStorageEngine.class);
+    // Partition 1 was restored from local disk, partition 0 has to be fetched from peers.
+    when(mockStorageEngine.containsPartition(0)).thenReturn(false);
+    when(mockStorageEngine.containsPartition(1)).thenReturn(true);
+    when(mockStorageService.getStorageEngine(anyString())).thenReturn(mockStorageEngine);
+    StorageMetadataService mockStorageMetadataService = mock(StorageMetadataService.class);
+    when(mockStorageMetadataService.getLastOffset(anyString(), anyInt()))
+        .thenReturn(new OffsetRecord(mock(InternalAvroSpecificSerializer.class)));
+    bootstrappingVeniceChangelogConsumer.setStorageAndMetadataService(mockStorageService, mockStorageMetadataService);
+
+    BlobTransferManager<Void> blobTransferManager = mock(BlobTransferManager.class);
+    doReturn(CompletableFuture.completedFuture(null)).when(blobTransferManager).get(anyString(), anyInt(), anyInt());
+    bootstrappingVeniceChangelogConsumer.setBlobTransferManager(blobTransferManager);
+
+    bootstrappingVeniceChangelogConsumer.start().get();
+
+    String blobStoreName = Version.parseStoreFromKafkaTopicName(localStateTopicName);
+    verify(blobTransferManager).get(blobStoreName, 1, 0);
+    verify(blobTransferManager, never()).get(blobStoreName, 1, 1);
+    verify(mockStorageService, times(1)).openStore(any(), any());
+    verify(mockStorageService, times(1)).openStoreForNewPartition(any(), eq(0), any());
+    verify(mockStorageService, times(1)).openStoreForNewPartition(any(), eq(1), any());
+  }
+
+  @Test
+  public void testBlobTransferRequiresPositivePorts() {
+    ChangelogClientConfig changelogClientConfig =
+        ChangelogClientConfig.cloneConfig(bootstrappingVeniceChangelogConsumer.getChangelogClientConfig())
+            .setBlobTransferEnabled(true)
+            .setBlobTransferPeerFinder(mock(BlobFinder.class))
+            .setBlobTransferServerPort(27015);
+    VeniceException e = Assert.expectThrows(
+        VeniceException.class,
+        () -> new InternalLocalBootstrappingVeniceChangelogConsumer<>(changelogClientConfig, pubSubConsumer, null));
+    Assert.assertTrue(e.getMessage().contains("the client port: 0"), e.getMessage());
+  }
+
   @Test
   public void testProcessRecordBytes_UpdatesBootstrapStateMap() throws IOException {
     byte[] key = "key".getBytes();
@@ -163,6 +163,12 @@ public class VeniceChangelogConsumerClientFactoryTest {
     Assert.assertNotSame(consumer, consumer1);
     Assert.assertNotSame(consumer, consumer2);
     Assert.assertNotSame(consumer1, consumer2);
+
+    // The raw batch consumer wraps the changelog consumer with the same consumer id.
+    RawBatchVeniceChangelogConsumer rawBatchConsumer1 =
+        veniceChangelogConsumerClientFactory.getRawBatchChangelogConsumer(STORE_NAME, "consumer1");
+    Assert.assertEquals(rawBatchConsumer1.getPartitionCount(), consumer1.getPartitionCount());
+    Assert.assertSame(veniceChangelogConsumerClientFactory.getChangelogConsumer(STORE_NAME, "consumer1"), consumer1);
   }
 
   private void setUpMockStoreResponse(D2ControllerClient mockControllerClient, String storeConsumer) {
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +45,7 @@ import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.rmd.RmdConstants;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
@@ -321,6 +323,203 @@ public class VeniceChangelogConsumerImplTest {
     verify(mockPubSubConsumer).close();
   }
 
+  @Test
+  public void testPollRawBatchWithParallelDecoding() throws ExecutionException, InterruptedException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    MultiSchemaResponse multiRMDSchemaResponse = mock(MultiSchemaResponse.class);
+    MultiSchemaResponse.Schema rmdSchemaFromMultiSchemaResponse = mock(MultiSchemaResponse.Schema.class);
+    doReturn(rmdSchema.toString()).when(rmdSchemaFromMultiSchemaResponse).getSchemaStr();
+    doReturn(new MultiSchemaResponse.Schema[] { rmdSchemaFromMultiSchemaResponse }).when(multiRMDSchemaResponse)
+        .getSchemas();
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumerRecordsMap =
+        new HashMap<>();
+    for (int partition = 0; partition < 2; partition++) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecordList = new ArrayList<>();
+      for (long i = 0; i < 5; i++) {
+        consumerRecordList.add(
+            constructConsumerRecord(
+                versionTopic,
+                partition,
+                "value" + partition + "_" + i,
+                "key" + partition + "_" + i,
+                Arrays.asList(i, i)));
+      }
+      consumerRecordsMap.put(new PubSubTopicPartitionImpl(versionTopic, partition), consumerRecordList);
+    }
+    // A control message which may switch topics, followed by one more record
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> lastPartitionRecords =
+        consumerRecordsMap.get(new PubSubTopicPartitionImpl(versionTopic, 1));
+    lastPartitionRecords.add(constructEndOfPushMessage(versionTopic, 1, 5L));
+    lastPartitionRecords.add(constructConsumerRecord(versionTopic, 1, "value1_5", "key1_5", Arrays.asList(5L, 5L)));
+    doReturn(consumerRecordsMap).when(mockPubSubConsumer).poll(100);
+
+    ChangelogClientConfig changelogClientConfig =
+        getChangelogClientConfig(d2ControllerClient).setViewName("").setDecodingThreadPoolSize(2);
+    Set<Thread> topicSwitchThreads = Collections.newSetFromMap(new VeniceConcurrentHashMap<>());
+    VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
+        new VeniceAfterImageConsumerImpl<String, Utf8>(changelogClientConfig, mockPubSubConsumer) {
+          @Override
+          protected boolean handleControlMessage(
+              ControlMessage controlMessage,
+              PubSubTopicPartition pubSubTopicPartition,
+              String topicSuffix,
+              byte[] key,
+              long timestamp) {
+            if (ControlMessageType.valueOf(controlMessage) == ControlMessageType.END_OF_PUSH) {
+              topicSwitchThreads.add(Thread.currentThread());
+              return false;
+            }
+            return super.handleControlMessage(controlMessage, pubSubTopicPartition, topicSuffix, key, timestamp);
+          }
+        };
+
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(mockRepository.getValueSchema(storeName, 1)).thenReturn(new SchemaEntry(1, valueSchema));
+    Mockito.when(store.getVersionOrThrow(Mockito.anyInt())).thenReturn(mockVersion);
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0, 1))).get();
+
+    ChangeEventRawBatch<String, Utf8> rawBatch =
+        new RawBatchVeniceChangelogConsumerImpl<>(veniceChangelogConsumer).pollRawBatch(100);
+    Assert.assertEquals(rawBatch.size(), 11);
+    // Control messages which may switch topics are only handled by the polling thread
+    Assert.assertEquals(topicSwitchThreads, Collections.singleton(Thread.currentThread()));
+    int[] nextIndexPerPartition = new int[2];
+    for (int i = 0; i < rawBatch.size(); i++) {
+      int partition = rawBatch.getPartition(i);
+      int index = nextIndexPerPartition[partition]++;
+      // Records of the same partition must keep their order even though partitions are decoded in parallel.
+      Assert.assertEquals(rawBatch.getKey(i), "key" + partition + "_" + index);
+      Assert.assertEquals(rawBatch.getKeyBytes(i), keySerializer.serialize("key" + partition + "_" + index));
+      Assert.assertEquals(rawBatch.getCurrentValueSchemaId(i), 1);
+      Assert.assertEquals(rawBatch.getCurrentValue(i).toString(), "value" + partition + "_" + index);
+      // Lazily deserialized values can be read more than once.
+      Assert.assertEquals(
+          rawBatch.getPubSubMessage(i).getValue().getCurrentValue().toString(),
+          "value" + partition + "_" + index);
+      Assert.assertNull(rawBatch.getPreviousValueBytes(i));
+      Assert.assertFalse(rawBatch.isDelete(i));
+    }
+    Assert.assertEquals(nextIndexPerPartition, new int[] { 5, 6 });
+
+    // The regular poll goes through the same decoding path
+    List<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>> pubSubMessages =
+        (List<PubSubMessage<String, ChangeEvent<Utf8>, VeniceChangeCoordinate>>) veniceChangelogConsumer.poll(100);
+    Assert.assertEquals(pubSubMessages.size(), 11);
+    veniceChangelogConsumer.close();
+  }
+
+  @Test
+  public void testPollRawBatchWithVersionSwapAndParallelDecoding() throws ExecutionException, InterruptedException {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+
+    PubSubConsumerAdapter mockPubSubConsumer = mock(PubSubConsumerAdapter.class);
+    doReturn(new HashSet<>()).when(mockPubSubConsumer).getAssignment();
+    PubSubTopic oldVersionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 1));
+    PubSubTopic newVersionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, 2));
+    PubSubTopic oldChangeCaptureTopic =
+        pubSubTopicRepository.getTopic(oldVersionTopic.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    PubSubTopic newChangeCaptureTopic =
+        pubSubTopicRepository.getTopic(newVersionTopic.getName() + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX);
+    Map<PubSubTopicPartition, List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> consumerRecordsMap =
+        new HashMap<>();
+    for (int partition = 0; partition < 2; partition++) {
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecordList = new ArrayList<>();
+      for (long i = 0; i < 4; i++) {
+        if (partition == 0 && i == 3) {
+          // The version swap of the first partition is followed by a record, which belongs to the old version.
+          consumerRecordList.add(
+              constructVersionSwapMessage(
+                  oldVersionTopic,
+                  oldVersionTopic,
+                  newVersionTopic,
+                  partition,
+                  Arrays.asList(i, i)));
+        }
+        consumerRecordList.add(
+            constructChangeCaptureConsumerRecord(
+                oldChangeCaptureTopic,
+                partition,
+                "oldValue" + partition + "_" + i,
+                "newValue" + partition + "_" + i,
+                "key" + partition + "_" + i,
+                Arrays.asList(i, i)));
+      }
+      consumerRecordsMap.put(new PubSubTopicPartitionImpl(oldChangeCaptureTopic, partition), consumerRecordList);
+    }
+    doReturn(consumerRecordsMap).when(mockPubSubConsumer).poll(100);
+
+    ChangelogClientConfig changelogClientConfig =
+        getChangelogClientConfig(d2ControllerClient).setViewName("changeCaptureView").setDecodingThreadPoolSize(2);
+    Set<Thread> versionSwapThreads = Collections.newSetFromMap(new VeniceConcurrentHashMap<>());
+    VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
+        new VeniceChangelogConsumerImpl<String, Utf8>(changelogClientConfig, mockPubSubConsumer) {
+          @Override
+          protected boolean handleVersionSwapControlMessage(
+              ControlMessage controlMessage,
+              PubSubTopicPartition pubSubTopicPartition,
+              String topicSuffix) {
+            if (ControlMessageType.valueOf(controlMessage) == ControlMessageType.VERSION_SWAP) {
+              versionSwapThreads.add(Thread.currentThread());
+            }
+            return super.handleVersionSwapControlMessage(controlMessage, pubSubTopicPartition, topicSuffix);
+          }
+        };
+
+    ThinClientMetaStoreBasedRepository mockRepository = mock(ThinClientMetaStoreBasedRepository.class);
+    Store store = mock(Store.class);
+    Version mockVersion = new VersionImpl(storeName, 1, "foo");
+    Mockito.when(store.getCurrentVersion()).thenReturn(1);
+    Mockito.when(store.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    Mockito.when(mockRepository.getStore(anyString())).thenReturn(store);
+    Mockito.when(store.getVersionOrThrow(Mockito.anyInt())).thenReturn(mockVersion);
+    Mockito.when(mockRepository.getValueSchema(storeName, 1)).thenReturn(new SchemaEntry(1, valueSchema));
+    veniceChangelogConsumer.setStoreRepository(mockRepository);
+    veniceChangelogConsumer.subscribe(new HashSet<>(Arrays.asList(0, 1))).get();
+
+    ChangeEventRawBatch<String, Utf8> rawBatch =
+        new RawBatchVeniceChangelogConsumerImpl<>(veniceChangelogConsumer).pollRawBatch(100);
+    // The version swap is handled by the polling thread, and only switches the topic of its own partition.
+    Assert.assertEquals(versionSwapThreads, Collections.singleton(Thread.currentThread()));
+    verify(mockPubSubConsumer)
+        .subscribe(new PubSubTopicPartitionImpl(newChangeCaptureTopic, 0), OffsetRecord.LOWEST_OFFSET);
+    verify(mockPubSubConsumer, never())
+        .subscribe(new PubSubTopicPartitionImpl(newChangeCaptureTopic, 1), OffsetRecord.LOWEST_OFFSET);
+    // The records of each partition keep their order relative to its version swap: the first partition returns the
+    // records ahead of it, and drops the rest of the poll.
+    int[] nextIndexPerPartition = new int[2];
+    for (int i = 0; i < rawBatch.size(); i++) {
+      int partition = rawBatch.getPartition(i);
+      int index = nextIndexPerPartition[partition]++;
+      Assert.assertEquals(rawBatch.getKey(i), "key" + partition + "_" + index);
+      Assert.assertEquals(rawBatch.getCurrentValue(i).toString(), "newValue" + partition + "_" + index);
+      Assert.assertEquals(rawBatch.getPreviousValue(i).toString(), "oldValue" + partition + "_" + index);
+    }
+    Assert.assertEquals(nextIndexPerPartition, new int[] { 3, 4 });
+    veniceChangelogConsumer.close();
+  }
+
   @Test
   public void testMetricReportingThread() throws InterruptedException {
     D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
@@ -362,6 +561,55 @@ public class VeniceChangelogConsumerImplTest {
     reporterThread.interrupt();
   }
 
+  @Test
+  public void testExtractOffsetVectorFromColumnarRmd() {
+    D2ControllerClient d2ControllerClient = mock(D2ControllerClient.class);
+    StoreResponse storeResponse = mock(StoreResponse.class);
+    StoreInfo storeInfo = mock(StoreInfo.class);
+    doReturn(1).when(storeInfo).getCurrentVersion();
+    doReturn(2).when(storeInfo).getPartitionCount();
+    doReturn(storeInfo).when(storeResponse).getStore();
+    doReturn(storeResponse).when(d2ControllerClient).getStore(storeName);
+    Schema columnarRmdSchema =
+        RmdSchemaGenerator.generateMetadataSchema(valueSchema, ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    MultiSchemaResponse.Schema avroRmdSchemaFromMultiSchemaResponse = new MultiSchemaResponse.Schema();
+    avroRmdSchemaFromMultiSchemaResponse.setRmdValueSchemaId(1);
+    avroRmdSchemaFromMultiSchemaResponse.setId(1);
+    avroRmdSchemaFromMultiSchemaResponse.setSchemaStr(rmdSchema.toString());
+    MultiSchemaResponse.Schema columnarRmdSchemaFromMultiSchemaResponse = new MultiSchemaResponse.Schema();
+    columnarRmdSchemaFromMultiSchemaResponse.setRmdValueSchemaId(1);
+    columnarRmdSchemaFromMultiSchemaResponse.setId(ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    columnarRmdSchemaFromMultiSchemaResponse.setSchemaStr(columnarRmdSchema.toString());
+    MultiSchemaResponse multiRMDSchemaResponse = new MultiSchemaResponse();
+    multiRMDSchemaResponse.setSchemas(
+        new MultiSchemaResponse.Schema[] { avroRmdSchemaFromMultiSchemaResponse,
+            columnarRmdSchemaFromMultiSchemaResponse });
+    doReturn(multiRMDSchemaResponse).when(d2ControllerClient).getAllReplicationMetadataSchemas(storeName);
+
+    ChangelogClientConfig changelogClientConfig = getChangelogClientConfig(d2ControllerClient).setViewName("");
+    VeniceChangelogConsumerImpl<String, Utf8> veniceChangelogConsumer =
+        new VeniceChangelogConsumerImpl<>(changelogClientConfig, mock(PubSubConsumerAdapter.class));
+
+    GenericRecord columnarRmdRecord = new GenericData.Record(columnarRmdSchema);
+    columnarRmdRecord.put(RmdConstants.TIMESTAMP_FIELD_NAME, 1L);
+    columnarRmdRecord.put(RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(1L, 2L));
+    ByteBuffer columnarRmdPayload = ByteBuffer.wrap(new ColumnarRmdCodec(columnarRmdSchema).encode(columnarRmdRecord));
+    Assert.assertEquals(
+        veniceChangelogConsumer
+            .extractOffsetVectorFromMessage(1, ColumnarRmdCodec.RMD_PROTOCOL_VERSION, columnarRmdPayload),
+        Arrays.asList(1L, 2L));
+
+    // The RMD of the other protocol versions is still decoded by Avro.
+    GenericRecord avroRmdRecord = new GenericData.Record(rmdSchema);
+    avroRmdRecord.put(RmdConstants.TIMESTAMP_FIELD_NAME, 1L);
+    avroRmdRecord.put(RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(3L, 4L));
+    RecordSerializer<GenericRecord> rmdSerializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(rmdSchema);
+    ByteBuffer avroRmdPayload = ByteBuffer.wrap(rmdSerializer.serialize(avroRmdRecord));
+    List<Long> offsetVector = veniceChangelogConsumer.extractOffsetVectorFromMessage(1, 1, avroRmdPayload);
+    Assert.assertEquals(offsetVector, Arrays.asList(3L, 4L));
+  }
+
   private void prepareChangeCaptureRecordsToBePolled(
       long startIdx,
       long endIdx,
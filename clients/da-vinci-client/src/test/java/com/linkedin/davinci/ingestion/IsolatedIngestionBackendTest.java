@@ -7,15 +7,21 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.
 import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.STOP_CONSUMPTION;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -26,6 +32,9 @@ import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
 import com.linkedin.davinci.ingestion.main.MainTopicIngestionStatus;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.davinci.stats.IsolatedIngestionHandoverStats;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceTimeoutException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
@@ -42,6 +51,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -199,6 +210,7 @@ public class IsolatedIngestionBackendTest {
     when(backend.getCompletionHandlingExecutor()).thenReturn(executor);
     when(backend.getIsolatedIngestionNotifier(any())).thenCallRealMethod();
     when(backend.getConfigLoader()).thenReturn(configLoader);
+    when(backend.getHandoverStats()).thenReturn(mock(IsolatedIngestionHandoverStats.class));
 
     String topic = "topic_v1";
     when(configLoader.getStoreConfig(topic)).thenReturn(storeVersionConfig);
@@ -223,6 +235,92 @@ public class IsolatedIngestionBackendTest {
     });
   }
 
+  @Test
+  public void testOpenCompletedPartition() {
+    IsolatedIngestionBackend backend = mock(IsolatedIngestionBackend.class);
+    VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    IsolatedIngestionHandoverStats handoverStats = mock(IsolatedIngestionHandoverStats.class);
+    String topic = "topic_v1";
+    when(storeVersionConfig.getStoreVersionName()).thenReturn(topic);
+    when(backend.openCompletedPartition(storeVersionConfig, 0)).thenCallRealMethod();
+    when(backend.openStorageEngine(storeVersionConfig)).thenReturn(storageEngine);
+    when(backend.getHandoverStats()).thenReturn(handoverStats);
+
+    // The partition is opened for reads and writes, like the resumed ingestion opens a completed partition.
+    assertTrue(backend.openCompletedPartition(storeVersionConfig, 0));
+    ArgumentCaptor<StoragePartitionConfig> configCaptor = ArgumentCaptor.forClass(StoragePartitionConfig.class);
+    verify(storageEngine).addStoragePartition(configCaptor.capture());
+    assertEquals(configCaptor.getValue().getPartitionId(), 0);
+    assertFalse(configCaptor.getValue().isWriteOnlyConfig());
+    assertFalse(configCaptor.getValue().isReadOnly());
+
+    // An open failure falls back to serving reads once the ingestion is resumed.
+    when(backend.openStorageEngine(storeVersionConfig)).thenThrow(new VeniceException("test"));
+    assertFalse(backend.openCompletedPartition(storeVersionConfig, 0));
+    verify(handoverStats).recordEarlyOpenFailure();
+  }
+
+  @Test
+  public void testIsolatedIngestionNotifierEarlyReadHandover() {
+    IsolatedIngestionBackend backend = mock(IsolatedIngestionBackend.class);
+    VeniceNotifier ingestionNotifier = mock(VeniceNotifier.class);
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    VeniceStoreVersionConfig storeVersionConfig = mock(VeniceStoreVersionConfig.class);
+    MainIngestionMonitorService mainIngestionMonitorService = mock(MainIngestionMonitorService.class);
+    IsolatedIngestionHandoverStats handoverStats = mock(IsolatedIngestionHandoverStats.class);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    when(backend.getMainIngestionMonitorService()).thenReturn(mainIngestionMonitorService);
+    when(backend.getCompletionHandlingExecutor()).thenReturn(executor);
+    when(backend.getIsolatedIngestionNotifier(any())).thenCallRealMethod();
+    when(backend.getConfigLoader()).thenReturn(configLoader);
+    when(backend.getHandoverStats()).thenReturn(handoverStats);
+    when(backend.isEarlyReadEnabled()).thenReturn(true);
+
+    String topic = "topic_v1";
+    when(configLoader.getStoreConfig(topic)).thenReturn(storeVersionConfig);
+    when(backend.isTopicPartitionHosted(eq(topic), anyInt())).thenReturn(true);
+    when(backend.openCompletedPartition(storeVersionConfig, 0)).thenReturn(true);
+    // Partition 1 fails to open early, and serves reads after the ingestion is resumed.
+    when(backend.openCompletedPartition(storeVersionConfig, 1)).thenReturn(false);
+
+    IsolatedIngestionBackend.IsolatedIngestionNotifier isolatedIngestionNotifier =
+        backend.getIsolatedIngestionNotifier(ingestionNotifier);
+    VeniceNotifier mainProcessIngestionNotifier = isolatedIngestionNotifier.getMainProcessIngestionNotifier();
+    try {
+      isolatedIngestionNotifier.completed(topic, 0, 123L, "");
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, true, () -> {
+        verify(mainIngestionMonitorService, times(1)).setVersionPartitionToLocalIngestion(topic, 0);
+      });
+      // Completion is reported before the ingestion is resumed in main process.
+      InOrder inOrder = inOrder(ingestionNotifier, backend);
+      inOrder.verify(backend).openCompletedPartition(storeVersionConfig, 0);
+      inOrder.verify(ingestionNotifier).completed(topic, 0, 123L, "");
+      inOrder.verify(backend).startConsumptionLocally(storeVersionConfig, 0);
+      verify(handoverStats, times(1)).recordReadReadyLatency(anyDouble());
+      verify(handoverStats, times(1)).recordHandoverLatency(anyDouble());
+
+      // The completion reported again by the ingestion in main process is suppressed, but only once.
+      mainProcessIngestionNotifier.completed(topic, 0, 456L, "");
+      verify(ingestionNotifier, times(1)).completed(eq(topic), eq(0), anyLong(), anyString());
+      mainProcessIngestionNotifier.completed(topic, 0, 789L, "");
+      verify(ingestionNotifier, times(1)).completed(topic, 0, 789L, "");
+
+      isolatedIngestionNotifier.completed(topic, 1, 123L, "");
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, true, () -> {
+        verify(mainIngestionMonitorService, times(1)).setVersionPartitionToLocalIngestion(topic, 1);
+      });
+      verify(backend, times(1)).startConsumptionLocally(storeVersionConfig, 1);
+      verify(ingestionNotifier, never()).completed(eq(topic), eq(1), anyLong(), anyString());
+      mainProcessIngestionNotifier.completed(topic, 1, 456L, "");
+      verify(ingestionNotifier, times(1)).completed(topic, 1, 456L, "");
+      verify(handoverStats, times(2)).recordReadReadyLatency(anyDouble());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void testBackendCanMaintainMetadataCorrectlyForDroppingPartition() {
     try (MainIngestionMonitorService monitorService = mock(MainIngestionMonitorService.class);
@@ -3,23 +3,78 @@ package com.linkedin.davinci.ingestion.isolated;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SSL_ENABLED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class IsolatedIngestionRequestClientTest {
+  private static final int TIMEOUT_IN_MS = 10000;
+
   @Test
   public void testClientReportStatus() {
+    HttpClientTransport transport = mock(HttpClientTransport.class);
+    IsolatedIngestionRequestClient client = new IsolatedIngestionRequestClient(getConfigLoader());
+    client.setHttpClientTransport(transport);
+    IngestionTaskReport report = createReport(1);
+    Assert.assertTrue(client.reportIngestionStatus(report));
+    when(transport.sendRequest(any(), any())).thenThrow(new VeniceException("test"));
+    Assert.assertFalse(client.reportIngestionStatus(report));
+  }
+
+  @Test(timeOut = 2 * TIMEOUT_IN_MS)
+  public void testClientResendsFailedAsyncReportsInOrder() throws InterruptedException {
+    DomainSocketClientTransport transport = mock(DomainSocketClientTransport.class);
+    IngestionTaskReport failedReport = createReport(1);
+    IngestionTaskReport queuedReport = createReport(2);
+    CompletableFuture<Void> failedFuture = new CompletableFuture<>();
+    failedFuture.completeExceptionally(new VeniceException("Connection closed"));
+    when(transport.sendRequestAsync(IngestionAction.REPORT, failedReport)).thenReturn(failedFuture);
+    CountDownLatch resendStarted = new CountDownLatch(1);
+    CountDownLatch resendReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      resendStarted.countDown();
+      resendReleased.await();
+      return null;
+    }).when(transport).sendRequest(IngestionAction.REPORT, failedReport);
+
+    try (IsolatedIngestionRequestClient client = new IsolatedIngestionRequestClient(getConfigLoader())) {
+      client.setDomainSocketClientTransport(transport);
+      client.reportIngestionStatusAsync(failedReport);
+      Assert.assertTrue(resendStarted.await(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS));
+      // Reported while the failed report is being resent, so it must be sent after it rather than overtake it.
+      client.reportIngestionStatusAsync(queuedReport);
+      resendReleased.countDown();
 
+      verify(transport, timeout(TIMEOUT_IN_MS)).sendRequest(IngestionAction.REPORT, queuedReport);
+      verify(transport, times(1)).sendRequestAsync(eq(IngestionAction.REPORT), any());
+      InOrder inOrder = inOrder(transport);
+      inOrder.verify(transport).sendRequest(IngestionAction.REPORT, failedReport);
+      inOrder.verify(transport).sendRequest(IngestionAction.REPORT, queuedReport);
+    }
+  }
+
+  private static VeniceConfigLoader getConfigLoader() {
     VeniceProperties properties = mock(VeniceProperties.class);
     when(properties.getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120)).thenReturn(120);
     when(properties.getBoolean(SERVER_INGESTION_ISOLATION_SSL_ENABLED, false)).thenReturn(false);
@@ -28,15 +83,14 @@ public class IsolatedIngestionRequestClientTest {
     VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
     when(configLoader.getVeniceServerConfig()).thenReturn(veniceServerConfig);
     when(configLoader.getCombinedProperties()).thenReturn(properties);
-    HttpClientTransport transport = mock(HttpClientTransport.class);
-    IsolatedIngestionRequestClient client = new IsolatedIngestionRequestClient(configLoader);
-    client.setHttpClientTransport(transport);
+    return configLoader;
+  }
+
+  private static IngestionTaskReport createReport(int partitionId) {
     IngestionTaskReport report = new IngestionTaskReport();
     report.topicName = "topic";
-    report.partitionId = 1;
+    report.partitionId = partitionId;
     report.reportType = 0;
-    Assert.assertTrue(client.reportIngestionStatus(report));
-    when(transport.sendRequest(any(), any())).thenThrow(new VeniceException("test"));
-    Assert.assertFalse(client.reportIngestionStatus(report));
+    return report;
   }
 }
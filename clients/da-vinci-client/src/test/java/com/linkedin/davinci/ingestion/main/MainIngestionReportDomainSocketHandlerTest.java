@@ -0,0 +1,140 @@
+package com.linkedin.davinci.ingestion.main;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.ingestion.DomainSocketClientTransport;
+import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class MainIngestionReportDomainSocketHandlerTest {
+  @Test
+  public void testHandlePipelinedReports() {
+    MainIngestionMonitorService ingestionMonitorService = mock(MainIngestionMonitorService.class);
+    VeniceNotifier ingestionNotifier = mock(VeniceNotifier.class);
+    when(ingestionMonitorService.getIngestionNotifier()).thenReturn(Collections.singletonList(ingestionNotifier));
+    when(ingestionMonitorService.getPushStatusNotifierList()).thenReturn(Collections.emptyList());
+    EmbeddedChannel channel =
+        new EmbeddedChannel(new MainIngestionReportDomainSocketChannelInitializer(ingestionMonitorService));
+
+    // Two reports and an unsupported action in a single write, as sent by a client which doesn't wait for responses.
+    ByteBuf requests = Unpooled.buffer();
+    writeFrame(requests, IngestionAction.REPORT, createReport(IngestionReportType.STARTED, 0));
+    writeFrame(requests, IngestionAction.HEARTBEAT, new byte[0]);
+    writeFrame(requests, IngestionAction.REPORT, createReport(IngestionReportType.END_OF_PUSH_RECEIVED, 1));
+    channel.writeInbound(requests);
+
+    verify(ingestionNotifier, times(1)).started(eq("topic"), eq(0));
+    verify(ingestionNotifier, times(1)).endOfPushReceived(anyString(), anyInt(), anyLong());
+
+    // Every request is answered in order, and the failed one doesn't close the connection.
+    ByteBuf responses = Unpooled.buffer();
+    ByteBuf outbound;
+    while ((outbound = channel.readOutbound()) != null) {
+      responses.writeBytes(outbound);
+      outbound.release();
+    }
+    byte[] expectedStatuses = { DomainSocketClientTransport.RESPONSE_STATUS_OK,
+        DomainSocketClientTransport.RESPONSE_STATUS_ERROR, DomainSocketClientTransport.RESPONSE_STATUS_OK };
+    for (byte expectedStatus: expectedStatuses) {
+      Assert.assertEquals(responses.readInt(), 1);
+      Assert.assertEquals(responses.readByte(), expectedStatus);
+    }
+    Assert.assertFalse(responses.isReadable());
+    Assert.assertTrue(channel.isActive());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testReportsThroughDomainSocketClientTransport() throws Exception {
+    if (!Epoll.isAvailable()) {
+      throw new SkipException("Epoll is not available");
+    }
+    MainIngestionMonitorService ingestionMonitorService = mock(MainIngestionMonitorService.class);
+    VeniceNotifier ingestionNotifier = mock(VeniceNotifier.class);
+    when(ingestionMonitorService.getIngestionNotifier()).thenReturn(Collections.singletonList(ingestionNotifier));
+    when(ingestionMonitorService.getPushStatusNotifierList()).thenReturn(Collections.emptyList());
+    String socketPath = new File(Utils.getTempDataDirectory(), "report.sock").getAbsolutePath();
+    EventLoopGroup serverEventLoopGroup = new EpollEventLoopGroup(1);
+    ChannelFuture serverFuture = null;
+    try {
+      ServerBootstrap serverBootstrap = new ServerBootstrap().group(serverEventLoopGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new MainIngestionReportDomainSocketChannelInitializer(ingestionMonitorService));
+      serverFuture = MainIngestionMonitorService.bindReportDomainSocket(serverBootstrap, socketPath);
+      // Only the owner may connect to the socket.
+      Assert.assertEquals(
+          Files.getPosixFilePermissions(Paths.get(socketPath)),
+          PosixFilePermissions.fromString("rw-------"));
+
+      try (DomainSocketClientTransport transport = new DomainSocketClientTransport(socketPath, 10)) {
+        transport.sendRequest(IngestionAction.REPORT, createReportRecord(IngestionReportType.STARTED, 0));
+        verify(ingestionNotifier, times(1)).started(eq("topic"), eq(0));
+
+        // Pipelined reports are all handled and answered.
+        CompletableFuture<Void> firstResponse = transport
+            .sendRequestAsync(IngestionAction.REPORT, createReportRecord(IngestionReportType.END_OF_PUSH_RECEIVED, 1));
+        CompletableFuture<Void> secondResponse = transport
+            .sendRequestAsync(IngestionAction.REPORT, createReportRecord(IngestionReportType.END_OF_PUSH_RECEIVED, 2));
+        CompletableFuture.allOf(firstResponse, secondResponse).get(10, TimeUnit.SECONDS);
+        verify(ingestionNotifier, times(2)).endOfPushReceived(anyString(), anyInt(), anyLong());
+      }
+    } finally {
+      if (serverFuture != null) {
+        serverFuture.channel().close().sync();
+      }
+      serverEventLoopGroup.shutdownGracefully();
+    }
+  }
+
+  private static IngestionTaskReport createReportRecord(IngestionReportType reportType, int partitionId) {
+    IngestionTaskReport report = new IngestionTaskReport();
+    report.reportType = reportType.getValue();
+    report.isPositive = true;
+    report.topicName = "topic";
+    report.partitionId = partitionId;
+    report.message = "";
+    return report;
+  }
+
+  private static byte[] createReport(IngestionReportType reportType, int partitionId) {
+    return AvroProtocolDefinition.INGESTION_TASK_REPORT.getSerializer()
+        .serialize(null, createReportRecord(reportType, partitionId));
+  }
+
+  private static void writeFrame(ByteBuf buffer, IngestionAction action, byte[] payload) {
+    buffer.writeInt(1 + payload.length);
+    buffer.writeByte(action.ordinal());
+    buffer.writeBytes(payload);
+  }
+}
@@ -18,6 +18,28 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
+  private static class GroupedMeasurableObject extends MeasurableObject {
+    private final String group;
+    private final boolean isPriority;
+
+    GroupedMeasurableObject(String group, boolean isPriority) {
+      this.group = group;
+      this.isPriority = isPriority;
+    }
+  }
+
+  private static final int GROUPED_OBJECT_SIZE =
+      MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE;
+
+  private static MemoryBoundBlockingQueue<GroupedMeasurableObject> createFairQueue(int objectCapacity, int reserved) {
+    return new MemoryBoundBlockingQueue<>(
+        objectCapacity * GROUPED_OBJECT_SIZE,
+        GROUPED_OBJECT_SIZE,
+        o -> o.group,
+        o -> o.isPriority,
+        reserved * GROUPED_OBJECT_SIZE);
+  }
+
   @Test
   public void testPut() throws InterruptedException {
     int memoryCap = 5000;
@@ -117,4 +139,104 @@ public class MemoryBoundBlockingQueueTest {
       TestUtils.shutdownThread(t);
     }
   }
+
+  @Test(timeOut = 10000)
+  public void testFairAdmission() throws InterruptedException {
+    MemoryBoundBlockingQueue<GroupedMeasurableObject> queue = createFairQueue(10, 0);
+    for (int i = 0; i < 5; ++i) {
+      queue.put(new GroupedMeasurableObject("a", true));
+    }
+    queue.put(new GroupedMeasurableObject("b", true));
+
+    // Group "a" has used its share, and the remaining memory is needed by group "b" to reach its own share.
+    Thread t = new Thread(() -> {
+      try {
+        queue.put(new GroupedMeasurableObject("a", true));
+      } catch (InterruptedException e) {
+        // Expected
+      }
+    });
+    t.start();
+    try {
+      Thread.sleep(50);
+      Assert.assertTrue(t.isAlive());
+      Assert.assertEquals(queue.size(), 6);
+
+      // Group "b" can still use its share even if "a" keeps trying to add records.
+      for (int i = 0; i < 4; ++i) {
+        queue.put(new GroupedMeasurableObject("b", true));
+      }
+      Assert.assertEquals(queue.getGroupMemoryUsage("a"), 5 * GROUPED_OBJECT_SIZE);
+      Assert.assertEquals(queue.getGroupMemoryUsage("b"), 5 * GROUPED_OBJECT_SIZE);
+      Assert.assertEquals(queue.remainingMemoryCapacityInByte(), 0);
+
+      // Draining one record of "a" lets "a" back in.
+      Assert.assertEquals(queue.take().group, "a");
+      t.join();
+      Assert.assertEquals(queue.size(), 10);
+      Assert.assertEquals(queue.getGroupMemoryUsage("a"), 5 * GROUPED_OBJECT_SIZE);
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test(timeOut = 10000)
+  public void testFairAdmissionReclaimsBorrowedMemory() throws InterruptedException {
+    MemoryBoundBlockingQueue<GroupedMeasurableObject> queue = createFairQueue(10, 0);
+    // A group alone in the queue can borrow the share of the idle groups.
+    for (int i = 0; i < 8; ++i) {
+      queue.put(new GroupedMeasurableObject("a", true));
+    }
+    // Another group is still admitted once it shows up, as long as there is memory left.
+    queue.put(new GroupedMeasurableObject("b", true));
+    queue.put(new GroupedMeasurableObject("b", true));
+    Assert.assertEquals(queue.remainingMemoryCapacityInByte(), 0);
+
+    Thread t = new Thread(() -> {
+      try {
+        queue.put(new GroupedMeasurableObject("a", true));
+      } catch (InterruptedException e) {
+        // Expected
+      }
+    });
+    t.start();
+    try {
+      // The memory freed by "a" goes to "b" until "b" reaches its share.
+      for (int i = 0; i < 3; ++i) {
+        Assert.assertEquals(queue.take().group, "a");
+        queue.put(new GroupedMeasurableObject("b", true));
+      }
+      Thread.sleep(50);
+      Assert.assertTrue(t.isAlive());
+      Assert.assertEquals(queue.getGroupMemoryUsage("a"), 5 * GROUPED_OBJECT_SIZE);
+      Assert.assertEquals(queue.getGroupMemoryUsage("b"), 5 * GROUPED_OBJECT_SIZE);
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test(timeOut = 10000)
+  public void testPriorityReservedCapacity() throws InterruptedException {
+    MemoryBoundBlockingQueue<GroupedMeasurableObject> queue = createFairQueue(10, 2);
+    for (int i = 0; i < 8; ++i) {
+      queue.put(new GroupedMeasurableObject("a", false));
+    }
+    // The reserved capacity can be used by prioritized records only.
+    queue.put(new GroupedMeasurableObject("b", true));
+    Thread t = new Thread(() -> {
+      try {
+        queue.put(new GroupedMeasurableObject("c", false));
+      } catch (InterruptedException e) {
+        // Expected
+      }
+    });
+    t.start();
+    try {
+      Thread.sleep(50);
+      Assert.assertTrue(t.isAlive());
+      Assert.assertEquals(queue.size(), 9);
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
 }
@@ -8,6 +8,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
@@ -16,6 +17,7 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.mockito.Mockito;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 
@@ -31,10 +33,14 @@ public class RmdSerDeTest {
       + "      { \"name\" : \"PetNameToAge\" , \"type\" : [\"null\" , {\"type\" : \"map\", \"values\" : \"int\"}], \"default\" : null }"
       + "   ]" + "}";
 
-  @Test
-  public void testSerDeRmd() {
+  @DataProvider(name = "rmdVersionIds")
+  public static Object[][] rmdVersionIds() {
+    return new Object[][] { { 1 }, { ColumnarRmdCodec.RMD_PROTOCOL_VERSION } };
+  }
+
+  @Test(dataProvider = "rmdVersionIds")
+  public void testSerDeRmd(int rmdVersionID) {
     final int valueSchemaID = 1214;
-    final int rmdVersionID = 1;
     final String storeName = "test_store_name";
     // Generate RMD schema and record from value schema.
     Schema valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA_STR);
@@ -3,11 +3,13 @@ package com.linkedin.davinci.replication.merge;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
 import static com.linkedin.venice.schema.rmd.RmdUtils.getRmdTimestampType;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
 import com.linkedin.davinci.replication.RmdWithValueSchemaId;
 import com.linkedin.davinci.replication.merge.helper.utils.ValueAndDerivedSchemas;
+import com.linkedin.davinci.utils.IndexedHashMap;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
@@ -15,8 +17,13 @@ import com.linkedin.venice.schema.rmd.RmdTimestampType;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -101,6 +108,143 @@ public class TestMergePutWithFieldLevelTimestamp extends TestMergeConflictResolv
     Assert.assertEquals(((GenericRecord) timestampObject).get("age"), 11L);
   }
 
+  @Test
+  public void testBinaryMergeMatchesRecordMerge() {
+    ValueAndDerivedSchemas schemas = new ValueAndDerivedSchemas(storeName, 1, "avro/BinaryMergeValue.avsc");
+    Schema valueSchema = schemas.getValueSchema();
+    Schema rmdSchema = schemas.getRmdSchema();
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(1, valueSchema)).when(schemaRepository).getValueSchema(storeName, 1);
+    StringAnnotatedStoreSchemaCache stringAnnotatedStoreSchemaCache =
+        new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
+    RmdSerDe rmdSerDe = new RmdSerDe(stringAnnotatedStoreSchemaCache, RMD_VERSION_ID);
+    MergeConflictResolver recordMergeConflictResolver = MergeConflictResolverFactory.getInstance()
+        .createMergeConflictResolver(stringAnnotatedStoreSchemaCache, rmdSerDe, storeName, true, true, false);
+    MergeConflictResolver binaryMergeConflictResolver = MergeConflictResolverFactory.getInstance()
+        .createMergeConflictResolver(stringAnnotatedStoreSchemaCache, rmdSerDe, storeName, true, true, true);
+
+    IndexedHashMap<String, String> oldAttributes = new IndexedHashMap<>();
+    oldAttributes.put("k1", "v1");
+    oldAttributes.put("k2", "v2");
+    GenericRecord oldValueRecord = createBinaryMergeValue(
+        valueSchema,
+        "123",
+        30,
+        null,
+        "ACTIVE",
+        new byte[] { 1, 2, 3, 4 },
+        "Main St",
+        Arrays.asList("a", "b"),
+        oldAttributes,
+        null);
+    byte[] oldValueBytes = getSerializer(valueSchema).serialize(oldValueRecord);
+    IndexedHashMap<String, String> newAttributes = new IndexedHashMap<>();
+    newAttributes.put("k3", "v3");
+    GenericRecord newValueRecord = createBinaryMergeValue(
+        valueSchema,
+        "456",
+        40,
+        9.5,
+        "INACTIVE",
+        new byte[] { 5, 6, 7, 8 },
+        "Broadway",
+        Collections.singletonList("c"),
+        newAttributes,
+        Arrays.asList("x", "y", "z"));
+    byte[] newValueBytes = getSerializer(valueSchema).serialize(newValueRecord);
+
+    /**
+     * "tags" and "nullableTags" are in the put-only state, while "attributes" is in the collection-merge state, with
+     * its second entry updated at 50.
+     */
+    Map<String, Long> fieldNameToTimestampMap = new HashMap<>();
+    fieldNameToTimestampMap.put("id", 10L);
+    fieldNameToTimestampMap.put("age", 20L);
+    fieldNameToTimestampMap.put("score", 30L);
+    fieldNameToTimestampMap.put("status", 40L);
+    fieldNameToTimestampMap.put("hash", 50L);
+    fieldNameToTimestampMap.put("address", 60L);
+    fieldNameToTimestampMap.put("tags", 25L);
+    fieldNameToTimestampMap.put("attributes", 45L);
+    fieldNameToTimestampMap.put("nullableTags", 65L);
+    fieldNameToTimestampMap.put("active", 70L);
+    Map<String, Integer> fieldNameToPutOnlyPartLengthMap = new HashMap<>();
+    fieldNameToPutOnlyPartLengthMap.put("tags", 2);
+    fieldNameToPutOnlyPartLengthMap.put("attributes", 1);
+    Supplier<GenericRecord> rmdRecordSupplier = () -> {
+      GenericRecord rmdRecord =
+          createRmdWithFieldLevelTimestamp(rmdSchema, fieldNameToTimestampMap, fieldNameToPutOnlyPartLengthMap);
+      GenericRecord attributesTimestampRecord =
+          (GenericRecord) ((GenericRecord) rmdRecord.get(TIMESTAMP_FIELD_POS)).get("attributes");
+      attributesTimestampRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>(Collections.singletonList(50L)));
+      return rmdRecord;
+    };
+
+    /**
+     * Ignored, partially applied (with a collection field tied with the PUT), tied with a regular field, tied with a
+     * collection field in the collection-merge state and fully applied puts. The ties fall back to the record merge.
+     */
+    long[] putTimestamps = { 5L, 15L, 20L, 25L, 35L, 45L, 55L, 80L };
+    boolean[] binaryMerged = { false, true, false, true, true, false, false, false };
+    BinaryRecordMerger binaryRecordMerger = new BinaryRecordMerger(valueSchema);
+    for (int t = 0; t < putTimestamps.length; t++) {
+      long putTimestamp = putTimestamps[t];
+      GenericRecord timestampRecord = (GenericRecord) rmdRecordSupplier.get().get(TIMESTAMP_FIELD_POS);
+      ByteBuffer binaryMergedValue = binaryRecordMerger
+          .put(ByteBuffer.wrap(oldValueBytes), ByteBuffer.wrap(newValueBytes), timestampRecord, putTimestamp, 0);
+      Assert.assertEquals(binaryMergedValue != null, binaryMerged[t], "Put timestamp: " + putTimestamp);
+
+      MergeConflictResult[] results = new MergeConflictResult[2];
+      MergeConflictResolver[] resolvers = { recordMergeConflictResolver, binaryMergeConflictResolver };
+      for (int i = 0; i < resolvers.length; i++) {
+        results[i] = resolvers[i].put(
+            Lazy.of(() -> ByteBuffer.wrap(oldValueBytes)),
+            new RmdWithValueSchemaId(1, RMD_VERSION_ID, rmdRecordSupplier.get()),
+            ByteBuffer.wrap(newValueBytes),
+            putTimestamp,
+            1,
+            1L,
+            0,
+            0);
+      }
+      Assert.assertEquals(results[1].isUpdateIgnored(), results[0].isUpdateIgnored());
+      if (results[0].isUpdateIgnored()) {
+        continue;
+      }
+      Assert.assertEquals(results[1].getNewValue(), results[0].getNewValue(), "Put timestamp: " + putTimestamp);
+      Assert.assertEquals(results[1].getValueSchemaId(), results[0].getValueSchemaId());
+      Assert.assertEquals(results[1].getRmdRecord(), results[0].getRmdRecord(), "Put timestamp: " + putTimestamp);
+    }
+  }
+
+  private static GenericRecord createBinaryMergeValue(
+      Schema valueSchema,
+      String id,
+      int age,
+      Double score,
+      String status,
+      byte[] hash,
+      String street,
+      List<String> tags,
+      IndexedHashMap<String, String> attributes,
+      List<String> nullableTags) {
+    GenericRecord address = new GenericData.Record(valueSchema.getField("address").schema());
+    address.put("street", street);
+    address.put("zip", null);
+    GenericRecord valueRecord = new GenericData.Record(valueSchema);
+    valueRecord.put("id", id);
+    valueRecord.put("age", age);
+    valueRecord.put("score", score);
+    valueRecord.put("status", new GenericData.EnumSymbol(valueSchema.getField("status").schema(), status));
+    valueRecord.put("hash", new GenericData.Fixed(valueSchema.getField("hash").schema(), hash));
+    valueRecord.put("address", address);
+    valueRecord.put("tags", tags);
+    valueRecord.put("attributes", attributes);
+    valueRecord.put("nullableTags", nullableTags);
+    valueRecord.put("active", true);
+    return valueRecord;
+  }
+
   @Test
   public void testPutWithFieldLevelTimestamp() {
 
@@ -14,13 +14,16 @@ import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.rmd.RmdConstants;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
 import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -312,6 +315,151 @@ public class CollectionMergeTest {
     Assert.assertEquals(updatedMap, Arrays.asList("key1", "key2", "key4", "key3"));
   }
 
+  @Test
+  public void testIncrementalCollectionMergeMapOpMatchesSortBasedMerge() {
+    SortBasedCollectionFieldOpHandler incrementalHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, 0);
+    SortBasedCollectionFieldOpHandler sortBasedHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, Integer.MAX_VALUE);
+    Schema.Field mapField = VALUE_SCHEMA.getField(NULLABLE_MAP_FIELD_NAME);
+    for (int seed = 0; seed < 500; seed++) {
+      GenericRecord incrementalValueRecord = new GenericData.Record(VALUE_SCHEMA);
+      CollectionRmdTimestamp<String> incrementalRmd =
+          createRandomCollectionMergeMap(new Random(seed), incrementalValueRecord);
+      GenericRecord sortBasedValueRecord = new GenericData.Record(VALUE_SCHEMA);
+      CollectionRmdTimestamp<String> sortBasedRmd =
+          createRandomCollectionMergeMap(new Random(seed), sortBasedValueRecord);
+
+      /**
+       * The modify timestamps collide with the existing timestamps, so that ties are covered as well. The later
+       * modifies are applied to the same records in memory, whose order is already known, and are mostly later than
+       * all the remaining entries, so that they are appended in place.
+       */
+      Random random = new Random(-seed);
+      for (int step = 0; step < 3; step++) {
+        long modifyTimestamp = 11 + random.nextInt(20) + step * 10;
+        Map<String, Object> newEntries = new HashMap<>();
+        List<String> toRemoveKeys = new ArrayList<>();
+        for (int i = random.nextInt(10); i > 0; i--) {
+          newEntries.put("key" + random.nextInt(60), random.nextInt(3));
+        }
+        for (int i = random.nextInt(10); i > 0; i--) {
+          toRemoveKeys.add("key" + random.nextInt(60));
+        }
+
+        UpdateResultStatus incrementalResult = incrementalHandler.handleModifyMap(
+            modifyTimestamp,
+            incrementalRmd,
+            incrementalValueRecord,
+            mapField,
+            new HashMap<>(newEntries),
+            new ArrayList<>(toRemoveKeys));
+        UpdateResultStatus sortBasedResult = sortBasedHandler.handleModifyMap(
+            modifyTimestamp,
+            sortBasedRmd,
+            sortBasedValueRecord,
+            mapField,
+            new HashMap<>(newEntries),
+            new ArrayList<>(toRemoveKeys));
+
+        String message = "Seed: " + seed + ", step: " + step;
+        Assert.assertEquals(incrementalResult, sortBasedResult, message);
+        Assert.assertEquals(
+            new ArrayList<>(((Map<String, Object>) incrementalValueRecord.get(NULLABLE_MAP_FIELD_NAME)).entrySet()),
+            new ArrayList<>(((Map<String, Object>) sortBasedValueRecord.get(NULLABLE_MAP_FIELD_NAME)).entrySet()),
+            message);
+        Assert.assertEquals(incrementalRmd, sortBasedRmd, message);
+      }
+    }
+  }
+
+  @Test
+  public void testIncrementalCollectionMergeMapOpAppendsInPlace() {
+    SortBasedCollectionFieldOpHandler handler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, 0);
+    Schema.Field mapField = VALUE_SCHEMA.getField(NULLABLE_MAP_FIELD_NAME);
+    GenericRecord valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    CollectionRmdTimestamp<String> collectionRmd = createRandomCollectionMergeMap(new Random(0), valueRecord);
+
+    // The first modify on the record copies the active timestamps, and the next ones append to them in place.
+    Map<String, Object> newEntries = new HashMap<>();
+    newEntries.put("new1", 1);
+    handler.handleModifyMap(31L, collectionRmd, valueRecord, mapField, newEntries, new ArrayList<>());
+    List<Long> activeTimestamps = collectionRmd.getActiveElementTimestamps();
+    newEntries = new HashMap<>();
+    newEntries.put("new2", 2);
+    handler.handleModifyMap(32L, collectionRmd, valueRecord, mapField, newEntries, new ArrayList<>());
+    newEntries = new HashMap<>();
+    newEntries.put("new1", 3);
+    handler.handleModifyMap(33L, collectionRmd, valueRecord, mapField, newEntries, new ArrayList<>());
+    Assert.assertSame(collectionRmd.getActiveElementTimestamps(), activeTimestamps);
+
+    IndexedHashMap<String, Object> map = (IndexedHashMap<String, Object>) valueRecord.get(NULLABLE_MAP_FIELD_NAME);
+    int activeCount = activeTimestamps.size();
+    Assert.assertEquals(activeTimestamps.subList(activeCount - 2, activeCount), Arrays.asList(32L, 33L));
+    Assert.assertEquals(map.getByIndex(map.size() - 2).getKey(), "new2");
+    Assert.assertEquals(map.getByIndex(map.size() - 1).getKey(), "new1");
+    Assert.assertEquals(map.get("new1"), 3);
+  }
+
+  /**
+   * Creates a map in the collection-merge state with a top-level timestamp of 10, and active and deleted entries with
+   * timestamps in [11, 30], both sorted by timestamp and then by key.
+   */
+  private CollectionRmdTimestamp<String> createRandomCollectionMergeMap(Random random, GenericRecord valueRecord) {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      keys.add("key" + i);
+    }
+    Collections.shuffle(keys, random);
+    int putOnlyPartLength = random.nextInt(5);
+    int activeCount = 1 + random.nextInt(30);
+    int deletedCount = random.nextInt(10);
+
+    List<Map.Entry<String, Long>> activeEntries = new ArrayList<>();
+    for (String key: keys.subList(putOnlyPartLength, putOnlyPartLength + activeCount)) {
+      activeEntries.add(new AbstractMap.SimpleEntry<>(key, 11L + random.nextInt(20)));
+    }
+    List<Map.Entry<String, Long>> deletedEntries = new ArrayList<>();
+    int deletedStart = putOnlyPartLength + activeCount;
+    for (String key: keys.subList(deletedStart, deletedStart + deletedCount)) {
+      deletedEntries.add(new AbstractMap.SimpleEntry<>(key, 11L + random.nextInt(20)));
+    }
+    Comparator<Map.Entry<String, Long>> timestampAndKeyComparator =
+        Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+    activeEntries.sort(timestampAndKeyComparator);
+    deletedEntries.sort(timestampAndKeyComparator);
+
+    IndexedHashMap<String, Object> mapValue = new IndexedHashMap<>();
+    for (String key: keys.subList(0, putOnlyPartLength)) {
+      mapValue.put(key, random.nextInt(3));
+    }
+    List<Long> activeTimestamps = new ArrayList<>();
+    for (Map.Entry<String, Long> activeEntry: activeEntries) {
+      mapValue.put(activeEntry.getKey(), random.nextInt(3));
+      activeTimestamps.add(activeEntry.getValue());
+    }
+    List<Object> deletedKeys = new ArrayList<>();
+    List<Long> deletedTimestamps = new ArrayList<>();
+    for (Map.Entry<String, Long> deletedEntry: deletedEntries) {
+      deletedKeys.add(deletedEntry.getKey());
+      deletedTimestamps.add(deletedEntry.getValue());
+    }
+    valueRecord.put(NULLABLE_MAP_FIELD_NAME, mapValue);
+
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.STRING));
+    collectionTimestampBuilder.setTopLevelTimestamps(10L);
+    collectionTimestampBuilder.setTopLevelColoID(1);
+    collectionTimestampBuilder.setPutOnlyPartLength(putOnlyPartLength);
+    collectionTimestampBuilder.setActiveElementsTimestamps(activeTimestamps);
+    collectionTimestampBuilder.setDeletedElementTimestamps(deletedTimestamps);
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.STRING), deletedKeys);
+    collectionTimestampBuilder
+        .setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(NULLABLE_MAP_FIELD_NAME).schema());
+    return new CollectionRmdTimestamp<>(collectionTimestampBuilder.build());
+  }
+
   private GenericRecord initiateFieldLevelRmdRecord() {
     GenericRecord rmdRecord = new GenericData.Record(RMD_SCHEMA);
     Schema fieldLevelTimestampSchema =
@@ -245,4 +245,61 @@ public class HeartbeatMonitoringServiceTest {
 
     heartbeatMonitoringService.record();
   }
+
+  @Test
+  public void testMaxHeartbeatLag() {
+    HybridStoreConfig hybridStoreConfig =
+        new HybridStoreConfigImpl(1L, 1L, 1L, DataReplicationPolicy.NON_AGGREGATE, BufferReplayPolicy.REWIND_FROM_SOP);
+    Version version = new VersionImpl(TEST_STORE, 1, "1");
+    version.setHybridStoreConfig(hybridStoreConfig);
+    version.setPartitionCount(2);
+    version.setActiveActiveReplicationEnabled(true);
+
+    Set<String> regions = new HashSet<>();
+    regions.add(LOCAL_FABRIC);
+    regions.add(REMOTE_FABRIC);
+    HeartbeatMonitoringService heartbeatMonitoringService = new HeartbeatMonitoringService(
+        new MetricsRepository(),
+        Mockito.mock(ReadOnlyStoreRepository.class),
+        regions,
+        LOCAL_FABRIC);
+
+    Assert.assertEquals(
+        heartbeatMonitoringService.getMaxLeaderHeartbeatLag(TEST_STORE),
+        HeartbeatMonitoringService.NO_HEARTBEAT_LAG);
+
+    heartbeatMonitoringService.addLeaderLagMonitor(version, 0);
+    heartbeatMonitoringService.addFollowerLagMonitor(version, 1);
+    long now = System.currentTimeMillis();
+    heartbeatMonitoringService.recordLeaderHeartbeat(TEST_STORE, 1, 0, LOCAL_FABRIC, now, true);
+    heartbeatMonitoringService.recordLeaderHeartbeat(TEST_STORE, 1, 0, REMOTE_FABRIC, now - 100000L, true);
+    heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 1, 1, LOCAL_FABRIC, now, false);
+
+    Assert.assertTrue(heartbeatMonitoringService.getMaxLeaderHeartbeatLag(TEST_STORE) >= 100000L);
+    Assert.assertTrue(heartbeatMonitoringService.getMaxFollowerHeartbeatLag(TEST_STORE) < 100000L);
+    Assert.assertFalse(
+        heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
+            .get(TEST_STORE)
+            .get(1)
+            .get(1)
+            .get(LOCAL_FABRIC)
+            .getRight());
+
+    // Partitions beyond the initial partition count are supported as well
+    heartbeatMonitoringService.addFollowerLagMonitor(version, 5);
+    heartbeatMonitoringService.recordFollowerHeartbeat(TEST_STORE, 1, 5, LOCAL_FABRIC, 1000L, true);
+    Assert.assertEquals(
+        (long) heartbeatMonitoringService.getFollowerHeartbeatTimeStamps()
+            .get(TEST_STORE)
+            .get(1)
+            .get(5)
+            .get(LOCAL_FABRIC)
+            .getLeft(),
+        1000L);
+
+    heartbeatMonitoringService.removeLagMonitor(version, 0);
+    Assert.assertEquals(
+        heartbeatMonitoringService.getMaxLeaderHeartbeatLag(TEST_STORE),
+        HeartbeatMonitoringService.NO_HEARTBEAT_LAG);
+  }
 }
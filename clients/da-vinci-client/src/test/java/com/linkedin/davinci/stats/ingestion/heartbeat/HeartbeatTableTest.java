@@ -0,0 +1,113 @@
+package com.linkedin.davinci.stats.ingestion.heartbeat;
+
+import com.linkedin.venice.utils.Time;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class HeartbeatTableTest {
+  private static final String[] REGION_NAMES = { "local", "remote" };
+
+  @Test
+  public void testAddRecordAndRemovePartition() {
+    HeartbeatTable table = new HeartbeatTable(REGION_NAMES.length, 1);
+    table.record(0, 0, 1000L, true);
+    Assert.assertFalse(table.isPartitionMonitored(0));
+    Assert.assertEquals(table.getOldestHeartbeatTimestamp(), Long.MAX_VALUE);
+
+    table.addPartition(0, new int[] { 0 }, 500L);
+    table.addPartition(3, new int[0], 500L);
+    Assert.assertTrue(table.isPartitionMonitored(3));
+    Assert.assertEquals(table.getOldestHeartbeatTimestamp(), 500L);
+    table.record(0, 0, 1000L, true);
+    table.record(0, 1, 2000L, false);
+    table.record(3, 1, 3000L, true);
+
+    Map<Integer, Map<String, Pair<Long, Boolean>>> snapshot = snapshot(table);
+    Assert.assertEquals((long) snapshot.get(0).get("local").getLeft(), 1000L);
+    Assert.assertTrue(snapshot.get(0).get("local").getRight());
+    Assert.assertEquals((long) snapshot.get(0).get("remote").getLeft(), 2000L);
+    Assert.assertFalse(snapshot.get(0).get("remote").getRight());
+    Assert.assertEquals((long) snapshot.get(3).get("remote").getLeft(), 3000L);
+    Assert.assertNull(snapshot.get(3).get("local"));
+    Assert.assertEquals(table.getOldestHeartbeatTimestamp(), 1000L);
+
+    table.removePartition(0);
+    table.record(0, 0, 4000L, true);
+    Assert.assertFalse(table.isPartitionMonitored(0));
+    Assert.assertNull(snapshot(table).get(0));
+    Assert.assertEquals(table.getOldestHeartbeatTimestamp(), 3000L);
+
+    // Adding the partition back doesn't bring back its previous heartbeats
+    table.addPartition(0, new int[0], 500L);
+    Assert.assertTrue(snapshot(table).get(0).isEmpty());
+  }
+
+  @Test(timeOut = 60 * Time.MS_PER_SECOND)
+  public void testRecordRacingWithAddAndRemovePartition() throws InterruptedException {
+    HeartbeatTable table = new HeartbeatTable(REGION_NAMES.length, 1);
+    long initialTimestamp = 1000L;
+    table.addPartition(0, new int[] { 0 }, initialTimestamp);
+
+    // The heartbeats use the same value as the initial timestamp, so that a heartbeat from a previous time the
+    // partition was monitored can't be told apart from the initial timestamp by its value.
+    AtomicBoolean running = new AtomicBoolean(true);
+    List<Thread> recorders = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread recorder = new Thread(() -> {
+        while (running.get()) {
+          table.record(0, 0, initialTimestamp, false);
+          table.record(0, 1, initialTimestamp, false);
+        }
+      });
+      recorder.start();
+      recorders.add(recorder);
+    }
+    try {
+      for (int i = 0; i < 100000; i++) {
+        table.removePartition(0);
+        Assert.assertEquals(table.getOldestHeartbeatTimestamp(), Long.MAX_VALUE);
+        table.addPartition(0, new int[] { 0 }, initialTimestamp);
+        // A heartbeat recorded before the partition was added back must neither clear nor replace the initial
+        // timestamp of the region, and it's ignored in the regions without one.
+        Map<String, Pair<Long, Boolean>> regions = snapshot(table).get(0);
+        Assert.assertNotNull(regions.get("local"), "Initial timestamp lost at iteration " + i);
+        Assert.assertEquals((long) regions.get("local").getLeft(), initialTimestamp);
+        Assert.assertEquals(table.getOldestHeartbeatTimestamp(), initialTimestamp);
+      }
+    } finally {
+      running.set(false);
+      for (Thread recorder: recorders) {
+        recorder.join();
+      }
+    }
+  }
+
+  @Test
+  public void testPackedSlots() {
+    long timestamp = System.currentTimeMillis();
+    long slot = HeartbeatTable.pack(timestamp, true, 3);
+    Assert.assertEquals(HeartbeatTable.unpackTimestamp(slot), timestamp);
+    Assert.assertTrue(HeartbeatTable.unpackReadyToServe(slot));
+    Assert.assertEquals(HeartbeatTable.unpackGeneration(slot), 3L);
+    Assert.assertNotEquals(HeartbeatTable.pack(timestamp, true, 5), slot);
+
+    long maxTimestamp = (1L << HeartbeatTable.TIMESTAMP_BITS) - 1;
+    slot = HeartbeatTable.pack(maxTimestamp, false, (1 << HeartbeatTable.GENERATION_BITS) + 1);
+    Assert.assertEquals(HeartbeatTable.unpackTimestamp(slot), maxTimestamp);
+    Assert.assertFalse(HeartbeatTable.unpackReadyToServe(slot));
+    Assert.assertEquals(HeartbeatTable.unpackGeneration(slot), 1L);
+  }
+
+  private static Map<Integer, Map<String, Pair<Long, Boolean>>> snapshot(HeartbeatTable table) {
+    Map<Integer, Map<String, Pair<Long, Boolean>>> partitionMap = new HashMap<>();
+    table.snapshot(REGION_NAMES, partitionMap);
+    return partitionMap;
+  }
+}
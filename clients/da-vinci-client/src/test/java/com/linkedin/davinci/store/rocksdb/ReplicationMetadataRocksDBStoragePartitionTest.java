@@ -1,5 +1,7 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -23,6 +25,8 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.Pair;
@@ -30,6 +34,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +42,8 @@ import java.util.Properties;
 import java.util.TreeMap;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.rocksdb.ComparatorOptions;
 import org.rocksdb.Options;
 import org.rocksdb.util.BytewiseComparator;
@@ -276,6 +283,79 @@ public class ReplicationMetadataRocksDBStoragePartitionTest extends AbstractStor
     removeDir(storeDir);
   }
 
+  @Test
+  public void testDeleteExpiredRecords() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store_ttl_sweep"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int valueSchemaId = 1;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, PARTITION_ID);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    ReplicationMetadataRocksDBStoragePartition storagePartition = new ReplicationMetadataRocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    Schema rmdSchema = RmdSchemaGenerator.generateMetadataSchema("\"string\"", 1);
+    RecordSerializer<GenericRecord> rmdSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(rmdSchema);
+    int recordCount = 100;
+    for (int i = 0; i < recordCount; i++) {
+      GenericRecord rmdRecord = new GenericData.Record(rmdSchema);
+      rmdRecord.put(TIMESTAMP_FIELD_NAME, i * 10L);
+      rmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Collections.emptyList());
+      byte[] rmd = getReplicationMetadataWithValueSchemaId(rmdSerializer.serialize(rmdRecord), valueSchemaId);
+      byte[] key = (KEY_PREFIX + i).getBytes();
+      if (i == 10) {
+        // The manifest of a chunked value, which has a negative schema ID.
+        byte[] manifest = ByteBuffer.allocate(ByteUtils.SIZE_OF_INT).putInt(-20).array();
+        storagePartition.putWithReplicationMetadata(key, manifest, rmd);
+      } else if (i == 20) {
+        storagePartition.deleteWithReplicationMetadata(key, rmd);
+      } else {
+        storagePartition.putWithReplicationMetadata(key, (VALUE_PREFIX + i).getBytes(), rmd);
+      }
+    }
+
+    // Records with a timestamp lower than 500 expire.
+    long cutoffTimestamp = 500;
+    int scannedRecordCount = 0;
+    int deletedRecordCount = 0;
+    byte[] nextKey = null;
+    do {
+      ReplicationMetadataRocksDBStoragePartition.ExpiredRecordsSweepResult result =
+          storagePartition.deleteExpiredRecords(nextKey, cutoffTimestamp, 30);
+      Assert.assertTrue(result.getScannedRecordCount() <= 30);
+      scannedRecordCount += result.getScannedRecordCount();
+      deletedRecordCount += result.getDeletedRecordCount();
+      nextKey = result.getNextKey();
+    } while (nextKey != null);
+    Assert.assertEquals(scannedRecordCount, recordCount);
+    Assert.assertEquals(deletedRecordCount, 49);
+
+    for (int i = 0; i < recordCount; i++) {
+      byte[] key = (KEY_PREFIX + i).getBytes();
+      byte[] rmd = storagePartition.getReplicationMetadata(ByteBuffer.wrap(key));
+      if (i < 50 && i != 10) {
+        Assert.assertNull(storagePartition.get(key), "Value of record: " + i + " should be expired");
+        Assert.assertNull(rmd, "RMD of record: " + i + " should be expired");
+      } else {
+        Assert.assertNotNull(storagePartition.get(key), "Value of record: " + i + " shouldn't be expired");
+        Assert.assertNotNull(rmd, "RMD of record: " + i + " shouldn't be expired");
+      }
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   private byte[] getReplicationMetadataWithValueSchemaId(byte[] replicationMetadata, int valueSchemaId) {
     ByteBuffer metadataByteBuffer = ByteBuffer.wrap(replicationMetadata);
     ByteBuffer replicationMetadataWitValueSchemaId =
@@ -0,0 +1,55 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RocksDBSharedDatabaseTest {
+  @Test
+  public void testColumnFamilyOptionsAreAppliedOnOpen() throws RocksDBException {
+    String dbPath = new File(Utils.getTempDataDirectory(), "shared_partitions").getAbsolutePath();
+    RocksDBSharedDatabase sharedDatabase = new RocksDBSharedDatabase(dbPath, new RocksDBThrottler(1));
+    try (Options writeOnlyOptions = getOptions(40); Options readWriteOptions = getOptions(4)) {
+      sharedDatabase.openColumnFamily("partition_0", writeOnlyOptions);
+      ColumnFamilyHandle otherColumnFamilyHandle = sharedDatabase.openColumnFamily("partition_1", writeOnlyOptions);
+
+      // Reopen a column family with other options, while the database stays opened by the other column family.
+      sharedDatabase.closeColumnFamily("partition_0");
+      ColumnFamilyHandle columnFamilyHandle = sharedDatabase.openColumnFamily("partition_0", readWriteOptions);
+      Assert.assertEquals(getLevel0FileNumCompactionTrigger(sharedDatabase, columnFamilyHandle), 4);
+      Assert.assertEquals(getLevel0FileNumCompactionTrigger(sharedDatabase, otherColumnFamilyHandle), 40);
+
+      // Reopen the database, which opens all the column families with the options of the first opened partition.
+      sharedDatabase.closeColumnFamily("partition_0");
+      sharedDatabase.closeColumnFamily("partition_1");
+      sharedDatabase.openColumnFamily("partition_1", writeOnlyOptions);
+      columnFamilyHandle = sharedDatabase.openColumnFamily("partition_0", readWriteOptions);
+      Assert.assertEquals(getLevel0FileNumCompactionTrigger(sharedDatabase, columnFamilyHandle), 4);
+
+      sharedDatabase.dropColumnFamily("partition_0", readWriteOptions);
+      sharedDatabase.dropColumnFamily("partition_1", writeOnlyOptions);
+    } finally {
+      sharedDatabase.destroy();
+    }
+  }
+
+  private static Options getOptions(int level0FileNumCompactionTrigger) {
+    Options options = new Options();
+    options.setCreateIfMissing(true);
+    options.setLevel0FileNumCompactionTrigger(level0FileNumCompactionTrigger);
+    options.setLevel0SlowdownWritesTrigger(level0FileNumCompactionTrigger * 2);
+    options.setLevel0StopWritesTrigger(level0FileNumCompactionTrigger * 3);
+    return options;
+  }
+
+  private static int getLevel0FileNumCompactionTrigger(
+      RocksDBSharedDatabase sharedDatabase,
+      ColumnFamilyHandle columnFamilyHandle) throws RocksDBException {
+    return sharedDatabase.getRocksDB().getOptions(columnFamilyHandle).level0FileNumCompactionTrigger();
+  }
+}
@@ -11,6 +11,10 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.apache.commons.io.FileUtils;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
@@ -385,6 +389,124 @@ public class RocksDBSstFileWriterTest {
     }
   }
 
+  @Test
+  public void testSyncWithSstFileBuilders() throws IOException {
+    Properties properties = new Properties();
+    properties.put(RocksDBServerConfig.ROCKSDB_SST_FILE_BUILDER_RUN_SIZE_IN_BYTES, "100");
+    properties.put(RocksDBServerConfig.ROCKSDB_SST_FILE_BUILDER_MAX_PENDING_RUNS_PER_PARTITION, "2");
+    ExecutorService sstFileBuilderExecutor = Executors.newFixedThreadPool(2);
+    // Only a single run may be pending across all the partitions.
+    Semaphore sharedPendingRunPermits = new Semaphore(1);
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          new RocksDBServerConfig(new VeniceProperties(properties)),
+          sstFileBuilderExecutor,
+          sharedPendingRunPermits);
+      CheckSum runningCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.of(() -> {
+        byte[] checksum = runningCheckSum.getCheckSum();
+        runningCheckSum.reset();
+        return checksum;
+      }));
+
+      // Every run holds 6 records of 18 bytes.
+      for (int i = 0; i < 50; i++) {
+        byte[] key = String.format("key_%05d", i).getBytes();
+        byte[] value = String.format("val_%05d", i).getBytes();
+        ByteBuffer valueBuffer = ByteBuffer.wrap(value);
+        rocksDBSstFileWriter.put(key, valueBuffer);
+        // The value buffer is left as is, and can be reused by the caller.
+        Assert.assertEquals(valueBuffer.remaining(), value.length);
+        runningCheckSum.update(key);
+        runningCheckSum.update(value);
+      }
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+      // 8 full runs, and the last one with 2 records.
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "8");
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 9);
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 50);
+      // The shared permits are all given back once the runs are written.
+      Assert.assertEquals(sharedPendingRunPermits.availablePermits(), 1);
+
+      // Resume from the checkpoint, as after a restart.
+      rocksDBSstFileWriter.close();
+      Assert.assertTrue(rocksDBSstFileWriter.checkDatabaseIntegrity(checkpointingInfo));
+      rocksDBSstFileWriter.open(checkpointingInfo, Optional.of(() -> {
+        byte[] checksum = runningCheckSum.getCheckSum();
+        runningCheckSum.reset();
+        return checksum;
+      }));
+      for (int i = 50; i < 52; i++) {
+        byte[] key = String.format("key_%05d", i).getBytes();
+        byte[] value = String.format("val_%05d", i).getBytes();
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(value));
+        runningCheckSum.update(key);
+        runningCheckSum.update(value);
+      }
+      checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "9");
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 10);
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      sstFileBuilderExecutor.shutdownNow();
+      deleteTempDatabaseDir();
+    }
+  }
+
+  @Test
+  public void testSstFileBuildersRejectOutOfOrderKeys() throws IOException {
+    Properties properties = new Properties();
+    properties.put(RocksDBServerConfig.ROCKSDB_SST_FILE_BUILDER_RUN_SIZE_IN_BYTES, "100");
+    ExecutorService sstFileBuilderExecutor = Executors.newFixedThreadPool(2);
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          new RocksDBServerConfig(new VeniceProperties(properties)),
+          sstFileBuilderExecutor);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.empty());
+      // Every run holds 6 records of 18 bytes, so the first run is handed over to the SST file builders.
+      for (int i = 0; i < 8; i++) {
+        byte[] key = String.format("key_%05d", i).getBytes();
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(String.format("val_%05d", i).getBytes()));
+      }
+      RocksDBSstFileWriter writer = rocksDBSstFileWriter;
+      // Out of order within the current run, with a key of the previous run, and same as the last key.
+      for (int i: new int[] { 6, 2, 7 }) {
+        byte[] key = String.format("key_%05d", i).getBytes();
+        Assert.expectThrows(VeniceException.class, () -> writer.put(key, ByteBuffer.wrap("value".getBytes())));
+      }
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 8);
+
+      rocksDBSstFileWriter.put("key_00008".getBytes(), ByteBuffer.wrap("val_00008".getBytes()));
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "1");
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), 9);
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      sstFileBuilderExecutor.shutdownNow();
+      deleteTempDatabaseDir();
+    }
+  }
+
   private String getTempDatabaseDir() {
     File storeDir = new File(DB_DIR).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
@@ -9,6 +9,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
+import java.util.Properties;
 import java.util.Set;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -31,6 +32,76 @@ public class RocksDBStorageEngineFactoryTest {
         "Database generated by" + " 'RocksDBStorageEngineFactory' must be 'RocksDBStorageEngine' instance");
   }
 
+  @Test
+  public void testRocksDBCreationWithPersistentCache() {
+    File persistentCacheDir = new File(Utils.getTempDataDirectory(), "persistent_cache");
+    Properties properties = new Properties();
+    properties.setProperty(RocksDBServerConfig.ROCKSDB_PERSISTENT_CACHE_PATH, persistentCacheDir.getAbsolutePath());
+    properties.setProperty(RocksDBServerConfig.ROCKSDB_PERSISTENT_CACHE_SIZE_IN_BYTES, "64MB");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    Assert.assertNotNull(factory.getPersistentCache());
+    Assert.assertTrue(persistentCacheDir.isDirectory());
+
+    final String testStore = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceStoreVersionConfig testStoreConfig =
+        new VeniceStoreVersionConfig(testStore, veniceServerProperties, PersistenceType.ROCKS_DB);
+    AbstractStorageEngine storageEngine = factory.getStorageEngine(testStoreConfig);
+    storageEngine.addStoragePartition(1);
+    byte[] key = "key".getBytes();
+    byte[] value = "value".getBytes();
+    storageEngine.put(1, key, value);
+    Assert.assertEquals(storageEngine.get(1, key), value);
+
+    factory.removeStorageEngine(storageEngine);
+    factory.close();
+  }
+
+  @Test
+  public void testPartitionConsolidation() {
+    Properties properties = new Properties();
+    properties.setProperty(RocksDBServerConfig.ROCKSDB_PARTITION_CONSOLIDATION_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    Assert.assertTrue(factory.isPartitionConsolidationEnabled());
+
+    final String testStore = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceStoreVersionConfig testStoreConfig =
+        new VeniceStoreVersionConfig(testStore, veniceServerProperties, PersistenceType.ROCKS_DB);
+    AbstractStorageEngine storageEngine = factory.getStorageEngine(testStoreConfig);
+    byte[] value = "value".getBytes();
+    for (int partitionId = 1; partitionId <= 3; partitionId++) {
+      storageEngine.addStoragePartition(partitionId);
+      storageEngine.put(partitionId, ("key_" + partitionId).getBytes(), value);
+      // The partitions are stored as column families of the shared database.
+      Assert.assertFalse(new File(factory.getRocksDBPath(testStore, partitionId)).exists());
+    }
+    Assert.assertNull(storageEngine.get(1, "key_2".getBytes()));
+    storageEngine.dropPartition(2);
+    storageEngine.sync(1);
+    storageEngine.sync(3);
+    factory.closeStorageEngine(storageEngine);
+
+    // Reopen the storage engine, which restores the partitions from the column families.
+    storageEngine = factory.getStorageEngine(testStoreConfig);
+    Set<Integer> persistedPartitionIds = storageEngine.getPersistedPartitionIds();
+    Assert.assertTrue(persistedPartitionIds.contains(1));
+    Assert.assertFalse(persistedPartitionIds.contains(2));
+    Assert.assertTrue(persistedPartitionIds.contains(3));
+    Assert.assertEquals(storageEngine.get(1, "key_1".getBytes()), value);
+    Assert.assertEquals(storageEngine.get(3, "key_3".getBytes()), value);
+
+    factory.removeStorageEngine(storageEngine);
+    Assert.assertFalse(new File(factory.getRocksDBPath(testStore, 1)).getParentFile().exists());
+    factory.close();
+  }
+
   @Test
   public void testGetPersistedStoreNames() {
     // Create two databases
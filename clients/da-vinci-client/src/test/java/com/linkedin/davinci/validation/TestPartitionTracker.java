@@ -1,5 +1,6 @@
 package com.linkedin.davinci.validation;
 
+import com.linkedin.venice.exceptions.validation.DataValidationException;
 import com.linkedin.venice.exceptions.validation.DuplicateDataException;
 import com.linkedin.venice.exceptions.validation.MissingDataException;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
@@ -27,7 +28,10 @@ import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import org.apache.avro.specific.FixedSize;
 import org.testng.Assert;
@@ -373,6 +377,184 @@ public class TestPartitionTracker {
     Assert.assertEquals(partitionTracker.getSegment(type, guid).getSequenceNumber(), 5);
   }
 
+  @Test(dataProvider = "Boolean-Checksum", dataProviderClass = DataProviderUtils.class, timeOut = 10
+      * Time.MS_PER_SECOND)
+  public void testValidateMessages(boolean isVersionTopic, CheckSumType checkSumType) {
+    PartitionTracker.TopicType type = isVersionTopic
+        ? PartitionTracker.VERSION_TOPIC
+        : PartitionTracker.TopicType.of(PartitionTracker.TopicType.REALTIME_TOPIC_TYPE, "testUrl");
+    PubSubTopicPartition pubSubTopicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId);
+    GUID otherGuid = new GUID();
+    otherGuid.bytes(("other_guid_" + System.currentTimeMillis()).getBytes());
+    Segment firstSegment = new Segment(partitionId, 0, checkSumType);
+    Segment otherSegment = new Segment(partitionId, 0, checkSumType);
+    // Computes the checksum of the messages of the first producer, which are expected to be valid.
+    Segment expectedSegment = new Segment(partitionId, 0, checkSumType);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords = new ArrayList<>();
+    long offset = 10;
+
+    for (GUID producerGuid: new GUID[] { guid, otherGuid }) {
+      KafkaMessageEnvelope startOfSegmentMessage = getKafkaMessageEnvelope(
+          MessageType.CONTROL_MESSAGE,
+          producerGuid,
+          producerGuid == guid ? firstSegment : otherSegment,
+          Optional.empty(),
+          getStartOfSegment(checkSumType));
+      KafkaKey startOfSegmentKey = getControlMessageKey(startOfSegmentMessage);
+      if (producerGuid == guid) {
+        expectedSegment.addToCheckSum(startOfSegmentKey, startOfSegmentMessage);
+      }
+      consumerRecords.add(
+          new ImmutablePubSubMessage<>(
+              startOfSegmentKey,
+              startOfSegmentMessage,
+              pubSubTopicPartition,
+              offset++,
+              System.currentTimeMillis() + 1000,
+              0));
+    }
+    // Interleaved puts from both producers, with a duplicate from the first one and a gap in the other one.
+    for (int i = 1; i <= 10; i++) {
+      boolean isFirstProducer = i % 3 != 0;
+      Segment segment = isFirstProducer ? firstSegment : otherSegment;
+      Optional<Integer> sequenceNumber = Optional.empty();
+      if (i == 5) {
+        sequenceNumber = Optional.of(segment.getSequenceNumber() - 1);
+      } else if (i == 9) {
+        segment.getAndIncrementSequenceNumber();
+      }
+      KafkaMessageEnvelope putMessage = getKafkaMessageEnvelope(
+          MessageType.PUT,
+          isFirstProducer ? guid : otherGuid,
+          segment,
+          sequenceNumber,
+          getPutMessage(("message_" + i).getBytes()));
+      KafkaKey putKey = getPutMessageKey(("key_" + i).getBytes());
+      if (isFirstProducer && i != 5) {
+        expectedSegment.addToCheckSum(putKey, putMessage);
+      }
+      consumerRecords.add(
+          new ImmutablePubSubMessage<>(
+              putKey,
+              putMessage,
+              pubSubTopicPartition,
+              offset++,
+              System.currentTimeMillis() + 1000,
+              0));
+    }
+    ControlMessage endOfSegment = getEndOfSegment();
+    ((EndOfSegment) endOfSegment.controlMessageUnion).checksumValue =
+        ByteBuffer.wrap(expectedSegment.getFinalCheckSum());
+    KafkaMessageEnvelope endOfSegmentMessage =
+        getKafkaMessageEnvelope(MessageType.CONTROL_MESSAGE, guid, firstSegment, Optional.empty(), endOfSegment);
+    consumerRecords.add(
+        new ImmutablePubSubMessage<>(
+            getControlMessageKey(endOfSegmentMessage),
+            endOfSegmentMessage,
+            pubSubTopicPartition,
+            offset,
+            System.currentTimeMillis() + 1000,
+            0));
+
+    DataValidationException[] exceptions = new DataValidationException[consumerRecords.size()];
+    long firstOffset = consumerRecords.get(0).getOffset();
+    partitionTracker.validateMessages(
+        type,
+        consumerRecords,
+        false,
+        consumerRecord -> Lazy.FALSE,
+        (consumerRecord, e) -> exceptions[(int) (consumerRecord.getOffset() - firstOffset)] = e);
+
+    // Same outcome as the validation of the messages one by one.
+    PartitionTracker referenceTracker = new PartitionTracker(topic, partitionId);
+    Assert.assertEquals(exceptions.length, consumerRecords.size());
+    for (int i = 0; i < consumerRecords.size(); i++) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = consumerRecords.get(i);
+      DataValidationException expectedException = null;
+      try {
+        referenceTracker.validateMessage(type, consumerRecord, false, Lazy.FALSE);
+      } catch (DataValidationException e) {
+        expectedException = e;
+      }
+      Assert.assertEquals(
+          exceptions[i] == null ? null : exceptions[i].getClass(),
+          expectedException == null ? null : expectedException.getClass(),
+          "Unexpected outcome for message at offset: " + consumerRecord.getOffset());
+    }
+    // The puts at offsets 16 and 20 are the duplicate and the gap.
+    Assert.assertTrue(exceptions[6] instanceof DuplicateDataException);
+    Assert.assertTrue(exceptions[10] instanceof MissingDataException);
+    Assert.assertEquals(exceptions.length - 2, Arrays.stream(exceptions).filter(e -> e == null).count());
+
+    Segment segment = partitionTracker.getSegment(type, guid);
+    Assert.assertTrue(segment.isEnded());
+    Assert.assertEquals(segment.getSequenceNumber(), referenceTracker.getSegment(type, guid).getSequenceNumber());
+    Assert.assertEquals(
+        partitionTracker.getSegment(type, otherGuid).getSequenceNumber(),
+        referenceTracker.getSegment(type, otherGuid).getSequenceNumber());
+  }
+
+  @Test(timeOut = 10 * Time.MS_PER_SECOND)
+  public void testValidateMessagesWithGapInTheMiddleOfTheBatch() {
+    PubSubTopicPartition pubSubTopicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partitionId);
+    Segment segment = new Segment(partitionId, 0, CheckSumType.MD5);
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords = new ArrayList<>();
+    KafkaMessageEnvelope startOfSegmentMessage = getKafkaMessageEnvelope(
+        MessageType.CONTROL_MESSAGE,
+        guid,
+        segment,
+        Optional.empty(),
+        getStartOfSegment(CheckSumType.MD5));
+    consumerRecords.add(
+        new ImmutablePubSubMessage<>(
+            getControlMessageKey(startOfSegmentMessage),
+            startOfSegmentMessage,
+            pubSubTopicPartition,
+            0,
+            System.currentTimeMillis() + 1000,
+            0));
+    for (int i = 1; i <= 6; i++) {
+      if (i == 3) {
+        // Skip a sequence number.
+        segment.getAndIncrementSequenceNumber();
+      }
+      consumerRecords.add(
+          new ImmutablePubSubMessage<>(
+              getPutMessageKey(("key_" + i).getBytes()),
+              getKafkaMessageEnvelope(
+                  MessageType.PUT,
+                  guid,
+                  segment,
+                  Optional.empty(),
+                  getPutMessage(("message_" + i).getBytes())),
+              pubSubTopicPartition,
+              i,
+              System.currentTimeMillis() + 1000,
+              0));
+    }
+
+    List<Long> invalidOffsets = new ArrayList<>();
+    partitionTracker.validateMessages(
+        PartitionTracker.VERSION_TOPIC,
+        consumerRecords,
+        true,
+        consumerRecord -> Lazy.FALSE,
+        (consumerRecord, e) -> {
+          Assert.assertTrue(e instanceof MissingDataException);
+          invalidOffsets.add(consumerRecord.getOffset());
+          // Tolerate the gap, so that the rest of the batch is validated against the sequence number after it.
+          partitionTracker.validateMessage(PartitionTracker.VERSION_TOPIC, consumerRecord, true, Lazy.TRUE);
+        });
+
+    // Only the message after the gap is invalid.
+    Assert.assertEquals(invalidOffsets, Collections.singletonList(3L));
+    Segment trackedSegment = partitionTracker.getSegment(PartitionTracker.VERSION_TOPIC, guid);
+    Assert.assertEquals(trackedSegment.getSequenceNumber(), segment.getSequenceNumber() - 1);
+    Assert.assertEquals(trackedSegment.getLastSuccessfulOffset(), 6);
+  }
+
   /**
    * This test is to ensure when meeting a mid segment, i.e. segment which doesn't start with SOS, the check sum
    * type and check sum state should be aligned with each other.
@@ -409,17 +409,10 @@ public class KafkaTopicDumper implements AutoCloseable {
           valuePayloadSchemaId = String.valueOf(put.schemaId);
           if (logReplicationMetadata && put.replicationMetadataPayload != null
               && put.replicationMetadataPayload.remaining() > 0) {
-            Decoder rmdDecoder =
-                decoderFactory.binaryDecoder(ByteUtils.extractByteArray(put.replicationMetadataPayload), null);
-            LOGGER.info(
-                "{} {} {} {}",
-                schemaDataMap.get(put.schemaId).getRmdRecordReader(put.replicationMetadataVersionId),
-                schemaDataMap.get(put.schemaId),
-                put.schemaId,
-                put.replicationMetadataVersionId);
             rmdRecord = schemaDataMap.get(put.schemaId)
-                .getRmdRecordReader(put.replicationMetadataVersionId)
-                .read(null, rmdDecoder);
+                .readRmdRecord(
+                    put.replicationMetadataVersionId,
+                    ByteUtils.extractByteArray(put.replicationMetadataPayload));
           }
           break;
         case DELETE:
@@ -427,11 +420,10 @@ public class KafkaTopicDumper implements AutoCloseable {
           valuePayloadSchemaId = String.valueOf(delete.schemaId);
           if (logReplicationMetadata && delete.replicationMetadataPayload != null
               && delete.replicationMetadataPayload.remaining() > 0) {
-            Decoder rmdDecoder =
-                decoderFactory.binaryDecoder(ByteUtils.extractByteArray(delete.replicationMetadataPayload), null);
             rmdRecord = schemaDataMap.get(delete.schemaId)
-                .getRmdRecordReader(delete.replicationMetadataVersionId)
-                .read(null, rmdDecoder);
+                .readRmdRecord(
+                    delete.replicationMetadataVersionId,
+                    ByteUtils.extractByteArray(delete.replicationMetadataPayload));
           }
           break;
         case UPDATE:
@@ -1,10 +1,13 @@
 package com.linkedin.venice;
 
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
 import java.util.Map;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DecoderFactory;
 
 
 public class ValueAndDerivedSchemaData {
@@ -14,6 +17,7 @@ public class ValueAndDerivedSchemaData {
   private final GenericDatumReader<Object> valueRecordReader;
   private final Map<Integer, GenericDatumReader<Object>> updateRecordReaderMap = new VeniceConcurrentHashMap<>();
   private final Map<Integer, GenericDatumReader<Object>> rmdRecordReaderMap = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, ColumnarRmdCodec> columnarRmdCodecMap = new VeniceConcurrentHashMap<>();
 
   public ValueAndDerivedSchemaData(String valueSchemaStr) {
     this.valueSchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation(valueSchemaStr);
@@ -29,7 +33,11 @@ public class ValueAndDerivedSchemaData {
   public void setRmdSchema(int protocolId, String rmdSchemaStr) {
     Schema schema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation(rmdSchemaStr);
     rmdSchemaMap.put(protocolId, schema);
-    rmdRecordReaderMap.put(protocolId, new GenericDatumReader<>(schema, schema));
+    if (protocolId == ColumnarRmdCodec.RMD_PROTOCOL_VERSION) {
+      columnarRmdCodecMap.put(protocolId, new ColumnarRmdCodec(schema));
+    } else {
+      rmdRecordReaderMap.put(protocolId, new GenericDatumReader<>(schema, schema));
+    }
   }
 
   GenericDatumReader<Object> getValueRecordReader() {
@@ -40,8 +48,16 @@ public class ValueAndDerivedSchemaData {
     return updateRecordReaderMap.get(protocolId);
   }
 
-  GenericDatumReader<Object> getRmdRecordReader(int protocolId) {
-    return rmdRecordReaderMap.get(protocolId);
+  /**
+   * Decodes the RMD of the given protocol version, which is encoded by {@link ColumnarRmdCodec} for
+   * {@link ColumnarRmdCodec#RMD_PROTOCOL_VERSION}, and by Avro for the other versions.
+   */
+  Object readRmdRecord(int protocolId, byte[] rmdBytes) throws IOException {
+    ColumnarRmdCodec columnarRmdCodec = columnarRmdCodecMap.get(protocolId);
+    if (columnarRmdCodec != null) {
+      return columnarRmdCodec.decode(rmdBytes, 0, rmdBytes.length);
+    }
+    return rmdRecordReaderMap.get(protocolId).read(null, DecoderFactory.get().binaryDecoder(rmdBytes, null));
   }
 
 }
@@ -9,6 +9,7 @@ import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.StoreResponse;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
@@ -18,6 +19,7 @@ import com.linkedin.venice.pubsub.adapter.kafka.consumer.ApacheKafkaConsumerAdap
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
@@ -112,6 +114,8 @@ public class TestKafkaTopicDumper {
     Schema valueSchema = TestWriteUtils.NAME_RECORD_V1_SCHEMA;
     Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(valueSchema);
     Schema rmdSchema = RmdSchemaGenerator.generateMetadataSchema(valueSchema);
+    Schema columnarRmdSchema =
+        RmdSchemaGenerator.generateMetadataSchema(valueSchema, ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
     RecordSerializer keySerializer = SerializerDeserializerFactory.getAvroGenericSerializer(keySchema);
     RecordSerializer valueSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema);
     RecordSerializer updateSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(updateSchema);
@@ -135,11 +139,15 @@ public class TestKafkaTopicDumper {
     when(controllerClient.getAllValueSchema(storeName)).thenReturn(valueSchemaResponse);
 
     MultiSchemaResponse rmdSchemaResponse = mock(MultiSchemaResponse.class);
-    MultiSchemaResponse.Schema[] rmdSchemas = new MultiSchemaResponse.Schema[1];
+    MultiSchemaResponse.Schema[] rmdSchemas = new MultiSchemaResponse.Schema[2];
     rmdSchemas[0] = new MultiSchemaResponse.Schema();
     rmdSchemas[0].setSchemaStr(rmdSchema.toString());
     rmdSchemas[0].setId(1);
     rmdSchemas[0].setRmdValueSchemaId(1);
+    rmdSchemas[1] = new MultiSchemaResponse.Schema();
+    rmdSchemas[1].setSchemaStr(columnarRmdSchema.toString());
+    rmdSchemas[1].setId(ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    rmdSchemas[1].setRmdValueSchemaId(1);
     when(rmdSchemaResponse.getSchemas()).thenReturn(rmdSchemas);
     when(controllerClient.getAllReplicationMetadataSchemas(storeName)).thenReturn(rmdSchemaResponse);
 
@@ -235,5 +243,18 @@ public class TestKafkaTopicDumper {
     returnedLog = kafkaTopicDumper.buildDataRecordLog(deleteMessage, true);
     expectedLog = String.format("Key: %s; Value: %s; Schema: %d; RMD: %s", keyString, null, 1, rmdRecord);
     Assert.assertEquals(returnedLog, expectedLog);
+
+    // Test PUT with RMD of the columnar protocol version
+    GenericRecord columnarRmdRecord = new GenericData.Record(columnarRmdSchema);
+    columnarRmdRecord.put("timestamp", 1L);
+    columnarRmdRecord.put("replication_checkpoint_vector", Collections.singletonList(1L));
+    byte[] encodedColumnarRmd = new ColumnarRmdCodec(columnarRmdSchema).encode(columnarRmdRecord);
+    putMessage =
+        ChunkingTestUtils.createPutRecord(serializedKey, serializedValue, encodedColumnarRmd, pubSubTopicPartition);
+    ((Put) putMessage.getValue().payloadUnion).replicationMetadataVersionId = ColumnarRmdCodec.RMD_PROTOCOL_VERSION;
+    returnedLog = kafkaTopicDumper.buildDataRecordLog(putMessage, true);
+    expectedLog =
+        String.format("Key: %s; Value: %s; Schema: %d; RMD: %s", keyString, valueRecord, 1, columnarRmdRecord);
+    Assert.assertEquals(returnedLog, expectedLog);
   }
 }
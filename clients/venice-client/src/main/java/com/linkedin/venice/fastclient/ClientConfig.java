@@ -73,6 +73,12 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
   private final int longTailRetryThresholdForComputeInMicroSeconds;
+  /**
+   * The time budget of the requests sent to the storage nodes, which is propagated to them, so that they stop working
+   * on a request once its budget is exhausted, since nobody would read the response anymore. Not propagated if not
+   * positive.
+   */
+  private final long storageNodeRequestTimeoutInMs;
   private final ClusterStats clusterStats;
   private final boolean isVsonStore;
   private final StoreMetadataFetchMode storeMetadataFetchMode;
@@ -124,6 +130,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       int longTailRetryThresholdForBatchGetInMicroSeconds,
       boolean longTailRetryEnabledForCompute,
       int longTailRetryThresholdForComputeInMicroSeconds,
+      long storageNodeRequestTimeoutInMs,
       boolean isVsonStore,
       StoreMetadataFetchMode storeMetadataFetchMode,
       D2Client d2Client,
@@ -210,6 +217,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.longTailRetryEnabledForCompute = longTailRetryEnabledForCompute;
     this.longTailRetryThresholdForComputeInMicroSeconds = longTailRetryThresholdForComputeInMicroSeconds;
+    this.storageNodeRequestTimeoutInMs = storageNodeRequestTimeoutInMs;
 
     if (this.longTailRetryEnabledForSingleGet) {
       if (this.longTailRetryThresholdForSingleGetInMicroSeconds <= 0) {
@@ -365,6 +373,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryThresholdForComputeInMicroSeconds;
   }
 
+  public long getStorageNodeRequestTimeoutInMs() {
+    return storageNodeRequestTimeoutInMs;
+  }
+
   @Deprecated
   public boolean isVsonStore() {
     return isVsonStore;
@@ -450,6 +462,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean longTailRetryEnabledForCompute = false;
     private int longTailRetryThresholdForComputeInMicroSeconds = 10000; // 10ms.
 
+    private long storageNodeRequestTimeoutInMs = -1;
+
     private boolean isVsonStore = false;
     private StoreMetadataFetchMode storeMetadataFetchMode = StoreMetadataFetchMode.SERVER_BASED_METADATA;
     private D2Client d2Client;
@@ -640,6 +654,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setStorageNodeRequestTimeoutInMs(long storageNodeRequestTimeoutInMs) {
+      this.storageNodeRequestTimeoutInMs = storageNodeRequestTimeoutInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setProjectionFieldValidationEnabled(boolean projectionFieldValidation) {
       this.projectionFieldValidation = projectionFieldValidation;
       return this;
@@ -684,6 +703,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setLongTailRetryThresholdForBatchGetInMicroSeconds(longTailRetryThresholdForBatchGetInMicroSeconds)
           .setLongTailRetryEnabledForCompute(longTailRetryEnabledForCompute)
           .setLongTailRetryThresholdForComputeInMicroSeconds(longTailRetryThresholdForComputeInMicroSeconds)
+          .setStorageNodeRequestTimeoutInMs(storageNodeRequestTimeoutInMs)
           .setVsonStore(isVsonStore)
           .setStoreMetadataFetchMode(storeMetadataFetchMode)
           .setD2Client(d2Client)
@@ -723,6 +743,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           longTailRetryThresholdForBatchGetInMicroSeconds,
           longTailRetryEnabledForCompute,
           longTailRetryThresholdForComputeInMicroSeconds,
+          storageNodeRequestTimeoutInMs,
           isVsonStore,
           storeMetadataFetchMode,
           d2Client,
@@ -83,7 +83,15 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
   private final ClientConfig config;
   private final TransportClient transportClient;
+  /**
+   * Set when the transport can stream multi-key responses back chunk by chunk, null otherwise.
+   */
+  private final GrpcTransportClient streamingTransportClient;
   private final Executor deserializationExecutor;
+  /**
+   * The headers of single-get requests, which only carry the request timeout if it is propagated to the storage nodes.
+   */
+  private final Map<String, String> singleGetRequestHeaders;
 
   // Key serializer
   private RecordSerializer<K> keySerializer;
@@ -119,6 +127,10 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     this.metadata = metadata;
     this.config = config;
     this.transportClient = transportClient;
+    this.streamingTransportClient =
+        transportClient instanceof GrpcTransportClient && ((GrpcTransportClient) transportClient).isStreamingEnabled()
+            ? (GrpcTransportClient) transportClient
+            : null;
 
     if (config.isSpeculativeQueryEnabled()) {
       this.requiredReplicaCount = 2;
@@ -128,6 +140,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
 
     this.deserializationExecutor =
         Optional.ofNullable(config.getDeserializationExecutor()).orElse(DESERIALIZATION_EXECUTOR);
+    this.singleGetRequestHeaders = withRequestTimeout(new HashMap<>(1));
     String storeName = metadata.getStoreName();
     BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "BatchGet Transport Exception for " + storeName;
     COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "Compute Transport Exception for " + storeName;
@@ -260,7 +273,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       CompletableFuture<Integer> routeRequestFuture = null;
       try {
         String url = route + uri;
-        CompletableFuture<TransportClientResponse> transportFuture = transportClient.get(url);
+        CompletableFuture<TransportClientResponse> transportFuture = transportClient.get(url, singleGetRequestHeaders);
         routeRequestFuture =
             metadata.trackHealthBasedOnRequestToInstance(route, currentVersion, partitionId, transportFuture)
                 .getOriginalFuture();
@@ -368,26 +381,50 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         composeRouteForBatchGetRequest(requestContext),
-        RequestHeadersProvider.getStreamingBatchGetHeaders(keys.size()),
+        withRequestTimeout(RequestHeadersProvider.getStreamingBatchGetHeaders(keys.size())),
         this::serializeMultiGetRequest,
-        (MultiKeyStreamingRouteResponseHandler<K>) (
-            keysForRoutes,
-            response,
-            throwable) -> batchGetTransportRequestCompletionHandler(requestContext, response, throwable, callback));
+        keysForRoutes -> new MultiKeyStreamingRouteResponseHandler() {
+          // Indexes of the keys of the route whose records were received so far, across chunks
+          private final Set<Integer> keysSeen = new HashSet<>();
+
+          @Override
+          public void onRecordsReceived(TransportClientResponseForRoute transportClientResponse) {
+            batchGetRecordsHandler(requestContext, transportClientResponse, keysForRoutes, keysSeen, callback);
+          }
+
+          @Override
+          public void onCompletion(TransportClientResponseForRoute transportClientResponse, Throwable exception) {
+            batchGetTransportRequestCompletionHandler(
+                requestContext,
+                transportClientResponse,
+                exception,
+                keysForRoutes,
+                keysSeen,
+                callback);
+          }
+        });
   }
 
-  private interface MultiKeyStreamingRouteResponseHandler<K> {
+  /**
+   * Multi-key requests might be routed to different server hosts and this class offers a way to handle the response
+   * per route. The records of a route are handed over either at once or, when the transport streams them back, in
+   * several chunks, and the calls for a given route never overlap.
+   */
+  private interface MultiKeyStreamingRouteResponseHandler {
+    /**
+     * Invoked for every chunk of records received for the route, in order. It is responsible for invoking
+     * {@link StreamingCallback#onRecordReceived(Object, Object)} for each record of the chunk.
+     */
+    void onRecordsReceived(TransportClientResponseForRoute transportClientResponse);
+
     /**
-     * Multi-key requests might be routed to different server hosts and this class offers a way to handle the response
-     * per route, and it is responsible for:
+     * Invoked once all the records of the route were received, or once the request for the route failed, and it is
+     * responsible for:
      * 1. Marking the original {@link RequestContext} as completed (successfully or exceptionally).
      * 2. Completing the {@link TransportClientResponseForRoute#getRouteRequestFuture()} with appropriate HTTP status
      * codes for that route after the response has been processed completely. (200 and 404 are considered SUCCESS).
      */
-    void handle(
-        List<MultiKeyRequestContext.KeyInfo<K>> keysForRoutes,
-        TransportClientResponseForRoute transportClientResponse,
-        Throwable exception);
+    void onCompletion(TransportClientResponseForRoute transportClientResponse, Throwable exception);
   }
 
   /**
@@ -401,8 +438,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
    * @param routeForMultiKeyRequest The endpoint on the servers that the POST request will be sent to
    * @param requestHeaders The headers to be sent with the request
    * @param requestSerializer The function that serializes the request from a list of keys to a byte array. This will form the body of the request.
-   * @param routeResponseHandler The callback is invoked whenever a response is received from the internal transport.
-   *                             It is responsible for invoking {@link StreamingCallback#onRecordReceived(Object, Object)}
+   * @param routeHandlerProvider Provides the handler of the response of each route, given its keys. The handler is
+   *                             responsible for invoking {@link StreamingCallback#onRecordReceived(Object, Object)}
    *                             on the {@param callback} function for each key, marking the {@param requestContext} as
    *                             completed, and for completing the {@link TransportClientResponseForRoute#getRouteRequestFuture()} for that route.
    */
@@ -414,7 +451,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       String routeForMultiKeyRequest,
       Map<String, String> requestHeaders,
       Function<List<MultiKeyRequestContext.KeyInfo<K>>, byte[]> requestSerializer,
-      MultiKeyStreamingRouteResponseHandler routeResponseHandler) {
+      Function<List<MultiKeyRequestContext.KeyInfo<K>>, MultiKeyStreamingRouteResponseHandler> routeHandlerProvider) {
     verifyMetadataInitialized();
     int keyCnt = keys.size();
     if (keyCnt > metadata.getBatchGetLimit()) {
@@ -475,18 +512,56 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       byte[] serializedRequest = requestSerializer.apply(keysForRoutes);
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(nanoTsBeforeSerialization));
       requestContext.recordRequestSentTimeStamp(route);
-      CompletableFuture<TransportClientResponse> transportClientFutureForRoute =
-          transportClient.post(url, requestHeaders, serializedRequest);
+      MultiKeyStreamingRouteResponseHandler routeResponseHandler = routeHandlerProvider.apply(keysForRoutes);
+      // Completed by the transport, or by the health monitor if the request leaks
+      CompletableFuture<TransportClientResponse> transportClientFutureForRoute = new CompletableFuture<>();
       ChainedCompletableFuture<Integer, Integer> routeRequestFuture =
           metadata.trackHealthBasedOnRequestToInstance(route, currentVersion, 0, transportClientFutureForRoute);
       requestContext.routeRequestMap.put(route, routeRequestFuture.getOriginalFuture());
       requestCompletionFutures[routeIndex] = routeRequestFuture.getResultFuture();
 
+      /*
+       * Chunks can still show up after the route timed out, so the handler is invoked under its lock and chunks are
+       * dropped once the transport future is completed.
+       */
       transportClientFutureForRoute.whenComplete((transportClientResponse, throwable) -> {
         requestContext.recordRequestSubmissionToResponseHandlingTime(route);
         TransportClientResponseForRoute response = TransportClientResponseForRoute
             .fromTransportClientWithRoute(transportClientResponse, route, routeRequestFuture.getOriginalFuture());
-        routeResponseHandler.handle(keysForRoutes, response, throwable);
+        synchronized (routeResponseHandler) {
+          if (throwable == null && streamingTransportClient == null) {
+            // The whole response of the route was received at once
+            try {
+              routeResponseHandler.onRecordsReceived(response);
+            } catch (Exception e) {
+              throwable = e;
+            }
+          }
+          routeResponseHandler.onCompletion(response, throwable);
+        }
+      });
+
+      CompletableFuture<TransportClientResponse> responseFuture;
+      if (streamingTransportClient != null) {
+        responseFuture = streamingTransportClient.streamPost(url, requestHeaders, serializedRequest, chunk -> {
+          requestContext.recordRequestSubmissionToResponseHandlingTime(route);
+          synchronized (routeResponseHandler) {
+            if (!transportClientFutureForRoute.isDone()) {
+              routeResponseHandler.onRecordsReceived(
+                  TransportClientResponseForRoute
+                      .fromTransportClientWithRoute(chunk, route, routeRequestFuture.getOriginalFuture()));
+            }
+          }
+        });
+      } else {
+        responseFuture = transportClient.post(url, requestHeaders, serializedRequest);
+      }
+      responseFuture.whenComplete((transportClientResponse, throwable) -> {
+        if (throwable != null) {
+          transportClientFutureForRoute.completeExceptionally(throwable);
+        } else {
+          transportClientFutureForRoute.complete(transportClientResponse);
+        }
       });
       routeIndex++;
     }
@@ -545,23 +620,15 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   /**
-   * This callback handles results from one route for multiple keys in that route once the post()
-   * is completed with {@link TransportClientResponseForRoute} for this route.
+   * This callback handles the records received from one route, either the whole response of the route or a chunk of
+   * it, and keeps track of the keys seen so far in {@param keysSeen}.
    */
-  private void batchGetTransportRequestCompletionHandler(
+  private void batchGetRecordsHandler(
       MultiKeyRequestContext<K, V> requestContext,
       TransportClientResponseForRoute transportClientResponse,
-      Throwable exception,
+      List<MultiKeyRequestContext.KeyInfo<K>> keyInfos,
+      Set<Integer> keysSeen,
       StreamingCallback<K, V> callback) {
-    if (exception != null) {
-      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE)) {
-        LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
-      }
-
-      requestContext.markCompleteExceptionally(transportClientResponse, exception);
-      transportClientResponse.getRouteRequestFuture().completeExceptionally(exception);
-      return;
-    }
     // deserialize records and find the status
     RecordDeserializer<MultiGetResponseRecordV1> deserializer =
         getMultiGetResponseRecordDeserializer(transportClientResponse.getSchemaId());
@@ -572,10 +639,6 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         transportClientResponse.getRouteId(),
         getLatencyInNS(nanoTsBeforeRequestDeserialization));
 
-    List<MultiKeyRequestContext.KeyInfo<K>> keyInfos =
-        requestContext.keysForRoutes(transportClientResponse.getRouteId());
-    Set<Integer> keysSeen = new HashSet<>();
-
     long totalDecompressionTimeForResponse = 0;
     VeniceCompressor compressor =
         metadata.getCompressor(transportClientResponse.getCompressionStrategy(), requestContext.currentVersion);
@@ -600,6 +663,27 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       callback.onRecordReceived(k.getKey(), deserializedValue);
     }
     requestContext.recordDecompressionTime(transportClientResponse.getRouteId(), totalDecompressionTimeForResponse);
+  }
+
+  /**
+   * This callback completes the request for one route once all of its records were handled, or once it failed.
+   */
+  private void batchGetTransportRequestCompletionHandler(
+      MultiKeyRequestContext<K, V> requestContext,
+      TransportClientResponseForRoute transportClientResponse,
+      Throwable exception,
+      List<MultiKeyRequestContext.KeyInfo<K>> keyInfos,
+      Set<Integer> keysSeen,
+      StreamingCallback<K, V> callback) {
+    if (exception != null) {
+      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE)) {
+        LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
+      }
+
+      requestContext.markCompleteExceptionally(transportClientResponse, exception);
+      transportClientResponse.getRouteRequestFuture().completeExceptionally(exception);
+      return;
+    }
     for (int i = 0; i < keyInfos.size(); i++) {
       if (!keysSeen.contains(i)) {
         callback.onRecordReceived(keyInfos.get(i).getKey(), null);
@@ -628,17 +712,49 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         composeRouteForComputeRequest(requestContext),
-        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+        withRequestTimeout(
+            RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true)),
         (keysForRoutes) -> serializeComputeRequest(computeRequest, keysForRoutes),
-        (MultiKeyStreamingRouteResponseHandler<K>) (keysForRoutes, response, throwable) -> {
-          ComputeRecordStreamDecoder decoder = getComputeDecoderForRoute(
-              requestContext,
-              computeRequest,
-              keysForRoutes,
-              response,
-              computeResultRecordDeserializer,
-              callback);
-          computeTransportRequestCompletionHandler(response, throwable, decoder);
+        keysForRoutes -> new MultiKeyStreamingRouteResponseHandler() {
+          // Created along with the first chunk, since its completion needs the route of the response
+          private ComputeRecordStreamDecoder decoder = null;
+          private boolean failed = false;
+
+          private ComputeRecordStreamDecoder getDecoder(TransportClientResponseForRoute transportClientResponse) {
+            if (decoder == null) {
+              decoder = getComputeDecoderForRoute(
+                  requestContext,
+                  computeRequest,
+                  keysForRoutes,
+                  transportClientResponse,
+                  computeResultRecordDeserializer,
+                  callback);
+            }
+            return decoder;
+          }
+
+          @Override
+          public void onRecordsReceived(TransportClientResponseForRoute transportClientResponse) {
+            if (!failed) {
+              boolean isFirstChunk = decoder == null;
+              ComputeRecordStreamDecoder routeDecoder = getDecoder(transportClientResponse);
+              failed = !computeRecordsHandler(transportClientResponse, isFirstChunk, routeDecoder);
+            }
+          }
+
+          @Override
+          public void onCompletion(TransportClientResponseForRoute transportClientResponse, Throwable exception) {
+            if (failed) {
+              return;
+            }
+            if (exception == null && decoder == null) {
+              // No record at all was streamed back, the headers still need to be received before completing
+              if (!computeRecordsHandler(transportClientResponse, true, getDecoder(transportClientResponse))) {
+                return;
+              }
+            }
+            computeTransportRequestCompletionHandler(exception, getDecoder(transportClientResponse));
+          }
         });
   }
 
@@ -703,13 +819,37 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   /**
-   * This callback handles results from one route for multiple keys in that route once the post()
-   * is completed with {@link TransportClientResponseForRoute} for this route.
+   * This callback feeds the records received from one route, either the whole response of the route or a chunk of it,
+   * to the decoder of the route. If decoding fails, the decoder is completed right away.
+   *
+   * @return whether the records were decoded successfully
    */
-  private void computeTransportRequestCompletionHandler(
+  private boolean computeRecordsHandler(
       TransportClientResponseForRoute transportClientResponse,
-      Throwable exception,
+      boolean isFirstChunk,
       ComputeRecordStreamDecoder decoder) {
+    try {
+      if (isFirstChunk) {
+        Map<String, String> headers = Collections
+            .singletonMap(HttpConstants.VENICE_SCHEMA_ID, String.valueOf(transportClientResponse.getSchemaId()));
+        decoder.onHeaderReceived(headers);
+      }
+      if (transportClientResponse.getBody() != null && transportClientResponse.getBody().length > 0) {
+        decoder.onDataReceived(ByteBuffer.wrap(transportClientResponse.getBody()));
+      }
+      return true;
+    } catch (Throwable t) {
+      LOGGER.error("Exception while decoding compute response. ExMsg: {}", t.getMessage());
+      decoder.onCompletion(
+          Optional.of(new VeniceClientHttpException("Failed to decode compute response", SC_INTERNAL_SERVER_ERROR, t)));
+      return false;
+    }
+  }
+
+  /**
+   * This callback completes the decoder of one route once all of its records were handled, or once it failed.
+   */
+  private void computeTransportRequestCompletionHandler(Throwable exception, ComputeRecordStreamDecoder decoder) {
     if (exception != null) {
       if (!REDUNDANT_LOGGING_FILTER.isRedundantException(COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE)) {
         LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
@@ -725,11 +865,6 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     }
 
     try {
-      Map<String, String> headers = Collections
-          .singletonMap(HttpConstants.VENICE_SCHEMA_ID, String.valueOf(transportClientResponse.getSchemaId()));
-
-      decoder.onHeaderReceived(headers);
-      decoder.onDataReceived(ByteBuffer.wrap(transportClientResponse.getBody()));
       decoder.onCompletion(Optional.empty());
     } catch (Throwable t) {
       LOGGER.error("Exception while decoding compute response. ExMsg: {}", t.getMessage());
@@ -738,6 +873,18 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     }
   }
 
+  /**
+   * Adds the storage node request timeout to the given request headers if it is configured, so that the storage nodes
+   * can stop working on the requests, which this client doesn't wait for anymore.
+   */
+  private Map<String, String> withRequestTimeout(Map<String, String> headers) {
+    long requestTimeoutInMs = config.getStorageNodeRequestTimeoutInMs();
+    if (requestTimeoutInMs > 0) {
+      headers.put(HttpConstants.VENICE_REQUEST_TIMEOUT_MS, Long.toString(requestTimeoutInMs));
+    }
+    return headers;
+  }
+
   private byte[] serializeComputeRequest(
       ComputeRequestWrapper computeRequest,
       List<MultiKeyRequestContext.KeyInfo<K>> keyList) {
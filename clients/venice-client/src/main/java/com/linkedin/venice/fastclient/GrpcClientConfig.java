@@ -15,12 +15,15 @@ public class GrpcClientConfig {
   private final Map<String, String> nettyServerToGrpcAddress;
   // SSL Factory required if using SSL
   private final SSLFactory sslFactory;
+  // Use the server-streaming batch get and compute RPCs, which are only served by servers that implement them
+  private final boolean streamingEnabled;
 
   GrpcClientConfig(Builder builder) {
     this.r2Client = builder.r2Client;
     this.port = builder.port;
     this.nettyServerToGrpcAddress = builder.nettyServerToGrpcAddress;
     this.sslFactory = builder.sslFactory;
+    this.streamingEnabled = builder.streamingEnabled;
   }
 
   public Client getR2Client() {
@@ -39,12 +42,17 @@ public class GrpcClientConfig {
     return sslFactory;
   }
 
+  public boolean isStreamingEnabled() {
+    return streamingEnabled;
+  }
+
   public static class Builder {
     private Client r2Client = null;
 
     private int port;
     private Map<String, String> nettyServerToGrpcAddress = null;
     private SSLFactory sslFactory = null;
+    private boolean streamingEnabled = false;
 
     public Builder setR2Client(Client r2Client) {
       this.r2Client = r2Client;
@@ -66,6 +74,11 @@ public class GrpcClientConfig {
       return this;
     }
 
+    public Builder setStreamingEnabled(boolean streamingEnabled) {
+      this.streamingEnabled = streamingEnabled;
+      return this;
+    }
+
     public GrpcClientConfig build() {
       Preconditions.checkNotNull(r2Client);
       Preconditions.checkNotNull(nettyServerToGrpcAddress);
@@ -4,6 +4,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.ByteString;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.HttpMethod;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
@@ -26,11 +27,14 @@ import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,6 +43,7 @@ import org.apache.logging.log4j.Logger;
 public class GrpcTransportClient extends InternalTransportClient {
   private static final Logger LOGGER = LogManager.getLogger(GrpcTransportClient.class);
   private static final String STORAGE_ACTION = "storage";
+  private static final String COMPUTE_ACTION = "compute";
   private static final String GRPC_ADDRESS_FORMAT = "%s:%s";
   private final VeniceConcurrentHashMap<String, ManagedChannel> serverGrpcChannels;
   private final Map<String, String> nettyServerToGrpcAddress;
@@ -49,6 +54,7 @@ public class GrpcTransportClient extends InternalTransportClient {
   private final ChannelCredentials channelCredentials;
 
   private final int port;
+  private final boolean streamingEnabled;
 
   public GrpcTransportClient(GrpcClientConfig grpcClientConfig) {
     this(
@@ -60,7 +66,8 @@ public class GrpcTransportClient extends InternalTransportClient {
          */
         new HashMap<>(grpcClientConfig.getNettyServerToGrpcAddress()),
         grpcClientConfig.getPort(),
-        grpcClientConfig.getSslFactory());
+        grpcClientConfig.getSslFactory(),
+        grpcClientConfig.isStreamingEnabled());
   }
 
   @VisibleForTesting
@@ -69,9 +76,20 @@ public class GrpcTransportClient extends InternalTransportClient {
       Map<String, String> nettyServerToGrpcAddress,
       int port,
       SSLFactory sslFactory) {
+    this(transportClient, nettyServerToGrpcAddress, port, sslFactory, true);
+  }
+
+  @VisibleForTesting
+  GrpcTransportClient(
+      TransportClient transportClient,
+      Map<String, String> nettyServerToGrpcAddress,
+      int port,
+      SSLFactory sslFactory,
+      boolean streamingEnabled) {
     this.r2TransportClientForNonStorageOps = transportClient;
     this.nettyServerToGrpcAddress = nettyServerToGrpcAddress;
     this.port = port;
+    this.streamingEnabled = streamingEnabled;
     this.serverGrpcChannels = new VeniceConcurrentHashMap<>();
     this.stubCache = new VeniceConcurrentHashMap<>();
     this.channelCredentials = buildChannelCredentials(sslFactory);
@@ -90,6 +108,42 @@ public class GrpcTransportClient extends InternalTransportClient {
     return handleRequest(requestPath, headers, requestBody, false);
   }
 
+  /**
+   * @return whether batch get and compute requests can be sent through {@link #streamPost}, which requires servers
+   *         that implement the server-streaming RPCs.
+   */
+  public boolean isStreamingEnabled() {
+    return streamingEnabled;
+  }
+
+  /**
+   * Sends a batch get or compute request through the server-streaming RPCs, and hands the records over to
+   * {@param chunkConsumer} chunk by chunk, in order, as they are received. Each chunk carries a self-contained sequence
+   * of serialized records. The returned future completes once the whole response was received, with a response
+   * which carries no records.
+   */
+  public CompletableFuture<TransportClientResponse> streamPost(
+      String requestPath,
+      Map<String, String> headers,
+      byte[] requestBody,
+      Consumer<TransportClientResponse> chunkConsumer) {
+    if (!streamingEnabled) {
+      CompletableFuture<TransportClientResponse> failedFuture = new CompletableFuture<>();
+      failedFuture.completeExceptionally(new VeniceClientException("Streaming is not enabled for the gRPC client"));
+      return failedFuture;
+    }
+    String[] requestParts = requestPath.split("/");
+    if (!isValidRequest(requestParts, false) || !isStreamingAction(requestParts[3])) {
+      LOGGER.error("Failed to process streaming request: {}", Arrays.toString(requestParts));
+      CompletableFuture<TransportClientResponse> failedFuture = new CompletableFuture<>();
+      failedFuture.completeExceptionally(new VeniceClientException("Invalid streaming request"));
+
+      return failedFuture;
+    }
+
+    return handleStreamingQueries(requestParts, headers, requestBody, chunkConsumer);
+  }
+
   @Override
   public void close() throws IOException {
     for (Map.Entry<String, ManagedChannel> entry: serverGrpcChannels.entrySet()) {
@@ -135,6 +189,24 @@ public class GrpcTransportClient extends InternalTransportClient {
     return requestBuilder.build();
   }
 
+  @VisibleForTesting
+  VeniceClientRequest buildVeniceClientComputeRequest(
+      String[] requestParts,
+      Map<String, String> headers,
+      byte[] requestBody) {
+    String valueSchemaId = headers.get(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID);
+    return VeniceClientRequest.newBuilder()
+        .setResourceName(requestParts[4])
+        .setIsBatchRequest(true)
+        .setIsComputeRequest(true)
+        .setIsStreamingRequest(headers.containsKey(HttpConstants.VENICE_STREAMING))
+        .setComputeRequestVersion(Integer.parseInt(headers.get(HttpConstants.VENICE_API_VERSION)))
+        .setComputeValueSchemaId(valueSchemaId == null ? -1 : Integer.parseInt(valueSchemaId))
+        .setMethod(HttpMethod.POST.name())
+        .setKeyBytes(ByteString.copyFrom(requestBody))
+        .build();
+  }
+
   @VisibleForTesting
   VeniceReadServiceGrpc.VeniceReadServiceStub getOrCreateStub(String serverAddress) {
     String grpcAddress = getGrpcAddressFromServerAddress(serverAddress);
@@ -199,11 +271,13 @@ public class GrpcTransportClient extends InternalTransportClient {
 
     String queryAction = requestParts[3];
     CompletableFuture<TransportClientResponse> responseFuture;
-    if (!STORAGE_ACTION.equalsIgnoreCase(queryAction)) {
+    if (COMPUTE_ACTION.equalsIgnoreCase(queryAction) && !isSingleGet) {
+      responseFuture = handleComputeQueries(requestPath, requestParts, headers, requestBody);
+    } else if (!STORAGE_ACTION.equalsIgnoreCase(queryAction)) {
       LOGGER.debug("Delegating unsupported query action ({}), to R2 client", queryAction);
       responseFuture = handleNonStorageQueries(requestPath, headers, requestBody, isSingleGet);
     } else {
-      responseFuture = handleStorageQueries(requestParts, requestBody, isSingleGet);
+      responseFuture = handleStorageQueries(requestParts, headers, requestBody, isSingleGet);
     }
 
     return responseFuture;
@@ -223,11 +297,12 @@ public class GrpcTransportClient extends InternalTransportClient {
   @VisibleForTesting
   CompletableFuture<TransportClientResponse> handleStorageQueries(
       String[] requestParts,
+      Map<String, String> headers,
       byte[] requestBody,
       boolean isSingleGet) {
     CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
     VeniceClientRequest veniceClientRequest = buildVeniceClientRequest(requestParts, requestBody, isSingleGet);
-    VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getOrCreateStub(requestParts[2]);
+    VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getStub(requestParts[2], headers);
 
     if (isSingleGet) {
       clientStub.get(veniceClientRequest, new VeniceGrpcStreamObserver(responseFuture));
@@ -238,6 +313,68 @@ public class GrpcTransportClient extends InternalTransportClient {
     return responseFuture;
   }
 
+  /**
+   * There is no unary compute RPC, so the chunks streamed back by the server are concatenated into a single response,
+   * which is valid since every chunk is a self-contained sequence of records. If streaming is disabled, e.g. since the
+   * servers don't implement the streaming RPCs yet, compute requests go through R2 instead.
+   */
+  @VisibleForTesting
+  CompletableFuture<TransportClientResponse> handleComputeQueries(
+      String requestPath,
+      String[] requestParts,
+      Map<String, String> headers,
+      byte[] requestBody) {
+    if (!streamingEnabled) {
+      return handleNonStorageQueries(requestPath, headers, requestBody, false);
+    }
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    return handleStreamingQueries(
+        requestParts,
+        headers,
+        requestBody,
+        chunk -> body.write(chunk.getBody(), 0, chunk.getBody().length)).thenApply(
+            response -> new TransportClientResponse(
+                response.getSchemaId(),
+                response.getCompressionStrategy(),
+                body.toByteArray()));
+  }
+
+  @VisibleForTesting
+  CompletableFuture<TransportClientResponse> handleStreamingQueries(
+      String[] requestParts,
+      Map<String, String> headers,
+      byte[] requestBody,
+      Consumer<TransportClientResponse> chunkConsumer) {
+    CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
+    VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getStub(requestParts[2], headers);
+    VeniceGrpcChunkedStreamObserver streamObserver = new VeniceGrpcChunkedStreamObserver(responseFuture, chunkConsumer);
+
+    if (COMPUTE_ACTION.equalsIgnoreCase(requestParts[3])) {
+      clientStub.computeStream(buildVeniceClientComputeRequest(requestParts, headers, requestBody), streamObserver);
+    } else {
+      clientStub.batchGetStream(buildVeniceClientRequest(requestParts, requestBody, false), streamObserver);
+    }
+
+    return responseFuture;
+  }
+
+  /**
+   * The request timeout is propagated as the gRPC deadline of the call, which the server checks while processing the
+   * request, and which also cancels the call on the client side once exceeded.
+   */
+  private VeniceReadServiceGrpc.VeniceReadServiceStub getStub(String serverAddress, Map<String, String> headers) {
+    VeniceReadServiceGrpc.VeniceReadServiceStub clientStub = getOrCreateStub(serverAddress);
+    String requestTimeoutMs = headers.get(HttpConstants.VENICE_REQUEST_TIMEOUT_MS);
+    if (requestTimeoutMs != null) {
+      clientStub = clientStub.withDeadlineAfter(Long.parseLong(requestTimeoutMs), TimeUnit.MILLISECONDS);
+    }
+    return clientStub;
+  }
+
+  private static boolean isStreamingAction(String queryAction) {
+    return STORAGE_ACTION.equalsIgnoreCase(queryAction) || COMPUTE_ACTION.equalsIgnoreCase(queryAction);
+  }
+
   @VisibleForTesting
   boolean isValidRequest(String[] requestParts, boolean isSingleGet) {
     int requestPartsLength = requestParts.length;
@@ -247,11 +384,16 @@ public class GrpcTransportClient extends InternalTransportClient {
      * Ensure the request path contain at least 4 parts.
      * For non-storage query action, delegate the validation to underlying r2 transport client and treat it as valid
      * For storage query action, ensure the length is 7 for single gets and 5 for multi get. Refer to #handleRequest
-     * documentation for the format of request path.
+     * documentation for the format of request path. Compute query action is only valid for multi key requests, with
+     * the same format as multi get.
      */
     if (requestPartsLength >= 4) {
-      validRequest = !STORAGE_ACTION.equalsIgnoreCase(requestParts[3])
-          || (isSingleGet ? requestPartsLength == 7 : requestPartsLength == 5);
+      if (COMPUTE_ACTION.equalsIgnoreCase(requestParts[3]) && !isSingleGet) {
+        validRequest = requestPartsLength == 5;
+      } else {
+        validRequest = !STORAGE_ACTION.equalsIgnoreCase(requestParts[3])
+            || (isSingleGet ? requestPartsLength == 7 : requestPartsLength == 5);
+      }
     }
 
     return validRequest;
@@ -311,6 +453,7 @@ public class GrpcTransportClient extends InternalTransportClient {
 
       switch (statusCode) {
         case VeniceReadResponseStatus.BAD_REQUEST:
+        case VeniceReadResponseStatus.REQUEST_TIMEOUT:
           exception = new VeniceClientHttpException(errorMessage, statusCode);
           break;
         case VeniceReadResponseStatus.TOO_MANY_REQUESTS:
@@ -363,4 +506,68 @@ public class GrpcTransportClient extends InternalTransportClient {
       complete(null, exception);
     }
   }
+
+  /**
+   * Stream observer of the server-streaming RPCs. Every message carrying data is a chunk of records, which is handed
+   * over as soon as it is received, while the last message carries no data and completes the response future.
+   * gRPC invokes the observer sequentially, so chunks are handed over one at a time, in order.
+   */
+  static class VeniceGrpcChunkedStreamObserver extends VeniceGrpcStreamObserver {
+    private final Consumer<TransportClientResponse> chunkConsumer;
+    private TransportClientResponse lastResponse = null;
+    private boolean failed = false;
+
+    public VeniceGrpcChunkedStreamObserver(
+        CompletableFuture<TransportClientResponse> responseFuture,
+        Consumer<TransportClientResponse> chunkConsumer) {
+      super(responseFuture);
+      this.chunkConsumer = chunkConsumer;
+    }
+
+    @Override
+    public void onNext(VeniceServerResponse value) {
+      if (failed) {
+        return;
+      }
+      if (value.getErrorCode() != VeniceReadResponseStatus.OK) {
+        failed = true;
+        handleResponseError(value);
+        return;
+      }
+
+      TransportClientResponse response = new TransportClientResponse(
+          value.getSchemaId(),
+          CompressionStrategy.valueOf(value.getCompressionStrategy()),
+          value.getData().toByteArray());
+      if (value.getData().isEmpty()) {
+        lastResponse = response;
+        return;
+      }
+
+      try {
+        chunkConsumer.accept(response);
+      } catch (Exception e) {
+        failed = true;
+        complete(null, e);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      failed = true;
+      super.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      if (failed) {
+        return;
+      }
+      if (lastResponse == null) {
+        complete(null, new VeniceClientException("gRPC stream completed without a final response"));
+      } else {
+        complete(lastResponse, null);
+      }
+    }
+  }
 }
@@ -204,7 +204,7 @@ public class DispatchingAvroGenericStoreClientTest {
 
     if (mockTransportClient) {
       // mock get()
-      doReturn(valueFuture).when(mockedTransportClient).get(any());
+      doReturn(valueFuture).when(mockedTransportClient).get(any(), any());
       if (transportClientThrowsException) {
         valueFuture.completeExceptionally(new VeniceClientException("Exception for client to return 503"));
       } else {
@@ -2,6 +2,8 @@ package com.linkedin.venice.fastclient;
 
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import com.linkedin.r2.transport.common.Client;
@@ -34,6 +36,13 @@ public class GrpcClientConfigTest {
     assertEquals(config.getNettyServerToGrpcAddress(), NETTY_SERVER_TO_GRPC_SERVER_ADDRESS);
     assertEquals(config.getSslFactory(), sslFactory);
     assertEquals(config.getPort(), PORT);
+    assertFalse(config.isStreamingEnabled(), "Streaming should be disabled by default");
+
+    config = new GrpcClientConfig.Builder().setR2Client(r2Client)
+        .setNettyServerToGrpcAddress(NETTY_SERVER_TO_GRPC_SERVER_ADDRESS)
+        .setStreamingEnabled(true)
+        .build();
+    assertTrue(config.isStreamingEnabled());
   }
 
   @Test(expectedExceptions = NullPointerException.class)
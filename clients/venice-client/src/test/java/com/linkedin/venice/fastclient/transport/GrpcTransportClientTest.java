@@ -4,7 +4,9 @@ import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
 import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.HttpMethod;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.transport.TransportClient;
@@ -13,9 +15,12 @@ import com.linkedin.venice.fastclient.GrpcClientConfig;
 import com.linkedin.venice.protocols.VeniceClientRequest;
 import com.linkedin.venice.protocols.VeniceReadServiceGrpc;
 import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.response.VeniceReadResponseStatus;
 import com.linkedin.venice.security.SSLFactory;
 import io.grpc.ChannelCredentials;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.mockito.Mock;
@@ -150,6 +155,64 @@ public class GrpcTransportClientTest {
     // batch get validation
     String[] validBatchRequestPath = { PROTOCOL, ":", URI, STORAGE, RESOURCE_NAME };
     assertTrue(grpcTransportClient.isValidRequest(validBatchRequestPath, false));
+
+    // compute validation
+    String[] validComputeRequestPath = { PROTOCOL, ":", URI, "compute", RESOURCE_NAME };
+    assertTrue(grpcTransportClient.isValidRequest(validComputeRequestPath, false));
+    String[] invalidComputeRequestPath = { PROTOCOL, ":", URI, "compute", RESOURCE_NAME, PARTITION_STRING };
+    assertFalse(grpcTransportClient.isValidRequest(invalidComputeRequestPath, false));
+  }
+
+  @Test
+  public void testBuildVeniceClientComputeRequest() {
+    String[] computeRequestPath = { PROTOCOL, ":", URI, "compute", RESOURCE_NAME };
+    Map<String, String> headers = ImmutableMap.of(
+        HttpConstants.VENICE_API_VERSION,
+        "3",
+        HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID,
+        "2",
+        HttpConstants.VENICE_STREAMING,
+        "1");
+    VeniceClientRequest clientRequest =
+        grpcTransportClient.buildVeniceClientComputeRequest(computeRequestPath, headers, new byte[] { 1, 2 });
+
+    assertTrue(clientRequest.getIsComputeRequest());
+    assertTrue(clientRequest.getIsBatchRequest());
+    assertTrue(clientRequest.getIsStreamingRequest());
+    assertEquals(clientRequest.getComputeRequestVersion(), 3);
+    assertEquals(clientRequest.getComputeValueSchemaId(), 2);
+    assertEquals(clientRequest.getResourceName(), RESOURCE_NAME);
+    assertEquals(clientRequest.getKeyBytes().toByteArray(), new byte[] { 1, 2 });
+  }
+
+  @Test
+  public void testChunkedStreamObserver() throws Exception {
+    CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
+    List<TransportClientResponse> chunks = new ArrayList<>();
+    GrpcTransportClient.VeniceGrpcChunkedStreamObserver streamObserver =
+        new GrpcTransportClient.VeniceGrpcChunkedStreamObserver(responseFuture, chunks::add);
+
+    streamObserver.onNext(buildVeniceServerResponseChunk(new byte[] { 1 }));
+    streamObserver.onNext(buildVeniceServerResponseChunk(new byte[] { 2, 3 }));
+    assertEquals(chunks.size(), 2);
+    assertEquals(chunks.get(1).getBody(), new byte[] { 2, 3 });
+    assertFalse(responseFuture.isDone());
+
+    // The last message carries no records and completes the response
+    streamObserver.onNext(buildVeniceServerResponseChunk(new byte[0]));
+    assertFalse(responseFuture.isDone());
+    streamObserver.onCompleted();
+    assertEquals(chunks.size(), 2);
+    assertEquals(responseFuture.get().getBody().length, 0);
+
+    // An error in the middle of the stream fails the response
+    CompletableFuture<TransportClientResponse> failedResponseFuture = new CompletableFuture<>();
+    streamObserver = new GrpcTransportClient.VeniceGrpcChunkedStreamObserver(failedResponseFuture, chunks::add);
+    streamObserver.onNext(buildVeniceServerResponseChunk(new byte[] { 4 }));
+    streamObserver.onNext(buildMockVeniceServerResponse(500, "internal error"));
+    streamObserver.onCompleted();
+    assertEquals(chunks.size(), 3);
+    assertTrue(failedResponseFuture.isCompletedExceptionally());
   }
 
   @Ignore(value = "Disabling the tests due to mockito limitation")
@@ -163,7 +226,7 @@ public class GrpcTransportClientTest {
     doReturn(mockClientRequest).when(grpcTransportClient).buildVeniceClientRequest(any(), any(), anyBoolean());
     doReturn(mockClientStub).when(grpcTransportClient).getOrCreateStub(any());
 
-    grpcTransportClient.handleStorageQueries(DEFAULT_REQUEST_PATH, new byte[0], true);
+    grpcTransportClient.handleStorageQueries(DEFAULT_REQUEST_PATH, Collections.emptyMap(), new byte[0], true);
     verify(mockClientStub).get(eq(mockClientRequest), any());
   }
 
@@ -178,7 +241,7 @@ public class GrpcTransportClientTest {
     doReturn(mockClientRequest).when(grpcTransportClient).buildVeniceClientRequest(any(), any(), anyBoolean());
     doReturn(mockClientStub).when(grpcTransportClient).getOrCreateStub(any());
 
-    grpcTransportClient.handleStorageQueries(DEFAULT_REQUEST_PATH, new byte[0], false);
+    grpcTransportClient.handleStorageQueries(DEFAULT_REQUEST_PATH, Collections.emptyMap(), new byte[0], false);
     verify(mockClientStub).batchGet(eq(mockClientRequest), any());
   }
 
@@ -197,6 +260,26 @@ public class GrpcTransportClientTest {
     verify(mockTransportClient).post(eq(URI), eq(headers), eq(body));
   }
 
+  @Test
+  public void testStreamingDisabled() {
+    TransportClient mockTransportClient = mock(TransportClient.class);
+    GrpcTransportClient transportClient =
+        new GrpcTransportClient(mockTransportClient, ImmutableMap.of(), 23900, null, false);
+    assertFalse(transportClient.isStreamingEnabled());
+
+    // Compute requests go through R2 when the servers may not implement the streaming RPCs
+    String computeRequestPath = PROTOCOL + "/:/" + URI + "/compute/" + RESOURCE_NAME;
+    Map<String, String> headers = Collections.emptyMap();
+    byte[] body = new byte[] { 1 };
+    transportClient.handleComputeQueries(computeRequestPath, computeRequestPath.split("/"), headers, body);
+    verify(mockTransportClient).post(eq(computeRequestPath), eq(headers), eq(body));
+
+    CompletableFuture<TransportClientResponse> responseFuture =
+        transportClient.streamPost(computeRequestPath, headers, body, chunk -> {});
+    assertTrue(responseFuture.isCompletedExceptionally());
+    verifyNoMoreInteractions(mockTransportClient);
+  }
+
   @Test(dataProvider = "error-code-error-message")
   public void testHandleResponseError(int errorCode, String errorMessage) {
     CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
@@ -224,6 +307,15 @@ public class GrpcTransportClientTest {
     return VeniceClientRequest.newBuilder().build();
   }
 
+  private static VeniceServerResponse buildVeniceServerResponseChunk(byte[] data) {
+    return VeniceServerResponse.newBuilder()
+        .setErrorCode(VeniceReadResponseStatus.OK)
+        .setSchemaId(1)
+        .setIsStreamingResponse(true)
+        .setData(ByteString.copyFrom(data))
+        .build();
+  }
+
   private static VeniceServerResponse buildMockVeniceServerResponse(int errorCode, String errorMessage) {
     return VeniceServerResponse.newBuilder().setErrorCode(errorCode).setErrorMessage(errorMessage).build();
   }
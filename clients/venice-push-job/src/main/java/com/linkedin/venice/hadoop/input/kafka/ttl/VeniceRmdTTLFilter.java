@@ -23,6 +23,7 @@ import com.linkedin.venice.hadoop.schema.HDFSSchemaSource;
 import com.linkedin.venice.schema.rmd.RmdTimestampType;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.schema.rmd.RmdVersionId;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.AvroSchemaUtils;
@@ -58,6 +59,7 @@ public abstract class VeniceRmdTTLFilter<INPUT_VALUE> extends AbstractVeniceFilt
   private final Map<Integer, RecordDeserializer<GenericRecord>> valueDeserializerCache;
   private final Map<RmdVersionId, RecordSerializer<GenericRecord>> rmdSerializerCache;
   private final Map<Integer, RecordSerializer<GenericRecord>> valueSerializerCache;
+  private final Map<RmdVersionId, ColumnarRmdCodec> columnarRmdCodecCache;
   private final MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
   private final VeniceCompressor sourceVersionCompressor;
 
@@ -74,6 +76,7 @@ public abstract class VeniceRmdTTLFilter<INPUT_VALUE> extends AbstractVeniceFilt
     this.valueDeserializerCache = new VeniceConcurrentHashMap<>();
     this.rmdSerializerCache = new VeniceConcurrentHashMap<>();
     this.valueSerializerCache = new VeniceConcurrentHashMap<>();
+    this.columnarRmdCodecCache = new VeniceConcurrentHashMap<>();
     String sourceVersion = props.getString(KAFKA_INPUT_TOPIC);
     String kafkaInputBrokerUrl = props.getString(KAFKA_INPUT_BROKER_URL);
     CompressionStrategy compressionStrategy =
@@ -112,8 +115,14 @@ public abstract class VeniceRmdTTLFilter<INPUT_VALUE> extends AbstractVeniceFilt
     int valueSchemaId = getSchemaId(value);
     int id = getRmdProtocolId(value);
     RmdVersionId rmdVersionId = new RmdVersionId(valueSchemaId, id);
-    GenericRecord rmdRecord =
-        rmdDeserializerCache.computeIfAbsent(rmdVersionId, this::generateRmdDeserializer).deserialize(rmdPayload);
+    boolean isColumnarRmd = id == ColumnarRmdCodec.RMD_PROTOCOL_VERSION;
+    if (isColumnarRmd && ColumnarRmdCodec.getLowestTimestamp(rmdPayload) > filterTimestamp) {
+      // Every top-level timestamp is newer than the filter timestamp, the TTL delete would be ignored by every field.
+      return false;
+    }
+    GenericRecord rmdRecord = isColumnarRmd
+        ? columnarRmdCodecCache.computeIfAbsent(rmdVersionId, this::generateColumnarRmdCodec).decode(rmdPayload)
+        : rmdDeserializerCache.computeIfAbsent(rmdVersionId, this::generateRmdDeserializer).deserialize(rmdPayload);
     Object rmdTimestampObject = rmdRecord.get(TIMESTAMP_FIELD_POS);
     RmdTimestampType rmdTimestampType = RmdUtils.getRmdTimestampType(rmdTimestampObject);
     // For value-level RMD timestamp, just compare the value with the filter TS.
@@ -150,14 +159,15 @@ public abstract class VeniceRmdTTLFilter<INPUT_VALUE> extends AbstractVeniceFilt
     // Part of the data has been wiped out by DELETE operation, and we should update the input's value and RMD payload.
     RecordSerializer<GenericRecord> valueSerializer =
         valueSerializerCache.computeIfAbsent(valueSchemaId, this::generateValueSerializer);
-    RecordSerializer<GenericRecord> rmdSerializer =
-        rmdSerializerCache.computeIfAbsent(rmdVersionId, this::generateRmdSerializer);
     try {
       updateValuePayload(value, sourceVersionCompressor.compress(valueSerializer.serialize(valueRecord)));
     } catch (Exception e) {
       throw new VeniceException("Unable to update value payload", e);
     }
-    updateRmdPayload(value, ByteBuffer.wrap(rmdSerializer.serialize(rmdRecord)));
+    byte[] updatedRmdBytes = isColumnarRmd
+        ? columnarRmdCodecCache.get(rmdVersionId).encode(rmdRecord)
+        : rmdSerializerCache.computeIfAbsent(rmdVersionId, this::generateRmdSerializer).serialize(rmdRecord);
+    updateRmdPayload(value, ByteBuffer.wrap(updatedRmdBytes));
     return false;
   }
 
@@ -166,6 +176,10 @@ public abstract class VeniceRmdTTLFilter<INPUT_VALUE> extends AbstractVeniceFilt
     return MapOrderPreservingSerDeFactory.getDeserializer(schema, schema);
   }
 
+  ColumnarRmdCodec generateColumnarRmdCodec(RmdVersionId rmdVersionId) {
+    return new ColumnarRmdCodec(rmdSchemaMap.get(rmdVersionId));
+  }
+
   RecordDeserializer<GenericRecord> generateValueDeserializer(int valueSchemaId) {
     Schema schema = valueSchemaMap.get(valueSchemaId);
     return MapOrderPreservingSerDeFactory.getDeserializer(schema, schema);
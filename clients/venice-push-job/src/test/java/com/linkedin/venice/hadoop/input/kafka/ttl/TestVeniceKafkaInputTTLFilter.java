@@ -23,6 +23,7 @@ import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
 import com.linkedin.venice.hadoop.schema.HDFSSchemaSource;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.VeniceProperties;
@@ -50,6 +51,8 @@ public class TestVeniceKafkaInputTTLFilter {
   private static final Schema VALUE_SCHEMA =
       AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(VALUE_RECORD_SCHEMA_STR);
   private static final Schema RMD_SCHEMA = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA, 1);
+  private static final Schema COLUMNAR_RMD_SCHEMA =
+      RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA, ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
   private VeniceKafkaInputTTLFilter filterWithSupportedPolicy;
   private static final long DUMMY_CURRENT_TIMESTAMP = System.currentTimeMillis();
   private FilterChain<KafkaInputMapperValue> filterChain;
@@ -77,7 +80,12 @@ public class TestVeniceKafkaInputTTLFilter {
   private void setupHDFS(VeniceProperties props) throws IOException {
     ControllerClient client = mock(ControllerClient.class);
     MultiSchemaResponse rmdResponse = new MultiSchemaResponse();
-    rmdResponse.setSchemas(generateRmdSchemas(1));
+    MultiSchemaResponse.Schema columnarRmdSchema = new MultiSchemaResponse.Schema();
+    columnarRmdSchema.setRmdValueSchemaId(1);
+    columnarRmdSchema.setId(ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    columnarRmdSchema.setSchemaStr(COLUMNAR_RMD_SCHEMA.toString());
+    MultiSchemaResponse.Schema[] rmdSchemas = generateRmdSchemas(1);
+    rmdResponse.setSchemas(new MultiSchemaResponse.Schema[] { rmdSchemas[0], columnarRmdSchema });
     doReturn(rmdResponse).when(client).getAllReplicationMetadataSchemas(TEST_STORE);
     MultiSchemaResponse valueResponse = new MultiSchemaResponse();
     valueResponse.setSchemas(generateValueSchema(1));
@@ -131,6 +139,24 @@ public class TestVeniceKafkaInputTTLFilter {
     Assert.assertEquals(expiredCount, 6);
   }
 
+  @Test
+  public void testFilterWithColumnarRmd() {
+    long expiredTimestamp = DUMMY_CURRENT_TIMESTAMP - (TimeUnit.SECONDS.toMillis(TTL_IN_SECONDS_DEFAULT) + 1);
+    KafkaInputMapperValue value = generateKIMWithColumnarRmd(DUMMY_CURRENT_TIMESTAMP);
+    Assert.assertFalse(filterWithSupportedPolicy.checkAndMaybeFilterValue(value));
+    value = generateKIMWithColumnarRmd(expiredTimestamp);
+    Assert.assertTrue(filterWithSupportedPolicy.checkAndMaybeFilterValue(value));
+
+    Schema fieldTimestampSchema = COLUMNAR_RMD_SCHEMA.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord fieldTimestampRecord = new GenericData.Record(fieldTimestampSchema);
+    fieldTimestampRecord.put("name", DUMMY_CURRENT_TIMESTAMP);
+    value = generateKIMWithColumnarRmd(fieldTimestampRecord);
+    Assert.assertFalse(filterWithSupportedPolicy.checkAndMaybeFilterValue(value));
+    fieldTimestampRecord.put("name", expiredTimestamp);
+    value = generateKIMWithColumnarRmd(fieldTimestampRecord);
+    Assert.assertTrue(filterWithSupportedPolicy.checkAndMaybeFilterValue(value));
+  }
+
   @Test(expectedExceptions = IllegalStateException.class)
   public void testFilterWithRTPolicyWithInvalidValues() {
     KafkaInputMapperValue value = new KafkaInputMapperValue();
@@ -179,6 +205,17 @@ public class TestVeniceKafkaInputTTLFilter {
     return value;
   }
 
+  private KafkaInputMapperValue generateKIMWithColumnarRmd(Object rmdTimestamp) {
+    GenericRecord rmdRecord = new GenericData.Record(COLUMNAR_RMD_SCHEMA);
+    rmdRecord.put(TIMESTAMP_FIELD_NAME, rmdTimestamp);
+    rmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(1L, 2L, 3L));
+    KafkaInputMapperValue value = new KafkaInputMapperValue();
+    value.schemaId = 1;
+    value.replicationMetadataVersionId = ColumnarRmdCodec.RMD_PROTOCOL_VERSION;
+    value.replicationMetadataPayload = ByteBuffer.wrap(new ColumnarRmdCodec(COLUMNAR_RMD_SCHEMA).encode(rmdRecord));
+    return value;
+  }
+
   private GenericRecord generateRmdRecordWithValueLevelTimeStamp(long timestamp) {
     List<Long> vectors = Arrays.asList(1L, 2L, 3L);
     GenericRecord record = new GenericData.Record(RMD_SCHEMA);
@@ -766,7 +766,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         getDeserializationExecutor(),
         streamingFooterRecordDeserializer,
         this::getDataRecordDeserializer,
-        this::decompressRecord);
+        this::decompressRecord,
+        clientConfig.getOnDemandDeserializerNumberOfRecordsPerThread());
     streamingBatchGet(keyList, decoder, decoderCallback.getStats());
   }
 
@@ -3,6 +3,7 @@ package com.linkedin.venice.client.store;
 import com.linkedin.d2.balancer.D2Client;
 import com.linkedin.venice.client.store.deserialization.BatchDeserializer;
 import com.linkedin.venice.client.store.deserialization.BatchDeserializerType;
+import com.linkedin.venice.client.store.streaming.AbstractRecordStreamDecoder;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import io.tehuti.metrics.MetricsRepository;
@@ -45,6 +46,8 @@ public class ClientConfig<T extends SpecificRecord> {
   private MetricsRepository metricsRepository = null;
   private Executor deserializationExecutor = null;
   private BatchDeserializerType batchDeserializerType = BatchDeserializerType.BLOCKING;
+  private int onDemandDeserializerNumberOfRecordsPerThread =
+      AbstractRecordStreamDecoder.DEFAULT_MAX_RECORDS_PER_DESERIALIZATION_TASK;
   private boolean useFastAvro = true;
   private boolean retryOnRouterError = false;
   private boolean retryOnAllErrors = false;
@@ -106,6 +109,7 @@ public class ClientConfig<T extends SpecificRecord> {
         // Performance-related settings
         .setMetricsRepository(config.getMetricsRepository())
         .setDeserializationExecutor(config.getDeserializationExecutor())
+        .setOnDemandDeserializerNumberOfRecordsPerThread(config.getOnDemandDeserializerNumberOfRecordsPerThread())
         .setUseFastAvro(config.isUseFastAvro())
         .setRetryOnRouterError(config.isRetryOnRouterErrorEnabled())
         .setRetryOnAllErrors(config.isRetryOnAllErrorsEnabled())
@@ -353,10 +357,22 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
-  @Deprecated
+  public int getOnDemandDeserializerNumberOfRecordsPerThread() {
+    return onDemandDeserializerNumberOfRecordsPerThread;
+  }
+
+  /**
+   * Max number of records of a batch-get response deserialized by a single task on the deserialization executor.
+   * The records received together are split in segments of this size, which are deserialized in parallel.
+   */
   public ClientConfig<T> setOnDemandDeserializerNumberOfRecordsPerThread(
       int onDemandDeserializerNumberOfRecordsPerThread) {
-    LOGGER.warn("onDemandDeserializerNumberOfRecordsPerThread is deprecated and will be ignored.");
+    if (onDemandDeserializerNumberOfRecordsPerThread <= 0) {
+      throw new IllegalArgumentException(
+          "onDemandDeserializerNumberOfRecordsPerThread should be positive, but got: "
+              + onDemandDeserializerNumberOfRecordsPerThread);
+    }
+    this.onDemandDeserializerNumberOfRecordsPerThread = onDemandDeserializerNumberOfRecordsPerThread;
     return this;
   }
 
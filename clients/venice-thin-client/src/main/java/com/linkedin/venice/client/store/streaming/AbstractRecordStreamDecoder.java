@@ -5,6 +5,7 @@ import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_STREAM
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
+import com.linkedin.venice.client.store.transport.HttpTransportClient;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.SchemaData;
@@ -34,11 +35,18 @@ import java.util.concurrent.atomic.LongAdder;
  * {@link D2TransportClient}, and both the record deserialization and application's callback will be executed in
  * Venice thread pool: {@link #deserializationExecutor},
  *
+ * The records available after each data chunk are split into segments of at most
+ * {@link #maxRecordsPerDeserializationTask} records, which are deserialized in parallel. This matters when the
+ * transport client hands over the whole response at once (e.g. {@link HttpTransportClient}), since all the records
+ * of a big batch-get would otherwise be deserialized by a single thread. Smaller chunks still go to a single task.
+ *
  * @param <ENVELOPE>
  * @param <K>
  * @param <V>
  */
 public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements RecordStreamDecoder {
+  public static final int DEFAULT_MAX_RECORDS_PER_DESERIALIZATION_TASK = 250;
+
   private final List<K> keyList;
   private final TrackingStreamingCallback<K, V> callback;
   private final List<CompletableFuture<Void>> deserializationFutures = new ArrayList<>();
@@ -47,6 +55,7 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   private final long preSubmitTimeInNS;
   private final LongAdder deserializationTimeInNS = new LongAdder();
   private final Executor deserializationExecutor;
+  private final int maxRecordsPerDeserializationTask;
 
   // non-final state
   private int duplicateEntryCount = 0;
@@ -60,9 +69,22 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       List<K> keyList,
       TrackingStreamingCallback<K, V> callback,
       Executor deserializationExecutor) {
+    this(keyList, callback, deserializationExecutor, DEFAULT_MAX_RECORDS_PER_DESERIALIZATION_TASK);
+  }
+
+  public AbstractRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      int maxRecordsPerDeserializationTask) {
+    if (maxRecordsPerDeserializationTask <= 0) {
+      throw new IllegalArgumentException(
+          "maxRecordsPerDeserializationTask should be positive, but got: " + maxRecordsPerDeserializationTask);
+    }
     this.keyList = keyList;
     this.callback = callback;
     this.deserializationExecutor = deserializationExecutor;
+    this.maxRecordsPerDeserializationTask = maxRecordsPerDeserializationTask;
     this.preSubmitTimeInNS = System.nanoTime();
     this.receivedKeySet = new BitSet(keyList.size());
   }
@@ -111,73 +133,86 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       // no full record is available
       return;
     }
-    CompletableFuture<Void> deserializationFuture = CompletableFuture.runAsync(() -> {
-      Map<K, V> resultMap = new HashMap<>();
-      for (ENVELOPE record: availableRecords) {
-        final int keyIdx = getKeyIndex(record);
-        validateKeyIdx(keyIdx);
-        if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
-          // Deserialize footer record
-          streamingFooterRecord = Optional.of(getStreamingFooterRecord(record));
-          break;
-        }
-        final int absKeyIdx = Math.abs(keyIdx);
-        // Track duplicate entries per request
-        if (absKeyIdx < keyList.size()) {
-          synchronized (receivedKeySet) {
-            if (receivedKeySet.get(absKeyIdx)) {
-              // Encounter duplicate entry because of retrying logic in Venice Router
-              ++duplicateEntryCount;
-              continue;
-            }
-            receivedKeySet.set(absKeyIdx);
-          }
-        }
-        K key = keyList.get(absKeyIdx);
-
-        V value;
-        if (keyIdx < 0) {
-          // Key doesn't exist
-          value = null;
-        } else {
-          /**
-           * The above condition could NOT capture the non-existing key with index: 0,
-           * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
-           * whether the value is an empty byte array or not, and essentially the deserialization function should
-           * return null in this situation.
-           */
-          long preRecordDeserializationInNS = System.nanoTime();
-          value = getValueRecord(record, compressionStrategy);
-          deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
-          /**
-           * If key index is not 0, it is unexpected to receive non-null value.
-           */
-          if (value == null && keyIdx != 0) {
-            throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
+    int recordCount = availableRecords.size();
+    if (recordCount <= maxRecordsPerDeserializationTask) {
+      deserializationFutures
+          .add(CompletableFuture.runAsync(() -> deserializeRecords(availableRecords), deserializationExecutor));
+      return;
+    }
+    // The envelope deserializer returns a linked list, so copy it to make the segments cheap to iterate.
+    final List<ENVELOPE> records = new ArrayList<>(availableRecords);
+    for (int start = 0; start < recordCount; start += maxRecordsPerDeserializationTask) {
+      List<ENVELOPE> segment = records.subList(start, Math.min(start + maxRecordsPerDeserializationTask, recordCount));
+      deserializationFutures
+          .add(CompletableFuture.runAsync(() -> deserializeRecords(segment), deserializationExecutor));
+    }
+  }
+
+  private void deserializeRecords(List<ENVELOPE> records) {
+    Map<K, V> resultMap = new HashMap<>();
+    for (ENVELOPE record: records) {
+      final int keyIdx = getKeyIndex(record);
+      validateKeyIdx(keyIdx);
+      if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
+        // Deserialize footer record
+        streamingFooterRecord = Optional.of(getStreamingFooterRecord(record));
+        break;
+      }
+      final int absKeyIdx = Math.abs(keyIdx);
+      // Track duplicate entries per request
+      if (absKeyIdx < keyList.size()) {
+        synchronized (receivedKeySet) {
+          if (receivedKeySet.get(absKeyIdx)) {
+            // Encounter duplicate entry because of retrying logic in Venice Router
+            ++duplicateEntryCount;
+            continue;
           }
+          receivedKeySet.set(absKeyIdx);
         }
-        callback.onRecordDeserialized();
-        resultMap.put(key, value);
-        if (value != null) {
-          successfulKeyCnt.incrementAndGet();
+      }
+      K key = keyList.get(absKeyIdx);
+
+      V value;
+      if (keyIdx < 0) {
+        // Key doesn't exist
+        value = null;
+      } else {
+        /**
+         * The above condition could NOT capture the non-existing key with index: 0,
+         * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
+         * whether the value is an empty byte array or not, and essentially the deserialization function should
+         * return null in this situation.
+         */
+        long preRecordDeserializationInNS = System.nanoTime();
+        value = getValueRecord(record, compressionStrategy);
+        deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
+        /**
+         * If key index is not 0, it is unexpected to receive non-null value.
+         */
+        if (value == null && keyIdx != 0) {
+          throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
         }
       }
-      if (resultMap.isEmpty()) {
-        return;
+      callback.onRecordDeserialized();
+      resultMap.put(key, value);
+      if (value != null) {
+        successfulKeyCnt.incrementAndGet();
       }
-      /**
-       * Execute the user callback in the same thread.
-       *
-       * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
-       * are multiple layers of async processing:
-       * https://bugs.openjdk.java.net/browse/JDK-8201576
-       * So if the user's callback is executed in another async handler, {@link CompletableFuture#allOf(CompletableFuture[])}
-       * will hang sometimes.
-       * Also with this way, the context switches are also reduced.
-        */
-      resultMap.forEach(callback::onRecordReceived);
-    }, deserializationExecutor);
-    deserializationFutures.add(deserializationFuture);
+    }
+    if (resultMap.isEmpty()) {
+      return;
+    }
+    /**
+     * Execute the user callback in the same thread.
+     *
+     * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
+     * are multiple layers of async processing:
+     * https://bugs.openjdk.java.net/browse/JDK-8201576
+     * So if the user's callback is executed in another async handler, {@link CompletableFuture#allOf(CompletableFuture[])}
+     * will hang sometimes.
+     * Also with this way, the context switches are also reduced.
+      */
+    resultMap.forEach(callback::onRecordReceived);
   }
 
   @Override
@@ -28,7 +28,25 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
       BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
-    super(keyList, callback, deserializationExecutor);
+    this(
+        keyList,
+        callback,
+        deserializationExecutor,
+        streamingFooterDeserializer,
+        valueDeserializerProvider,
+        decompressor,
+        DEFAULT_MAX_RECORDS_PER_DESERIALIZATION_TASK);
+  }
+
+  public MultiGetRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
+      Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
+      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor,
+      int maxRecordsPerDeserializationTask) {
+    super(keyList, callback, deserializationExecutor, maxRecordsPerDeserializationTask);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializerProvider = valueDeserializerProvider;
     this.decompressor = decompressor;
@@ -0,0 +1,96 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiGetRecordStreamDecoderTest {
+  private static final Schema VALUE_SCHEMA = Schema.create(Schema.Type.STRING);
+
+  @Test
+  public void testRecordsAreDeserializedInSegments() throws Exception {
+    int keyCount = 10;
+    List<String> keyList = new ArrayList<>();
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    RecordSerializer<String> valueSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    for (int i = 0; i < keyCount; ++i) {
+      keyList.add("key_" + i);
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.value = ByteBuffer.wrap(valueSerializer.serialize("value_" + i));
+      record.schemaId = 1;
+      records.add(record);
+    }
+    byte[] responseBody =
+        new AvroSerializer<MultiGetResponseRecordV1>(MultiGetResponseRecordV1.SCHEMA$).serializeObjects(records);
+
+    Map<String, Object> results = new ConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completionFuture = new CompletableFuture<>();
+    StreamingCallback<String, Object> callback = new StreamingCallback<String, Object>() {
+      @Override
+      public void onRecordReceived(String key, Object value) {
+        results.put(key, value.toString());
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completionFuture.complete(exception);
+      }
+    };
+
+    AtomicInteger taskCount = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      RecordDeserializer<Object> valueDeserializer =
+          SerializerDeserializerFactory.getAvroGenericDeserializer(VALUE_SCHEMA);
+      MultiGetRecordStreamDecoder<String, Object> decoder = new MultiGetRecordStreamDecoder<>(
+          keyList,
+          DelegatingTrackingCallback.wrap(callback),
+          task -> {
+            taskCount.incrementAndGet();
+            executor.execute(task);
+          },
+          null,
+          schemaId -> valueDeserializer,
+          (compressionStrategy, value) -> value,
+          3);
+      decoder.onHeaderReceived(
+          Collections.singletonMap(
+              HttpConstants.VENICE_SCHEMA_ID,
+              Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion())));
+      // The whole response shows up at once, like with the HTTP transport client.
+      decoder.onDataReceived(ByteBuffer.wrap(responseBody));
+      decoder.onCompletion(Optional.empty());
+
+      Assert.assertFalse(completionFuture.get(10, TimeUnit.SECONDS).isPresent());
+    } finally {
+      executor.shutdownNow();
+    }
+    // 10 records with at most 3 records per task
+    Assert.assertEquals(taskCount.get(), 4);
+    Assert.assertEquals(results.size(), keyCount);
+    for (int i = 0; i < keyCount; ++i) {
+      Assert.assertEquals(results.get("key_" + i), "value_" + i);
+    }
+  }
+}
@@ -21,6 +21,11 @@ public class HttpConstants {
   public static final String VENICE_SCHEMA_ID = "X-VENICE-SCHEMA-ID";
   public static final String VENICE_REQUEST_RCU = "X-VENICE-RCU";
   public static final String VENICE_RETRY = "X-VENICE-RETRY";
+  /**
+   * The time budget of a request in milliseconds, after which the sender gives up on it. It is a relative timeout
+   * instead of an absolute deadline, so that it is not affected by the clock skew between hosts.
+   */
+  public static final String VENICE_REQUEST_TIMEOUT_MS = "X-VENICE-REQUEST-TIMEOUT-MS";
 
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
   public static final String VENICE_SUPPORTED_COMPRESSION_STRATEGY = "X-VENICE-SUPPORTED-COMPRESSION-STRATEGY";
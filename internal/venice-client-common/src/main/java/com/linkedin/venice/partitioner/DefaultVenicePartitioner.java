@@ -5,6 +5,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import org.apache.avro.Schema;
 
 
@@ -17,6 +18,11 @@ import org.apache.avro.Schema;
 public class DefaultVenicePartitioner extends VenicePartitioner {
   public static final String MD5_HASH_ALGORITHM = "MD5";
   private static final int MD5_DIGEST_SIZE = 16;
+  /**
+   * Up to this partition count, the digest modulo can't overflow an int when it is computed byte by byte, so it can be
+   * computed 4 bytes at a time in a long instead, with the same result and a quarter of the divisions.
+   */
+  private static final int MAX_PARTITION_COUNT_FOR_WORD_MODULO = 1 << 23;
 
   /**
    * This class encapsulates the objects and primitives that can be re-used in order to minimize object allocation
@@ -53,8 +59,10 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   }
 
   public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
-    PartitionerState ps = partitionerState.get();
+    return getPartitionId(partitionerState.get(), keyBytes, offset, length, numPartitions);
+  }
 
+  private static int getPartitionId(PartitionerState ps, byte[] keyBytes, int offset, int length, int numPartitions) {
     ps.md.update(keyBytes, offset, length);
     try {
       ps.digestSize = ps.md.digest(ps.digestOutput, 0, ps.digestOutput.length);
@@ -63,11 +71,19 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
     }
 
     // find partition value from basic modulus algorithm
-    ps.modulo = 0;
-    for (int i = 0; i < ps.digestSize; i++) {
-      // Convert byte (-128..127) to int 0..255
-      ps.digit = ps.digestOutput[i] & 0xFF;
-      ps.modulo = (ps.modulo * 256 + ps.digit) % numPartitions;
+    if (numPartitions <= MAX_PARTITION_COUNT_FOR_WORD_MODULO && ps.digestSize % Integer.BYTES == 0) {
+      long modulo = 0;
+      for (int i = 0; i < ps.digestSize; i += Integer.BYTES) {
+        modulo = ((modulo << Integer.SIZE) | getUnsignedInt(ps.digestOutput, i)) % numPartitions;
+      }
+      ps.modulo = (int) modulo;
+    } else {
+      ps.modulo = 0;
+      for (int i = 0; i < ps.digestSize; i++) {
+        // Convert byte (-128..127) to int 0..255
+        ps.digit = ps.digestOutput[i] & 0xFF;
+        ps.modulo = (ps.modulo * 256 + ps.digit) % numPartitions;
+      }
     }
 
     int partition = Math.abs(ps.modulo % numPartitions);
@@ -76,6 +92,11 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
     return partition;
   }
 
+  private static long getUnsignedInt(byte[] bytes, int offset) {
+    return ((bytes[offset] & 0xFFL) << 24) | ((bytes[offset + 1] & 0xFFL) << 16) | ((bytes[offset + 2] & 0xFFL) << 8)
+        | (bytes[offset + 3] & 0xFFL);
+  }
+
   @Override
   public int getPartitionId(byte[] keyBytes, int numPartitions) {
     return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
@@ -85,4 +106,20 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
     return getPartitionId(keyByteBuffer.array(), keyByteBuffer.position(), keyByteBuffer.remaining(), numPartitions);
   }
+
+  @Override
+  public int[] getPartitionIds(List<ByteBuffer> keyByteBuffers, int numPartitions) {
+    PartitionerState ps = partitionerState.get();
+    int[] partitionIds = new int[keyByteBuffers.size()];
+    int i = 0;
+    for (ByteBuffer keyByteBuffer: keyByteBuffers) {
+      partitionIds[i++] = getPartitionId(
+          ps,
+          keyByteBuffer.array(),
+          keyByteBuffer.position(),
+          keyByteBuffer.remaining(),
+          numPartitions);
+    }
+    return partitionIds;
+  }
 }
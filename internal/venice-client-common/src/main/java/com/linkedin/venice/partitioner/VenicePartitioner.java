@@ -3,6 +3,7 @@ package com.linkedin.venice.partitioner;
 import com.linkedin.venice.exceptions.PartitionerSchemaMismatchException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.apache.avro.Schema;
 
@@ -56,6 +57,22 @@ public abstract class VenicePartitioner {
 
   public abstract int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions);
 
+  /**
+   * Partitions a whole batch of keys, such as the keys of a batch-get request, at once. Implementors of this class can
+   * optionally override this function to set up their per-call state only once for the whole batch instead of once
+   * per key.
+   *
+   * @return the partition of every key, in the order of the given keys.
+   */
+  public int[] getPartitionIds(List<ByteBuffer> keyByteBuffers, int numPartitions) {
+    int[] partitionIds = new int[keyByteBuffers.size()];
+    int i = 0;
+    for (ByteBuffer keyByteBuffer: keyByteBuffers) {
+      partitionIds[i++] = getPartitionId(keyByteBuffer, numPartitions);
+    }
+    return partitionIds;
+  }
+
   /**
    * Implementors of this class can optionally provide an implementation of this function,
    * which can perform validation of schemas to be certain that they are compatible with the
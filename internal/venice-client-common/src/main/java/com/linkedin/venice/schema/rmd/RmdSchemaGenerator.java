@@ -3,6 +3,7 @@ package com.linkedin.venice.schema.rmd;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.rmd.v1.RmdSchemaGeneratorV1;
+import com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec;
 import io.tehuti.utils.Utils;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,6 +17,11 @@ import org.apache.avro.Schema;
 
 public class RmdSchemaGenerator {
   private static final int GENERATOR_V1 = 1;
+  /**
+   * Version 2 has the same schema as version 1, but its RMD is encoded by {@link ColumnarRmdCodec} instead of Avro.
+   * It's opt-in, so it's not the latest version.
+   */
+  private static final int GENERATOR_V2 = ColumnarRmdCodec.RMD_PROTOCOL_VERSION;
   private static final int LATEST_VERSION = GENERATOR_V1;
   // It's fine to use V1 object in the map as V2 extends from V1. We'll need to abstract
   // a new generator in the future if we bring some incompatible changes to the generator. (
@@ -25,6 +31,7 @@ public class RmdSchemaGenerator {
   static {
     Map<Integer, RmdSchemaGeneratorV1> tmpMap = new HashMap<>(LATEST_VERSION);
     tmpMap.put(GENERATOR_V1, new RmdSchemaGeneratorV1());
+    tmpMap.put(GENERATOR_V2, new RmdSchemaGeneratorV1());
     RMD_SCHEMA_GENERATOR = Collections.unmodifiableMap(tmpMap);
   }
 
@@ -3,6 +3,7 @@ package com.linkedin.venice.schema.rmd;
 import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_POS;
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
 
+import com.linkedin.venice.exceptions.VeniceException;
 import java.util.Collections;
 import java.util.List;
 import org.antlr.v4.runtime.misc.NotNull;
@@ -15,6 +16,17 @@ import org.apache.avro.generic.GenericRecord;
  * It borrows some methods from {@link com.linkedin.davinci.replication.merge.RmdSerDe}.
  */
 public class RmdUtils {
+  /**
+   * Returned by {@link #readValueLevelTimestamp} for the RMD with per-field timestamps.
+   */
+  public static final long NO_VALUE_LEVEL_TIMESTAMP = -1;
+
+  /**
+   * The index of the value level timestamp in the timestamp union of RMD protocol version 1, which is also the
+   * timestamp format of a value level timestamp in {@link com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec}.
+   */
+  private static final int VALUE_LEVEL_TIMESTAMP_FORMAT = 0;
+
   /**
    * Returns the type of union record given tsObject is. Right now it will be either root level long or
    * generic record of per field timestamp.
@@ -30,6 +42,35 @@ public class RmdUtils {
     }
   }
 
+  /**
+   * Reads the value level timestamp of the serialized RMD, without deserializing the rest of it. Both the Avro encoding
+   * of the RMD protocol version 1 and {@link com.linkedin.venice.schema.rmd.v2.ColumnarRmdCodec} start with the format
+   * of the timestamp, followed by the value level timestamp itself, as zig-zag encoded variable length integers.
+   *
+   * @param rmdBytes the serialized RMD, which may be prepended by the value schema ID.
+   * @param offset the position of the RMD in {@code rmdBytes}.
+   * @return the value level timestamp, or {@link #NO_VALUE_LEVEL_TIMESTAMP} if the RMD has per-field timestamps.
+   */
+  public static long readValueLevelTimestamp(byte[] rmdBytes, int offset) {
+    // The timestamp format is a single byte, since both formats are small numbers.
+    if (offset >= rmdBytes.length || rmdBytes[offset] != VALUE_LEVEL_TIMESTAMP_FORMAT) {
+      return NO_VALUE_LEVEL_TIMESTAMP;
+    }
+    long value = 0;
+    int shift = 0;
+    int position = offset + 1;
+    byte b;
+    do {
+      if (position >= rmdBytes.length || shift > 63) {
+        throw new VeniceException("Malformed RMD at position: " + position + ", length: " + rmdBytes.length);
+      }
+      b = rmdBytes[position++];
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
   public static long extractOffsetVectorSumFromRmd(GenericRecord replicationMetadataRecord) {
     Object offsetVectorObject = replicationMetadataRecord.get(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS);
     return sumOffsetVector(offsetVectorObject);
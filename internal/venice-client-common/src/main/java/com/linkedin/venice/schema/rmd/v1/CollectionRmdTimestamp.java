@@ -200,6 +200,14 @@ public class CollectionRmdTimestamp<DELETED_ELEMENT_TYPE> {
     return (List<DELETED_ELEMENT_TYPE>) collectionRmdRecord.get(DELETED_ELEM_FIELD_POS);
   }
 
+  /**
+   * @return the deleted timestamp and the index in the deleted elements of the given element, or null if the element
+   *         isn't deleted.
+   */
+  public ElementTimestampAndIdx getDeletedElementTimestampAndIdx(DELETED_ELEMENT_TYPE element) {
+    return deletedElementInfo.get(element);
+  }
+
   // Setters
   public void setTopLevelFieldTimestamp(long topLevelFieldTimestamp) {
     collectionRmdRecord.put(TOP_LEVEL_TS_FIELD_POS, topLevelFieldTimestamp);
@@ -0,0 +1,300 @@
+package com.linkedin.venice.schema.rmd.v2;
+
+import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_POS;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_POS;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * Encodes replication metadata of RMD protocol version {@link #RMD_PROTOCOL_VERSION}, which has the same logical schema
+ * as version 1 (see {@link com.linkedin.venice.schema.rmd.v1.RmdSchemaGeneratorV1}), but a more compact binary format
+ * than the Avro encoding of the RMD record. All numbers are zig-zag encoded variable length integers:
+ *
+ *   1. The timestamp format, either value level or per field.
+ *   2. For a value level timestamp, the timestamp itself. For per-field timestamps:
+ *      a. The field count and the base timestamp, which is the lowest top-level timestamp of all fields.
+ *      b. The top-level timestamps of all fields, in field order, as runs of fields sharing the same timestamp. Every
+ *         run is encoded as its field count and the delta of its timestamp to the base timestamp.
+ *      c. The rest of the metadata of every collection field, in field order: the colo ID, the length of the put-only
+ *         part, the active element timestamps and the deleted element timestamps, both as deltas to the previous
+ *         timestamp starting with the base timestamp, and the deleted elements in between in their Avro encoding.
+ *   3. The replication checkpoint vector, as its size followed by its items.
+ *
+ * The field timestamps of a record, which are usually close to each other or shared by many fields after a PUT, shrink
+ * to a few bytes this way, and the lowest timestamp of a record can be read by {@link #getLowestTimestamp} from the
+ * header only, without decoding the rest of the metadata.
+ *
+ * This class is thread-safe.
+ */
+public class ColumnarRmdCodec {
+  public static final int RMD_PROTOCOL_VERSION = 2;
+
+  private static final int VALUE_LEVEL_TIMESTAMP_FORMAT = 0;
+  private static final int PER_FIELD_TIMESTAMP_FORMAT = 1;
+
+  private final Schema rmdSchema;
+  /**
+   * The per-field timestamp record schema, or null if the value isn't a record.
+   */
+  private final Schema perFieldTimestampSchema;
+  private final int fieldCount;
+  /**
+   * The collection metadata record schema of every field, or null for a field with a plain timestamp.
+   */
+  private final Schema[] collectionTimestampSchemas;
+  private final GenericDatumWriter<Object>[] deletedElementsWriters;
+  private final GenericDatumReader<Object>[] deletedElementsReaders;
+
+  public ColumnarRmdCodec(Schema rmdSchema) {
+    this.rmdSchema = rmdSchema;
+    this.perFieldTimestampSchema = getPerFieldTimestampSchema(rmdSchema);
+    this.fieldCount = perFieldTimestampSchema == null ? 0 : perFieldTimestampSchema.getFields().size();
+    this.collectionTimestampSchemas = new Schema[fieldCount];
+    this.deletedElementsWriters = new GenericDatumWriter[fieldCount];
+    this.deletedElementsReaders = new GenericDatumReader[fieldCount];
+    for (int i = 0; i < fieldCount; i++) {
+      Schema fieldSchema = perFieldTimestampSchema.getFields().get(i).schema();
+      if (fieldSchema.getType() == Schema.Type.RECORD) {
+        Schema deletedElementsSchema = fieldSchema.getFields().get(DELETED_ELEM_FIELD_POS).schema();
+        collectionTimestampSchemas[i] = fieldSchema;
+        deletedElementsWriters[i] = new GenericDatumWriter<>(deletedElementsSchema);
+        deletedElementsReaders[i] = new GenericDatumReader<>(deletedElementsSchema);
+      }
+    }
+  }
+
+  private static Schema getPerFieldTimestampSchema(Schema rmdSchema) {
+    Schema.Field timestampField = rmdSchema.getField(TIMESTAMP_FIELD_NAME);
+    if (timestampField == null) {
+      throw new VeniceException("Expect an RMD schema with field: " + TIMESTAMP_FIELD_NAME + ", but got: " + rmdSchema);
+    }
+    if (timestampField.schema().getType() == Schema.Type.UNION) {
+      for (Schema branch: timestampField.schema().getTypes()) {
+        if (branch.getType() == Schema.Type.RECORD) {
+          return branch;
+        }
+      }
+    }
+    return null;
+  }
+
+  public byte[] encode(GenericRecord rmdRecord) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(outputStream, true, null);
+    try {
+      Object timestampObject = rmdRecord.get(TIMESTAMP_FIELD_POS);
+      if (timestampObject instanceof Long) {
+        encoder.writeInt(VALUE_LEVEL_TIMESTAMP_FORMAT);
+        encoder.writeLong((Long) timestampObject);
+      } else if (timestampObject instanceof GenericRecord && perFieldTimestampSchema != null) {
+        encoder.writeInt(PER_FIELD_TIMESTAMP_FORMAT);
+        encodePerFieldTimestamps((GenericRecord) timestampObject, encoder);
+      } else {
+        throw new VeniceException("Unexpected type of timestamp object. Got timestamp object: " + timestampObject);
+      }
+      List<Long> checkpointVector = (List<Long>) rmdRecord.get(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS);
+      if (checkpointVector == null) {
+        encoder.writeInt(0);
+      } else {
+        encoder.writeInt(checkpointVector.size());
+        for (long checkpoint: checkpointVector) {
+          encoder.writeLong(checkpoint);
+        }
+      }
+      encoder.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to encode RMD record: " + rmdRecord, e);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private void encodePerFieldTimestamps(GenericRecord timestampRecord, BinaryEncoder encoder) throws IOException {
+    long[] fieldTimestamps = new long[fieldCount];
+    long baseTimestamp = fieldCount == 0 ? 0 : Long.MAX_VALUE;
+    for (int i = 0; i < fieldCount; i++) {
+      Object fieldTimestampObject = timestampRecord.get(i);
+      fieldTimestamps[i] = collectionTimestampSchemas[i] == null
+          ? (long) fieldTimestampObject
+          : (long) ((GenericRecord) fieldTimestampObject).get(TOP_LEVEL_TS_FIELD_POS);
+      baseTimestamp = Math.min(baseTimestamp, fieldTimestamps[i]);
+    }
+    encoder.writeInt(fieldCount);
+    encoder.writeLong(baseTimestamp);
+    int runStart = 0;
+    for (int i = 1; i <= fieldCount; i++) {
+      if (i == fieldCount || fieldTimestamps[i] != fieldTimestamps[runStart]) {
+        encoder.writeInt(i - runStart);
+        encoder.writeLong(fieldTimestamps[runStart] - baseTimestamp);
+        runStart = i;
+      }
+    }
+    for (int i = 0; i < fieldCount; i++) {
+      if (collectionTimestampSchemas[i] == null) {
+        continue;
+      }
+      GenericRecord collectionTimestampRecord = (GenericRecord) timestampRecord.get(i);
+      List<Long> activeElementsTimestamps = (List<Long>) collectionTimestampRecord.get(ACTIVE_ELEM_TS_FIELD_POS);
+      List<Long> deletedElementsTimestamps = (List<Long>) collectionTimestampRecord.get(DELETED_ELEM_TS_FIELD_POS);
+      encoder.writeInt((int) collectionTimestampRecord.get(TOP_LEVEL_COLO_ID_FIELD_POS));
+      encoder.writeInt((int) collectionTimestampRecord.get(PUT_ONLY_PART_LENGTH_FIELD_POS));
+      writeTimestampDeltas(activeElementsTimestamps, baseTimestamp, encoder);
+      deletedElementsWriters[i].write(collectionTimestampRecord.get(DELETED_ELEM_FIELD_POS), encoder);
+      writeTimestampDeltas(deletedElementsTimestamps, baseTimestamp, encoder);
+    }
+  }
+
+  private static void writeTimestampDeltas(List<Long> timestamps, long baseTimestamp, BinaryEncoder encoder)
+      throws IOException {
+    encoder.writeInt(timestamps.size());
+    long previousTimestamp = baseTimestamp;
+    for (long timestamp: timestamps) {
+      encoder.writeLong(timestamp - previousTimestamp);
+      previousTimestamp = timestamp;
+    }
+  }
+
+  public GenericRecord decode(ByteBuffer rmdBytes) {
+    return decode(rmdBytes.array(), rmdBytes.position(), rmdBytes.remaining());
+  }
+
+  public GenericRecord decode(byte[] bytes, int offset, int length) {
+    BinaryDecoder decoder = AvroCompatibilityHelper.newBinaryDecoder(bytes, offset, length, null);
+    GenericRecord rmdRecord = new GenericData.Record(rmdSchema);
+    try {
+      int format = decoder.readInt();
+      if (format == VALUE_LEVEL_TIMESTAMP_FORMAT) {
+        rmdRecord.put(TIMESTAMP_FIELD_POS, decoder.readLong());
+      } else if (format == PER_FIELD_TIMESTAMP_FORMAT && perFieldTimestampSchema != null) {
+        rmdRecord.put(TIMESTAMP_FIELD_POS, decodePerFieldTimestamps(decoder));
+      } else {
+        throw new VeniceException("Unexpected RMD timestamp format: " + format + " for RMD schema: " + rmdSchema);
+      }
+      int checkpointCount = decoder.readInt();
+      List<Long> checkpointVector = new ArrayList<>(checkpointCount);
+      for (int i = 0; i < checkpointCount; i++) {
+        checkpointVector.add(decoder.readLong());
+      }
+      rmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_POS, checkpointVector);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to decode RMD bytes with RMD schema: " + rmdSchema, e);
+    }
+    return rmdRecord;
+  }
+
+  private GenericRecord decodePerFieldTimestamps(BinaryDecoder decoder) throws IOException {
+    int encodedFieldCount = decoder.readInt();
+    if (encodedFieldCount != fieldCount) {
+      throw new VeniceException("Expect " + fieldCount + " field timestamps, but got: " + encodedFieldCount);
+    }
+    long baseTimestamp = decoder.readLong();
+    long[] fieldTimestamps = new long[fieldCount];
+    int position = 0;
+    while (position < fieldCount) {
+      int runLength = decoder.readInt();
+      if (runLength <= 0 || runLength > fieldCount - position) {
+        throw new VeniceException("Invalid run length: " + runLength + " at field: " + position);
+      }
+      long timestamp = baseTimestamp + decoder.readLong();
+      for (int i = 0; i < runLength; i++) {
+        fieldTimestamps[position++] = timestamp;
+      }
+    }
+
+    GenericRecord timestampRecord = new GenericData.Record(perFieldTimestampSchema);
+    for (int i = 0; i < fieldCount; i++) {
+      if (collectionTimestampSchemas[i] == null) {
+        timestampRecord.put(i, fieldTimestamps[i]);
+        continue;
+      }
+      GenericRecord collectionTimestampRecord = new GenericData.Record(collectionTimestampSchemas[i]);
+      collectionTimestampRecord.put(TOP_LEVEL_TS_FIELD_POS, fieldTimestamps[i]);
+      collectionTimestampRecord.put(TOP_LEVEL_COLO_ID_FIELD_POS, decoder.readInt());
+      collectionTimestampRecord.put(PUT_ONLY_PART_LENGTH_FIELD_POS, decoder.readInt());
+      collectionTimestampRecord.put(ACTIVE_ELEM_TS_FIELD_POS, readTimestampDeltas(baseTimestamp, decoder));
+      collectionTimestampRecord.put(DELETED_ELEM_FIELD_POS, deletedElementsReaders[i].read(null, decoder));
+      collectionTimestampRecord.put(DELETED_ELEM_TS_FIELD_POS, readTimestampDeltas(baseTimestamp, decoder));
+      timestampRecord.put(i, collectionTimestampRecord);
+    }
+    return timestampRecord;
+  }
+
+  private static List<Long> readTimestampDeltas(long baseTimestamp, BinaryDecoder decoder) throws IOException {
+    int count = decoder.readInt();
+    List<Long> timestamps = new ArrayList<>(count);
+    long timestamp = baseTimestamp;
+    for (int i = 0; i < count; i++) {
+      timestamp += decoder.readLong();
+      timestamps.add(timestamp);
+    }
+    return timestamps;
+  }
+
+  /**
+   * @return the value level timestamp of the encoded RMD, or the lowest top-level timestamp of all fields if the RMD
+   *         has per-field timestamps. Only the header is read, and nothing is allocated.
+   */
+  public static long getLowestTimestamp(ByteBuffer rmdBytes) {
+    Cursor cursor = new Cursor(rmdBytes.array(), rmdBytes.position(), rmdBytes.limit());
+    long format = cursor.readLong();
+    if (format == VALUE_LEVEL_TIMESTAMP_FORMAT) {
+      return cursor.readLong();
+    }
+    if (format != PER_FIELD_TIMESTAMP_FORMAT) {
+      throw new VeniceException("Unexpected RMD timestamp format: " + format);
+    }
+    // Skip the field count, the base timestamp is the lowest top-level timestamp of all fields.
+    cursor.readLong();
+    return cursor.readLong();
+  }
+
+  private static final class Cursor {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    private Cursor(byte[] bytes, int position, int limit) {
+      this.bytes = bytes;
+      this.position = position;
+      this.limit = limit;
+    }
+
+    /**
+     * Reads a zig-zag encoded variable length long.
+     */
+    private long readLong() {
+      long value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (position >= limit || shift > 63) {
+          throw new VeniceException("Malformed variable length long at position: " + position + ", limit: " + limit);
+        }
+        b = bytes[position++];
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return (value >>> 1) ^ -(value & 1);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.linkedin.venice.utils;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * A thread factory creating virtual threads, which are only available on JDK 21+ runtimes. Since Venice is still
+ * built for older JDKs, the virtual thread builder is looked up reflectively, and {@link #isSupported()} tells whether
+ * the current runtime provides it.
+ *
+ * Virtual threads are always daemon threads, so they don't prevent the JVM from shutting down, just like the threads
+ * of {@link DaemonThreadFactory}.
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+  private static final Method OF_VIRTUAL_METHOD;
+  private static final Method BUILDER_NAME_METHOD;
+  private static final Method BUILDER_FACTORY_METHOD;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method builderNameMethod = null;
+    Method builderFactoryMethod = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      builderNameMethod = builderClass.getMethod("name", String.class, long.class);
+      builderFactoryMethod = builderClass.getMethod("factory");
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      // Virtual threads are not available in this runtime.
+    }
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    BUILDER_NAME_METHOD = builderNameMethod;
+    BUILDER_FACTORY_METHOD = builderFactoryMethod;
+  }
+
+  private final ThreadFactory threadFactory;
+
+  public VirtualThreadFactory(String threadNamePrefix) {
+    if (!isSupported()) {
+      throw new VeniceException(
+          "Virtual threads are not supported by the current Java runtime: " + System.getProperty("java.version"));
+    }
+    try {
+      Object builder = OF_VIRTUAL_METHOD.invoke(null);
+      builder = BUILDER_NAME_METHOD.invoke(builder, threadNamePrefix + "-vt", 0L);
+      this.threadFactory = (ThreadFactory) BUILDER_FACTORY_METHOD.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new VeniceException("Failed to create the virtual thread factory for " + threadNamePrefix, e);
+    }
+  }
+
+  public static boolean isSupported() {
+    return OF_VIRTUAL_METHOD != null;
+  }
+
+  @Override
+  public Thread newThread(Runnable r) {
+    return threadFactory.newThread(r);
+  }
+}
@@ -7,6 +7,7 @@ import com.linkedin.venice.utils.DaemonThreadFactory;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -20,13 +21,22 @@ public final class ThreadPoolFactory {
       String threadNamePrefix,
       int capacity,
       BlockingQueueType blockingQueueType) {
-    ThreadPoolExecutor executor = new ThreadPoolExecutor(
-        threadCount,
-        threadCount,
-        0,
-        TimeUnit.MILLISECONDS,
-        getExecutionQueue(capacity, blockingQueueType),
-        new DaemonThreadFactory(threadNamePrefix));
+    return createThreadPool(threadCount, threadNamePrefix, getExecutionQueue(capacity, blockingQueueType));
+  }
+
+  public static ThreadPoolExecutor createThreadPool(
+      int threadCount,
+      String threadNamePrefix,
+      BlockingQueue<Runnable> executionQueue) {
+    return createThreadPool(threadCount, new DaemonThreadFactory(threadNamePrefix), executionQueue);
+  }
+
+  public static ThreadPoolExecutor createThreadPool(
+      int threadCount,
+      ThreadFactory threadFactory,
+      BlockingQueue<Runnable> executionQueue) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS, executionQueue, threadFactory);
     /**
      * When the capacity is fully saturated, the scheduled task will be executed in the caller thread.
      * We will leverage this policy to propagate the back pressure to the caller, so that no more tasks will be
@@ -37,7 +47,7 @@ public final class ThreadPoolFactory {
     return executor;
   }
 
-  private static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
+  public static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
     switch (blockingQueueType) {
       case LINKED_BLOCKING_QUEUE:
         return new LinkedBlockingQueue<>(capacity);
@@ -4,6 +4,8 @@ import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT
 import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
 
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -94,6 +96,38 @@ public class TestRmdUtils {
     Assert.assertEquals(0, perFieldTimeStamp.get(0).intValue()); // not supported yet so just return 0
   }
 
+  @Test
+  public void testReadValueLevelTimestamp() {
+    Schema stringRmdSchema = RmdSchemaGenerator.generateMetadataSchema(Schema.create(Schema.Type.STRING), 1);
+    long[] timestamps = { 0L, 20L, 1_700_000_000_000L, Long.MAX_VALUE };
+    for (long timestamp: timestamps) {
+      rmdRecordWithValueLevelTimeStamp.put(TIMESTAMP_FIELD_NAME, timestamp);
+      byte[] rmdBytes = SerializerDeserializerFactory.getAvroGenericSerializer(rmdSchema)
+          .serialize(rmdRecordWithValueLevelTimeStamp);
+      Assert.assertEquals(RmdUtils.readValueLevelTimestamp(rmdBytes, 0), timestamp);
+
+      // RMD prepended by the value schema ID, of a non-record value.
+      GenericRecord stringRmdRecord = new GenericData.Record(stringRmdSchema);
+      stringRmdRecord.put(TIMESTAMP_FIELD_NAME, timestamp);
+      stringRmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(1L, 2L));
+      byte[] serializedRmd =
+          SerializerDeserializerFactory.getAvroGenericSerializer(stringRmdSchema).serialize(stringRmdRecord);
+      ByteBuffer prependedRmd = ByteBuffer.allocate(Integer.BYTES + serializedRmd.length);
+      prependedRmd.putInt(1).put(serializedRmd);
+      Assert.assertEquals(RmdUtils.readValueLevelTimestamp(prependedRmd.array(), Integer.BYTES), timestamp);
+    }
+
+    Schema timestampSchema = rmdSchema.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord perFieldTimestamps = new GenericData.Record(timestampSchema);
+    perFieldTimestamps.put("id", 20L);
+    perFieldTimestamps.put("name", 20L);
+    perFieldTimestamps.put("age", 20L);
+    rmdRecordWithPerFieldLevelTimeStamp.put(TIMESTAMP_FIELD_NAME, perFieldTimestamps);
+    byte[] rmdBytes = SerializerDeserializerFactory.getAvroGenericSerializer(rmdSchema)
+        .serialize(rmdRecordWithPerFieldLevelTimeStamp);
+    Assert.assertEquals(RmdUtils.readValueLevelTimestamp(rmdBytes, 0), RmdUtils.NO_VALUE_LEVEL_TIMESTAMP);
+  }
+
   @Test
   public void testExtractOffsetVectorSumFromRmd() {
     Assert.assertEquals(6, RmdUtils.extractOffsetVectorSumFromRmd(rmdRecordWithValueLevelTimeStamp));
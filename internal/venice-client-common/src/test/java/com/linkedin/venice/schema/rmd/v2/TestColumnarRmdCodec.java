@@ -0,0 +1,138 @@
+package com.linkedin.venice.schema.rmd.v2;
+
+import static com.linkedin.venice.schema.rmd.RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
+
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestColumnarRmdCodec {
+  private static final long BASE_TIMESTAMP = 1_700_000_000_000L;
+
+  private static Schema getValueSchema(int primitiveFieldCount) {
+    StringBuilder fields = new StringBuilder();
+    for (int i = 0; i < primitiveFieldCount; i++) {
+      fields.append("{\"name\": \"f").append(i).append("\", \"type\": \"long\", \"default\": 0},");
+    }
+    fields.append("{\"name\": \"items\", \"type\": {\"type\": \"array\", \"items\": \"string\"}, \"default\": []},");
+    fields.append(
+        "{\"name\": \"itemMap\", \"type\": [\"null\", {\"type\": \"map\", \"values\": \"int\"}], \"default\": null}");
+    return AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(
+        "{\"type\": \"record\", \"name\": \"Value\", \"namespace\": \"example.avro\", \"fields\": [" + fields + "]}");
+  }
+
+  private static GenericRecord createPerFieldRmd(Schema rmdSchema, int primitiveFieldCount) {
+    Schema timestampSchema = rmdSchema.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    GenericRecord timestampRecord = new GenericData.Record(timestampSchema);
+    for (int i = 0; i < primitiveFieldCount; i++) {
+      // Runs of fields sharing a timestamp, as left behind by partial updates.
+      timestampRecord.put("f" + i, BASE_TIMESTAMP + (i / 3) * 10);
+    }
+    timestampRecord.put(
+        "items",
+        createCollectionRmd(
+            timestampSchema.getField("items").schema(),
+            BASE_TIMESTAMP + 5,
+            Arrays.asList(BASE_TIMESTAMP + 6, BASE_TIMESTAMP + 7, BASE_TIMESTAMP + 7),
+            Arrays.asList("foo", "bar"),
+            Arrays.asList(BASE_TIMESTAMP + 8, BASE_TIMESTAMP + 9)));
+    timestampRecord.put(
+        "itemMap",
+        createCollectionRmd(
+            timestampSchema.getField("itemMap").schema(),
+            BASE_TIMESTAMP - 1,
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList()));
+    GenericRecord rmdRecord = new GenericData.Record(rmdSchema);
+    rmdRecord.put(TIMESTAMP_FIELD_NAME, timestampRecord);
+    rmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(100L, 200L, 300L));
+    return rmdRecord;
+  }
+
+  private static GenericRecord createCollectionRmd(
+      Schema collectionRmdSchema,
+      long topLevelTimestamp,
+      List<Long> activeElementsTimestamps,
+      List<Object> deletedElements,
+      List<Long> deletedElementsTimestamps) {
+    GenericRecord collectionRmd = new GenericData.Record(collectionRmdSchema);
+    collectionRmd.put(CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME, topLevelTimestamp);
+    collectionRmd.put(CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME, 1);
+    collectionRmd.put(CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME, 2);
+    collectionRmd.put(CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME, activeElementsTimestamps);
+    collectionRmd.put(CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME, deletedElements);
+    collectionRmd.put(CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME, deletedElementsTimestamps);
+    return collectionRmd;
+  }
+
+  @Test
+  public void testPerFieldTimestampRoundTrip() {
+    int primitiveFieldCount = 50;
+    Schema rmdSchema = RmdSchemaGenerator
+        .generateMetadataSchema(getValueSchema(primitiveFieldCount), ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    ColumnarRmdCodec codec = new ColumnarRmdCodec(rmdSchema);
+    GenericRecord rmdRecord = createPerFieldRmd(rmdSchema, primitiveFieldCount);
+
+    byte[] encoded = codec.encode(rmdRecord);
+    Assert.assertEquals(codec.decode(ByteBuffer.wrap(encoded)), rmdRecord);
+
+    RecordSerializer<GenericRecord> avroSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(rmdSchema);
+    int avroSize = avroSerializer.serialize(rmdRecord).length;
+    Assert.assertTrue(encoded.length * 3 < avroSize, "Encoded size: " + encoded.length + ", Avro size: " + avroSize);
+  }
+
+  @Test
+  public void testValueLevelTimestampRoundTrip() {
+    Schema rmdSchema =
+        RmdSchemaGenerator.generateMetadataSchema(getValueSchema(3), ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    ColumnarRmdCodec codec = new ColumnarRmdCodec(rmdSchema);
+    GenericRecord rmdRecord = new GenericData.Record(rmdSchema);
+    rmdRecord.put(TIMESTAMP_FIELD_NAME, BASE_TIMESTAMP);
+    rmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, new ArrayList<>());
+
+    ByteBuffer encoded = ByteBuffer.wrap(codec.encode(rmdRecord));
+    Assert.assertEquals(codec.decode(encoded), rmdRecord);
+    Assert.assertEquals(ColumnarRmdCodec.getLowestTimestamp(encoded), BASE_TIMESTAMP);
+
+    // Non-record values only have a value level timestamp.
+    Schema stringRmdSchema = RmdSchemaGenerator
+        .generateMetadataSchema(Schema.create(Schema.Type.STRING), ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    ColumnarRmdCodec stringCodec = new ColumnarRmdCodec(stringRmdSchema);
+    GenericRecord stringRmdRecord = new GenericData.Record(stringRmdSchema);
+    stringRmdRecord.put(TIMESTAMP_FIELD_NAME, BASE_TIMESTAMP);
+    stringRmdRecord.put(REPLICATION_CHECKPOINT_VECTOR_FIELD_NAME, Arrays.asList(1L, 2L));
+    Assert.assertEquals(stringCodec.decode(ByteBuffer.wrap(stringCodec.encode(stringRmdRecord))), stringRmdRecord);
+  }
+
+  @Test
+  public void testLowestTimestamp() {
+    int primitiveFieldCount = 20;
+    Schema rmdSchema = RmdSchemaGenerator
+        .generateMetadataSchema(getValueSchema(primitiveFieldCount), ColumnarRmdCodec.RMD_PROTOCOL_VERSION);
+    ColumnarRmdCodec codec = new ColumnarRmdCodec(rmdSchema);
+    GenericRecord rmdRecord = createPerFieldRmd(rmdSchema, primitiveFieldCount);
+
+    // Read from the middle of a larger buffer, as when the value schema ID is prepended.
+    byte[] encoded = codec.encode(rmdRecord);
+    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + encoded.length);
+    buffer.putInt(1).put(encoded).position(Integer.BYTES);
+    // The map field has the lowest top-level timestamp.
+    Assert.assertEquals(ColumnarRmdCodec.getLowestTimestamp(buffer), BASE_TIMESTAMP - 1);
+    Assert.assertEquals(buffer.position(), Integer.BYTES);
+  }
+}
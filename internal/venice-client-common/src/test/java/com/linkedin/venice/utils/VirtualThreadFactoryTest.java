@@ -0,0 +1,31 @@
+package com.linkedin.venice.utils;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class VirtualThreadFactoryTest {
+  @Test
+  public void testNewThread() throws Exception {
+    boolean isSupported;
+    try {
+      Thread.class.getMethod("isVirtual");
+      isSupported = true;
+    } catch (NoSuchMethodException e) {
+      isSupported = false;
+    }
+    Assert.assertEquals(VirtualThreadFactory.isSupported(), isSupported);
+
+    if (!isSupported) {
+      Assert.assertThrows(VeniceException.class, () -> new VirtualThreadFactory("test"));
+      return;
+    }
+    VirtualThreadFactory threadFactory = new VirtualThreadFactory("test");
+    Thread thread = threadFactory.newThread(() -> {});
+    Assert.assertTrue((boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    Assert.assertTrue(thread.isDaemon());
+    Assert.assertEquals(thread.getName(), "test-vt0");
+    Assert.assertEquals(threadFactory.newThread(() -> {}).getName(), "test-vt1");
+  }
+}
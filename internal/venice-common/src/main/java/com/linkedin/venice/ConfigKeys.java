@@ -444,6 +444,18 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * Whether the store writer buffers should share their memory fairly between the stores assigned to the same
+   * drainer, so that a store ingesting a lot of data can't block the ingestion of the other ones.
+   */
+  public static final String STORE_WRITER_BUFFER_FAIR_ADMISSION_ENABLED =
+      "store.writer.buffer.fair.admission.enabled";
+  /**
+   * Ratio of the store writer buffer memory which can only be used by current versions, when fair admission is
+   * enabled. Future versions being pushed can't use it, so they can't delay the ingestion of the serving versions.
+   */
+  public static final String STORE_WRITER_BUFFER_CURRENT_VERSION_RESERVED_RATIO =
+      "store.writer.buffer.current.version.reserved.ratio";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -647,6 +659,40 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to size the chunks of parallel batch-get and compute lookups per request, based on the key count, the
+   * backlog of the storage thread pool and the recent per-key lookup latency, instead of always using
+   * {@link #SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE}, which then becomes the minimum chunk size.
+   */
+  public static final String SERVER_PARALLEL_BATCH_GET_ADAPTIVE_CHUNKING_ENABLED =
+      "server.parallel.batch.get.adaptive.chunking.enabled";
+
+  /**
+   * The targeted lookup latency of a single chunk when {@link #SERVER_PARALLEL_BATCH_GET_ADAPTIVE_CHUNKING_ENABLED}
+   * is on.
+   */
+  public static final String SERVER_PARALLEL_BATCH_GET_TARGET_CHUNK_LATENCY_US =
+      "server.parallel.batch.get.target.chunk.latency.us";
+
+  /**
+   * Whether the storage execution thread pool should run the queued single-get lookups ahead of the queued chunks of
+   * parallel batch-get lookups.
+   */
+  public static final String SERVER_READ_PRIORITY_SCHEDULING_ENABLED = "server.read.priority.scheduling.enabled";
+
+  /**
+   * Whether the storage execution and compute thread pools should run their lookups on virtual threads, which is only
+   * supported by JDK 21+ runtimes. The thread count of these pools is then replaced by
+   * {@link #SERVER_VIRTUAL_THREAD_READ_CONCURRENCY}.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_READ_ENABLED = "server.virtual.thread.read.enabled";
+
+  /**
+   * The max number of lookups running concurrently in each of the storage execution and compute thread pools when
+   * {@link #SERVER_VIRTUAL_THREAD_READ_ENABLED} is on.
+   */
+  public static final String SERVER_VIRTUAL_THREAD_READ_CONCURRENCY = "server.virtual.thread.read.concurrency";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -738,6 +784,28 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_APPLICATION_PORT =
       "server.ingestion.isolation.application.port";
 
+  /**
+   * Whether the forked ingestion process reports ingestion status and metrics to the main process through a Unix domain
+   * socket instead of HTTP over loopback. Only takes effect where the native epoll transport is available. The socket
+   * file is only readable and writable by its owner, the user running the server.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_DOMAIN_SOCKET_ENABLED =
+      "server.ingestion.isolation.domain.socket.enabled";
+
+  /**
+   * Path of the Unix domain socket, which the main process listens on for reports from the forked ingestion process.
+   * Defaults to a file in the data base path.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_REPORT_DOMAIN_SOCKET_PATH =
+      "server.ingestion.isolation.report.domain.socket.path";
+
+  /**
+   * Whether the main process opens the partitions completed by the forked ingestion process and serves reads from them
+   * right away, instead of once the ingestion of these partitions resumed in the main process reports completion.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_EARLY_READ_ENABLED =
+      "server.ingestion.isolation.early.read.enabled";
+
   public static final String SERVER_DB_READ_ONLY_FOR_BATCH_ONLY_STORE_ENABLED =
       "server.db.read.only.for.batch.only.store.enabled";
   /**
@@ -944,6 +1012,21 @@ public class ConfigKeys {
   public static final String ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ =
       "router.long.tail.retry.max.route.for.multi.keys.req";
 
+  /**
+   * Whether the long tail retry of a request should be triggered once the storage nodes it is waiting for are slower
+   * than usual, instead of only after the fixed thresholds: {@link #ROUTER_LONG_TAIL_RETRY_FOR_SINGLE_GET_THRESHOLD_MS}
+   * and {@link #ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS}, which stay the upper bounds of the retry delay.
+   * "Usual" is the latency quantile configured by {@link #ROUTER_LONG_TAIL_RETRY_HEDGING_LATENCY_QUANTILE}, tracked per
+   * storage node and request type. The retries are still limited by the long tail retry budget.
+   */
+  public static final String ROUTER_LONG_TAIL_RETRY_HEDGING_ENABLED = "router.long.tail.retry.hedging.enabled";
+
+  /**
+   * Check {@link #ROUTER_LONG_TAIL_RETRY_HEDGING_ENABLED}.
+   */
+  public static final String ROUTER_LONG_TAIL_RETRY_HEDGING_LATENCY_QUANTILE =
+      "router.long.tail.retry.hedging.latency.quantile";
+
   /**
    * The max key count allowed in one multi-get request.
    * For now, it is configured in host level, and we could consider to configure it in store level.
@@ -1681,6 +1764,30 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Number of HTTP/2 connections to each storage node when using the Netty HTTP/2 storage node client.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_CONNECTION_COUNT_PER_HOST =
+      "router.netty.http2.client.connection.count.per.host";
+
+  /**
+   * Max number of concurrent streams to each storage node when using the Netty HTTP/2 storage node client.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST =
+      "router.netty.http2.client.max.concurrent.streams.per.host";
+
+  /**
+   * Whether identical single-get requests in flight at the same time in a router should share one storage node request.
+   */
+  public static final String ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED =
+      "router.single.get.request.coalescing.enabled";
+
+  /**
+   * Whether Router should pass the time it waits for a storage node response to the storage node along with the
+   * request, so that the storage node can stop processing the request once Router doesn't wait for it anymore.
+   */
+  public static final String ROUTER_REQUEST_TIMEOUT_PROPAGATION_ENABLED = "router.request.timeout.propagation.enabled";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -1989,6 +2096,29 @@ public class ConfigKeys {
   public static final String SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS =
       "server.optimize.database.service.schedule.internal.seconds";
 
+  /**
+   * The TTL map of the active/active stores, whose expired records are deleted by the RMD TTL sweeper in the
+   * background: The key will be store name, and the value will be the TTL in seconds. A record expires once the value
+   * level timestamp of its RMD is older than the TTL. The TTL should be longer than the rewind time of the store, so
+   * that the records replayed after a rewind can't resurrect the deleted keys. The sweeper is disabled if the map is
+   * empty.
+   */
+  public static final String SERVER_RMD_TTL_SWEEPER_STORE_TO_TTL_SECONDS_MAP =
+      "server.rmd.ttl.sweeper.store.to.ttl.seconds.map";
+
+  /**
+   * Schedule interval for the RMD TTL sweeper, which scans all the partitions of the stores with a TTL every time.
+   */
+  public static final String SERVER_RMD_TTL_SWEEPER_SCHEDULE_INTERVAL_SECONDS =
+      "server.rmd.ttl.sweeper.schedule.interval.seconds";
+
+  /**
+   * The maximum number of records scanned per second by the RMD TTL sweeper, which bounds the I/O and the deletes it
+   * adds on top of the ingestion and the reads.
+   */
+  public static final String SERVER_RMD_TTL_SWEEPER_MAX_RECORDS_SCANNED_PER_SECOND =
+      "server.rmd.ttl.sweeper.max.records.scanned.per.second";
+
   /**
    * A config that determines whether to unregister per store metrics when a store is deleted. Default is false.
    */
@@ -2221,6 +2351,13 @@ public class ConfigKeys {
   public static final String CONTROLLER_DANGLING_TOPIC_OCCURRENCE_THRESHOLD_FOR_CLEANUP =
       "controller.dangling.topic.occurrence.threshold.for.cleanup";
 
+  /**
+   * Max number of ZNode writes to group into one ZK transaction when the controller creates the offline push status
+   * and partition statuses of a new version. A non-positive value disables the batched write pipeline.
+   */
+  public static final String CONTROLLER_ZK_WRITE_PIPELINE_MAX_BATCH_SIZE =
+      "controller.zk.write.pipeline.max.batch.size";
+
   /**
    * Configure in controllers to provide a custom list of checkpoints to define user errors and to
    * override the default checkpoint list {@link PushJobCheckpoints#DEFAULT_PUSH_JOB_USER_ERROR_CHECKPOINTS}.
@@ -2302,6 +2439,14 @@ public class ConfigKeys {
   public static final String SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED =
       "server.aa.wc.workload.parallel.processing.enabled";
 
+  /**
+   * Whether the leaders of active/active stores with field level timestamps should merge a PUT into the old value with
+   * the same value schema directly on the Avro binary encoding of both values, without deserializing them into records
+   * and serializing the merged record again. Puts touching a top-level collection field, or with a timestamp equal to
+   * the timestamp of a field of the old value, still go through the record based merge.
+   */
+  public static final String SERVER_AA_BINARY_MERGE_ENABLED = "server.aa.binary.merge.enabled";
+
   public static final String SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE =
       "server.aa.wc.workload.parallel.processing.thread.pool.size";
   public static final String SERVER_GLOBAL_RT_DIV_ENABLED = "server.global.rt.div.enabled";
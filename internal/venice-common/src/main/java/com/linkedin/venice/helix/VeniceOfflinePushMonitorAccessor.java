@@ -18,6 +18,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.apache.helix.AccessOption;
 import org.apache.helix.manager.zk.ZkBaseDataAccessor;
@@ -69,6 +71,12 @@ public class VeniceOfflinePushMonitorAccessor implements OfflinePushAccessor {
 
   private final long refreshIntervalForZkReconnectInMs;
 
+  /**
+   * When present, the offline push status and its partition statuses are created through batched ZK transactions
+   * instead of one ZNode write per partition.
+   */
+  private final Optional<ZkWritePipeline> zkWritePipeline;
+
   public VeniceOfflinePushMonitorAccessor(String clusterName, ZkClient zkClient, HelixAdapterSerializer adapter) {
     this(clusterName, zkClient, adapter, DEFAULT_ZK_REFRESH_ATTEMPTS, DEFAULT_ZK_REFRESH_INTERVAL);
   }
@@ -79,6 +87,22 @@ public class VeniceOfflinePushMonitorAccessor implements OfflinePushAccessor {
       HelixAdapterSerializer adapter,
       int refreshAttemptsForZkReconnect,
       long refreshIntervalForZkReconnectInMs) {
+    this(
+        clusterName,
+        zkClient,
+        adapter,
+        refreshAttemptsForZkReconnect,
+        refreshIntervalForZkReconnectInMs,
+        Optional.empty());
+  }
+
+  public VeniceOfflinePushMonitorAccessor(
+      String clusterName,
+      ZkClient zkClient,
+      HelixAdapterSerializer adapter,
+      int refreshAttemptsForZkReconnect,
+      long refreshIntervalForZkReconnectInMs,
+      Optional<ZkWritePipeline> zkWritePipeline) {
     this.clusterName = clusterName;
     this.offlinePushStatusParentPath = getOfflinePushStatuesParentPath();
     this.zkClient = zkClient;
@@ -90,6 +114,7 @@ public class VeniceOfflinePushMonitorAccessor implements OfflinePushAccessor {
     this.partitionStatusZkListener = new PartitionStatusZkListener();
     this.refreshAttemptsForZkReconnect = refreshAttemptsForZkReconnect;
     this.refreshIntervalForZkReconnectInMs = refreshIntervalForZkReconnectInMs;
+    this.zkWritePipeline = zkWritePipeline;
   }
 
   /**
@@ -108,6 +133,7 @@ public class VeniceOfflinePushMonitorAccessor implements OfflinePushAccessor {
     this.partitionStatusZkListener = new PartitionStatusZkListener();
     this.refreshAttemptsForZkReconnect = DEFAULT_ZK_REFRESH_ATTEMPTS;
     this.refreshIntervalForZkReconnectInMs = DEFAULT_ZK_REFRESH_INTERVAL;
+    this.zkWritePipeline = Optional.empty();
   }
 
   private void registerSerializers(HelixAdapterSerializer adapter) {
@@ -209,21 +235,65 @@ public class VeniceOfflinePushMonitorAccessor implements OfflinePushAccessor {
         "Start creating offline push status for topic: {} in cluster: {}.",
         pushStatus.getKafkaTopic(),
         clusterName);
-    HelixUtils.create(offlinePushStatusAccessor, getOfflinePushStatusPath(pushStatus.getKafkaTopic()), pushStatus);
-    LOGGER.info("Created offline push status ZNode. Start creating partition statuses.");
     List<String> partitionPaths = new ArrayList<>(pushStatus.getNumberOfPartition());
     List<PartitionStatus> partitionStatuses = new ArrayList<>(pushStatus.getNumberOfPartition());
     for (int partitionId = 0; partitionId < pushStatus.getNumberOfPartition(); partitionId++) {
       partitionPaths.add(getPartitionStatusPath(pushStatus.getKafkaTopic(), partitionId));
       partitionStatuses.add(new PartitionStatus(partitionId));
     }
-    HelixUtils.updateChildren(partitionStatusAccessor, partitionPaths, partitionStatuses);
+    if (zkWritePipeline.isPresent()) {
+      createThroughPipeline(zkWritePipeline.get(), pushStatus, partitionPaths, partitionStatuses);
+    } else {
+      HelixUtils.create(offlinePushStatusAccessor, getOfflinePushStatusPath(pushStatus.getKafkaTopic()), pushStatus);
+      LOGGER.info("Created offline push status ZNode. Start creating partition statuses.");
+      HelixUtils.updateChildren(partitionStatusAccessor, partitionPaths, partitionStatuses);
+    }
     LOGGER.info(
         "Created {} partition status Znodes for topic: {}.",
         pushStatus.getNumberOfPartition(),
         pushStatus.getKafkaTopic());
   }
 
+  /**
+   * The push status ZNode is enqueued ahead of its partition status ZNodes, so it will be created in the first
+   * transaction and the partition statuses will follow in the same or subsequent transactions. Like the
+   * {@link HelixUtils#updateChildren} path, the ZNodes which already exist are overwritten, and if any write fails, the
+   * ZNodes created so far are removed, so that no partial push status is left behind.
+   */
+  private void createThroughPipeline(
+      ZkWritePipeline pipeline,
+      OfflinePushStatus pushStatus,
+      List<String> partitionPaths,
+      List<PartitionStatus> partitionStatuses) {
+    if (!zkClient.exists(offlinePushStatusParentPath)) {
+      // ZK transactions don't create missing parents, so make sure the parent path is in place.
+      zkClient.createPersistent(offlinePushStatusParentPath, true);
+    }
+    String pushStatusPath = getOfflinePushStatusPath(pushStatus.getKafkaTopic());
+    CompletableFuture<Void> pushStatusFuture = pipeline.createOrSet(pushStatusPath, pushStatus);
+    CompletableFuture<Void> partitionStatusesFuture = pipeline.createOrSetAll(partitionPaths, partitionStatuses);
+    try {
+      CompletableFuture.allOf(pushStatusFuture, partitionStatusesFuture).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while creating offline push status for topic: " + pushStatusPath, e);
+    } catch (ExecutionException e) {
+      // allOf() only completes once all the writes are done, so none of them can land after the removal.
+      removePartialOfflinePushStatus(pushStatusPath);
+      throw new VeniceException(
+          "Failed to create offline push status and partition statuses for path: " + pushStatusPath,
+          e.getCause());
+    }
+  }
+
+  private void removePartialOfflinePushStatus(String pushStatusPath) {
+    try {
+      HelixUtils.remove(offlinePushStatusAccessor, pushStatusPath);
+    } catch (Exception e) {
+      LOGGER.error("Failed to remove partially created offline push status: {}", pushStatusPath, e);
+    }
+  }
+
   @Override
   public void deleteOfflinePushStatusAndItsPartitionStatuses(String kafkaTopic) {
     LOGGER.info("Start deleting offline push status for topic: {} in cluster: {}.", kafkaTopic, clusterName);
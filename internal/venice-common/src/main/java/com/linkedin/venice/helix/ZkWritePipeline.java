@@ -0,0 +1,265 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.stats.ZkWritePipelineStats;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.helix.zookeeper.zkclient.exception.ZkNodeExistsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.ZooDefs;
+
+
+/**
+ * A write pipeline which groups independent ZNode writes into ZooKeeper {@code multi()} transactions.
+ * <p>
+ * Callers enqueue writes and get back a {@link CompletableFuture} which is completed once the transaction that
+ * contains the write has been applied. A single writer thread drains the queue, so writes are applied in submission
+ * order, both inside one transaction and across transactions. That makes it safe to enqueue a parent ZNode followed by
+ * its children, which is the common pattern when creating the offline push status of a new version: all the partition
+ * status ZNodes of a version with N partitions are created with {@code ceil((N + 1) / maxBatchSize)} round trips
+ * instead of N + 1.
+ * <p>
+ * As writes from different callers could end up in the same transaction, a failed transaction is replayed op by op,
+ * so that one bad write (e.g. a ZNode which already exists) only fails its own future. Since a transaction is applied
+ * atomically, nothing of a failed transaction is left behind before the replay. Writes enqueued with
+ * {@link #createOrSet} fall back to a data update when the ZNode already exists, so retrying them is idempotent.
+ * <p>
+ * Data is serialized with the serializer registered on the given {@link ZkClient}, the same way as
+ * {@link org.apache.helix.manager.zk.ZkBaseDataAccessor} does.
+ */
+public class ZkWritePipeline implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ZkWritePipeline.class);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  private static final long POLL_TIMEOUT_MS = 100;
+
+  private final ZkClient zkClient;
+  private final int maxBatchSize;
+  private final ZkWritePipelineStats stats;
+  private final LinkedBlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+  private final ExecutorService writerExecutor;
+  private final AtomicBoolean isRunning = new AtomicBoolean(true);
+
+  public ZkWritePipeline(ZkClient zkClient, int maxBatchSize, ZkWritePipelineStats stats, String name) {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("Max batch size should be positive, but got: " + maxBatchSize);
+    }
+    this.zkClient = zkClient;
+    this.maxBatchSize = maxBatchSize;
+    this.stats = stats;
+    this.writerExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory(name + "-zk-write-pipeline"));
+    this.writerExecutor.submit(this::drainPendingWrites);
+  }
+
+  /**
+   * Enqueue the creation of a persistent ZNode. The parent ZNode must either exist or be enqueued before.
+   */
+  public CompletableFuture<Void> create(String path, Object data) {
+    return enqueue(Op.create(path, zkClient.serialize(data, path), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT));
+  }
+
+  /**
+   * Enqueue the creation of a persistent ZNode, or the update of its data regardless of its current version if it
+   * already exists, like {@link org.apache.helix.manager.zk.ZkBaseDataAccessor#set} does.
+   */
+  public CompletableFuture<Void> createOrSet(String path, Object data) {
+    byte[] serializedData = zkClient.serialize(data, path);
+    return enqueue(
+        new PendingWrite(
+            Op.create(path, serializedData, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT),
+            Op.setData(path, serializedData, -1)));
+  }
+
+  /**
+   * Enqueue a data update of an existing ZNode regardless of its current version.
+   */
+  public CompletableFuture<Void> set(String path, Object data) {
+    return set(path, data, -1);
+  }
+
+  /**
+   * Enqueue a data update of an existing ZNode. The update fails if the current version doesn't match
+   * {@param expectedVersion}, unless it's -1.
+   */
+  public CompletableFuture<Void> set(String path, Object data, int expectedVersion) {
+    return enqueue(Op.setData(path, zkClient.serialize(data, path), expectedVersion));
+  }
+
+  public CompletableFuture<Void> delete(String path) {
+    return enqueue(Op.delete(path, -1));
+  }
+
+  /**
+   * Enqueue the creation of a list of persistent ZNodes and return a future which is completed once all of them have
+   * been created, or completed exceptionally once any of them failed.
+   */
+  public CompletableFuture<Void> createAll(List<String> paths, List<?> data) {
+    if (paths.size() != data.size()) {
+      throw new IllegalArgumentException(
+          "The number of paths: " + paths.size() + " doesn't match the number of data: " + data.size());
+    }
+    CompletableFuture[] futures = new CompletableFuture[paths.size()];
+    for (int i = 0; i < paths.size(); i++) {
+      futures[i] = create(paths.get(i), data.get(i));
+    }
+    return CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * Same as {@link #createAll}, but with the semantics of {@link #createOrSet} for every ZNode.
+   */
+  public CompletableFuture<Void> createOrSetAll(List<String> paths, List<?> data) {
+    if (paths.size() != data.size()) {
+      throw new IllegalArgumentException(
+          "The number of paths: " + paths.size() + " doesn't match the number of data: " + data.size());
+    }
+    CompletableFuture[] futures = new CompletableFuture[paths.size()];
+    for (int i = 0; i < paths.size(); i++) {
+      futures[i] = createOrSet(paths.get(i), data.get(i));
+    }
+    return CompletableFuture.allOf(futures);
+  }
+
+  public int getPendingWriteCount() {
+    return pendingWrites.size();
+  }
+
+  private CompletableFuture<Void> enqueue(Op op) {
+    return enqueue(new PendingWrite(op, null));
+  }
+
+  private CompletableFuture<Void> enqueue(PendingWrite pendingWrite) {
+    if (!isRunning.get()) {
+      pendingWrite.future.completeExceptionally(new VeniceException("ZK write pipeline is closed"));
+      return pendingWrite.future;
+    }
+    pendingWrites.add(pendingWrite);
+    return pendingWrite.future;
+  }
+
+  private void drainPendingWrites() {
+    List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+    while (isRunning.get() || !pendingWrites.isEmpty()) {
+      try {
+        PendingWrite first = pendingWrites.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        pendingWrites.drainTo(batch, maxBatchSize - 1);
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Throwable t) {
+        LOGGER.error("Unexpected error in ZK write pipeline", t);
+        for (PendingWrite pendingWrite: batch) {
+          pendingWrite.future.completeExceptionally(t);
+        }
+      } finally {
+        batch.clear();
+      }
+    }
+    PendingWrite leftover;
+    while ((leftover = pendingWrites.poll()) != null) {
+      leftover.future.completeExceptionally(new VeniceException("ZK write pipeline is closed"));
+    }
+  }
+
+  private void writeBatch(List<PendingWrite> batch) {
+    long startTimeInNs = System.nanoTime();
+    List<Op> ops = new ArrayList<>(batch.size());
+    for (PendingWrite pendingWrite: batch) {
+      ops.add(pendingWrite.op);
+    }
+    try {
+      zkClient.multi(ops);
+      stats.recordBatch(batch.size(), LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
+      for (PendingWrite pendingWrite: batch) {
+        pendingWrite.future.complete(null);
+      }
+      return;
+    } catch (Exception e) {
+      stats.recordFailedBatch();
+      if (batch.size() == 1 && batch.get(0).fallbackOp == null) {
+        batch.get(0).future.completeExceptionally(e);
+        return;
+      }
+      LOGGER.warn("Failed to apply a ZK transaction of {} ops, will replay them one by one.", batch.size(), e);
+    }
+    for (PendingWrite pendingWrite: batch) {
+      try {
+        zkClient.multi(Collections.singletonList(pendingWrite.op));
+        pendingWrite.future.complete(null);
+      } catch (Exception e) {
+        if (pendingWrite.fallbackOp == null || !isNodeExistsException(e)) {
+          pendingWrite.future.completeExceptionally(e);
+          continue;
+        }
+        try {
+          zkClient.multi(Collections.singletonList(pendingWrite.fallbackOp));
+          pendingWrite.future.complete(null);
+        } catch (Exception fallbackException) {
+          pendingWrite.future.completeExceptionally(fallbackException);
+        }
+      }
+    }
+    stats.recordBatch(batch.size(), LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
+  }
+
+  /**
+   * Stop accepting new writes, flush the ones already enqueued and stop the writer thread.
+   */
+  @Override
+  public void close() {
+    if (!isRunning.compareAndSet(true, false)) {
+      return;
+    }
+    writerExecutor.shutdown();
+    try {
+      if (!writerExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+        writerExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      writerExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static boolean isNodeExistsException(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ZkNodeExistsException || cause instanceof KeeperException.NodeExistsException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class PendingWrite {
+    private final Op op;
+    /**
+     * The op applied instead of {@link #op} if the ZNode created by {@link #op} already exists, or null.
+     */
+    private final Op fallbackOp;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private PendingWrite(Op op, Op fallbackOp) {
+      this.op = op;
+      this.fallbackOp = fallbackOp;
+    }
+  }
+}
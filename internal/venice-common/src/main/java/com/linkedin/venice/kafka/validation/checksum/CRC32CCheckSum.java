@@ -0,0 +1,206 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Running checksum implementation based on CRC32C (Castagnoli), which is much cheaper to compute than
+ * {@link MD5CheckSum} on the hot path of the ingestion, since {@code java.util.zip.CRC32C} is intrinsified with the
+ * SSE 4.2 / ARMv8 CRC32C instructions by the JVM on Java 9+. On Java 8, it falls back to a table based implementation
+ * in pure Java.
+ *
+ * Unlike {@link CRC32CheckSum}, this checksum supports checkpointing: the encoded state is the CRC of the data seen so
+ * far, and the CRC of the data seen after resuming from a checkpoint is combined with it, without having to feed the
+ * checkpointed data into the CRC again.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final Logger LOGGER = LogManager.getLogger(CRC32CCheckSum.class);
+  /**
+   * The reversed Castagnoli polynomial.
+   */
+  private static final int CASTAGNOLI_POLYNOMIAL = 0x82F63B78;
+  private static final int[] CRC_TABLE = buildCrcTable();
+  private static final Supplier<Checksum> CHECKSUM_SUPPLIER = getChecksumSupplier();
+
+  private final Checksum checkSumGenerator = CHECKSUM_SUPPLIER.get();
+  /**
+   * The CRC of the data checksummed before the checkpoint this instance was resumed from.
+   */
+  private int checkpointedCrc;
+  /**
+   * The length of the data passed to {@link #checkSumGenerator} since this instance was created, resumed or reset.
+   */
+  private long length;
+
+  public CRC32CCheckSum() {
+    this.checkpointedCrc = 0;
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this.checkpointedCrc = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] finalCheckSum = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(finalCheckSum, getCurrentCrc(), 0);
+    return finalCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    this.length += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    checkpointedCrc = 0;
+    length = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    return getFinalCheckSum();
+  }
+
+  private int getCurrentCrc() {
+    return combine(checkpointedCrc, (int) checkSumGenerator.getValue(), length);
+  }
+
+  /**
+   * Computes the CRC of the concatenation of two byte sequences from their CRCs and the length of the second one, as
+   * {@code crc32_combine} of zlib does, by applying the operator which appends {@code length2} zero bytes to
+   * {@code crc1} through repeated squaring of its matrix over GF(2).
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    if (crc1 == 0) {
+      // Nothing was checkpointed, which is the common case.
+      return crc2;
+    }
+    int[] even = new int[Integer.SIZE];
+    int[] odd = new int[Integer.SIZE];
+    // The operator for one zero bit.
+    odd[0] = CASTAGNOLI_POLYNOMIAL;
+    int row = 1;
+    for (int i = 1; i < Integer.SIZE; i++) {
+      odd[i] = row;
+      row <<= 1;
+    }
+    // The operators for two and four zero bits.
+    squareGf2Matrix(even, odd);
+    squareGf2Matrix(odd, even);
+    // Apply one zero byte for the first iteration, then two, four and so on.
+    do {
+      squareGf2Matrix(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyGf2Matrix(even, crc1);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      squareGf2Matrix(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyGf2Matrix(odd, crc1);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int multiplyGf2Matrix(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void squareGf2Matrix(int[] square, int[] matrix) {
+    for (int i = 0; i < Integer.SIZE; i++) {
+      square[i] = multiplyGf2Matrix(matrix, matrix[i]);
+    }
+  }
+
+  private static int[] buildCrcTable() {
+    int[] table = new int[256];
+    for (int i = 0; i < table.length; i++) {
+      int crc = i;
+      for (int bit = 0; bit < Byte.SIZE; bit++) {
+        crc = (crc & 1) != 0 ? (crc >>> 1) ^ CASTAGNOLI_POLYNOMIAL : crc >>> 1;
+      }
+      table[i] = crc;
+    }
+    return table;
+  }
+
+  /**
+   * {@code java.util.zip.CRC32C} is looked up by reflection, since the code base still targets Java 8.
+   */
+  private static Supplier<Checksum> getChecksumSupplier() {
+    try {
+      Constructor<? extends Checksum> constructor =
+          Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+      constructor.newInstance();
+      return () -> {
+        try {
+          return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+          // Can't happen, since the constructor was already called successfully.
+          throw new IllegalStateException(e);
+        }
+      };
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info("java.util.zip.CRC32C is not available, will use the pure Java implementation of CRC32C");
+      return PureJavaCRC32C::new;
+    }
+  }
+
+  /**
+   * Table based implementation of CRC32C, used when {@code java.util.zip.CRC32C} is not available.
+   */
+  static final class PureJavaCRC32C implements Checksum {
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] input, int offset, int length) {
+      int localCrc = crc;
+      for (int i = offset, end = offset + length; i < end; i++) {
+        localCrc = (localCrc >>> 8) ^ CRC_TABLE[(localCrc ^ input[i]) & 0xFF];
+      }
+      crc = localCrc;
+    }
+
+    @Override
+    public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
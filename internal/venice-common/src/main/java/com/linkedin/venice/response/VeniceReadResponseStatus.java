@@ -13,6 +13,7 @@ public class VeniceReadResponseStatus {
 
   public static final int OK = 200;
   public static final int BAD_REQUEST = 400;
+  public static final int REQUEST_TIMEOUT = 408;
   public static final int INTERNAL_ERROR = 500;
   public static final int TOO_MANY_REQUESTS = 429;
   public static final int SERVICE_UNAVAILABLE = 503;
@@ -0,0 +1,50 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Count;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Total;
+
+
+/**
+ * Stats for {@link com.linkedin.venice.helix.ZkWritePipeline}.
+ */
+public class ZkWritePipelineStats extends AbstractVeniceStats {
+  private static final String NAME_SUFFIX = "-zk_write_pipeline";
+  /**
+   * Number of ZNode writes applied in one ZK transaction.
+   */
+  private final Sensor batchSizeSensor;
+  /**
+   * Time spent to apply one ZK transaction, including the op by op replay when the transaction failed.
+   */
+  private final Sensor batchLatencySensor;
+  /**
+   * Total number of ZNode writes going through the pipeline.
+   */
+  private final Sensor writeCountSensor;
+  /**
+   * Number of ZK transactions which failed and had to be replayed op by op.
+   */
+  private final Sensor failedBatchCountSensor;
+
+  public ZkWritePipelineStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name + NAME_SUFFIX);
+    batchSizeSensor = registerSensorIfAbsent("batch_size", new Avg(), new Max());
+    batchLatencySensor = registerSensorIfAbsent("batch_latency", new Avg(), new Max());
+    writeCountSensor = registerSensorIfAbsent("write_count", new Total());
+    failedBatchCountSensor = registerSensorIfAbsent("failed_batch_count", new Count());
+  }
+
+  public void recordBatch(int batchSize, double latencyInMs) {
+    batchSizeSensor.record(batchSize);
+    batchLatencySensor.record(latencyInMs);
+    writeCountSensor.record(batchSize);
+  }
+
+  public void recordFailedBatch() {
+    failedBatchCountSensor.record();
+  }
+}
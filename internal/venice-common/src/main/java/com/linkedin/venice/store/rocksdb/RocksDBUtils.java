@@ -23,6 +23,7 @@ public class RocksDBUtils {
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
   private static final String TEMP_SNAPSHOT_DIR = ".snapshot_files";
+  private static final String SHARED_PARTITION_DB_DIR = ".shared_partitions";
 
   public static String getPartitionDbName(String storeName, int partitionId) {
     return String.format(PARTITION_DB_NAME, storeName, partitionId);
@@ -62,6 +63,15 @@ public class RocksDBUtils {
     return composePartitionDbDir + File.separator + TEMP_SNAPSHOT_DIR;
   }
 
+  // ex. /db/directory/storeName_v3/.shared_partitions
+  public static String composeSharedPartitionDbDir(String dbDir, String topicName) {
+    return dbDir + File.separator + topicName + File.separator + SHARED_PARTITION_DB_DIR;
+  }
+
+  public static boolean isSharedPartitionDbDir(String dirName) {
+    return SHARED_PARTITION_DB_DIR.equals(dirName);
+  }
+
   public static String composeTempSSTFileDir(String dbDir, String topicName, int partitionId) {
     return composePartitionDbDir(dbDir, topicName, partitionId) + File.separator + TEMP_SST_FILE_DIR;
   }
@@ -0,0 +1,119 @@
+package com.linkedin.venice.helix;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.stats.ZkWritePipelineStats;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.ZooDefs;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ZkWritePipelineTest {
+  @Test
+  public void testWritesAreAppliedInOrder() throws Exception {
+    ZkClient zkClient = mock(ZkClient.class);
+    doReturn(new byte[0]).when(zkClient).serialize(any(), anyString());
+    List<String> appliedPaths = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      Iterable<Op> ops = invocation.getArgument(0);
+      for (Op op: ops) {
+        appliedPaths.add(op.getPath());
+      }
+      return Collections.emptyList();
+    }).when(zkClient).multi(any());
+
+    try (ZkWritePipeline pipeline =
+        new ZkWritePipeline(zkClient, 3, new ZkWritePipelineStats(new MetricsRepository(), "test"), "test")) {
+      CompletableFuture<Void> parentFuture = pipeline.create("/parent", "data");
+      CompletableFuture<Void> childrenFuture = pipeline
+          .createAll(Arrays.asList("/parent/0", "/parent/1", "/parent/2", "/parent/3"), Arrays.asList(0, 1, 2, 3));
+      CompletableFuture.allOf(parentFuture, childrenFuture).get(10, TimeUnit.SECONDS);
+    }
+    Assert.assertEquals(appliedPaths, Arrays.asList("/parent", "/parent/0", "/parent/1", "/parent/2", "/parent/3"));
+    verify(zkClient, atLeastOnce()).multi(any());
+  }
+
+  @Test
+  public void testFailedWriteOnlyFailsItsOwnFuture() throws Exception {
+    ZkClient zkClient = mock(ZkClient.class);
+    doReturn(new byte[0]).when(zkClient).serialize(any(), anyString());
+    doAnswer(invocation -> {
+      Iterable<Op> ops = invocation.getArgument(0);
+      for (Op op: ops) {
+        if (op.getPath().equals("/bad")) {
+          throw new KeeperException.NodeExistsException(op.getPath());
+        }
+      }
+      return Collections.emptyList();
+    }).when(zkClient).multi(any());
+
+    CompletableFuture<Void> goodFuture;
+    CompletableFuture<Void> badFuture;
+    try (ZkWritePipeline pipeline =
+        new ZkWritePipeline(zkClient, 10, new ZkWritePipelineStats(new MetricsRepository(), "test"), "test")) {
+      goodFuture = pipeline.set("/good", "data");
+      badFuture = pipeline.create("/bad", "data");
+      CompletableFuture.allOf(goodFuture, badFuture).exceptionally(e -> null).get(10, TimeUnit.SECONDS);
+    }
+    goodFuture.get();
+    Assert.assertThrows(ExecutionException.class, badFuture::get);
+  }
+
+  @Test
+  public void testCreateOrSetFallsBackToSetForExistingNode() throws Exception {
+    ZkClient zkClient = mock(ZkClient.class);
+    doReturn(new byte[0]).when(zkClient).serialize(any(), anyString());
+    List<String> setPaths = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      Iterable<Op> ops = invocation.getArgument(0);
+      for (Op op: ops) {
+        if (op.getType() == ZooDefs.OpCode.create && op.getPath().equals("/parent/1")) {
+          throw new KeeperException.NodeExistsException(op.getPath());
+        }
+      }
+      for (Op op: ops) {
+        if (op.getType() == ZooDefs.OpCode.setData) {
+          setPaths.add(op.getPath());
+        }
+      }
+      return Collections.emptyList();
+    }).when(zkClient).multi(any());
+
+    try (ZkWritePipeline pipeline =
+        new ZkWritePipeline(zkClient, 10, new ZkWritePipelineStats(new MetricsRepository(), "test"), "test")) {
+      CompletableFuture<Void> parentFuture = pipeline.createOrSet("/parent", "data");
+      CompletableFuture<Void> childrenFuture =
+          pipeline.createOrSetAll(Arrays.asList("/parent/0", "/parent/1", "/parent/2"), Arrays.asList(0, 1, 2));
+      CompletableFuture.allOf(parentFuture, childrenFuture).get(10, TimeUnit.SECONDS);
+    }
+    // Only the existing ZNode is updated instead of being created.
+    Assert.assertEquals(setPaths, Collections.singletonList("/parent/1"));
+  }
+
+  @Test
+  public void testWriteAfterCloseFails() {
+    ZkClient zkClient = mock(ZkClient.class);
+    doReturn(new byte[0]).when(zkClient).serialize(any(), anyString());
+    ZkWritePipeline pipeline =
+        new ZkWritePipeline(zkClient, 10, new ZkWritePipelineStats(new MetricsRepository(), "test"), "test");
+    pipeline.close();
+    Assert.assertTrue(pipeline.delete("/path").isCompletedExceptionally());
+  }
+}
@@ -1,8 +1,11 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,4 +31,37 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test(dataProvider = "CheckpointingSupported-CheckSum-Types", dataProviderClass = DataProviderUtils.class)
+  public void testCheckSumResumedFromEncodedState(CheckSumType checkSumType) {
+    byte[] data = new byte[10000];
+    new Random(1).nextBytes(data);
+    CheckSum expectedCheckSum = CheckSum.getInstance(checkSumType);
+    expectedCheckSum.update(data, 0, data.length);
+
+    CheckSum checkpointedCheckSum = CheckSum.getInstance(checkSumType);
+    checkpointedCheckSum.update(data, 0, 3333);
+    CheckSum resumedCheckSum = CheckSum.getInstance(checkSumType, checkpointedCheckSum.getEncodedState());
+    resumedCheckSum.update(data, 3333, 5000);
+    // Checkpoint twice, to cover resuming an already resumed checksum.
+    resumedCheckSum = CheckSum.getInstance(checkSumType, resumedCheckSum.getEncodedState());
+    resumedCheckSum.update(data, 8333, data.length - 8333);
+    Assert.assertEquals(resumedCheckSum.getCheckSum(), expectedCheckSum.getCheckSum());
+  }
+
+  @Test
+  public void testCRC32CCheckSum() {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    checkSum.update("123456789".getBytes(StandardCharsets.US_ASCII));
+    Assert.assertEquals(ByteUtils.readInt(checkSum.getCheckSum(), 0), 0xE3069283);
+
+    // The pure Java fallback must agree with the JDK implementation.
+    byte[] data = new byte[1000];
+    new Random(2).nextBytes(data);
+    CRC32CCheckSum.PureJavaCRC32C pureJavaCRC32C = new CRC32CCheckSum.PureJavaCRC32C();
+    pureJavaCRC32C.update(data, 0, data.length);
+    checkSum.reset();
+    checkSum.update(data);
+    Assert.assertEquals((int) pureJavaCRC32C.getValue(), ByteUtils.readInt(checkSum.getCheckSum(), 0));
+  }
 }
@@ -1,6 +1,10 @@
 package com.linkedin.venice.partitioner;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -68,4 +72,44 @@ public class TestVenicePartitioner {
     partition2 = sumPartitioner.getPartitionId(keyBytes2, 16);
     Assert.assertEquals(partition1, partition2);
   }
+
+  @Test
+  public void testBatchPartitioningMatchesByteByBytePartitioning() throws Exception {
+    VenicePartitioner vp = new DefaultVenicePartitioner();
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      byte[] keyBytes = ("key" + i).getBytes(StandardCharsets.UTF_8);
+      // Some keys are not at the beginning of their backing array
+      keys.add(i % 2 == 0 ? ByteBuffer.wrap(keyBytes) : ByteBuffer.wrap(concat(new byte[] { 1, 2 }, keyBytes), 2, 4));
+    }
+    for (int numPartitions: new int[] { 1, 3, 16, 1000, 1 << 23, (1 << 23) + 1, Integer.MAX_VALUE }) {
+      int[] partitionIds = vp.getPartitionIds(keys, numPartitions);
+      for (int i = 0; i < keys.size(); i++) {
+        ByteBuffer key = keys.get(i);
+        int expectedPartitionId = getMd5PartitionIdByteByByte(key, numPartitions);
+        Assert.assertEquals(partitionIds[i], expectedPartitionId);
+        Assert.assertEquals(vp.getPartitionId(key, numPartitions), expectedPartitionId);
+      }
+    }
+  }
+
+  private static byte[] concat(byte[] first, byte[] second) {
+    byte[] result = new byte[first.length + second.length];
+    System.arraycopy(first, 0, result, 0, first.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  /**
+   * The original partitioning of {@link DefaultVenicePartitioner}, which must never change.
+   */
+  private static int getMd5PartitionIdByteByByte(ByteBuffer key, int numPartitions) throws Exception {
+    MessageDigest md = MessageDigest.getInstance(DefaultVenicePartitioner.MD5_HASH_ALGORITHM);
+    md.update(key.array(), key.position(), key.remaining());
+    int modulo = 0;
+    for (byte digit: md.digest()) {
+      modulo = (modulo * 256 + (digit & 0xFF)) % numPartitions;
+    }
+    return Math.abs(modulo % numPartitions);
+  }
 }
@@ -350,6 +350,7 @@ public abstract class AbstractClientEndToEndSetup {
     GrpcClientConfig grpcClientConfig = new GrpcClientConfig.Builder().setR2Client(r2Client)
         .setSSLFactory(SslUtils.getVeniceLocalSslFactory())
         .setNettyServerToGrpcAddress(veniceCluster.getNettyServerToGrpcAddress())
+        .setStreamingEnabled(true)
         .build();
 
     clientConfigBuilder.setGrpcClientConfig(grpcClientConfig).setUseGrpc(true);
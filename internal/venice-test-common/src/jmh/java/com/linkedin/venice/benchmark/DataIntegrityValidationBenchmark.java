@@ -0,0 +1,174 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.validation.PartitionTracker;
+import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.StartOfSegment;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of the data integrity validation of a batch push, i.e. a segment of puts from a single producer,
+ * with the different checksum types, when the messages are validated one by one and as a batch.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataIntegrityValidationBenchmark {
+  private static final int NUMBER_OF_MESSAGES = 10_000;
+  private static final String TOPIC_NAME = "benchmark_store_v1";
+  private static final int PARTITION = 0;
+
+  @Param({ "MD5", "ADHASH", "CRC32C" })
+  private String checkSumType;
+
+  @Param({ "100", "1000" })
+  private int valueSize;
+
+  private List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> consumerRecords;
+  private byte[][] values;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    GUID producerGUID = new GUID();
+    byte[] guidBytes = new byte[GuidUtils.GUID_SIZE_IN_BYTES];
+    random.nextBytes(guidBytes);
+    producerGUID.bytes(guidBytes);
+    PubSubTopicPartition topicPartition =
+        new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic(TOPIC_NAME), PARTITION);
+
+    consumerRecords = new ArrayList<>(NUMBER_OF_MESSAGES + 1);
+    values = new byte[NUMBER_OF_MESSAGES][];
+    ControlMessage controlMessage = new ControlMessage();
+    controlMessage.controlMessageType = ControlMessageType.START_OF_SEGMENT.getValue();
+    StartOfSegment startOfSegment = new StartOfSegment();
+    startOfSegment.checksumType = CheckSumType.valueOf(checkSumType).getValue();
+    startOfSegment.upcomingAggregates = Collections.emptyList();
+    controlMessage.controlMessageUnion = startOfSegment;
+    controlMessage.debugInfo = Collections.emptyMap();
+    KafkaMessageEnvelope startOfSegmentMessage =
+        getKafkaMessageEnvelope(MessageType.CONTROL_MESSAGE, producerGUID, 0, controlMessage);
+    consumerRecords.add(
+        new ImmutablePubSubMessage<>(
+            new KafkaKey(MessageType.CONTROL_MESSAGE, guidBytes),
+            startOfSegmentMessage,
+            topicPartition,
+            0,
+            0,
+            0));
+    for (int i = 0; i < NUMBER_OF_MESSAGES; i++) {
+      values[i] = new byte[valueSize];
+      random.nextBytes(values[i]);
+      Put put = new Put();
+      put.putValue = ByteBuffer.wrap(values[i]);
+      put.schemaId = 1;
+      put.replicationMetadataPayload = ByteBuffer.allocate(0);
+      consumerRecords.add(
+          new ImmutablePubSubMessage<>(
+              new KafkaKey(MessageType.PUT, ("key_" + i).getBytes()),
+              getKafkaMessageEnvelope(MessageType.PUT, producerGUID, i + 1, put),
+              topicPartition,
+              i + 1,
+              0,
+              valueSize));
+    }
+  }
+
+  private static KafkaMessageEnvelope getKafkaMessageEnvelope(
+      MessageType messageType,
+      GUID producerGUID,
+      int sequenceNumber,
+      Object payload) {
+    ProducerMetadata producerMetadata = new ProducerMetadata();
+    producerMetadata.producerGUID = producerGUID;
+    producerMetadata.segmentNumber = 0;
+    producerMetadata.messageSequenceNumber = sequenceNumber;
+    producerMetadata.messageTimestamp = System.currentTimeMillis();
+    KafkaMessageEnvelope kafkaValue = new KafkaMessageEnvelope();
+    kafkaValue.messageType = messageType.getValue();
+    kafkaValue.producerMetadata = producerMetadata;
+    kafkaValue.payloadUnion = payload;
+    return kafkaValue;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(DataIntegrityValidationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_MESSAGES)
+  public void measureCheckSum(Blackhole bh) {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.valueOf(checkSumType));
+    for (byte[] value: values) {
+      checkSum.update(value, 0, value.length);
+    }
+    bh.consume(checkSum.getCheckSum());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_MESSAGES)
+  public void measurePerMessageValidation(Blackhole bh) {
+    PartitionTracker partitionTracker = new PartitionTracker(TOPIC_NAME, PARTITION);
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord: consumerRecords) {
+      partitionTracker.validateMessage(PartitionTracker.VERSION_TOPIC, consumerRecord, false, Lazy.FALSE);
+    }
+    bh.consume(partitionTracker);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_MESSAGES)
+  public void measureBatchValidation(Blackhole bh) {
+    PartitionTracker partitionTracker = new PartitionTracker(TOPIC_NAME, PARTITION);
+    partitionTracker.validateMessages(
+        PartitionTracker.VERSION_TOPIC,
+        consumerRecords,
+        false,
+        consumerRecord -> Lazy.FALSE,
+        (consumerRecord, e) -> bh.consume(e));
+    bh.consume(partitionTracker);
+  }
+}
@@ -0,0 +1,101 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.utils.VirtualThreadFactory;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the storage node read thread pool running on platform threads with the one running on virtual threads
+ * (JDK 21+ only), under a mixed single-get/batch-get load. The lookups are simulated by parking the thread for the
+ * duration of a disk read, so this measures the scheduling behavior of the pools, not the RocksDB lookups themselves.
+ * Keep in mind that the real RocksDB lookups are JNI calls, which pin the carrier thread of a virtual thread.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadThreadPoolBenchmark {
+  private static final long LOOKUP_LATENCY_NS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final int BATCH_GET_KEY_COUNT = 100;
+  private static final int BATCH_GET_CHUNK_SIZE = 5;
+
+  @Param({ "PLATFORM", "VIRTUAL" })
+  private String threadType;
+
+  /**
+   * The thread count of the platform thread pool, or the concurrency limit of the virtual thread pool.
+   */
+  @Param({ "16", "256" })
+  private int threadCount;
+
+  private ThreadPoolExecutor executor;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(ReadThreadPoolBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    if (threadType.equals("VIRTUAL")) {
+      executor = ThreadPoolFactory
+          .createThreadPool(threadCount, new VirtualThreadFactory("benchmark"), new LinkedBlockingQueue<>());
+    } else {
+      executor = ThreadPoolFactory.createThreadPool(threadCount, "benchmark", new LinkedBlockingQueue<>());
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    executor.shutdownNow();
+  }
+
+  private static void lookup(int keyCount) {
+    for (int i = 0; i < keyCount; ++i) {
+      LockSupport.parkNanos(LOOKUP_LATENCY_NS);
+    }
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(16)
+  public void singleGet() {
+    CompletableFuture.runAsync(() -> lookup(1), executor).join();
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(4)
+  public void batchGet() {
+    int chunkCount = BATCH_GET_KEY_COUNT / BATCH_GET_CHUNK_SIZE;
+    CompletableFuture<Void>[] chunkFutures = new CompletableFuture[chunkCount];
+    for (int i = 0; i < chunkCount; ++i) {
+      chunkFutures[i] = CompletableFuture.runAsync(() -> lookup(BATCH_GET_CHUNK_SIZE), executor);
+    }
+    CompletableFuture.allOf(chunkFutures).join();
+  }
+}
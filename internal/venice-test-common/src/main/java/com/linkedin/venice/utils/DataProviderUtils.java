@@ -28,7 +28,7 @@ public class DataProviderUtils {
   public static final Object[] COMPRESSION_STRATEGIES = { NO_OP, GZIP, ZSTD_WITH_DICT };
   public static final Object[] PARTITION_COUNTS = { 1, 2, 3, 4, 8, 10, 16, 19, 92, 128 };
 
-  public static final Object[] CHECKSUM_TYPES = { CheckSumType.MD5, CheckSumType.ADHASH };
+  public static final Object[] CHECKSUM_TYPES = { CheckSumType.MD5, CheckSumType.ADHASH, CheckSumType.CRC32C };
 
   /**
    * To use these data providers, add (dataProvider = "<provider_name>", dataProviderClass = DataProviderUtils.class)
@@ -66,7 +66,7 @@ public class DataProviderUtils {
 
   @DataProvider(name = "CheckpointingSupported-CheckSum-Types")
   public static Object[][] checkpointingSupportedCheckSumTypes() {
-    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH } };
+    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH }, { CheckSumType.CRC32C } };
   }
 
   @DataProvider(name = "dv-client-config-provider")
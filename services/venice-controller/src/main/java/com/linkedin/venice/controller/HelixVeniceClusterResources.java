@@ -20,6 +20,7 @@ import com.linkedin.venice.helix.StoragePersonaRepository;
 import com.linkedin.venice.helix.VeniceOfflinePushMonitorAccessor;
 import com.linkedin.venice.helix.ZkRoutersClusterManager;
 import com.linkedin.venice.helix.ZkStoreConfigAccessor;
+import com.linkedin.venice.helix.ZkWritePipeline;
 import com.linkedin.venice.ingestion.control.RealTimeTopicSwitcher;
 import com.linkedin.venice.meta.ReadWriteSchemaRepository;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
@@ -29,6 +30,7 @@ import com.linkedin.venice.pushmonitor.AggPushStatusCleanUpStats;
 import com.linkedin.venice.pushmonitor.LeakedPushStatusCleanUpService;
 import com.linkedin.venice.pushmonitor.PushMonitorDelegator;
 import com.linkedin.venice.stats.HelixMessageChannelStats;
+import com.linkedin.venice.stats.ZkWritePipelineStats;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
@@ -71,6 +73,7 @@ public class HelixVeniceClusterResources implements VeniceResource {
   private final Optional<DynamicAccessController> accessController;
   private final ExecutorService errorPartitionResetExecutorService = Executors.newSingleThreadExecutor();
   private final StoragePersonaRepository storagePersonaRepository;
+  private final Optional<ZkWritePipeline> zkWritePipeline;
 
   private ErrorPartitionResetTask errorPartitionResetTask = null;
   private final Optional<MetaStoreWriter> metaStoreWriter;
@@ -141,12 +144,23 @@ public class HelixVeniceClusterResources implements VeniceResource {
         helixManager,
         new HelixMessageChannelStats(metricsRepository, clusterName),
         config.getHelixSendMessageTimeoutMs());
+    if (config.getZkWritePipelineMaxBatchSize() > 0) {
+      this.zkWritePipeline = Optional.of(
+          new ZkWritePipeline(
+              zkClient,
+              config.getZkWritePipelineMaxBatchSize(),
+              new ZkWritePipelineStats(metricsRepository, clusterName),
+              clusterName));
+    } else {
+      this.zkWritePipeline = Optional.empty();
+    }
     VeniceOfflinePushMonitorAccessor offlinePushMonitorAccessor = new VeniceOfflinePushMonitorAccessor(
         clusterName,
         zkClient,
         adapterSerializer,
         config.getRefreshAttemptsForZkReconnect(),
-        config.getRefreshIntervalForZkReconnectInMs());
+        config.getRefreshIntervalForZkReconnectInMs(),
+        zkWritePipeline);
     String aggregateRealTimeSourceKafkaUrl =
         config.getChildDataCenterKafkaUrlMap().get(config.getAggregateRealTimeSourceRegion());
     boolean unregisterMetricEnabled = config.isUnregisterMetricForDeletedStoreEnabled();
@@ -298,6 +312,13 @@ public class HelixVeniceClusterResources implements VeniceResource {
     }
   }
 
+  /**
+   * Flush the pending writes of the {@link ZkWritePipeline} if it's enabled and stop it.
+   */
+  public void stopZkWritePipeline() {
+    zkWritePipeline.ifPresent(ZkWritePipeline::close);
+  }
+
   /**
    * Cause {@link LeakedPushStatusCleanUpService} service to begin executing.
    */
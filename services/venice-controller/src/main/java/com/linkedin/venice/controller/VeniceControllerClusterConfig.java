@@ -76,6 +76,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_UNUSED_SCHEMA_CLEANUP_IN
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_UNUSED_VALUE_SCHEMA_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_WRITE_PIPELINE_MAX_BATCH_SIZE;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE_COUNT;
@@ -412,6 +413,7 @@ public class VeniceControllerClusterConfig {
 
   private final long danglingTopicCleanupIntervalSeconds;
   private final int danglingTopicOccurrenceThresholdForCleanup;
+  private final int zkWritePipelineMaxBatchSize;
 
   private final PersistenceType persistenceType;
   private final ReadStrategy readStrategy;
@@ -965,6 +967,7 @@ public class VeniceControllerClusterConfig {
     this.danglingTopicCleanupIntervalSeconds = props.getLong(CONTROLLER_DANGLING_TOPIC_CLEAN_UP_INTERVAL_SECOND, -1);
     this.danglingTopicOccurrenceThresholdForCleanup =
         props.getInt(CONTROLLER_DANGLING_TOPIC_OCCURRENCE_THRESHOLD_FOR_CLEANUP, 3);
+    this.zkWritePipelineMaxBatchSize = props.getInt(CONTROLLER_ZK_WRITE_PIPELINE_MAX_BATCH_SIZE, 0);
     this.serviceDiscoveryRegistrationRetryMS =
         props.getLong(SERVICE_DISCOVERY_REGISTRATION_RETRY_MS, 30L * Time.MS_PER_SECOND);
     this.pushJobUserErrorCheckpoints = parsePushJobUserErrorCheckpoints(props);
@@ -1765,6 +1768,10 @@ public class VeniceControllerClusterConfig {
     return danglingTopicOccurrenceThresholdForCleanup;
   }
 
+  public int getZkWritePipelineMaxBatchSize() {
+    return zkWritePipelineMaxBatchSize;
+  }
+
   /**
    * A function that would put a k/v pair into a map with some processing works.
    */
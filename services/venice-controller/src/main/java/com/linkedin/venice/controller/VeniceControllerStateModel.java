@@ -305,6 +305,7 @@ public class VeniceControllerStateModel extends StateModel {
       clusterResources.stopLeakedPushStatusCleanUpService();
       clusterResources.clear();
       clusterResources.stopErrorPartitionResetTask();
+      clusterResources.stopZkWritePipeline();
       clusterResources = null;
     }
   }
@@ -45,6 +45,7 @@ import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterHeartbeat;
 import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.StorageNodeLatencyTracker;
 import com.linkedin.venice.router.api.VeniceDelegateMode;
 import com.linkedin.venice.router.api.VeniceDispatcher;
 import com.linkedin.venice.router.api.VeniceHostFinder;
@@ -60,6 +61,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -92,6 +94,7 @@ import com.linkedin.venice.utils.SslUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import com.linkedin.venice.utils.lazy.Lazy;
 import io.netty.channel.AbstractChannel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
@@ -99,8 +102,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -488,6 +493,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use Netty HTTP/2 client");
+        storageNodeClient = new NettyHttp2StorageNodeClient(
+            config,
+            sslFactoryForRequests,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -582,6 +595,25 @@ public class RouterServer extends AbstractVeniceService {
     LongTailRetrySupplier retrySupplier = new LongTailRetrySupplier<VenicePath, RouterKey>() {
       private final TreeMap<Integer, Integer> longTailRetryConfigForBatchGet =
           config.getLongTailRetryForBatchGetThresholdMs();
+      private final StorageNodeLatencyTracker storageNodeLatencyTracker = dispatcher.getStorageNodeLatencyTracker();
+
+      /**
+       * The threshold is only evaluated once the request has been sent to the storage nodes, so that it can be
+       * lowered to the usual latency of the storage nodes which haven't responded yet. The supplier is invoked for
+       * every sub-request of a scatter-gather request, so the threshold is evaluated and recorded once per request.
+       */
+      private AsyncFuture<LongSupplier> getHedgingThreshold(VenicePath path, int longTailRetryThresholdMs) {
+        Lazy<Integer> hedgingThresholdMs = Lazy.of(() -> {
+          int thresholdMs = storageNodeLatencyTracker
+              .getHedgingDelayMs(path.getSlowStorageNodes(), path.getRequestType(), longTailRetryThresholdMs);
+          if (thresholdMs < longTailRetryThresholdMs) {
+            routerStats.getStatsByType(path.getRequestType())
+                .recordLongTailRetryHedgingThreshold(path.getStoreName(), thresholdMs);
+          }
+          return thresholdMs;
+        });
+        return new SuccessAsyncFuture<>(hedgingThresholdMs::get);
+      }
 
       @Nonnull
       @Override
@@ -591,6 +623,9 @@ public class RouterServer extends AbstractVeniceService {
         if (VeniceRouterUtils.isHttpGet(methodName)) {
           // single-get
           path.setLongTailRetryThresholdMs(config.getLongTailRetryForSingleGetThresholdMs());
+          if (storageNodeLatencyTracker != null) {
+            return getHedgingThreshold(path, config.getLongTailRetryForSingleGetThresholdMs());
+          }
           return singleGetRetryFuture;
         } else {
           /**
@@ -606,6 +641,9 @@ public class RouterServer extends AbstractVeniceService {
            */
           int longTailRetryThresholdMs = longTailRetryConfigForBatchGet.floorEntry(keyNum).getValue();
           path.setLongTailRetryThresholdMs(longTailRetryThresholdMs);
+          if (storageNodeLatencyTracker != null) {
+            return getHedgingThreshold(path, longTailRetryThresholdMs);
+          }
           return new SuccessAsyncFuture<>(() -> longTailRetryThresholdMs);
         }
       }
@@ -63,6 +63,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_LEAKED_FUTURE_CLEANUP_THRESH
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_BUDGET_ENFORCEMENT_WINDOW_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_FOR_SINGLE_GET_THRESHOLD_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_HEDGING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_HEDGING_LATENCY_QUANTILE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_CONCURRENT_RESOLUTIONS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_KEY_COUNT_IN_MULTIGET_REQ;
@@ -75,15 +77,19 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_CONNECTION_COUNT_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_REQUEST_TIMEOUT_PROPAGATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
@@ -140,6 +146,8 @@ public class VeniceRouterConfig {
   private boolean smartLongTailRetryEnabled;
   private int smartLongTailRetryAbortThresholdMs;
   private int longTailRetryMaxRouteForMultiKeyReq;
+  private boolean longTailRetryHedgingEnabled;
+  private double longTailRetryHedgingLatencyQuantile;
   private int maxKeyCountInMultiGetReq;
   private int connectionLimit;
   private int httpClientPoolSize;
@@ -206,6 +214,10 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyHttp2ClientConnectionCountPerHost;
+  private int nettyHttp2ClientMaxConcurrentStreamsPerHost;
+  private boolean singleGetRequestCoalescingEnabled;
+  private boolean requestTimeoutPropagationEnabled;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -257,6 +269,13 @@ public class VeniceRouterConfig {
     smartLongTailRetryAbortThresholdMs = props.getInt(ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS, 100);
     // Default: -1 means this feature is not enabled.
     longTailRetryMaxRouteForMultiKeyReq = props.getInt(ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ, 2);
+    longTailRetryHedgingEnabled = props.getBoolean(ROUTER_LONG_TAIL_RETRY_HEDGING_ENABLED, false);
+    longTailRetryHedgingLatencyQuantile = props.getDouble(ROUTER_LONG_TAIL_RETRY_HEDGING_LATENCY_QUANTILE, 0.95);
+    if (longTailRetryHedgingLatencyQuantile <= 0 || longTailRetryHedgingLatencyQuantile >= 1) {
+      throw new VeniceException(
+          ROUTER_LONG_TAIL_RETRY_HEDGING_LATENCY_QUANTILE + " should be in (0, 1), but got: "
+              + longTailRetryHedgingLatencyQuantile);
+    }
     maxKeyCountInMultiGetReq = props.getInt(ROUTER_MAX_KEY_COUNT_IN_MULTIGET_REQ, 500);
     connectionLimit = props.getInt(ROUTER_CONNECTION_LIMIT, 10000);
     httpClientPoolSize = props.getInt(ROUTER_HTTP_CLIENT_POOL_SIZE, 12);
@@ -385,6 +404,11 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyHttp2ClientConnectionCountPerHost = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_CONNECTION_COUNT_PER_HOST, 2);
+    nettyHttp2ClientMaxConcurrentStreamsPerHost =
+        props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONCURRENT_STREAMS_PER_HOST, 500);
+    singleGetRequestCoalescingEnabled = props.getBoolean(ROUTER_SINGLE_GET_REQUEST_COALESCING_ENABLED, false);
+    requestTimeoutPropagationEnabled = props.getBoolean(ROUTER_REQUEST_TIMEOUT_PROPAGATION_ENABLED, false);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -551,6 +575,14 @@ public class VeniceRouterConfig {
     return longTailRetryMaxRouteForMultiKeyReq;
   }
 
+  public boolean isLongTailRetryHedgingEnabled() {
+    return longTailRetryHedgingEnabled;
+  }
+
+  public double getLongTailRetryHedgingLatencyQuantile() {
+    return longTailRetryHedgingLatencyQuantile;
+  }
+
   public StorageNodeClientType getStorageNodeClientType() {
     return storageNodeClientType;
   }
@@ -816,6 +848,22 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyHttp2ClientConnectionCountPerHost() {
+    return nettyHttp2ClientConnectionCountPerHost;
+  }
+
+  public int getNettyHttp2ClientMaxConcurrentStreamsPerHost() {
+    return nettyHttp2ClientMaxConcurrentStreamsPerHost;
+  }
+
+  public boolean isSingleGetRequestCoalescingEnabled() {
+    return singleGetRequestCoalescingEnabled;
+  }
+
+  public boolean isRequestTimeoutPropagationEnabled() {
+    return requestTimeoutPropagationEnabled;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -0,0 +1,96 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Collection;
+import java.util.Map;
+
+
+/**
+ * Tracks a latency quantile of the responses of every storage node per request type, which is used to hedge a request
+ * with a long tail retry once the storage nodes it is waiting for are slower than usual for them, instead of waiting
+ * for a fixed threshold.
+ *
+ * The quantile is estimated by stochastic approximation, so that recording a latency is a constant time operation
+ * without any lock or histogram: every latency above the estimate raises the estimate by a small ratio weighted by the
+ * quantile, and every other latency lowers it by the same ratio weighted by the complement of the quantile. The
+ * estimate settles where the two are balanced, which is where the given share of the latencies is below it.
+ */
+public class StorageNodeLatencyTracker {
+  /**
+   * How much one latency moves the estimate at most, relative to the estimate itself.
+   */
+  private static final double ADJUSTMENT_RATIO = 0.05;
+
+  private final double quantile;
+  private final Map<String, QuantileEstimate[]> estimatesByStorageNode = new VeniceConcurrentHashMap<>();
+
+  public StorageNodeLatencyTracker(double quantile) {
+    if (quantile <= 0 || quantile >= 1) {
+      throw new IllegalArgumentException("Quantile should be in (0, 1), but got: " + quantile);
+    }
+    this.quantile = quantile;
+  }
+
+  private static class QuantileEstimate {
+    /**
+     * Updated concurrently without synchronization, since losing an update once in a while doesn't matter for the
+     * estimate.
+     */
+    private volatile double estimateMs = 0;
+  }
+
+  private QuantileEstimate getEstimate(String storageNodeId, RequestType requestType) {
+    QuantileEstimate[] estimates = estimatesByStorageNode.computeIfAbsent(storageNodeId, ignored -> {
+      QuantileEstimate[] newEstimates = new QuantileEstimate[RequestType.values().length];
+      for (int i = 0; i < newEstimates.length; i++) {
+        newEstimates[i] = new QuantileEstimate();
+      }
+      return newEstimates;
+    });
+    return estimates[requestType.ordinal()];
+  }
+
+  public void recordLatency(String storageNodeId, RequestType requestType, double latencyMs) {
+    QuantileEstimate estimate = getEstimate(storageNodeId, requestType);
+    double estimateMs = estimate.estimateMs;
+    if (estimateMs <= 0) {
+      estimate.estimateMs = latencyMs;
+    } else if (latencyMs > estimateMs) {
+      estimate.estimateMs = estimateMs * (1 + ADJUSTMENT_RATIO * quantile);
+    } else {
+      estimate.estimateMs = estimateMs * (1 - ADJUSTMENT_RATIO * (1 - quantile));
+    }
+  }
+
+  /**
+   * @return the latency quantile of the given storage node and request type, or -1 if no latency was recorded yet.
+   */
+  public double getLatencyQuantileMs(String storageNodeId, RequestType requestType) {
+    QuantileEstimate[] estimates = estimatesByStorageNode.get(storageNodeId);
+    if (estimates == null || estimates[requestType.ordinal()].estimateMs <= 0) {
+      return -1;
+    }
+    return estimates[requestType.ordinal()].estimateMs;
+  }
+
+  /**
+   * @return the delay after which a request waiting for the given storage nodes should be hedged, which is the highest
+   *         latency quantile of these storage nodes, capped by the given max delay. The max delay is returned if any
+   *         of the storage nodes has no latency recorded yet.
+   */
+  public int getHedgingDelayMs(Collection<String> storageNodeIds, RequestType requestType, int maxDelayMs) {
+    if (storageNodeIds.isEmpty()) {
+      return maxDelayMs;
+    }
+    double delayMs = 0;
+    for (String storageNodeId: storageNodeIds) {
+      double latencyQuantileMs = getLatencyQuantileMs(storageNodeId, requestType);
+      if (latencyQuantileMs < 0) {
+        return maxDelayMs;
+      }
+      delayMs = Math.max(delayMs, latencyQuantileMs);
+    }
+    return (int) Math.min(maxDelayMs, Math.ceil(delayMs));
+  }
+}
@@ -40,6 +40,7 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.util.Collections;
@@ -48,8 +49,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
@@ -91,6 +94,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Null if single-get request coalescing is disabled.
+   */
+  private final VeniceRequestCoalescer singleGetRequestCoalescer;
+
+  /**
+   * Null if long tail retry hedging is disabled.
+   */
+  private final StorageNodeLatencyTracker storageNodeLatencyTracker;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -114,6 +127,15 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.singleGetRequestCoalescer =
+        config.isSingleGetRequestCoalescingEnabled() ? new VeniceRequestCoalescer() : null;
+    this.storageNodeLatencyTracker = config.isLongTailRetryHedgingEnabled()
+        ? new StorageNodeLatencyTracker(config.getLongTailRetryHedgingLatencyQuantile())
+        : null;
+  }
+
+  public StorageNodeLatencyTracker getStorageNodeLatencyTracker() {
+    return storageNodeLatencyTracker;
   }
 
   @Override
@@ -143,10 +165,34 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     hostSelected.setSuccess(storageNode);
 
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture;
+    /**
+     * A request attached to an in-flight request gets the response of a storage node request it didn't send, which
+     * may not even have gone to the storage node selected for it, so it doesn't tell anything about that node.
+     */
+    boolean attachedToInFlightRequest;
+    if (singleGetRequestCoalescer != null && requestType == RequestType.SINGLE_GET && !path.isRetryRequest()) {
+      /**
+       * Retry requests are never coalesced, since they are meant to get around the slow request they would likely
+       * be attached to. The location of a single-get identifies the store version, partition and key.
+       */
+      AtomicBoolean coalesced = new AtomicBoolean(false);
+      storageNodeResponseFuture =
+          singleGetRequestCoalescer.send(path.getLocation(), () -> sendRequest(storageNode, path, retryFuture), () -> {
+            coalesced.set(true);
+            routerStats.getStatsByType(requestType).recordCoalescedRequest(storeName);
+          });
+      attachedToInFlightRequest = coalesced.get();
+    } else {
+      storageNodeResponseFuture = sendRequest(storageNode, path, retryFuture);
+      attachedToInFlightRequest = false;
+    }
+    storageNodeResponseFuture.whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+          // The error response is dropped in favor of the retry.
+          releaseContent(response);
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
           AggRouterHttpRequestStats stats = routerStats.getStatsByType(requestType);
           stats.recordErrorRetryCount(storeName);
@@ -158,11 +204,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         }
 
         // Do not mark storage node fast for 429 status code
-        if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
+        if (!attachedToInFlightRequest && statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR
+            && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        FullHttpResponse fullHttpResponse = buildResponse(path, response);
+        if (!responseFuture.setSuccess(Collections.singletonList(fullHttpResponse))) {
+          // The request is already done, e.g. it timed out or got the response of a retry, so nobody writes this one.
+          fullHttpResponse.release();
+        }
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -232,10 +283,19 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
          * to decide whether a storage node is suitable for retry request.
          */
         path.requestStorageNode(storageNode.getNodeId());
+        if (routerConfig.isRequestTimeoutPropagationEnabled()) {
+          path.setStorageNodeRequestTimeoutMs(routerConfig.getSocketTimeout());
+        }
+        Consumer<PortableHttpResponse> completedCallBack = response -> {
+          if (!responseFuture.complete(response)) {
+            // The future was cancelled or cleaned up as leaked, so nobody consumes this response.
+            releaseContent(response);
+          }
+        };
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            completedCallBack,
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false));
       } catch (Throwable throwable) {
@@ -243,8 +303,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       }
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
-        perRouteStats
-            .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        double responseWaitingTimeMs = LatencyUtils.getElapsedTimeFromNSToMS(startTime);
+        perRouteStats.recordResponseWaitingTime(storageNode.getHost(), responseWaitingTimeMs);
+        if (storageNodeLatencyTracker != null && throwable == null) {
+          storageNodeLatencyTracker.recordLatency(storageNode.getNodeId(), requestType, responseWaitingTimeMs);
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -301,6 +364,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
             contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
             break;
           default:
+            content.release();
             throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
                 Optional.empty(),
                 Optional.empty(),
@@ -332,6 +396,16 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     return response;
   }
 
+  /**
+   * Releases the content of a storage node response which doesn't make it into a response to the client, since the
+   * storage node clients may hand over pooled buffers.
+   */
+  private static void releaseContent(PortableHttpResponse response) {
+    if (response != null) {
+      ReferenceCountUtil.release(response.getContentInByteBuf());
+    }
+  }
+
   /**
    * For TEST ONLY
    */
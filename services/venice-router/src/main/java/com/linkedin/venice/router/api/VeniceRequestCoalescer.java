@@ -0,0 +1,144 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Single-flight layer in front of the storage nodes: identical requests which are in flight at the same time, e.g. the
+ * single-gets of a hot key during a traffic spike, are attached to one outstanding storage node request, whose response
+ * is fanned back out to all of them.
+ *
+ * Every request attached to a shared response gets its own view of the response content, since each of them releases
+ * its content once it is written back to its client.
+ */
+public class VeniceRequestCoalescer {
+  @FunctionalInterface
+  public interface RequestSender {
+    CompletableFuture<PortableHttpResponse> send() throws RouterException;
+  }
+
+  private final VeniceConcurrentHashMap<String, CoalescedRequest> inFlightRequests = new VeniceConcurrentHashMap<>();
+
+  /**
+   * Sends the request through {@param requestSender}, unless an identical request, i.e. with the same
+   * {@param requestKey}, is already in flight, in which case the returned future completes with the response of that
+   * request and {@param onCoalesced} is invoked.
+   */
+  public CompletableFuture<PortableHttpResponse> send(
+      String requestKey,
+      RequestSender requestSender,
+      Runnable onCoalesced) throws RouterException {
+    CoalescedRequest newRequest = new CoalescedRequest();
+    CompletableFuture<PortableHttpResponse> responseFuture = newRequest.attach();
+    CoalescedRequest inFlightRequest = inFlightRequests.putIfAbsent(requestKey, newRequest);
+    if (inFlightRequest != null) {
+      CompletableFuture<PortableHttpResponse> coalescedResponseFuture = inFlightRequest.attach();
+      if (coalescedResponseFuture != null) {
+        onCoalesced.run();
+        return coalescedResponseFuture;
+      }
+      // The in-flight request just got its response, so this one goes to the storage node on its own.
+      return requestSender.send();
+    }
+
+    try {
+      requestSender.send().whenComplete((response, throwable) -> {
+        inFlightRequests.remove(requestKey, newRequest);
+        newRequest.complete(response, throwable);
+      });
+    } catch (RouterException | RuntimeException e) {
+      inFlightRequests.remove(requestKey, newRequest);
+      newRequest.complete(null, e);
+      throw e;
+    }
+    return responseFuture;
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  private static class CoalescedRequest {
+    private final List<CompletableFuture<PortableHttpResponse>> responseFutures = new ArrayList<>(2);
+    private boolean completed = false;
+
+    /**
+     * @return the future of the response, or null if the response was already received.
+     */
+    synchronized CompletableFuture<PortableHttpResponse> attach() {
+      if (completed) {
+        return null;
+      }
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      responseFutures.add(responseFuture);
+      return responseFuture;
+    }
+
+    void complete(PortableHttpResponse response, Throwable throwable) {
+      synchronized (this) {
+        completed = true;
+      }
+      if (throwable == null && responseFutures.size() > 1) {
+        // Every attached request owns one reference to the content, and the reference of the response is released.
+        ByteBuf content = response.getContentInByteBuf();
+        try {
+          for (CompletableFuture<PortableHttpResponse> responseFuture: responseFutures) {
+            ByteBuf sharedContent = content.retainedDuplicate();
+            if (!responseFuture.complete(new SharedContentHttpResponse(response, sharedContent))) {
+              sharedContent.release();
+            }
+          }
+        } finally {
+          content.release();
+        }
+        return;
+      }
+      for (CompletableFuture<PortableHttpResponse> responseFuture: responseFutures) {
+        if (throwable != null) {
+          responseFuture.completeExceptionally(throwable);
+        } else if (!responseFuture.complete(response)) {
+          response.getContentInByteBuf().release();
+        }
+      }
+    }
+  }
+
+  private static class SharedContentHttpResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final ByteBuf content;
+
+    SharedContentHttpResponse(PortableHttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.getFirstHeader(headerName);
+    }
+  }
+}
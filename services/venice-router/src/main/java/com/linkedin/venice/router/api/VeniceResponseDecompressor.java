@@ -15,9 +15,6 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
@@ -27,7 +24,6 @@ import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Optional;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 /**
@@ -35,11 +31,10 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
-  private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
-  private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
-      FastSerializerDeserializerFactory
-          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+  /**
+   * The max length of a varint encoded Avro int.
+   */
+  private static final int MAX_AVRO_INT_BYTES = 5;
 
   private final CompressionStrategy clientCompression;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -87,29 +82,33 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(RequestType.SINGLE_GET);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedData =
-        Unpooled.wrappedBuffer(decompressRecord(compressionStrategy, copy.nioBuffer(), RequestType.SINGLE_GET));
+    ByteBuf decompressedData;
+    try {
+      ByteBuf copy = content.isReadOnly() ? content.copy() : content;
+      decompressedData =
+          Unpooled.wrappedBuffer(decompressRecord(compressionStrategy, copy.nioBuffer(), RequestType.SINGLE_GET));
+    } finally {
+      /**
+       * When using compression, the data in response is already copied to `decompressedData`, so we can explicitly
+       * release the ByteBuf in the response immediately, or when the decompression fails, to avoid any memory leak.
+       *
+       * When not using compression, the backing byte array in the response will be reused to construct the response
+       * to client, and the ByteBuf will be released in the netty pipeline.
+       */
+      content.release();
+    }
     final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
     stats.recordDecompressionTime(storeName, LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
 
-    /**
-     * When using compression, the data in response is already copied to `decompressedData`, so we can explicitly
-     * release the ByteBuf in the response immediately to avoid any memory leak.
-     *
-     * When not using compression, the backing byte array in the response will be reused to construct the response to
-     * client, and the ByteBuf will be released in the netty pipeline.
-     */
-    content.release();
-
     return new ContentDecompressResult(decompressedData, CompressionStrategy.NO_OP, decompressionTimeInNs);
   }
 
   /**
    * Decompressing multi-get response in router side is a bit of overhead.
-   * Since records could be concatenated within one response, we need to
-   * deserialize the records; decompress the records and then serialize
-   * them back.
+   * The records of each storage node response are concatenated, so their
+   * values are decompressed in a single pass over the Avro framing, without
+   * deserializing and re-serializing the records, and the decompressed
+   * responses are then combined into one buffer.
    */
   public ContentDecompressResult decompressMultiGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
     if (canPassThroughResponse(compressionStrategy)) {
@@ -117,34 +116,37 @@ public class VeniceResponseDecompressor {
     } else {
       ByteBuf output;
       long startTimeInNs = System.nanoTime();
-      if (content instanceof CompositeByteBuf) {
-        CompositeByteBuf compositeInput = (CompositeByteBuf) content;
-        switch (compositeInput.numComponents()) {
-          case 0:
-            output = Unpooled.EMPTY_BUFFER;
-            break;
-          case 1:
-            output = decompressMultiGetRecords(compressionStrategy, compositeInput.component(0), MULTI_GET);
-            break;
-          default:
-            output = Unpooled.compositeBuffer(compositeInput.numComponents());
-            CompositeByteBuf compositeOutput = (CompositeByteBuf) output;
-            for (ByteBuf buffer: compositeInput) {
-              compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
-            }
+      try {
+        if (content instanceof CompositeByteBuf) {
+          CompositeByteBuf compositeInput = (CompositeByteBuf) content;
+          switch (compositeInput.numComponents()) {
+            case 0:
+              output = Unpooled.EMPTY_BUFFER;
+              break;
+            case 1:
+              output = decompressMultiGetRecords(compressionStrategy, compositeInput.component(0), MULTI_GET);
+              break;
+            default:
+              output = Unpooled.compositeBuffer(compositeInput.numComponents());
+              CompositeByteBuf compositeOutput = (CompositeByteBuf) output;
+              for (ByteBuf buffer: compositeInput) {
+                compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
+              }
+          }
+        } else {
+          output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET);
         }
-      } else {
-        output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET);
+      } finally {
+        /**
+         * When using compression, the data in response is already copied during decompression, so we can explicitly
+         * release the ByteBuf in the response immediately, or when the decompression fails, to avoid any memory leak.
+         *
+         * When not using compression, the backing byte array in the response will be reused to construct the response
+         * to client, and the ByteBuf will be released in the netty pipeline.
+         */
+        content.release();
       }
       final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
-      /**
-       * When using compression, the data in response is already copied during decompression, so we can explicitly
-       * release the ByteBuf in the response immediately to avoid any memory leak.
-       *
-       * When not using compression, the backing byte array in the response will be reused to construct the response to
-       * client, and the ByteBuf will be released in the netty pipeline.
-       */
-      content.release();
 
       return new ContentDecompressResult(output, CompressionStrategy.NO_OP, decompressionTimeInNs);
     }
@@ -161,10 +163,13 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy, MULTI_GET_STREAMING);
+    ByteBuf decompressedContent;
+    try {
+      decompressedContent = decompressMultiGetRecords(responseCompression, content, MULTI_GET_STREAMING);
+    } finally {
+      content.release();
+    }
     stats.recordDecompressionTime(storeName, LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
-    content.release();
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
@@ -173,21 +178,7 @@ public class VeniceResponseDecompressor {
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      ByteBuffer decompressed = compressor.decompress(compressedData);
-      return decompressed;
+      return getCompressor(compressionStrategy, requestType).decompress(compressedData);
     } catch (IOException e) {
       String errorMsg = String
           .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
@@ -196,39 +187,114 @@ public class VeniceResponseDecompressor {
     }
   }
 
+  /**
+   * Decompresses the values of the concatenated {@link MultiGetResponseRecordV1} records in the given buffer without
+   * deserializing and re-serializing the records. In the Avro binary encoding, a record is made of its key index as a
+   * varint, its value as a varint length followed by the value bytes, and its schema id as a varint, so only the value
+   * and its length need to be rewritten, while the rest of the framing is copied as is.
+   *
+   * This works on any kind of buffer, including the direct and composite buffers of the storage node clients, and it
+   * doesn't change the reader index of the given buffer.
+   */
   private ByteBuf decompressMultiGetRecords(
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
-
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
+    ByteBuf input = data.duplicate();
+    ByteBuf output = Unpooled.buffer(input.readableBytes());
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
+      while (input.isReadable()) {
+        // Key index
+        int fieldStart = input.readerIndex();
+        skipAvroInt(input);
+        output.writeBytes(input, fieldStart, input.readerIndex() - fieldStart);
+        // Value
+        int valueLength = readAvroInt(input);
+        ByteBuffer decompressedValue =
+            compressor.decompress(getCompressedValue(input, input.readerIndex(), valueLength));
+        input.skipBytes(valueLength);
+        writeAvroInt(output, decompressedValue.remaining());
+        output.writeBytes(decompressedValue);
+        // Schema id
+        fieldStart = input.readerIndex();
+        skipAvroInt(input);
+        output.writeBytes(input, fieldStart, input.readerIndex() - fieldStart);
       }
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
-      }
-    } catch (IOException e) {
+    } catch (IOException | IndexOutOfBoundsException e) {
+      output.release();
       String errorMsg = String
           .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
       throw RouterExceptionAndTrackingUtils
           .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
     }
+    return output;
+  }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records));
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy != CompressionStrategy.ZSTD_WITH_DICT) {
+      return compressorFactory.getCompressor(compressionStrategy);
+    }
+    VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+    if (compressor == null) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(storeName),
+          Optional.of(requestType),
+          SERVICE_UNAVAILABLE,
+          "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+    }
+    return compressor;
+  }
+
+  /**
+   * The compressors expect either a direct buffer, or a heap buffer whose position is the offset of the data in the
+   * backing array, so the data is only copied if its buffer doesn't expose its memory, like a read-only heap buffer.
+   */
+  private static ByteBuffer getCompressedValue(ByteBuf buffer, int index, int length) {
+    ByteBuffer nioBuffer = buffer.nioBuffer(index, length);
+    if (nioBuffer.hasArray()) {
+      return ByteBuffer.wrap(nioBuffer.array(), nioBuffer.arrayOffset() + nioBuffer.position(), length);
+    }
+    if (nioBuffer.isDirect()) {
+      return nioBuffer;
+    }
+    byte[] value = new byte[length];
+    buffer.getBytes(index, value);
+    return ByteBuffer.wrap(value);
+  }
+
+  private static void skipAvroInt(ByteBuf buffer) {
+    int bytes = 0;
+    while ((buffer.readByte() & 0x80) != 0) {
+      if (++bytes >= MAX_AVRO_INT_BYTES) {
+        throw new IndexOutOfBoundsException("Invalid int encoding at index: " + buffer.readerIndex());
+      }
+    }
+  }
+
+  private static int readAvroInt(ByteBuf buffer) {
+    int value = 0;
+    int shift = 0;
+    int b;
+    do {
+      if (shift >= 7 * MAX_AVRO_INT_BYTES) {
+        throw new IndexOutOfBoundsException("Invalid int encoding at index: " + buffer.readerIndex());
+      }
+      b = buffer.readByte() & 0xff;
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    // Zig-zag decoding
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeAvroInt(ByteBuf buffer, int value) {
+    // Zig-zag encoding
+    int n = (value << 1) ^ (value >> 31);
+    while ((n & ~0x7f) != 0) {
+      buffer.writeByte((n & 0x7f) | 0x80);
+      n >>>= 7;
+    }
+    buffer.writeByte(n);
   }
 }
@@ -127,6 +127,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           "Key count in multi-get request should not be zero");
     }
 
+    // Partition the whole batch at once, which is cheaper than partitioning the keys one by one.
+    int[] partitionIds = partitioner.getPartitionIds(keys, partitionNum);
     for (ByteBuffer key: keys) {
       RouterKey routerKey = new RouterKey(key);
 
@@ -136,8 +138,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
         stats.getStatsByType(RequestType.MULTI_GET).recordKeySize(storeName, routerKey.getKeySize());
       }
 
-      // partition lookup
-      int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
+      int partitionId = partitionIds[keyIdx];
       routerKey.setPartitionId(partitionId);
       K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
       this.routerKeyMap.put(routerKey, routerRequestKey);
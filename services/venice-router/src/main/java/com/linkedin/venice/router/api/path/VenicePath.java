@@ -17,6 +17,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -61,6 +62,12 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
 
   private long requestId = -1;
   private int helixGroupId = -1;
+  /**
+   * The time Router waits for the storage node response, which is passed to the storage node, so that the storage node
+   * can stop processing the request after that. A relative timeout is used instead of a deadline, so that the clock
+   * skew between Router and the storage node doesn't matter.
+   */
+  private long storageNodeRequestTimeoutMs = -1;
 
   public VenicePath(
       String storeName,
@@ -111,6 +118,14 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     this.helixGroupId = helixGroupId;
   }
 
+  public long getStorageNodeRequestTimeoutMs() {
+    return storageNodeRequestTimeoutMs;
+  }
+
+  public void setStorageNodeRequestTimeoutMs(long storageNodeRequestTimeoutMs) {
+    this.storageNodeRequestTimeoutMs = storageNodeRequestTimeoutMs;
+  }
+
   public boolean isSmartLongTailRetryEnabled() {
     return smartLongTailRetryEnabled;
   }
@@ -215,6 +230,13 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     }
   }
 
+  /**
+   * @return the storage nodes, which haven't responded to the original request yet.
+   */
+  public Set<String> getSlowStorageNodes() {
+    return Collections.unmodifiableSet(slowStorageNodeSet);
+  }
+
   public void markStorageNodeAsFast(String fastStorageNode) {
     if (!isRetryRequest()) {
       /**
@@ -277,6 +299,10 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     if (chunkedResponse != null) {
       setupHeaderFunc.accept(HttpConstants.VENICE_STREAMING, "1");
     }
+    // Request timeout
+    if (storageNodeRequestTimeoutMs > 0) {
+      setupHeaderFunc.accept(HttpConstants.VENICE_REQUEST_TIMEOUT_MS, Long.toString(storageNodeRequestTimeoutMs));
+    }
   }
 
   public HttpUriRequest composeRouterRequest(String storageNodeUri) {
@@ -0,0 +1,402 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.monitoring.CallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.FixedChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPool;
+import com.linkedin.alpini.netty4.pool.ManagedChannelPool;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@link StorageNodeClient} multiplexing the requests over a few HTTP/2 connections per storage node.
+ *
+ * Connections are managed by the Alpini {@link ChannelPoolManagerImpl}, each storage node getting a
+ * {@link FixedChannelPoolFactory} pool wrapped into a {@link Http2AwareChannelPool}, so every request acquires a new
+ * HTTP/2 stream on one of the connections. The connections run on the router's own event loops. The content of a
+ * query response is handed over in the pooled buffers it was received into, without copying it, and the router
+ * releases it once the response is written back to the client or dropped. The content of a meta data response is
+ * copied into a heap buffer instead, since its consumers don't release it.
+ *
+ * HTTP/2 is negotiated through ALPN, so SSL to storage nodes is required, and the storage nodes need to have HTTP/2
+ * inbound enabled.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "default";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+  /**
+   * The size of the responses is already bounded by the storage nodes.
+   */
+  private static final int MAX_RESPONSE_SIZE_IN_BYTES = Integer.MAX_VALUE;
+
+  private final ChannelPoolManager channelPoolManager;
+  private final Set<String> hostNameAndPorts = VeniceConcurrentHashMap.newKeySet();
+  private final int requestTimeoutInMs;
+
+  public NettyHttp2StorageNodeClient(
+      VeniceRouterConfig routerConfig,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends Channel> channelClass) {
+    SSLContext sslContext = sslFactory
+        .orElseThrow(
+            () -> new VeniceException(
+                "Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()))
+        .getSSLContext();
+    this.requestTimeoutInMs = routerConfig.getSocketTimeout();
+    int connectionCountPerHost = routerConfig.getNettyHttp2ClientConnectionCountPerHost();
+    int maxConcurrentStreamsPerHost = routerConfig.getNettyHttp2ClientMaxConcurrentStreamsPerHost();
+    Http2Settings http2Settings = Http2Settings.defaultSettings()
+        .pushEnabled(false)
+        .initialWindowSize(routerConfig.getHttp2InitialWindowSize())
+        .maxFrameSize(routerConfig.getHttp2MaxFrameSize())
+        .headerTableSize(routerConfig.getHttp2HeaderTableSize())
+        .maxHeaderListSize(routerConfig.getHttp2MaxHeaderListSize());
+
+    Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(channelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .option(ChannelOption.TCP_NODELAY, true)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            SSLEngine sslEngine = sslContext.createSSLEngine();
+            sslEngine.setUseClientMode(true);
+            SSLParameters sslParameters = sslEngine.getSSLParameters();
+            sslParameters.setApplicationProtocols(new String[] { ApplicationProtocolNames.HTTP_2 });
+            sslEngine.setSSLParameters(sslParameters);
+            SslHandler sslHandler = new SslHandler(sslEngine);
+            sslHandler.handshakeFuture().addListener(handshakeFuture -> {
+              if (handshakeFuture.isSuccess()
+                  && !ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+                LOGGER.error(
+                    "Storage node {} didn't negotiate HTTP/2, make sure HTTP/2 inbound is enabled on it",
+                    ch.remoteAddress());
+                ch.close();
+              }
+            });
+            /**
+             * The HTTP/2 handlers need to be in the pipeline before the connection gets acquired for the first time,
+             * since {@link Http2AwareChannelPool} checks it to decide whether the connection should be multiplexed.
+             */
+            ch.pipeline()
+                .addLast(
+                    sslHandler,
+                    Http2FrameCodecBuilder.forClient().initialSettings(http2Settings).build(),
+                    new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+          }
+        });
+
+    FixedChannelPoolFactory channelPoolFactory = new FixedChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        1,
+        connectionCountPerHost,
+        Integer.MAX_VALUE,
+        false,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        (Function<SocketAddress, CallTracker>) null) {
+      @Override
+      protected ManagedChannelPool construct(
+          Bootstrap poolBootstrap,
+          ChannelPoolHandler channelPoolHandler,
+          ChannelHealthChecker healthChecker,
+          FixedChannelPool.AcquireTimeoutAction acquireTimeoutAction,
+          IntSupplier minConnections,
+          int maxConnections,
+          boolean releaseHeathCheck) {
+        Http2AwareChannelPool pool = new Http2AwareChannelPool(
+            super.construct(
+                poolBootstrap,
+                channelPoolHandler,
+                healthChecker,
+                acquireTimeoutAction,
+                minConnections,
+                maxConnections,
+                releaseHeathCheck),
+            streamChannel -> {},
+            streamChannel -> streamChannel.pipeline().addLast(new HttpObjectAggregator(MAX_RESPONSE_SIZE_IN_BYTES)),
+            maxConnections > 1);
+        pool.setUseCustomH2Codec(true);
+        pool.setMaxConcurrentStreams(maxConcurrentStreamsPerHost);
+        return pool;
+      }
+    };
+    /**
+     * A single pool per storage node instead of one per event loop, otherwise every event loop would open its own
+     * connections.
+     */
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        channelPoolFactory,
+        new BasicDnsResolver(),
+        Integer.MAX_VALUE,
+        true,
+        true,
+        false);
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with connection count per host: {}, "
+            + "max concurrent streams per host: {}",
+        connectionCountPerHost,
+        maxConcurrentStreamsPerHost);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    hostNameAndPorts.forEach(channelPoolManager::close);
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    String hostNameAndPort = host.getHost() + ":" + host.getSslPort();
+    byte[] body = path.getBody();
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+    request.headers().set(HttpHeaderNames.HOST, hostNameAndPort);
+    if (body != null) {
+      request.headers()
+          .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_OCTET_STREAM)
+          .set(HttpHeaderNames.CONTENT_LENGTH, body.length);
+    }
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    sendRequest(hostNameAndPort, request, requestTimeoutInMs, true, completedCallBack, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    URI uri = URI.create(request.getUrl());
+    String hostNameAndPort = uri.getHost() + ":" + uri.getPort();
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery());
+    httpRequest.headers().set(HttpHeaderNames.HOST, hostNameAndPort);
+    sendRequest(
+        hostNameAndPort,
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutInMs,
+        false,
+        responseFuture::complete,
+        responseFuture::completeExceptionally);
+  }
+
+  private void sendRequest(
+      String hostNameAndPort,
+      FullHttpRequest request,
+      long timeoutInMs,
+      boolean retainContent,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    hostNameAndPorts.add(hostNameAndPort);
+    channelPoolManager.acquire(hostNameAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> future) -> {
+      if (!future.isSuccess()) {
+        request.release();
+        failedCallBack.accept(future.cause());
+        return;
+      }
+      Channel streamChannel = future.getNow();
+      ResponseHandler responseHandler = new ResponseHandler(
+          timeoutInMs,
+          retainContent,
+          completedCallBack,
+          failedCallBack,
+          () -> channelPoolManager.release(streamChannel));
+      streamChannel.pipeline().addLast(responseHandler);
+      streamChannel.writeAndFlush(request).addListener(writeFuture -> {
+        if (!writeFuture.isSuccess()) {
+          responseHandler.fail(writeFuture.cause());
+        }
+      });
+    });
+  }
+
+  /**
+   * Waits for the aggregated response of a single request on its own HTTP/2 stream, and releases the stream once the
+   * request is done. Everything happens on the event loop of the stream.
+   */
+  static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final long timeoutInMs;
+    private final boolean retainContent;
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final Runnable releaseStream;
+    private ScheduledFuture<?> timeoutFuture;
+    private boolean done = false;
+
+    ResponseHandler(
+        long timeoutInMs,
+        boolean retainContent,
+        Consumer<PortableHttpResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        Runnable releaseStream) {
+      // The response is released once its content has been retained or copied.
+      super(true);
+      this.timeoutInMs = timeoutInMs;
+      this.retainContent = retainContent;
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+      this.releaseStream = releaseStream;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+      if (timeoutInMs > 0) {
+        timeoutFuture = ctx.executor()
+            .schedule(
+                () -> fail(new TimeoutException("Didn't receive any response within " + timeoutInMs + "ms")),
+                timeoutInMs,
+                TimeUnit.MILLISECONDS);
+      }
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (!finish()) {
+        return;
+      }
+      ByteBuf content = retainContent
+          ? response.content().retainedSlice()
+          : Unpooled.wrappedBuffer(ByteBufUtil.getBytes(response.content()));
+      completedCallBack.accept(new NettyHttp2Response(response.status().code(), response.headers(), content));
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+      fail(new ClosedChannelException());
+      ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      fail(cause);
+    }
+
+    void fail(Throwable cause) {
+      if (finish()) {
+        failedCallBack.accept(cause);
+      }
+    }
+
+    private boolean finish() {
+      if (done) {
+        return false;
+      }
+      done = true;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      releaseStream.run();
+      return true;
+    }
+  }
+
+  static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    /**
+     * A slice of the aggregated content rather than the {@link io.netty.buffer.CompositeByteBuf} itself, since the
+     * router treats composite content as a list of complete responses (e.g. in
+     * {@link com.linkedin.venice.router.api.VeniceResponseDecompressor}), while the aggregated content is made of DATA
+     * frames whose boundaries have nothing to do with the records of the response.
+     */
+    private final ByteBuf content;
+
+    NettyHttp2Response(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
@@ -139,6 +139,25 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     }
   }
 
+  /**
+   * Records a request which was attached to an identical in-flight request instead of being sent to a storage node.
+   */
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    if (storeName != null) {
+      getStoreStats(storeName).recordCoalescedRequest();
+    }
+  }
+
+  /**
+   * Records a long tail retry threshold, which was lowered below the configured one because the storage nodes of the
+   * request were slower than their usual latency.
+   */
+  public void recordLongTailRetryHedgingThreshold(String storeName, double thresholdMs) {
+    totalStats.recordLongTailRetryHedgingThreshold(thresholdMs);
+    getStoreStats(storeName).recordLongTailRetryHedgingThreshold(thresholdMs);
+  }
+
   public void recordFanoutRequestCount(String storeName, int count) {
     totalStats.recordFanoutRequestCount(count);
     getStoreStats(storeName).recordFanoutRequestCount(count);
@@ -40,6 +40,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor tardyRequestRatioSensor;
   private final Sensor throttleSensor;
   private final Sensor errorRetryCountSensor;
+  private final Sensor coalescedRequestSensor;
+  private final Sensor longTailRetryHedgingThresholdSensor;
 
   private final Sensor latencySensor;
   private final Sensor healthyRequestLatencySensor;
@@ -103,6 +105,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor(new TehutiUtils.SimpleRatioStat(tardyRequestRate, requestRate, "tardy_request_ratio"));
     throttleSensor = registerSensor("throttled_request", new Count());
     errorRetryCountSensor = registerSensor("error_retry", new Count());
+    coalescedRequestSensor = registerSensor("coalesced_request", new Count(), new OccurrenceRate());
+    longTailRetryHedgingThresholdSensor =
+        registerSensor("long_tail_retry_hedging_threshold", new OccurrenceRate(), new Avg(), new Max(0));
     badRequestSensor = registerSensor("bad_request", new Count());
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
@@ -262,6 +267,14 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     errorRetryCountSensor.record();
   }
 
+  public void recordCoalescedRequest() {
+    coalescedRequestSensor.record();
+  }
+
+  public void recordLongTailRetryHedgingThreshold(double thresholdMs) {
+    longTailRetryHedgingThresholdSensor.record(thresholdMs);
+  }
+
   public void recordBadRequest() {
     badRequestSensor.record();
   }
@@ -0,0 +1,50 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.read.RequestType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestStorageNodeLatencyTracker {
+  @Test
+  public void testLatencyQuantileEstimation() {
+    StorageNodeLatencyTracker tracker = new StorageNodeLatencyTracker(0.95);
+    Assert.assertEquals(tracker.getLatencyQuantileMs("node1", RequestType.SINGLE_GET), -1d);
+
+    Random random = new Random(1);
+    for (int i = 0; i < 20000; i++) {
+      // Uniformly distributed between 1ms and 100ms, so the 95th percentile is 95ms.
+      tracker.recordLatency("node1", RequestType.SINGLE_GET, 1 + random.nextInt(100));
+      tracker.recordLatency("node2", RequestType.SINGLE_GET, 10);
+    }
+    double latencyQuantileMs = tracker.getLatencyQuantileMs("node1", RequestType.SINGLE_GET);
+    Assert.assertTrue(latencyQuantileMs > 80 && latencyQuantileMs < 115, "Unexpected estimate: " + latencyQuantileMs);
+    Assert.assertEquals(tracker.getLatencyQuantileMs("node2", RequestType.SINGLE_GET), 10, 1);
+    // The latencies of the other request types are tracked separately.
+    Assert.assertEquals(tracker.getLatencyQuantileMs("node1", RequestType.MULTI_GET), -1d);
+  }
+
+  @Test
+  public void testHedgingDelay() {
+    StorageNodeLatencyTracker tracker = new StorageNodeLatencyTracker(0.9);
+    tracker.recordLatency("node1", RequestType.MULTI_GET, 20);
+    tracker.recordLatency("node2", RequestType.MULTI_GET, 40);
+
+    Assert.assertEquals(tracker.getHedgingDelayMs(Collections.singleton("node1"), RequestType.MULTI_GET, 100), 20);
+    // The slowest of the storage nodes, which haven't responded yet, decides.
+    Assert.assertEquals(tracker.getHedgingDelayMs(Arrays.asList("node1", "node2"), RequestType.MULTI_GET, 100), 40);
+    // Capped by the configured threshold.
+    Assert.assertEquals(tracker.getHedgingDelayMs(Arrays.asList("node1", "node2"), RequestType.MULTI_GET, 30), 30);
+    // Any storage node without latency falls back to the configured threshold.
+    Assert.assertEquals(tracker.getHedgingDelayMs(Arrays.asList("node1", "node3"), RequestType.MULTI_GET, 100), 100);
+    Assert.assertEquals(tracker.getHedgingDelayMs(Collections.emptyList(), RequestType.MULTI_GET, 100), 100);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidQuantile() {
+    new StorageNodeLatencyTracker(1);
+  }
+}
@@ -0,0 +1,98 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceRequestCoalescer {
+  @Test
+  public void testIdenticalInFlightRequestsAreCoalesced() throws Exception {
+    VeniceRequestCoalescer coalescer = new VeniceRequestCoalescer();
+    AtomicInteger sentRequestCount = new AtomicInteger();
+    AtomicInteger coalescedRequestCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = new CompletableFuture<>();
+    VeniceRequestCoalescer.RequestSender requestSender = () -> {
+      sentRequestCount.incrementAndGet();
+      return storageNodeResponseFuture;
+    };
+
+    CompletableFuture<PortableHttpResponse> first =
+        coalescer.send("key", requestSender, coalescedRequestCount::incrementAndGet);
+    CompletableFuture<PortableHttpResponse> second =
+        coalescer.send("key", requestSender, coalescedRequestCount::incrementAndGet);
+    Assert.assertEquals(sentRequestCount.get(), 1);
+    Assert.assertEquals(coalescedRequestCount.get(), 1);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+
+    ByteBuf content = Unpooled.copiedBuffer("value", StandardCharsets.UTF_8);
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(200).when(response).getStatusCode();
+    doReturn("1").when(response).getFirstHeader("X-VENICE-SCHEMA-ID");
+    doReturn(content).when(response).getContentInByteBuf();
+    storageNodeResponseFuture.complete(response);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // Every request gets its own view of the content, which is released once all of them released their view.
+    for (CompletableFuture<PortableHttpResponse> responseFuture: Arrays.asList(first, second)) {
+      PortableHttpResponse coalescedResponse = responseFuture.get();
+      Assert.assertEquals(coalescedResponse.getStatusCode(), 200);
+      Assert.assertEquals(coalescedResponse.getFirstHeader("X-VENICE-SCHEMA-ID"), "1");
+      ByteBuf coalescedContent = coalescedResponse.getContentInByteBuf();
+      Assert.assertEquals(coalescedContent.toString(StandardCharsets.UTF_8), "value");
+      coalescedContent.skipBytes(coalescedContent.readableBytes());
+      coalescedContent.release();
+    }
+    Assert.assertEquals(content.refCnt(), 0);
+
+    // Once the response is received, an identical request goes to the storage node again.
+    coalescer.send("key", requestSender, coalescedRequestCount::incrementAndGet);
+    Assert.assertEquals(sentRequestCount.get(), 2);
+    Assert.assertEquals(coalescedRequestCount.get(), 1);
+  }
+
+  @Test
+  public void testCancelledRequestReleasesItsView() throws Exception {
+    VeniceRequestCoalescer coalescer = new VeniceRequestCoalescer();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> first = coalescer.send("key", () -> storageNodeResponseFuture, () -> {});
+    CompletableFuture<PortableHttpResponse> second = coalescer.send("key", () -> storageNodeResponseFuture, () -> {});
+    second.cancel(false);
+
+    ByteBuf content = Unpooled.copiedBuffer("value", StandardCharsets.UTF_8);
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(200).when(response).getStatusCode();
+    doReturn(content).when(response).getContentInByteBuf();
+    storageNodeResponseFuture.complete(response);
+
+    // Only the view of the request which is still waiting for the response is left.
+    Assert.assertEquals(content.refCnt(), 1);
+    first.get().getContentInByteBuf().release();
+    Assert.assertEquals(content.refCnt(), 0);
+  }
+
+  @Test
+  public void testFailureIsFannedOut() throws Exception {
+    VeniceRequestCoalescer coalescer = new VeniceRequestCoalescer();
+    CompletableFuture<PortableHttpResponse> storageNodeResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> first = coalescer.send("key", () -> storageNodeResponseFuture, () -> {});
+    CompletableFuture<PortableHttpResponse> second = coalescer.send("key", () -> storageNodeResponseFuture, () -> {});
+    CompletableFuture<PortableHttpResponse> other =
+        coalescer.send("other_key", CompletableFuture::new, () -> Assert.fail("Unexpected coalescing"));
+
+    storageNodeResponseFuture.completeExceptionally(new IllegalStateException("failed"));
+    Assert.assertTrue(first.isCompletedExceptionally());
+    Assert.assertTrue(second.isCompletedExceptionally());
+    Assert.assertFalse(other.isDone());
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+  }
+}
@@ -8,12 +8,24 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Pair;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +132,64 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * The values of a streaming multi get response should be decompressed in place of the compressed ones, while the rest
+   * of the records is kept as is, also when the response is not backed by a heap array.
+   */
+  @Test
+  public void testDecompressMultiGetStreamingResponse() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer = FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      // Key indexes and values of different lengths, so that the length prefixes take different numbers of bytes
+      int[] valueLengths = { 0, 1, 100, 10000 };
+      for (int i = 0; i < valueLengths.length; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i * 1000;
+        record.schemaId = i + 1;
+        record.value = ByteBuffer.wrap(compressor.compress(new byte[valueLengths[i]]));
+        records.add(record);
+      }
+      byte[] serializedRecords = serializer.serializeObjects(records);
+      ByteBuf content = Unpooled.directBuffer(serializedRecords.length);
+      content.writeBytes(serializedRecords);
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(false, routerStats, request, "test-store", 1, compressorFactory);
+      Pair<ByteBuf, CompressionStrategy> result =
+          responseDecompressor.processMultiGetResponseForStreaming(CompressionStrategy.GZIP, content);
+
+      Assert.assertEquals(result.getSecond(), CompressionStrategy.NO_OP);
+      Assert.assertEquals(content.refCnt(), 0);
+      ByteBuf decompressedContent = result.getFirst();
+      byte[] decompressedBytes = new byte[decompressedContent.readableBytes()];
+      decompressedContent.readBytes(decompressedBytes);
+      List<MultiGetResponseRecordV1> decompressedRecords = deserializer.deserializeObjects(decompressedBytes);
+      Assert.assertEquals(decompressedRecords.size(), valueLengths.length);
+      for (int i = 0; i < valueLengths.length; i++) {
+        MultiGetResponseRecordV1 record = decompressedRecords.get(i);
+        Assert.assertEquals(record.keyIndex, i * 1000);
+        Assert.assertEquals(record.schemaId, i + 1);
+        Assert.assertEquals(ByteUtils.extractByteArray(record.value), new byte[valueLengths[i]]);
+      }
+    }
+  }
 }
@@ -0,0 +1,112 @@
+package com.linkedin.venice.router.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestNettyHttp2StorageNodeClient {
+  @Test
+  public void testResponseContentIsRetainedWithoutCopy() {
+    AtomicReference<PortableHttpResponse> responseRef = new AtomicReference<>();
+    AtomicInteger releaseCount = new AtomicInteger();
+    EmbeddedChannel channel = new EmbeddedChannel(
+        new NettyHttp2StorageNodeClient.ResponseHandler(
+            TimeUnit.MINUTES.toMillis(1),
+            true,
+            responseRef::set,
+            e -> Assert.fail("Unexpected failure", e),
+            releaseCount::incrementAndGet));
+
+    CompositeByteBuf content = createAggregatedContent();
+    DefaultFullHttpResponse response =
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+    response.headers().set("X-VENICE-SCHEMA-ID", "1");
+    channel.writeInbound(response);
+
+    PortableHttpResponse portableResponse = responseRef.get();
+    Assert.assertNotNull(portableResponse);
+    Assert.assertEquals(releaseCount.get(), 1);
+    Assert.assertEquals(portableResponse.getStatusCode(), 200);
+    Assert.assertEquals(portableResponse.getFirstHeader("X-VENICE-SCHEMA-ID"), "1");
+    Assert.assertFalse(portableResponse.containsHeader("X-VENICE-COMPRESSION-STRATEGY"));
+
+    // The received buffers are handed over as they are, but not as a composite buffer.
+    Assert.assertEquals(content.refCnt(), 1);
+    ByteBuf contentInByteBuf = portableResponse.getContentInByteBuf();
+    Assert.assertFalse(contentInByteBuf instanceof CompositeByteBuf);
+    Assert.assertEquals(contentInByteBuf.toString(StandardCharsets.UTF_8), "first_second");
+    contentInByteBuf.release();
+    Assert.assertEquals(content.refCnt(), 0);
+
+    // The stream is released once, even if it gets closed afterward.
+    channel.close();
+    Assert.assertEquals(releaseCount.get(), 1);
+  }
+
+  @Test
+  public void testMetaDataResponseContentIsCopiedToHeap() {
+    AtomicReference<PortableHttpResponse> responseRef = new AtomicReference<>();
+    EmbeddedChannel channel = new EmbeddedChannel(
+        new NettyHttp2StorageNodeClient.ResponseHandler(
+            TimeUnit.MINUTES.toMillis(1),
+            false,
+            responseRef::set,
+            e -> Assert.fail("Unexpected failure", e),
+            () -> {}));
+
+    CompositeByteBuf content = createAggregatedContent();
+    channel.writeInbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+
+    // The received buffers are released right away, the content is handed over as a single heap buffer.
+    Assert.assertEquals(content.refCnt(), 0);
+    ByteBuf contentInByteBuf = responseRef.get().getContentInByteBuf();
+    Assert.assertFalse(contentInByteBuf instanceof CompositeByteBuf);
+    Assert.assertTrue(contentInByteBuf.hasArray());
+    Assert.assertEquals(contentInByteBuf.toString(StandardCharsets.UTF_8), "first_second");
+  }
+
+  private static CompositeByteBuf createAggregatedContent() {
+    CompositeByteBuf content = Unpooled.compositeBuffer();
+    content.addComponent(true, Unpooled.copiedBuffer("first_", StandardCharsets.UTF_8));
+    content.addComponent(true, Unpooled.copiedBuffer("second", StandardCharsets.UTF_8));
+    return content;
+  }
+
+  @Test
+  public void testRequestTimeout() {
+    AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    AtomicInteger releaseCount = new AtomicInteger();
+    EmbeddedChannel channel = new EmbeddedChannel(
+        new NettyHttp2StorageNodeClient.ResponseHandler(
+            1,
+            true,
+            response -> Assert.fail("Unexpected response"),
+            failureRef::set,
+            releaseCount::incrementAndGet));
+
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (failureRef.get() == null && System.currentTimeMillis() < deadline) {
+      channel.runScheduledPendingTasks();
+    }
+    Assert.assertTrue(failureRef.get() instanceof TimeoutException);
+    Assert.assertEquals(releaseCount.get(), 1);
+
+    // A late response is dropped.
+    ByteBuf content = Unpooled.copiedBuffer("late", StandardCharsets.UTF_8);
+    channel.writeInbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content));
+    Assert.assertEquals(content.refCnt(), 0);
+    Assert.assertEquals(releaseCount.get(), 1);
+  }
+}
@@ -0,0 +1,146 @@
+package com.linkedin.venice.cleaner;
+
+import static com.linkedin.venice.meta.VersionStatus.ONLINE;
+
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition.ExpiredRecordsSweepResult;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.RmdTTLSweeperServiceStats;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class periodically deletes the expired records of the active/active stores with a TTL, in the background, so
+ * that the storage of these stores doesn't keep growing with the keys, which are never updated again, between the
+ * repushes with TTL filtering.
+ *
+ * Every run sweeps all the partitions of the online versions of the stores with a TTL, in batches of
+ * {@link #SWEEP_BATCH_SIZE} records, through
+ * {@link ReplicationMetadataRocksDBStoragePartition#deleteExpiredRecords}. A record expires once the value level
+ * timestamp of its RMD is older than the TTL of its store, and both its value and its RMD are deleted. The scan is
+ * throttled to bound the I/O and the deletes it adds on top of the ingestion and the reads.
+ */
+public class RmdTTLSweeperService extends AbstractVeniceService {
+  private static final Logger LOGGER = LogManager.getLogger(RmdTTLSweeperService.class);
+  /**
+   * The maximum number of records scanned while holding the lock of a partition, which blocks its ingestion.
+   */
+  static final int SWEEP_BATCH_SIZE = 1000;
+
+  private final ReadOnlyStoreRepository storeRepository;
+  private final StorageEngineRepository storageEngineRepository;
+  private final Map<String, Long> storeToTTLSecondsMap;
+  private final long scheduleIntervalSeconds;
+  private final EventThrottler scanThrottler;
+  private final RmdTTLSweeperServiceStats stats;
+
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("RmdTTLSweeperService"));
+
+  private volatile boolean stop = false;
+
+  /**
+   * Allocate and initialize a new {@code RmdTTLSweeperService} object.
+   * @param storeRepository provides readonly operations to access stores.
+   * @param storageEngineRepository local storage engines for a server node.
+   * @param storeToTTLSecondsMap the TTL in seconds of the stores to sweep.
+   * @param scheduleIntervalSeconds sets the scheduling interval for this service.
+   * @param maxRecordsScannedPerSecond bounds the number of records scanned per second.
+   * @param stats records the statistics for this service.
+   */
+  public RmdTTLSweeperService(
+      ReadOnlyStoreRepository storeRepository,
+      StorageEngineRepository storageEngineRepository,
+      Map<String, Long> storeToTTLSecondsMap,
+      long scheduleIntervalSeconds,
+      long maxRecordsScannedPerSecond,
+      RmdTTLSweeperServiceStats stats) {
+    this.storeRepository = storeRepository;
+    this.storageEngineRepository = storageEngineRepository;
+    this.storeToTTLSecondsMap = storeToTTLSecondsMap;
+    this.scheduleIntervalSeconds = scheduleIntervalSeconds;
+    this.scanThrottler = new EventThrottler(maxRecordsScannedPerSecond);
+    this.stats = stats;
+  }
+
+  void sweep() {
+    for (AbstractStorageEngine engine: storageEngineRepository.getAllLocalStorageEngines()) {
+      if (stop) {
+        return;
+      }
+      String resourceName = engine.getStoreVersionName();
+      String storeName = Version.parseStoreFromVersionTopic(resourceName);
+      Long ttlSeconds = storeToTTLSecondsMap.get(storeName);
+      if (ttlSeconds == null) {
+        continue;
+      }
+      Store store = storeRepository.getStore(storeName);
+      if (store == null) {
+        LOGGER.warn("Failed to find out the store info from ReadOnlyStoreRepository for: {}", storeName);
+        continue;
+      }
+      Version versionInfo = store.getVersion(Version.parseVersionFromVersionTopicName(resourceName));
+      if (versionInfo == null || !versionInfo.getStatus().equals(ONLINE)) {
+        // Skip the versions, which may still be ingesting the batch data with deferred writes.
+        continue;
+      }
+      long cutoffTimestamp = System.currentTimeMillis() - ttlSeconds * Time.MS_PER_SECOND;
+      for (int partitionId: engine.getPartitionIds()) {
+        try {
+          AbstractStoragePartition partition = engine.getPartitionOrThrow(partitionId);
+          if (partition instanceof ReplicationMetadataRocksDBStoragePartition) {
+            sweepPartition((ReplicationMetadataRocksDBStoragePartition) partition, cutoffTimestamp);
+          }
+        } catch (Exception e) {
+          stats.recordSweepError();
+          LOGGER.error("Failed to sweep expired records of resource: {}, partition: {}", resourceName, partitionId, e);
+        }
+      }
+    }
+  }
+
+  private void sweepPartition(ReplicationMetadataRocksDBStoragePartition partition, long cutoffTimestamp) {
+    byte[] nextKey = null;
+    do {
+      ExpiredRecordsSweepResult result = partition.deleteExpiredRecords(nextKey, cutoffTimestamp, SWEEP_BATCH_SIZE);
+      stats.recordScannedRecords(result.getScannedRecordCount());
+      stats.recordExpiredRecords(result.getDeletedRecordCount());
+      scanThrottler.maybeThrottle(result.getScannedRecordCount());
+      nextKey = result.getNextKey();
+    } while (nextKey != null && !stop);
+  }
+
+  @Override
+  public boolean startInner() throws Exception {
+    // scheduleWithFixedDelay, since a sweep may take longer than the interval.
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        sweep();
+      } catch (Exception e) {
+        LOGGER.error("Failed to sweep expired records", e);
+      }
+    }, scheduleIntervalSeconds, scheduleIntervalSeconds, TimeUnit.SECONDS);
+    return true;
+  }
+
+  @Override
+  public void stopInner() throws Exception {
+    stop = true;
+    executor.shutdownNow();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+  }
+}
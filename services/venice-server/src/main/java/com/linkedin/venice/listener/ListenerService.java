@@ -19,6 +19,7 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.stats.ThreadPoolStats;
+import com.linkedin.venice.utils.VirtualThreadFactory;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
 import io.netty.bootstrap.ServerBootstrap;
@@ -34,6 +35,7 @@ import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -85,16 +87,20 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
+    executor = createReadThreadPool(
         serverConfig.getRestServiceStorageThreadNum(),
         "StorageExecutionThread",
-        serverConfig.getDatabaseLookupQueueCapacity());
+        serverConfig.isReadPrioritySchedulingEnabled()
+            ? new ReadTaskPriorityBlockingQueue(serverConfig.getDatabaseLookupQueueCapacity())
+            : ThreadPoolFactory
+                .getExecutionQueue(serverConfig.getDatabaseLookupQueueCapacity(), serverConfig.getBlockingQueueType()));
     new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
 
-    computeExecutor = createThreadPool(
+    computeExecutor = createReadThreadPool(
         serverConfig.getServerComputeThreadNum(),
         "StorageComputeThread",
-        serverConfig.getComputeQueueCapacity());
+        ThreadPoolFactory
+            .getExecutionQueue(serverConfig.getComputeQueueCapacity(), serverConfig.getBlockingQueueType()));
     new ThreadPoolStats(metricsRepository, computeExecutor, "storage_compute_thread_pool");
 
     if (sslFactory.isPresent() && serverConfig.getSslHandshakeThreadPoolSize() > 0) {
@@ -222,6 +228,31 @@ public class ListenerService extends AbstractVeniceService {
         .createThreadPool(threadCount, threadNamePrefix, capacity, serverConfig.getBlockingQueueType());
   }
 
+  /**
+   * Creates a thread pool for the storage lookups, which runs them on virtual threads if enabled and supported by the
+   * runtime. With virtual threads, the thread count of the pool is no longer bound by the cost of platform threads, so
+   * it is replaced by {@link VeniceServerConfig#getVirtualThreadReadConcurrency()}, which only limits how many lookups
+   * run at the same time, while the queue and the stats of the pool remain the same.
+   */
+  private ThreadPoolExecutor createReadThreadPool(
+      int threadCount,
+      String threadNamePrefix,
+      BlockingQueue<Runnable> executionQueue) {
+    if (serverConfig.isVirtualThreadReadEnabled()) {
+      if (VirtualThreadFactory.isSupported()) {
+        return ThreadPoolFactory.createThreadPool(
+            serverConfig.getVirtualThreadReadConcurrency(),
+            new VirtualThreadFactory(threadNamePrefix),
+            executionQueue);
+      }
+      LOGGER.warn(
+          "Virtual threads are not supported by Java {}, so {} will use platform threads",
+          System.getProperty("java.version"),
+          threadNamePrefix);
+    }
+    return ThreadPoolFactory.createThreadPool(threadCount, threadNamePrefix, executionQueue);
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
@@ -0,0 +1,63 @@
+package com.linkedin.venice.listener;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Decides the chunk size of a parallel batch-get or compute lookup per request, instead of using a fixed chunk size:
+ * 1. A chunk should take roughly {@link #targetChunkLatencyNs}, based on the recent per-key lookup latency, so that
+ *    cheap lookups are not split into many tiny tasks, whose scheduling overhead dominates the lookups themselves.
+ * 2. A request should not be split into more chunks than there are workers available in the thread pool, so that
+ *    under load, the chunks of one request are processed by a few workers instead of getting spread all over the
+ *    queue, where each of them would wait for its turn.
+ *
+ * The configured chunk size stays the minimum chunk size.
+ */
+class ParallelBatchGetChunkSizer {
+  /**
+   * The weight of the latest chunk in the moving average of the per-key lookup latency.
+   */
+  private static final double PER_KEY_LATENCY_DECAY = 0.2;
+
+  private final int minChunkSize;
+  private final long targetChunkLatencyNs;
+  /**
+   * Updated concurrently by the threads processing the chunks without synchronization, since losing an update once
+   * in a while doesn't matter for the moving average.
+   */
+  private volatile double avgPerKeyLatencyNs = 0;
+
+  ParallelBatchGetChunkSizer(int minChunkSize, long targetChunkLatencyUs) {
+    this.minChunkSize = Math.max(1, minChunkSize);
+    this.targetChunkLatencyNs = TimeUnit.MICROSECONDS.toNanos(targetChunkLatencyUs);
+  }
+
+  int getChunkSize(int keyCount, ThreadPoolExecutor threadPoolExecutor) {
+    int chunkSize = minChunkSize;
+    double perKeyLatencyNs = avgPerKeyLatencyNs;
+    if (perKeyLatencyNs > 0) {
+      chunkSize = (int) Math.max(chunkSize, Math.min(Integer.MAX_VALUE, targetChunkLatencyNs / perKeyLatencyNs));
+    }
+    /**
+     * Every queued task will keep one worker busy, so the queue length tells how many workers are left for this
+     * request. {@link ThreadPoolExecutor#getActiveCount()} is not used here, since it acquires the main lock of the
+     * thread pool.
+     */
+    int availableWorkerCount =
+        Math.max(1, threadPoolExecutor.getCorePoolSize() - threadPoolExecutor.getQueue().size());
+    chunkSize = Math.max(chunkSize, (keyCount + availableWorkerCount - 1) / availableWorkerCount);
+    return Math.max(1, Math.min(chunkSize, keyCount));
+  }
+
+  void recordChunkLatency(int keyCount, long latencyNs) {
+    if (keyCount <= 0) {
+      return;
+    }
+    double perKeyLatencyNs = (double) latencyNs / keyCount;
+    double currentAvgPerKeyLatencyNs = avgPerKeyLatencyNs;
+    avgPerKeyLatencyNs = currentAvgPerKeyLatencyNs == 0
+        ? perKeyLatencyNs
+        : currentAvgPerKeyLatencyNs + PER_KEY_LATENCY_DECAY * (perKeyLatencyNs - currentAvgPerKeyLatencyNs);
+  }
+}
@@ -0,0 +1,294 @@
+package com.linkedin.venice.listener;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Bounded work queue of the storage execution thread pool, which lets the queued single-get lookups run ahead of the
+ * queued chunks of batch-get lookups, so that a few big batch-gets don't add their whole lookup time to the latency of
+ * the single-gets queued behind them. The chunks are submitted through {@link #getBulkTaskExecutor}.
+ *
+ * Similar to the QOS based queues of Alpini, the bulk tasks are not starved: one of them is polled after every
+ * {@link #MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS} high priority tasks.
+ */
+public class ReadTaskPriorityBlockingQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+  static final int MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS = 8;
+
+  private final int capacity;
+  private final ArrayDeque<Runnable> highPriorityTasks = new ArrayDeque<>();
+  private final ArrayDeque<Runnable> bulkTasks = new ArrayDeque<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private int consecutiveHighPriorityPolls = 0;
+
+  public ReadTaskPriorityBlockingQueue(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Queue capacity must be positive, but got: " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return an executor, which submits its tasks to the given thread pool as bulk tasks if the thread pool is backed by
+   *         a {@link ReadTaskPriorityBlockingQueue}, or the thread pool itself otherwise.
+   */
+  public static Executor getBulkTaskExecutor(ThreadPoolExecutor threadPoolExecutor) {
+    if (!(threadPoolExecutor.getQueue() instanceof ReadTaskPriorityBlockingQueue)) {
+      return threadPoolExecutor;
+    }
+    return task -> threadPoolExecutor.execute(new BulkTask(task));
+  }
+
+  private static final class BulkTask implements Runnable {
+    private final Runnable task;
+
+    BulkTask(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      task.run();
+    }
+  }
+
+  private int count() {
+    return highPriorityTasks.size() + bulkTasks.size();
+  }
+
+  private void enqueue(Runnable task) {
+    if (task instanceof BulkTask) {
+      bulkTasks.addLast(task);
+    } else {
+      highPriorityTasks.addLast(task);
+    }
+    notEmpty.signal();
+  }
+
+  private boolean isHighPriorityTaskNext() {
+    return bulkTasks.isEmpty()
+        || (!highPriorityTasks.isEmpty() && consecutiveHighPriorityPolls < MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS);
+  }
+
+  private Runnable dequeue() {
+    Runnable task;
+    if (isHighPriorityTaskNext()) {
+      task = highPriorityTasks.pollFirst();
+      consecutiveHighPriorityPolls = bulkTasks.isEmpty() ? 0 : consecutiveHighPriorityPolls + 1;
+    } else {
+      task = bulkTasks.pollFirst();
+      consecutiveHighPriorityPolls = 0;
+    }
+    notFull.signal();
+    return task;
+  }
+
+  @Override
+  public boolean offer(Runnable task) {
+    Objects.requireNonNull(task);
+    lock.lock();
+    try {
+      if (count() >= capacity) {
+        return false;
+      }
+      enqueue(task);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+    Objects.requireNonNull(task);
+    long remainingNs = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (count() >= capacity) {
+        if (remainingNs <= 0) {
+          return false;
+        }
+        remainingNs = notFull.awaitNanos(remainingNs);
+      }
+      enqueue(task);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void put(Runnable task) throws InterruptedException {
+    Objects.requireNonNull(task);
+    lock.lockInterruptibly();
+    try {
+      while (count() >= capacity) {
+        notFull.await();
+      }
+      enqueue(task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (count() == 0) {
+        notEmpty.await();
+      }
+      return dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long remainingNs = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (count() == 0) {
+        if (remainingNs <= 0) {
+          return null;
+        }
+        remainingNs = notEmpty.awaitNanos(remainingNs);
+      }
+      return dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable poll() {
+    lock.lock();
+    try {
+      return count() == 0 ? null : dequeue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Runnable peek() {
+    lock.lock();
+    try {
+      return isHighPriorityTaskNext() ? highPriorityTasks.peekFirst() : bulkTasks.peekFirst();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return count();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    lock.lock();
+    try {
+      return capacity - count();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean remove(Object task) {
+    lock.lock();
+    try {
+      boolean removed = highPriorityTasks.remove(task) || bulkTasks.remove(task);
+      if (removed) {
+        notFull.signal();
+      }
+      return removed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> collection) {
+    return drainTo(collection, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> collection, int maxElements) {
+    if (collection == this) {
+      throw new IllegalArgumentException("Cannot drain a queue to itself");
+    }
+    lock.lock();
+    try {
+      int drained = 0;
+      while (drained < maxElements && count() > 0) {
+        collection.add(dequeue());
+        ++drained;
+      }
+      return drained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The returned iterator works on a snapshot of the queue, which is what {@link ThreadPoolExecutor#purge()} expects
+   * from a concurrent queue.
+   */
+  @Override
+  public Iterator<Runnable> iterator() {
+    List<Runnable> snapshot;
+    lock.lock();
+    try {
+      snapshot = new ArrayList<>(count());
+      snapshot.addAll(highPriorityTasks);
+      snapshot.addAll(bulkTasks);
+    } finally {
+      lock.unlock();
+    }
+    Iterator<Runnable> snapshotIterator = snapshot.iterator();
+    return new Iterator<Runnable>() {
+      private Runnable last;
+
+      @Override
+      public boolean hasNext() {
+        return snapshotIterator.hasNext();
+      }
+
+      @Override
+      public Runnable next() {
+        last = snapshotIterator.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        if (last == null) {
+          throw new IllegalStateException();
+        }
+        ReadTaskPriorityBlockingQueue.this.remove(last);
+        last = null;
+      }
+    };
+  }
+}
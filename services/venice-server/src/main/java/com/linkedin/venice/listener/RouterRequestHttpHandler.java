@@ -1,5 +1,6 @@
 package com.linkedin.venice.listener;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.AdminRequest;
 import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
@@ -62,13 +63,29 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
     ctx.flush();
   }
 
-  private void setupRequestTimeout(RouterRequest routerRequest) {
+  /**
+   * The request times out after the early termination threshold of the store, or after the timeout passed by the
+   * caller, which doesn't wait for the response anymore after that, whichever comes first.
+   */
+  private void setupRequestTimeout(RouterRequest routerRequest, HttpRequest request) {
     String storeName = routerRequest.getStoreName();
     Integer timeoutThresholdInMS = storeToEarlyTerminationThresholdMSMap.get(storeName);
     if (timeoutThresholdInMS != null) {
       routerRequest.setRequestTimeoutInNS(
           statsHandler.getRequestStartTimeInNS() + TimeUnit.MILLISECONDS.toNanos(timeoutThresholdInMS));
     }
+    String requestTimeoutHeader = request.headers().get(HttpConstants.VENICE_REQUEST_TIMEOUT_MS);
+    if (requestTimeoutHeader != null) {
+      try {
+        long requestTimeoutInMS = Long.parseLong(requestTimeoutHeader);
+        if (requestTimeoutInMS > 0) {
+          routerRequest.setRequestTimeoutInNSIfEarlier(
+              statsHandler.getRequestStartTimeInNS() + TimeUnit.MILLISECONDS.toNanos(requestTimeoutInMS));
+        }
+      } catch (NumberFormatException e) {
+        // Ignore the malformed header, since the request can still be served without it
+      }
+    }
   }
 
   @Override
@@ -84,14 +101,14 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           if (requestMethod.equals(HttpMethod.GET)) {
             // TODO: evaluate whether we can replace single-get by multi-get
             GetRouterRequest getRouterRequest = GetRouterRequest.parseGetHttpRequest(req, requestParts);
-            setupRequestTimeout(getRouterRequest);
+            setupRequestTimeout(getRouterRequest, req);
             statsHandler.setRequestInfo(getRouterRequest);
             ctx.fireChannelRead(getRouterRequest);
           } else if (requestMethod.equals(HttpMethod.POST)) {
             // Multi-get
             MultiGetRouterRequestWrapper multiGetRouterReq =
                 MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(req, requestParts);
-            setupRequestTimeout(multiGetRouterReq);
+            setupRequestTimeout(multiGetRouterReq, req);
             statsHandler.setRequestInfo(multiGetRouterReq);
             ctx.fireChannelRead(multiGetRouterReq);
           } else {
@@ -102,7 +119,7 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           if (req.method().equals(HttpMethod.POST)) {
             ComputeRouterRequestWrapper computeRouterReq =
                 ComputeRouterRequestWrapper.parseComputeRequest(req, requestParts);
-            setupRequestTimeout(computeRouterReq);
+            setupRequestTimeout(computeRouterReq, req);
             statsHandler.setRequestInfo(computeRouterReq);
             ctx.fireChannelRead(computeRouterReq);
           } else {
@@ -30,6 +30,7 @@ public class ServerStatsContext {
   private int requestKeyCount = -1;
   private int requestSizeInBytes = -1;
   private boolean isRequestTerminatedEarly = false;
+  private RouterRequest routerRequest = null;
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
   private final AggServerHttpRequestStats computeStats;
@@ -114,6 +115,7 @@ public class ServerStatsContext {
     requestKeyCount = -1;
     requestSizeInBytes = -1;
     isRequestTerminatedEarly = false;
+    routerRequest = null;
     isMisroutedStoreVersion = false;
     flushLatency = -1;
     responseSize = -1;
@@ -193,6 +195,7 @@ public class ServerStatsContext {
   }
 
   public void setRequestInfo(RouterRequest request) {
+    this.routerRequest = request;
     setStoreName(request.getStoreName());
     setRequestType(request.getRequestType());
     setRequestKeyCount(request.getKeyCount());
@@ -232,6 +235,10 @@ public class ServerStatsContext {
 
       if (this.isRequestTerminatedEarly) {
         serverHttpRequestStats.recordEarlyTerminatedEarlyRequest();
+        if (this.routerRequest != null) {
+          // The lookups done before the termination were wasted, since their results are not sent back
+          serverHttpRequestStats.recordEarlyTerminatedKeyLookupCount(this.routerRequest.getKeyLookupCount());
+        }
       }
       if (flushLatency >= 0) {
         serverHttpRequestStats.recordFlushLatency(flushLatency);
@@ -83,6 +83,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -118,6 +119,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final int parallelBatchGetChunkSize;
+  /**
+   * Null unless the chunk size of parallel lookups is adaptive. Batch-get and compute lookups have their own, since the
+   * per-key latency of compute lookups is much higher.
+   */
+  private final ParallelBatchGetChunkSizer multiGetChunkSizer;
+  private final ParallelBatchGetChunkSizer computeChunkSizer;
+  private final Executor multiGetChunkExecutor;
+  private final Executor computeChunkExecutor;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
@@ -247,6 +256,16 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         : SerializerDeserializerFactory::getAvroGenericSerializer;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetChunkSize = serverConfig.getParallelBatchGetChunkSize();
+    if (serverConfig.isParallelBatchGetAdaptiveChunkingEnabled()) {
+      long targetChunkLatencyUs = serverConfig.getParallelBatchGetTargetChunkLatencyUs();
+      this.multiGetChunkSizer = new ParallelBatchGetChunkSizer(this.parallelBatchGetChunkSize, targetChunkLatencyUs);
+      this.computeChunkSizer = new ParallelBatchGetChunkSizer(this.parallelBatchGetChunkSize, targetChunkLatencyUs);
+    } else {
+      this.multiGetChunkSizer = null;
+      this.computeChunkSizer = null;
+    }
+    this.multiGetChunkExecutor = ReadTaskPriorityBlockingQueue.getBulkTaskExecutor(executor);
+    this.computeChunkExecutor = ReadTaskPriorityBlockingQueue.getBulkTaskExecutor(computeExecutor);
     if (serverConfig.isEnableParallelBatchGet()) {
       this.multiGetHandler = this::handleMultiGetRequestInParallel;
       this.computeHandler = this::handleComputeRequestInParallel;
@@ -474,6 +493,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   }
 
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(MultiGetRouterRequestWrapper request) {
+    return handleMultiGetRequestInChunks(request, null);
+  }
+
+  /**
+   * Processes the batch get in parallel chunks, like {@link #handleMultiGetRequestInParallel}, and hands every chunk
+   * over to the given consumer as soon as it is processed, so that its records can be sent back before the rest of the
+   * request is done. The consumer is invoked concurrently from the threads processing the chunks.
+   */
+  public CompletableFuture<ReadResponse> handleMultiGetRequestInChunks(
+      MultiGetRouterRequestWrapper request,
+      Consumer<MultiKeyResponseWrapper> chunkConsumer) {
     List<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     RequestContext requestContext = new RequestContext(request, this);
 
@@ -484,8 +514,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         ParallelMultiKeyResponseWrapper::multiGet,
         this.multiGetResponseProvider,
         this.executor,
+        this.multiGetChunkExecutor,
+        this.multiGetChunkSizer,
         requestContext,
-        this::processMultiGet);
+        this::processMultiGet,
+        chunkConsumer);
   }
 
   private interface ParallelResponseProvider<T extends MultiKeyResponseWrapper> {
@@ -503,12 +536,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ParallelResponseProvider<R> parallelResponseProvider,
       IntFunction<R> individualResponseProvider,
       ThreadPoolExecutor threadPoolExecutor,
+      Executor chunkExecutor,
+      ParallelBatchGetChunkSizer chunkSizer,
       C requestContext,
-      SingleBatchProcessor<K, C, R> batchProcessor) {
+      SingleBatchProcessor<K, C, R> batchProcessor,
+      Consumer<? super R> chunkConsumer) {
     int totalKeyNum = keys.size();
-    int chunkCount = (int) Math.ceil((double) totalKeyNum / this.parallelBatchGetChunkSize);
+    int chunkSize = chunkSizer == null
+        ? this.parallelBatchGetChunkSize
+        : chunkSizer.getChunkSize(totalKeyNum, threadPoolExecutor);
+    int chunkCount = (int) Math.ceil((double) totalKeyNum / chunkSize);
     ParallelMultiKeyResponseWrapper<R> responseWrapper =
-        parallelResponseProvider.get(chunkCount, this.parallelBatchGetChunkSize, individualResponseProvider);
+        parallelResponseProvider.get(chunkCount, chunkSize, individualResponseProvider);
     responseWrapper.setCompressionStrategy(compressionStrategy);
 
     CompletableFuture<Void>[] chunkFutures = new CompletableFuture[chunkCount];
@@ -524,17 +563,30 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           throw new VeniceRequestEarlyTerminationException(request.getStoreName());
         }
 
-        int startPos = finalCur * this.parallelBatchGetChunkSize;
-        int endPos = Math.min((finalCur + 1) * this.parallelBatchGetChunkSize, totalKeyNum);
+        int startPos = finalCur * chunkSize;
+        int endPos = Math.min((finalCur + 1) * chunkSize, totalKeyNum);
         R chunkOfResponse = responseWrapper.getChunk(finalCur);
+        chunkOfResponse.setCompressionStrategy(compressionStrategy);
+        long processingStartTimeNs = System.nanoTime();
         batchProcessor.process(startPos, endPos, keys, requestContext, chunkOfResponse);
+        if (chunkSizer != null) {
+          chunkSizer.recordChunkLatency(endPos - startPos, System.nanoTime() - processingStartTimeNs);
+        }
 
         chunkOfResponse.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
-      }, threadPoolExecutor);
+        if (chunkConsumer != null) {
+          chunkConsumer.accept(chunkOfResponse);
+        }
+      }, chunkExecutor);
     }
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof VeniceRequestEarlyTerminationException) {
+          // Keep it as is, so that the request is responded with the right status
+          throw (VeniceRequestEarlyTerminationException) cause;
+        }
         throw new VeniceException(e);
       }
 
@@ -552,6 +604,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     MultiGetRouterRequestKeyV1 key;
     MultiGetResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      checkRequestDeadline(requestContext.request, subChunkCur - startPos);
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
       record = BatchGetChunkingAdapter.get(
@@ -576,11 +629,26 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         response.addRecord(record);
       }
     }
+    requestContext.request.recordKeyLookups(endPos - startPos);
 
     // Trigger serialization
     response.getResponseBody();
   }
 
+  /**
+   * Checks the deadline of the request before every key lookup of a batch get or compute request, so that a request,
+   * which the caller doesn't wait for anymore, doesn't occupy the thread for the rest of its keys.
+   *
+   * @param lookupCount the number of lookups done by the calling chunk so far, which are wasted if the request is
+   *                    terminated.
+   */
+  private static void checkRequestDeadline(RouterRequest request, int lookupCount) {
+    if (request.shouldRequestBeTerminatedEarly()) {
+      request.recordKeyLookups(lookupCount);
+      throw new VeniceRequestEarlyTerminationException(request.getStoreName());
+    }
+  }
+
   public CompletableFuture<ReadResponse> handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
@@ -635,6 +703,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   }
 
   private CompletableFuture<ReadResponse> handleComputeRequestInParallel(ComputeRouterRequestWrapper request) {
+    return handleComputeRequestInChunks(request, null);
+  }
+
+  /**
+   * The compute counterpart of {@link #handleMultiGetRequestInChunks}.
+   */
+  public CompletableFuture<ReadResponse> handleComputeRequestInChunks(
+      ComputeRouterRequestWrapper request,
+      Consumer<MultiKeyResponseWrapper> chunkConsumer) {
     if (!metadataRepository.isReadComputationEnabled(request.getStoreName())) {
       CompletableFuture failFast = new CompletableFuture();
       failFast.completeExceptionally(
@@ -653,8 +730,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         ParallelMultiKeyResponseWrapper::compute,
         this.computeResponseProvider,
         this.computeExecutor,
+        this.computeChunkExecutor,
+        this.computeChunkSizer,
         requestContext,
-        this::processCompute);
+        this::processCompute,
+        chunkConsumer);
   }
 
   /**
@@ -662,11 +742,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
    * subtasks of the same query, as is the case when executing batch get and compute requests in parallel chunks.
    */
   private static class RequestContext {
+    final MultiKeyRouterRequestWrapper request;
     final PerStoreVersionState storeVersion;
     final boolean isChunked;
     final boolean isStreaming;
 
     RequestContext(MultiKeyRouterRequestWrapper request, StorageReadRequestHandler handler) {
+      this.request = request;
       this.storeVersion = handler.getPerStoreVersionState(request.getResourceName());
       this.isChunked = storeVersion.storageEngine.isChunked();
       this.isStreaming = request.isStreamingRequest();
@@ -715,6 +797,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     ComputeRouterRequestKeyV1 key;
     ComputeResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      checkRequestDeadline(requestContext.request, subChunkCur - startPos);
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
       AvroRecordUtils.clearRecord(reusableResultRecord);
@@ -761,6 +844,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         response.addRecord(record);
       }
     }
+    requestContext.request.recordKeyLookups(endPos - startPos);
 
     // Trigger serialization
     response.getResponseBody();
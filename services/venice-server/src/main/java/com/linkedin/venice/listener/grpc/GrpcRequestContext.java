@@ -20,6 +20,7 @@ public class GrpcRequestContext {
 
   private boolean isCompleted = false;
   private boolean hasError = false;
+  private boolean isStreamingRpc = false;
   private RouterRequest routerRequest;
   private ReadResponse readResponse;
   private ServerStatsContext serverStatsContext;
@@ -89,6 +90,17 @@ public class GrpcRequestContext {
     return isCompleted;
   }
 
+  /**
+   * Marks the request as received through a server-streaming RPC, whose records are sent back in several messages.
+   */
+  public void setStreamingRpc() {
+    isStreamingRpc = true;
+  }
+
+  public boolean isStreamingRpc() {
+    return isStreamingRpc;
+  }
+
   public boolean hasError() {
     return hasError;
   }
@@ -21,18 +21,34 @@ public class VeniceReadServiceImpl extends VeniceReadServiceGrpc.VeniceReadServi
 
   @Override
   public void get(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
-    handleRequest(request, responseObserver);
+    handleRequest(request, responseObserver, false);
   }
 
   @Override
   public void batchGet(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
-    handleRequest(request, responseObserver);
+    handleRequest(request, responseObserver, false);
   }
 
-  private void handleRequest(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+  @Override
+  public void batchGetStream(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleRequest(request, responseObserver, true);
+  }
+
+  @Override
+  public void computeStream(VeniceClientRequest request, StreamObserver<VeniceServerResponse> responseObserver) {
+    handleRequest(request, responseObserver, true);
+  }
+
+  private void handleRequest(
+      VeniceClientRequest request,
+      StreamObserver<VeniceServerResponse> responseObserver,
+      boolean isStreamingRpc) {
     VeniceServerResponse.Builder responseBuilder =
         VeniceServerResponse.newBuilder().setErrorCode(VeniceReadResponseStatus.OK);
     GrpcRequestContext ctx = new GrpcRequestContext(request, responseBuilder, responseObserver);
+    if (isStreamingRpc) {
+      ctx.setStreamingRpc();
+    }
     requestProcessor.process(ctx);
   }
 
@@ -36,6 +36,14 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
     veniceServerResponseBuilder.setResponseRCU(obj.getRCU());
     veniceServerResponseBuilder.setIsStreamingResponse(obj.isStreamingResponse());
 
+    if (ctx.isStreamingRpc()) {
+      // The records were already streamed back chunk by chunk, this last message only completes the stream.
+      veniceServerResponseBuilder.setData(ByteString.EMPTY).setSchemaId(obj.getResponseSchemaIdHeader());
+      statsContext.setResponseStatus(OK);
+      invokeNextHandler(ctx);
+      return;
+    }
+
     if (obj.isFound()) {
       body = obj.getResponseBody();
 
@@ -2,10 +2,14 @@ package com.linkedin.venice.listener.grpc.handlers;
 
 import com.linkedin.venice.listener.ServerStatsContext;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.protocols.VeniceClientRequest;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import java.util.concurrent.TimeUnit;
 
 
 public class GrpcRouterRequestHandler extends VeniceServerGrpcHandler {
@@ -22,9 +26,23 @@ public class GrpcRouterRequestHandler extends VeniceServerGrpcHandler {
     VeniceClientRequest clientRequest = ctx.getVeniceClientRequest();
     ServerStatsContext statsContext = ctx.getGrpcStatsContext();
 
-    RouterRequest routerRequest = clientRequest.getIsBatchRequest()
-        ? MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest)
-        : GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    RouterRequest routerRequest;
+    if (clientRequest.getIsComputeRequest()) {
+      routerRequest = ComputeRouterRequestWrapper.parseComputeGrpcRequest(clientRequest);
+    } else if (clientRequest.getIsBatchRequest()) {
+      routerRequest = MultiGetRouterRequestWrapper.parseMultiGetGrpcRequest(clientRequest);
+    } else {
+      routerRequest = GetRouterRequest.grpcGetRouterRequest(clientRequest);
+    }
+
+    /**
+     * The client passes its request timeout as the deadline of the call, which is the time after which nobody waits
+     * for the response anymore.
+     */
+    Deadline deadline = Context.current().getDeadline();
+    if (deadline != null) {
+      routerRequest.setRequestTimeoutInNSIfEarlier(System.nanoTime() + deadline.timeRemaining(TimeUnit.NANOSECONDS));
+    }
 
     statsContext.setRequestInfo(routerRequest);
 
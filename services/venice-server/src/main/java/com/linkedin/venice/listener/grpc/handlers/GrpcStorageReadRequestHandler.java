@@ -1,16 +1,23 @@
 package com.linkedin.venice.listener.grpc.handlers;
 
+import com.google.protobuf.ByteString;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.listener.ReadQuotaEnforcementHandler;
 import com.linkedin.venice.listener.StorageReadRequestHandler;
 import com.linkedin.venice.listener.VeniceRequestEarlyTerminationException;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import com.linkedin.venice.protocols.VeniceServerResponse;
 import com.linkedin.venice.response.VeniceReadResponseStatus;
+import io.grpc.stub.StreamObserver;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import java.util.concurrent.ExecutionException;
 
 
 /**
@@ -47,7 +54,21 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
           break;
         case MULTI_GET:
           // TODO: get rid of blocking here
-          response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request).get();
+          if (ctx.isStreamingRpc()) {
+            response = storage
+                .handleMultiGetRequestInChunks((MultiGetRouterRequestWrapper) request, chunk -> sendChunk(ctx, chunk))
+                .get();
+          } else {
+            response = storage.handleMultiGetRequest((MultiGetRouterRequestWrapper) request).get();
+          }
+          break;
+        case COMPUTE:
+          // TODO: get rid of blocking here
+          response = storage
+              .handleComputeRequestInChunks(
+                  (ComputeRouterRequestWrapper) request,
+                  ctx.isStreamingRpc() ? chunk -> sendChunk(ctx, chunk) : null)
+              .get();
           break;
         default:
           ctx.setError();
@@ -55,16 +76,21 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
               .setErrorCode(VeniceReadResponseStatus.BAD_REQUEST)
               .setErrorMessage("Unknown request type: " + request.getRequestType());
       }
+    } catch (VeniceRequestEarlyTerminationException e) {
+      setRequestTerminatedEarly(ctx, e);
     } catch (VeniceNoStoreException e) {
       ctx.setError();
       ctx.getVeniceServerResponseBuilder()
           .setErrorCode(VeniceReadResponseStatus.BAD_REQUEST)
           .setErrorMessage("No storage exists for: " + e.getStoreName());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceRequestEarlyTerminationException) {
+        setRequestTerminatedEarly(ctx, (VeniceRequestEarlyTerminationException) e.getCause());
+      } else {
+        setInternalError(ctx, e);
+      }
     } catch (Exception e) {
-      ctx.setError();
-      ctx.getVeniceServerResponseBuilder()
-          .setErrorCode(VeniceReadResponseStatus.INTERNAL_ERROR)
-          .setErrorMessage(String.format("Internal Error: %s", e.getMessage()));
+      setInternalError(ctx, e);
     }
 
     if (!ctx.hasError() && response != null) {
@@ -78,4 +104,46 @@ public class GrpcStorageReadRequestHandler extends VeniceServerGrpcHandler {
 
     invokeNextHandler(ctx);
   }
+
+  private static void setRequestTerminatedEarly(GrpcRequestContext ctx, VeniceRequestEarlyTerminationException e) {
+    ctx.setError();
+    ctx.getGrpcStatsContext().setRequestTerminatedEarly();
+    ctx.getVeniceServerResponseBuilder()
+        .setErrorCode(VeniceReadResponseStatus.REQUEST_TIMEOUT)
+        .setErrorMessage(e.getMessage());
+  }
+
+  private static void setInternalError(GrpcRequestContext ctx, Exception e) {
+    ctx.setError();
+    ctx.getVeniceServerResponseBuilder()
+        .setErrorCode(VeniceReadResponseStatus.INTERNAL_ERROR)
+        .setErrorMessage(String.format("Internal Error: %s", e.getMessage()));
+  }
+
+  /**
+   * Sends the records of a processed chunk back right away, instead of waiting for the whole request to be processed.
+   * The final message of the stream, sent by {@link GrpcOutboundResponseHandler}, only carries the status and RCU.
+   *
+   * There is no explicit flow control here: the chunks of a request are already materialized by the time they are
+   * sent, so at most one request worth of chunks gets buffered by the transport, while gRPC's HTTP/2 flow control
+   * throttles the connection for slow clients.
+   */
+  private static void sendChunk(GrpcRequestContext ctx, MultiKeyResponseWrapper chunk) {
+    ByteBuf body = chunk.getResponseBody();
+    if (!body.isReadable()) {
+      return;
+    }
+    VeniceServerResponse response = VeniceServerResponse.newBuilder()
+        .setErrorCode(VeniceReadResponseStatus.OK)
+        .setSchemaId(chunk.getResponseSchemaIdHeader())
+        .setCompressionStrategy(chunk.getCompressionStrategy().getValue())
+        .setIsStreamingResponse(true)
+        .setData(ByteString.copyFrom(body.nioBuffer()))
+        .build();
+    StreamObserver<VeniceServerResponse> responseObserver = ctx.getResponseObserver();
+    // Chunks are processed concurrently, while stream observers are not thread-safe
+    synchronized (responseObserver) {
+      responseObserver.onNext(response);
+    }
+  }
 }
@@ -5,6 +5,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
 import io.netty.handler.codec.http.HttpRequest;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -21,6 +22,11 @@ public abstract class RouterRequest {
   private final String resourceName;
   private final String storeName;
   private final boolean isStreamingRequest;
+  /**
+   * The number of keys looked up so far, which are updated concurrently by the threads processing the chunks of a
+   * parallel batch get or compute request.
+   */
+  private final AtomicInteger keyLookupCount = new AtomicInteger();
 
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
@@ -40,6 +46,27 @@ public abstract class RouterRequest {
     this.requestTimeoutInNS = requestTimeoutInNS;
   }
 
+  /**
+   * Sets the request timeout to the given deadline, unless the current request timeout is already earlier.
+   */
+  public void setRequestTimeoutInNSIfEarlier(long requestTimeoutInNS) {
+    if (this.requestTimeoutInNS == NO_REQUEST_TIMEOUT || requestTimeoutInNS < this.requestTimeoutInNS) {
+      this.requestTimeoutInNS = requestTimeoutInNS;
+    }
+  }
+
+  public long getRequestTimeoutInNS() {
+    return requestTimeoutInNS;
+  }
+
+  public void recordKeyLookups(int count) {
+    keyLookupCount.addAndGet(count);
+  }
+
+  public int getKeyLookupCount() {
+    return keyLookupCount.get();
+  }
+
   public String getResourceName() {
     return resourceName;
   }
@@ -26,6 +26,7 @@ import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.BackupVersionOptimizationService;
 import com.linkedin.venice.cleaner.LeakedResourceCleaner;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
+import com.linkedin.venice.cleaner.RmdTTLSweeperService;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
 import com.linkedin.venice.common.VeniceSystemStoreUtils;
@@ -58,6 +59,7 @@ import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
 import com.linkedin.venice.stats.AggRocksDBStats;
 import com.linkedin.venice.stats.BackupVersionOptimizationServiceStats;
 import com.linkedin.venice.stats.DiskHealthStats;
+import com.linkedin.venice.stats.RmdTTLSweeperServiceStats;
 import com.linkedin.venice.stats.VeniceJVMStats;
 import com.linkedin.venice.system.store.ControllerClientBackedSystemSchemaInitializer;
 import com.linkedin.venice.utils.CollectionUtils;
@@ -410,6 +412,16 @@ public class VeniceServer {
     } else {
       resourceReadUsageTracker = Optional.empty();
     }
+    if (!serverConfig.getStoreToRmdTTLSecondsMap().isEmpty()) {
+      services.add(
+          new RmdTTLSweeperService(
+              metadataRepo,
+              storageService.getStorageEngineRepository(),
+              serverConfig.getStoreToRmdTTLSecondsMap(),
+              serverConfig.getRmdTTLSweeperScheduleIntervalSeconds(),
+              serverConfig.getRmdTTLSweeperMaxRecordsScannedPerSecond(),
+              new RmdTTLSweeperServiceStats(metricsRepository, "RmdTTLSweeperService")));
+    }
     /**
      * Fast schema lookup implementation for read compute path.
      */
@@ -0,0 +1,39 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.cleaner.RmdTTLSweeperService;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
+import io.tehuti.metrics.stats.Total;
+
+
+/**
+ * {@code RmdTTLSweeperServiceStats} record the records scanned and deleted by the {@link RmdTTLSweeperService}, along
+ * with the partitions it failed to sweep.
+ */
+public class RmdTTLSweeperServiceStats extends AbstractVeniceStats {
+  private final Sensor scannedRecordSensor;
+  private final Sensor expiredRecordSensor;
+  private final Sensor sweepErrorSensor;
+
+  public RmdTTLSweeperServiceStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+
+    this.scannedRecordSensor = registerSensor("rmd_ttl_sweeper_scanned_record", new Rate(), new Total());
+    this.expiredRecordSensor = registerSensor("rmd_ttl_sweeper_expired_record", new Rate(), new Total());
+    this.sweepErrorSensor = registerSensor("rmd_ttl_sweeper_error", new OccurrenceRate());
+  }
+
+  public void recordScannedRecords(int count) {
+    this.scannedRecordSensor.record(count);
+  }
+
+  public void recordExpiredRecords(int count) {
+    this.expiredRecordSensor.record(count);
+  }
+
+  public void recordSweepError() {
+    this.sweepErrorSensor.record();
+  }
+}
@@ -25,6 +25,8 @@ import static org.rocksdb.TickerType.GET_HIT_L1;
 import static org.rocksdb.TickerType.GET_HIT_L2_AND_UP;
 import static org.rocksdb.TickerType.MEMTABLE_HIT;
 import static org.rocksdb.TickerType.MEMTABLE_MISS;
+import static org.rocksdb.TickerType.PERSISTENT_CACHE_HIT;
+import static org.rocksdb.TickerType.PERSISTENT_CACHE_MISS;
 import static org.rocksdb.TickerType.READ_AMP_ESTIMATE_USEFUL_BYTES;
 import static org.rocksdb.TickerType.READ_AMP_TOTAL_READ_BYTES;
 
@@ -67,6 +69,10 @@ public class RocksDBStats extends AbstractVeniceStats {
   private final Sensor getHitL1;
   private final Sensor getHitL2AndUp;
   private final Sensor blockCacheHitRatio;
+  private final Sensor persistentCacheHit;
+  private final Sensor persistentCacheMiss;
+  // Only the misses of the block cache look up the persistent cache, so this is the hit ratio of the second tier.
+  private final Sensor persistentCacheHitRatio;
 
   // we'll need to enable read_amp_bytes_per_bit in rocksDB config
   private final Sensor readAmplificationFactor;
@@ -114,6 +120,18 @@ public class RocksDBStats extends AbstractVeniceStats {
       return -1;
     }, "rocksdb_block_cache_hit_ratio"));
 
+    this.persistentCacheHit = registerSensor("rocksdb_persistent_cache_hit", PERSISTENT_CACHE_HIT);
+    this.persistentCacheMiss = registerSensor("rocksdb_persistent_cache_miss", PERSISTENT_CACHE_MISS);
+    this.persistentCacheHitRatio = registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      if (rocksDBStat != null) {
+        return rocksDBStat.getTickerCount(PERSISTENT_CACHE_HIT)
+            / (double) (rocksDBStat.getTickerCount(PERSISTENT_CACHE_HIT)
+                + rocksDBStat.getTickerCount(PERSISTENT_CACHE_MISS));
+      }
+
+      return -1;
+    }, "rocksdb_persistent_cache_hit_ratio"));
+
     this.readAmplificationFactor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (rocksDBStat != null) {
         return rocksDBStat.getTickerCount(READ_AMP_TOTAL_READ_BYTES)
@@ -50,6 +50,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor countOperatorSensor;
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
+  private final Sensor earlyTerminatedKeyLookupCountSensor;
 
   private Sensor requestKeySizeSensor;
   private Sensor requestValueSizeSensor;
@@ -294,6 +295,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         totalStats,
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
+    earlyTerminatedKeyLookupCountSensor = registerPerStoreAndTotal(
+        "early_terminated_key_lookup_count",
+        totalStats,
+        () -> totalStats.earlyTerminatedKeyLookupCountSensor,
+        avgAndTotal());
 
     if (isKeyValueProfilingEnabled || requestType == RequestType.SINGLE_GET) {
       // size profiling is only expensive for requests with lots of keys, but we keep it always on for single gets...
@@ -444,6 +450,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
 
+  public void recordEarlyTerminatedKeyLookupCount(int count) {
+    earlyTerminatedKeyLookupCountSensor.record(count);
+  }
+
   public void recordKeySizeInByte(int keySize) {
     requestKeySizeSensor.record(keySize);
   }
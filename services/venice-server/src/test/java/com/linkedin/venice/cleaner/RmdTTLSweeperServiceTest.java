@@ -0,0 +1,110 @@
+package com.linkedin.venice.cleaner;
+
+import static com.linkedin.venice.meta.VersionStatus.ONLINE;
+import static com.linkedin.venice.meta.VersionStatus.STARTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition.ExpiredRecordsSweepResult;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.stats.RmdTTLSweeperServiceStats;
+import com.linkedin.venice.utils.Utils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RmdTTLSweeperServiceTest {
+  private static final int PARTITION_ID_0 = 0;
+
+  private AbstractStorageEngine mockStorageEngine(
+      String resourceName,
+      ReplicationMetadataRocksDBStoragePartition partition) {
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(resourceName).when(storageEngine).getStoreVersionName();
+    doReturn(Collections.singleton(PARTITION_ID_0)).when(storageEngine).getPartitionIds();
+    doReturn(partition).when(storageEngine).getPartitionOrThrow(PARTITION_ID_0);
+    return storageEngine;
+  }
+
+  @Test
+  public void testSweep() {
+    String storeName = Utils.getUniqueString("test_rmd_ttl_sweeper");
+    String otherStoreName = Utils.getUniqueString("test_rmd_ttl_sweeper_other");
+
+    byte[] nextKey = "key_1000".getBytes();
+    ReplicationMetadataRocksDBStoragePartition onlinePartition = mock(ReplicationMetadataRocksDBStoragePartition.class);
+    doReturn(new ExpiredRecordsSweepResult(nextKey, RmdTTLSweeperService.SWEEP_BATCH_SIZE, 10)).when(onlinePartition)
+        .deleteExpiredRecords(isNull(), anyLong(), anyInt());
+    doReturn(new ExpiredRecordsSweepResult(null, 100, 0)).when(onlinePartition)
+        .deleteExpiredRecords(eq(nextKey), anyLong(), anyInt());
+    ReplicationMetadataRocksDBStoragePartition startedPartition =
+        mock(ReplicationMetadataRocksDBStoragePartition.class);
+    ReplicationMetadataRocksDBStoragePartition otherStorePartition =
+        mock(ReplicationMetadataRocksDBStoragePartition.class);
+
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(
+        Arrays.asList(
+            mockStorageEngine(Version.composeKafkaTopic(storeName, 1), onlinePartition),
+            mockStorageEngine(Version.composeKafkaTopic(storeName, 2), startedPartition),
+            mockStorageEngine(Version.composeKafkaTopic(otherStoreName, 1), otherStorePartition)))
+                .when(storageEngineRepository)
+                .getAllLocalStorageEngines();
+
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    Version onlineVersion = mock(Version.class);
+    doReturn(ONLINE).when(onlineVersion).getStatus();
+    doReturn(onlineVersion).when(store).getVersion(1);
+    Version startedVersion = mock(Version.class);
+    doReturn(STARTED).when(startedVersion).getStatus();
+    doReturn(startedVersion).when(store).getVersion(2);
+    doReturn(store).when(storeRepository).getStore(storeName);
+
+    RmdTTLSweeperServiceStats stats = mock(RmdTTLSweeperServiceStats.class);
+    long ttlSeconds = TimeUnit.DAYS.toSeconds(1);
+    RmdTTLSweeperService service = new RmdTTLSweeperService(
+        storeRepository,
+        storageEngineRepository,
+        Collections.singletonMap(storeName, ttlSeconds),
+        1,
+        -1,
+        stats);
+    long sweepStartTime = System.currentTimeMillis();
+    service.sweep();
+
+    // Only the online version of the store with a TTL is swept, until the end of the partition.
+    verify(onlinePartition).deleteExpiredRecords(isNull(), anyLong(), eq(RmdTTLSweeperService.SWEEP_BATCH_SIZE));
+    verify(onlinePartition).deleteExpiredRecords(eq(nextKey), anyLong(), eq(RmdTTLSweeperService.SWEEP_BATCH_SIZE));
+    verify(startedPartition, never()).deleteExpiredRecords(any(), anyLong(), anyInt());
+    verify(otherStorePartition, never()).deleteExpiredRecords(any(), anyLong(), anyInt());
+    verify(stats).recordScannedRecords(RmdTTLSweeperService.SWEEP_BATCH_SIZE);
+    verify(stats).recordScannedRecords(100);
+    verify(stats).recordExpiredRecords(10);
+    verify(stats, never()).recordSweepError();
+
+    // The records older than the TTL expire.
+    ArgumentCaptor<Long> cutoffCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(onlinePartition, times(2)).deleteExpiredRecords(any(), cutoffCaptor.capture(), anyInt());
+    long expectedCutoff = sweepStartTime - TimeUnit.SECONDS.toMillis(ttlSeconds);
+    Assert.assertTrue(cutoffCaptor.getValue() >= expectedCutoff);
+    Assert.assertTrue(cutoffCaptor.getValue() <= System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(ttlSeconds));
+  }
+}
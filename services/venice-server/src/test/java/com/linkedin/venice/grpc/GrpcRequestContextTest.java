@@ -104,4 +104,15 @@ public class GrpcRequestContextTest {
 
     assertTrue(handlerContext.hasError());
   }
+
+  @Test
+  public void testIsStreamingRpc() {
+    GrpcRequestContext handlerContext = new GrpcRequestContext(null, null, null);
+
+    assertFalse(handlerContext.isStreamingRpc());
+
+    handlerContext.setStreamingRpc();
+
+    assertTrue(handlerContext.isStreamingRpc());
+  }
 }
@@ -0,0 +1,146 @@
+package com.linkedin.venice.grpc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.listener.ServerStatsContext;
+import com.linkedin.venice.listener.StorageReadRequestHandler;
+import com.linkedin.venice.listener.grpc.GrpcRequestContext;
+import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
+import com.linkedin.venice.listener.grpc.handlers.GrpcStorageReadRequestHandler;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.read.RequestType;
+import io.grpc.stub.StreamObserver;
+import io.netty.buffer.Unpooled;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+
+public class GrpcStorageReadRequestHandlerTest {
+  private static final int SCHEMA_ID = 1;
+  private static final int KEY_COUNT = 3;
+
+  @Test
+  public void testStreamingMultiGetSendsChunksAndEmptyFinalMessage() {
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    MultiGetRouterRequestWrapper request = mock(MultiGetRouterRequestWrapper.class);
+    doReturn(RequestType.MULTI_GET).when(request).getRequestType();
+    doReturn(KEY_COUNT).when(request).getKeyCount();
+
+    MultiKeyResponseWrapper[] chunks =
+        { mockChunk(new byte[] { 1, 2 }), mockChunk(new byte[0]), mockChunk(new byte[] { 3 }) };
+    doAnswer(invocation -> {
+      Consumer<MultiKeyResponseWrapper> chunkConsumer = invocation.getArgument(1);
+      for (MultiKeyResponseWrapper chunk: chunks) {
+        chunkConsumer.accept(chunk);
+      }
+      return CompletableFuture.completedFuture(mockResponse());
+    }).when(storage).handleMultiGetRequestInChunks(eq(request), any());
+
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(request, true, responseObserver);
+    GrpcStorageReadRequestHandler handler = new GrpcStorageReadRequestHandler(storage);
+    handler.addNextHandler(new GrpcOutboundResponseHandler());
+    handler.processRequest(ctx);
+
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver, times(3)).onNext(responseCaptor.capture());
+    verify(responseObserver).onCompleted();
+    verify(storage, never()).handleMultiGetRequest(any());
+
+    // The empty chunk is skipped, the others are sent in order as they are processed
+    List<VeniceServerResponse> responses = responseCaptor.getAllValues();
+    assertEquals(responses.get(0).getData().toByteArray(), new byte[] { 1, 2 });
+    assertEquals(responses.get(1).getData().toByteArray(), new byte[] { 3 });
+    for (int i = 0; i < 2; i++) {
+      assertTrue(responses.get(i).getIsStreamingResponse());
+      assertEquals(responses.get(i).getSchemaId(), SCHEMA_ID);
+    }
+
+    // The final message carries no records, only the status and RCU of the whole request
+    VeniceServerResponse finalResponse = responses.get(2);
+    assertFalse(ctx.hasError());
+    assertTrue(finalResponse.getData().isEmpty());
+    assertEquals(finalResponse.getResponseRCU(), KEY_COUNT);
+    assertEquals(finalResponse.getSchemaId(), SCHEMA_ID);
+  }
+
+  @Test
+  public void testUnaryComputeIsNotChunked() {
+    StorageReadRequestHandler storage = mock(StorageReadRequestHandler.class);
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(KEY_COUNT).when(request).getKeyCount();
+    ReadResponse response = mockResponse();
+    doReturn(true).when(response).isFound();
+    doReturn(Unpooled.wrappedBuffer(new byte[] { 1, 2, 3 })).when(response).getResponseBody();
+    doReturn(CompletableFuture.completedFuture(response)).when(storage)
+        .handleComputeRequestInChunks(eq(request), isNull());
+
+    StreamObserver<VeniceServerResponse> responseObserver = mock(StreamObserver.class);
+    GrpcRequestContext ctx = createContext(request, false, responseObserver);
+    GrpcStorageReadRequestHandler handler = new GrpcStorageReadRequestHandler(storage);
+    handler.addNextHandler(new GrpcOutboundResponseHandler());
+    handler.processRequest(ctx);
+
+    // All the records come back in the single message of the unary RPC
+    ArgumentCaptor<VeniceServerResponse> responseCaptor = ArgumentCaptor.forClass(VeniceServerResponse.class);
+    verify(responseObserver).onNext(responseCaptor.capture());
+    verify(responseObserver).onCompleted();
+    assertEquals(responseCaptor.getValue().getData().toByteArray(), new byte[] { 1, 2, 3 });
+    assertEquals(responseCaptor.getValue().getResponseRCU(), KEY_COUNT);
+    verify(response).setRCU(KEY_COUNT);
+  }
+
+  private static GrpcRequestContext createContext(
+      RouterRequest request,
+      boolean streamingRpc,
+      StreamObserver<VeniceServerResponse> responseObserver) {
+    GrpcRequestContext ctx = new GrpcRequestContext(
+        VeniceClientRequest.newBuilder().build(),
+        VeniceServerResponse.newBuilder(),
+        responseObserver);
+    ctx.setRouterRequest(request);
+    if (streamingRpc) {
+      ctx.setStreamingRpc();
+    }
+    ctx.setGrpcStatsContext(mock(ServerStatsContext.class));
+    return ctx;
+  }
+
+  private static MultiKeyResponseWrapper mockChunk(byte[] records) {
+    MultiKeyResponseWrapper chunk = mock(MultiKeyResponseWrapper.class);
+    doReturn(Unpooled.wrappedBuffer(records)).when(chunk).getResponseBody();
+    doReturn(SCHEMA_ID).when(chunk).getResponseSchemaIdHeader();
+    doReturn(CompressionStrategy.NO_OP).when(chunk).getCompressionStrategy();
+    return chunk;
+  }
+
+  private static ReadResponse mockResponse() {
+    ReadResponse response = mock(ReadResponse.class);
+    doReturn(CompressionStrategy.NO_OP).when(response).getCompressionStrategy();
+    doReturn(SCHEMA_ID).when(response).getResponseSchemaIdHeader();
+    doReturn(KEY_COUNT).when(response).getRCU();
+    return response;
+  }
+}
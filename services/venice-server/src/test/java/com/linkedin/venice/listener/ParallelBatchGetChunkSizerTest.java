@@ -0,0 +1,46 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ParallelBatchGetChunkSizerTest {
+  private static ThreadPoolExecutor mockThreadPool(int threadCount, int queueLen) {
+    ThreadPoolExecutor threadPoolExecutor = mock(ThreadPoolExecutor.class);
+    BlockingQueue<Runnable> queue = mock(BlockingQueue.class);
+    doReturn(queueLen).when(queue).size();
+    doReturn(queue).when(threadPoolExecutor).getQueue();
+    doReturn(threadCount).when(threadPoolExecutor).getCorePoolSize();
+    return threadPoolExecutor;
+  }
+
+  @Test
+  public void testChunkSize() {
+    ParallelBatchGetChunkSizer chunkSizer = new ParallelBatchGetChunkSizer(5, 1000);
+    ThreadPoolExecutor idleThreadPool = mockThreadPool(16, 0);
+
+    // Without any latency recorded yet, the configured chunk size is used, as long as there are enough workers.
+    Assert.assertEquals(chunkSizer.getChunkSize(50, idleThreadPool), 5);
+    Assert.assertEquals(chunkSizer.getChunkSize(3, idleThreadPool), 3);
+    Assert.assertEquals(chunkSizer.getChunkSize(160, idleThreadPool), 10);
+
+    // 10us per key leads to 100 keys per chunk of 1ms.
+    chunkSizer.recordChunkLatency(10, TimeUnit.MICROSECONDS.toNanos(100));
+    Assert.assertEquals(chunkSizer.getChunkSize(500, idleThreadPool), 100);
+    Assert.assertEquals(chunkSizer.getChunkSize(50, idleThreadPool), 50);
+
+    // Slower lookups lead to smaller chunks, but never smaller than the configured chunk size.
+    chunkSizer.recordChunkLatency(1, TimeUnit.MILLISECONDS.toNanos(10));
+    Assert.assertEquals(chunkSizer.getChunkSize(50, idleThreadPool), 5);
+
+    // Once the thread pool is backlogged, the request is not split any further than the available workers.
+    Assert.assertEquals(chunkSizer.getChunkSize(50, mockThreadPool(16, 14)), 25);
+    Assert.assertEquals(chunkSizer.getChunkSize(50, mockThreadPool(16, 100)), 50);
+  }
+}
@@ -0,0 +1,95 @@
+package com.linkedin.venice.listener;
+
+import static com.linkedin.venice.listener.ReadTaskPriorityBlockingQueue.MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS;
+import static com.linkedin.venice.utils.concurrent.BlockingQueueType.LINKED_BLOCKING_QUEUE;
+
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ReadTaskPriorityBlockingQueueTest {
+  @Test
+  public void testSingleGetsRunAheadOfBulkTasks() throws Exception {
+    ReadTaskPriorityBlockingQueue queue = new ReadTaskPriorityBlockingQueue(100);
+    ThreadPoolExecutor threadPoolExecutor = ThreadPoolFactory.createThreadPool(1, "test", queue);
+    try {
+      Executor bulkTaskExecutor = ReadTaskPriorityBlockingQueue.getBulkTaskExecutor(threadPoolExecutor);
+      // Keep the only worker busy, while the rest of the tasks get queued.
+      CountDownLatch blocker = new CountDownLatch(1);
+      threadPoolExecutor.execute(() -> {
+        try {
+          blocker.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+
+      List<String> executionOrder = new ArrayList<>();
+      int bulkTaskCount = 2;
+      int singleGetCount = MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS + 2;
+      CountDownLatch done = new CountDownLatch(bulkTaskCount + singleGetCount);
+      for (int i = 0; i < bulkTaskCount; ++i) {
+        bulkTaskExecutor.execute(() -> {
+          executionOrder.add("bulk");
+          done.countDown();
+        });
+      }
+      for (int i = 0; i < singleGetCount; ++i) {
+        threadPoolExecutor.execute(() -> {
+          executionOrder.add("single");
+          done.countDown();
+        });
+      }
+      Assert.assertEquals(queue.size(), bulkTaskCount + singleGetCount);
+      blocker.countDown();
+      Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+
+      List<String> expectedOrder = new ArrayList<>();
+      for (int i = 0; i < MAX_CONSECUTIVE_HIGH_PRIORITY_POLLS; ++i) {
+        expectedOrder.add("single");
+      }
+      // The bulk tasks are not starved by the single-gets.
+      expectedOrder.add("bulk");
+      expectedOrder.add("single");
+      expectedOrder.add("single");
+      expectedOrder.add("bulk");
+      Assert.assertEquals(executionOrder, expectedOrder);
+    } finally {
+      threadPoolExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCapacity() throws Exception {
+    ReadTaskPriorityBlockingQueue queue = new ReadTaskPriorityBlockingQueue(2);
+    Runnable task = () -> {};
+    Assert.assertTrue(queue.offer(task));
+    Assert.assertTrue(queue.offer(task));
+    Assert.assertFalse(queue.offer(task));
+    Assert.assertFalse(queue.offer(task, 1, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(queue.remainingCapacity(), 0);
+
+    Assert.assertTrue(queue.remove(task));
+    Assert.assertEquals(queue.remainingCapacity(), 1);
+    Assert.assertSame(queue.poll(1, TimeUnit.MILLISECONDS), task);
+    Assert.assertNull(queue.poll());
+    Assert.assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testBulkTaskExecutorOfRegularThreadPool() {
+    ThreadPoolExecutor threadPoolExecutor = ThreadPoolFactory.createThreadPool(1, "test", 10, LINKED_BLOCKING_QUEUE);
+    try {
+      Assert.assertSame(ReadTaskPriorityBlockingQueue.getBulkTaskExecutor(threadPoolExecutor), threadPoolExecutor);
+    } finally {
+      threadPoolExecutor.shutdownNow();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.venice.listener;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -13,6 +14,7 @@ import com.linkedin.venice.listener.grpc.handlers.VeniceServerGrpcHandler;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.HealthCheckRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.QueryAction;
 import com.linkedin.venice.protocols.VeniceClientRequest;
@@ -30,6 +32,7 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -98,6 +101,48 @@ public class RouterRequestHttpHandlerTest {
         "Key from path: " + path + " was parsed incorrectly");
   }
 
+  @Test
+  public void testRequestTimeoutHeader() throws Exception {
+    long requestStartTimeInNS = TimeUnit.SECONDS.toNanos(1);
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    doReturn(requestStartTimeInNS).when(statsHandler).getRequestStartTimeInNS();
+    RouterRequestHttpHandler testHandler =
+        new RouterRequestHttpHandler(statsHandler, Collections.singletonMap("store", 100));
+
+    // The timeout passed by the caller is earlier than the early termination threshold of the store
+    Assert.assertEquals(
+        getRequestTimeoutInNS(testHandler, "/storage/store_v1/1/key1", "50"),
+        requestStartTimeInNS + TimeUnit.MILLISECONDS.toNanos(50));
+    // The early termination threshold of the store is earlier than the timeout passed by the caller
+    Assert.assertEquals(
+        getRequestTimeoutInNS(testHandler, "/storage/store_v1/1/key1", "200"),
+        requestStartTimeInNS + TimeUnit.MILLISECONDS.toNanos(100));
+    // Malformed timeouts are ignored
+    Assert.assertEquals(
+        getRequestTimeoutInNS(testHandler, "/storage/store_v1/1/key1", "abc"),
+        requestStartTimeInNS + TimeUnit.MILLISECONDS.toNanos(100));
+    // The store without early termination threshold
+    Assert.assertEquals(
+        getRequestTimeoutInNS(testHandler, "/storage/other_store_v1/1/key1", "50"),
+        requestStartTimeInNS + TimeUnit.MILLISECONDS.toNanos(50));
+    Assert.assertEquals(
+        getRequestTimeoutInNS(testHandler, "/storage/other_store_v1/1/key1", null),
+        RouterRequest.NO_REQUEST_TIMEOUT);
+  }
+
+  private long getRequestTimeoutInNS(RouterRequestHttpHandler testHandler, String path, String requestTimeoutMs)
+      throws Exception {
+    ChannelHandlerContext mockContext = mock(ChannelHandlerContext.class);
+    ArgumentCaptor<GetRouterRequest> argumentCaptor = ArgumentCaptor.forClass(GetRouterRequest.class);
+    HttpRequest msg = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, path);
+    if (requestTimeoutMs != null) {
+      msg.headers().add(HttpConstants.VENICE_REQUEST_TIMEOUT_MS, requestTimeoutMs);
+    }
+    testHandler.channelRead(mockContext, msg);
+    verify(mockContext).fireChannelRead(argumentCaptor.capture());
+    return argumentCaptor.getValue().getRequestTimeoutInNS();
+  }
+
   public void testBadRequest(String path, HttpMethod method) throws Exception {
     RouterRequestHttpHandler testHander =
         new RouterRequestHttpHandler(mock(StatsHandler.class), Collections.emptyMap());
@@ -0,0 +1,92 @@
+package com.linkedin.venice.listener.request;
+
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.ComputeRequestV3;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.protocols.VeniceClientRequest;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class ComputeRouterRequestWrapperTest {
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final String RESULT_SCHEMA_STR = "{\"type\":\"record\",\"name\":\"Result\",\"fields\":[]}";
+  private static final int VALUE_SCHEMA_ID = 2;
+
+  @Test
+  public void testParseComputeGrpcRequest() {
+    List<ComputeRouterRequestKeyV1> keys = Arrays.asList(
+        new ComputeRouterRequestKeyV1(0, ByteBuffer.wrap(new byte[] { 1 }), 3),
+        new ComputeRouterRequestKeyV1(1, ByteBuffer.wrap(new byte[] { 2, 3 }), 4));
+    VeniceClientRequest grpcRequest = buildGrpcRequest(LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST, keys).toBuilder()
+        .setIsStreamingRequest(true)
+        .build();
+
+    ComputeRouterRequestWrapper request = ComputeRouterRequestWrapper.parseComputeGrpcRequest(grpcRequest);
+
+    assertEquals(request.getRequestType(), RequestType.COMPUTE);
+    assertEquals(request.getResourceName(), RESOURCE_NAME);
+    assertEquals(request.getValueSchemaId(), VALUE_SCHEMA_ID);
+    assertTrue(request.isStreamingRequest());
+
+    // The compute request precedes the keys in the key bytes
+    ComputeRequest computeRequest = request.getComputeRequest();
+    assertEquals(computeRequest.getResultSchemaStr().toString(), RESULT_SCHEMA_STR);
+    assertEquals(computeRequest.getOperations().size(), 1);
+    DotProduct dotProduct = (DotProduct) computeRequest.getOperations().get(0).getOperation();
+    assertEquals(dotProduct.getField().toString(), "listField");
+    assertEquals(dotProduct.getResultFieldName().toString(), "dotProduct");
+
+    assertEquals(request.getKeyCount(), 2);
+    assertEquals(request.getKeys(), keys);
+  }
+
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = ".*API version 0 is invalid.*")
+  public void testParseComputeGrpcRequestWithInvalidVersion() {
+    ComputeRouterRequestWrapper.parseComputeGrpcRequest(buildGrpcRequest(0, Collections.emptyList()));
+  }
+
+  private static VeniceClientRequest buildGrpcRequest(int apiVersion, List<ComputeRouterRequestKeyV1> keys) {
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.setField("listField");
+    dotProduct.setDotProductParam(Collections.singletonList(1.0f));
+    dotProduct.setResultFieldName("dotProduct");
+    ComputeOperation operation = new ComputeOperation();
+    operation.setOperationType(ComputeOperationType.DOT_PRODUCT.getValue());
+    operation.setOperation(dotProduct);
+    ComputeRequestV3 computeRequest = new ComputeRequestV3();
+    computeRequest.setOperations(Collections.singletonList(operation));
+    computeRequest.setResultSchemaStr(RESULT_SCHEMA_STR);
+
+    RecordSerializer<ComputeRequestV3> requestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRequestV3.SCHEMA$);
+    RecordSerializer<ComputeRouterRequestKeyV1> keySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+    ByteBuffer serializedComputeRequest = ByteBuffer.wrap(requestSerializer.serialize(computeRequest));
+    byte[] requestBytes = keySerializer.serializeObjects(keys, serializedComputeRequest);
+
+    return VeniceClientRequest.newBuilder()
+        .setResourceName(RESOURCE_NAME)
+        .setIsComputeRequest(true)
+        .setIsBatchRequest(true)
+        .setComputeRequestVersion(apiVersion)
+        .setComputeValueSchemaId(VALUE_SCHEMA_ID)
+        .setKeyBytes(ByteString.copyFrom(requestBytes))
+        .build();
+  }
+}